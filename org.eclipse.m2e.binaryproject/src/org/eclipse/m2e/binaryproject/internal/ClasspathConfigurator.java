@@ -12,10 +12,11 @@
  *******************************************************************************/
 package org.eclipse.m2e.binaryproject.internal;
 
+import java.io.File;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
-import org.apache.maven.artifact.Artifact;
 import org.apache.maven.artifact.repository.ArtifactRepository;
 import org.eclipse.core.resources.IContainer;
 import org.eclipse.core.resources.IProject;
@@ -29,6 +30,7 @@ import org.eclipse.core.runtime.preferences.IScopeContext;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.m2e.core.MavenPlugin;
 import org.eclipse.m2e.core.embedder.ArtifactKey;
+import org.eclipse.m2e.core.embedder.ArtifactResolution;
 import org.eclipse.m2e.core.embedder.IMaven;
 import org.eclipse.m2e.core.project.configurator.ProjectConfigurationRequest;
 import org.eclipse.m2e.jdt.IClasspathDescriptor;
@@ -72,16 +74,24 @@ public class ClasspathConfigurator extends AbstractJavaProjectConfigurator {
 
     List<ArtifactRepository> repositories = null; // TODO store in project preferences
 
-    Artifact jar = maven.resolve(groupId, artifactId, version, type, classifier, repositories, monitor);
-    String jarLocation = jar.getFile().getAbsolutePath();
+    // the jar and its sources are downloaded together
+    List<ArtifactResolution> resolutions = maven.resolve(
+        Arrays.asList(new ArtifactKey(groupId, artifactId, version, classifier),
+            new ArtifactKey(groupId, artifactId, version, getSourcesClassifier(classifier))),
+        type, repositories, monitor);
+    for (ArtifactResolution resolution : resolutions) {
+      if (!resolution.isResolved()) {
+        throw new CoreException(resolution.getStatus());
+      }
+    }
+    String jarLocation = resolutions.get(0).getFile().getAbsolutePath();
 
     project.setPersistentProperty(BinaryProjectPlugin.QNAME_JAR, jarLocation);
 
-    Artifact sources =
-        maven.resolve(groupId, artifactId, version, type, getSourcesClassifier(classifier), repositories, monitor);
+    File sources = resolutions.get(1).getFile();
     IClasspathEntryDescriptor libEntry = classpath.addLibraryEntry(Path.fromOSString(jarLocation));
     libEntry.setExported(true);
-    libEntry.setSourceAttachment(Path.fromOSString(sources.getFile().getAbsolutePath()), null);
+    libEntry.setSourceAttachment(Path.fromOSString(sources.getAbsolutePath()), null);
     libEntry.setArtifactKey(new ArtifactKey(groupId, artifactId, version, classifier));
   }
 
@@ -17,12 +17,32 @@ import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
 
+import org.eclipse.m2e.core.internal.builder.MavenBuilderImplTest;
+import org.eclipse.m2e.core.internal.embedder.BatchResolveTest;
+import org.eclipse.m2e.core.internal.embedder.LastUpdatedStoreTest;
+import org.eclipse.m2e.core.internal.index.filter.FilteredIndexTest;
+import org.eclipse.m2e.core.internal.index.nexus.CompositeIndexTest;
+import org.eclipse.m2e.core.internal.index.nexus.GroupDictionaryTest;
+import org.eclipse.m2e.core.internal.index.nexus.NexusIndexManagerTest;
+import org.eclipse.m2e.core.internal.index.nexus.SearchResultCollectorTest;
+import org.eclipse.m2e.core.internal.markers.MavenMarkerManagerTest;
+import org.eclipse.m2e.core.internal.project.ProjectCachePlungerTest;
+import org.eclipse.m2e.core.internal.project.RealmCacheTest;
+import org.eclipse.m2e.core.internal.project.WorkspaceStateWriterTest;
+import org.eclipse.m2e.core.internal.project.registry.ExecutionPlanCacheTest;
 import org.eclipse.m2e.core.internal.project.registry.MemoryConsumptionTest;
 import org.eclipse.m2e.core.internal.project.registry.RegistryTest;
+import org.eclipse.m2e.core.project.LocalProjectScannerTest;
 
 
 @RunWith(Suite.class)
-@SuiteClasses({MavenBugsTest.class, RegistryTest.class, MemoryConsumptionTest.class})
+@SuiteClasses({MavenBugsTest.class, RegistryTest.class, MemoryConsumptionTest.class,
+    ExecutionPlanCacheTest.class, LocalProjectScannerTest.class,
+    MavenMarkerManagerTest.class, MavenBuilderImplTest.class,
+    LastUpdatedStoreTest.class, WorkspaceStateWriterTest.class,
+    BatchResolveTest.class, RealmCacheTest.class, ProjectCachePlungerTest.class,
+    SearchResultCollectorTest.class, GroupDictionaryTest.class, FilteredIndexTest.class,
+    CompositeIndexTest.class, NexusIndexManagerTest.class})
 public class AllTests {
 
 }
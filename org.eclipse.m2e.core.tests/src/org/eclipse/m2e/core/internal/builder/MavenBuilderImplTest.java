@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *      Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.builder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.Path;
+
+import org.eclipse.m2e.tests.common.AbstractMavenProjectTestCase;
+
+
+public class MavenBuilderImplTest extends AbstractMavenProjectTestCase {
+
+  private static final int GENERATED_FILES = 500;
+
+  @Test
+  public void testRefreshRootsOfGeneratedFolder() {
+    List<IPath> changed = new ArrayList<>();
+    for(int i = 0; i < 100; i++ ) {
+      changed.add(new Path("target/generated-sources/gen/p" + (i % 10) + "/File" + i + ".java"));
+    }
+    changed.add(new Path("target/generated-sources/gen/p0"));
+    changed.add(new Path("src/main/java/Existing.java"));
+
+    Collection<IPath> roots = MavenBuilderImpl.getRefreshRoots(changed,
+        folder -> folder.toString().startsWith("target") ? -1 : 100);
+
+    assertEquals(
+        new HashSet<>(
+            Arrays.asList(new Path("target/generated-sources/gen"), new Path("src/main/java/Existing.java"))),
+        new HashSet<>(roots));
+  }
+
+  @Test
+  public void testFewChangesInLargeFolderAreNotCoalesced() {
+    List<IPath> changed = new ArrayList<>();
+    for(int i = 0; i < 5; i++ ) {
+      changed.add(new Path("src/main/resources/r" + i + ".properties"));
+    }
+
+    Collection<IPath> roots = MavenBuilderImpl.getRefreshRoots(changed, folder -> 1000);
+
+    assertEquals(new HashSet<>(changed), new HashSet<>(roots));
+  }
+
+  @Test
+  public void testRefreshGeneratedFiles() throws Exception {
+    IWorkspace workspace = ResourcesPlugin.getWorkspace();
+    IProject project = workspace.getRoot().getProject("generated");
+    project.create(monitor);
+    project.open(monitor);
+    waitForJobsToComplete();
+
+    File basedir = project.getLocation().toFile();
+    List<File> files = new ArrayList<>();
+    for(int i = 0; i < GENERATED_FILES; i++ ) {
+      File file = new File(basedir, "target/generated-sources/gen/p" + (i % 50) + "/File" + i + ".java");
+      file.getParentFile().mkdirs();
+      Files.write(file.toPath(), ("class File" + i + " {}").getBytes(StandardCharsets.UTF_8));
+      files.add(file);
+    }
+
+    AtomicInteger events = new AtomicInteger();
+    IResourceChangeListener listener = event -> events.incrementAndGet();
+    workspace.addResourceChangeListener(listener, IResourceChangeEvent.POST_CHANGE);
+    try {
+      new MavenBuilderImpl().refreshResources(project, files, monitor);
+    } finally {
+      workspace.removeResourceChangeListener(listener);
+    }
+
+    assertEquals(1, events.get());
+    for(int i = 0; i < GENERATED_FILES; i += 49) {
+      assertTrue(project.getFile("target/generated-sources/gen/p" + (i % 50) + "/File" + i + ".java").exists());
+    }
+  }
+}
@@ -0,0 +1,148 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *      Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.embedder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.jar.JarOutputStream;
+import java.util.zip.ZipEntry;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import org.apache.maven.artifact.repository.ArtifactRepository;
+
+import org.eclipse.m2e.core.MavenPlugin;
+import org.eclipse.m2e.core.embedder.ArtifactKey;
+import org.eclipse.m2e.core.embedder.ArtifactResolution;
+import org.eclipse.m2e.core.embedder.IMaven;
+import org.eclipse.m2e.tests.common.AbstractMavenProjectTestCase;
+import org.eclipse.m2e.tests.common.HttpServer;
+
+public class BatchResolveTest extends AbstractMavenProjectTestCase {
+
+  private static final int ARTIFACTS = 20;
+
+  @Rule
+  public TemporaryFolder tempFolder = new TemporaryFolder();
+
+  @Test
+  public void testBatchResolve() throws Exception {
+    // groups that are certainly not in the local repository yet
+    String groupId = "org.eclipse.m2e.tests.batch" + System.currentTimeMillis();
+    File repository = tempFolder.newFolder("repository");
+    List<ArtifactKey> batch = new ArrayList<>();
+    for(int i = 0; i < ARTIFACTS; i++ ) {
+      batch.add(createArtifact(repository, new ArtifactKey(groupId + ".batch", "lib" + i, "1.0", null)));
+    }
+    ArtifactKey missing = new ArtifactKey(groupId + ".batch", "missing", "1.0", null);
+    batch.add(missing);
+
+    HttpServer httpServer = new HttpServer();
+    httpServer.addResources("/repo", repository.getAbsolutePath());
+    httpServer.start();
+    try {
+      IMaven maven = MavenPlugin.getMaven();
+      List<ArtifactRepository> repositories = Collections
+          .singletonList(maven.createArtifactRepository("batch", httpServer.getHttpUrl() + "/repo"));
+
+      List<ArtifactResolution> resolutions = maven.resolve(batch, "jar", repositories, monitor);
+
+      assertEquals(batch.size(), resolutions.size());
+      for(int i = 0; i < ARTIFACTS; i++ ) {
+        ArtifactResolution resolution = resolutions.get(i);
+        assertEquals(batch.get(i), resolution.getArtifactKey());
+        assertTrue(resolution.toString(), resolution.isResolved());
+        assertTrue(resolution.getFile().isFile());
+        assertEquals(batch.get(i).getArtifactId() + "-1.0.jar", resolution.getFile().getName());
+      }
+      // the missing artifact does not fail the others
+      ArtifactResolution unresolved = resolutions.get(ARTIFACTS);
+      assertEquals(missing, unresolved.getArtifactKey());
+      assertFalse(unresolved.isResolved());
+      assertNull(unresolved.getFile());
+      assertNotNull(unresolved.getStatus().getMessage());
+    } finally {
+      httpServer.stop();
+    }
+  }
+
+  @Test
+  public void testBatchDownloadsConcurrently() throws Exception {
+    String groupId = "org.eclipse.m2e.tests.concurrent" + System.currentTimeMillis();
+    File repository = tempFolder.newFolder("repository");
+    List<ArtifactKey> batch = new ArrayList<>();
+    for(int i = 0; i < 2; i++ ) {
+      batch.add(createArtifact(repository, new ArtifactKey(groupId + ".batch", "lib" + i, "1.0", null)));
+      createArtifact(repository, new ArtifactKey(groupId + ".single", "lib" + i, "1.0", null));
+    }
+
+    // a batch downloads its jars at the same time, where resolving them one by one waits for each download
+    HttpServer httpServer = new HttpServer();
+    httpServer.addResources("/repo", repository.getAbsolutePath());
+    httpServer.setConcurrentRequests(".*\\.jar", 2, 30000);
+    httpServer.start();
+    try {
+      IMaven maven = MavenPlugin.getMaven();
+      List<ArtifactRepository> repositories = Collections
+          .singletonList(maven.createArtifactRepository("batch", httpServer.getHttpUrl() + "/repo"));
+      for(ArtifactResolution resolution : maven.resolve(batch, "jar", repositories, monitor)) {
+        assertTrue(resolution.toString(), resolution.isResolved());
+      }
+      assertTrue(httpServer.isConcurrentRequestsReached());
+    } finally {
+      httpServer.stop();
+    }
+
+    httpServer = new HttpServer();
+    httpServer.addResources("/repo", repository.getAbsolutePath());
+    httpServer.setConcurrentRequests(".*\\.jar", 2, 1000);
+    httpServer.start();
+    try {
+      IMaven maven = MavenPlugin.getMaven();
+      List<ArtifactRepository> repositories = Collections
+          .singletonList(maven.createArtifactRepository("single", httpServer.getHttpUrl() + "/repo"));
+      for(int i = 0; i < 2; i++ ) {
+        assertNotNull(
+            maven.resolve(groupId + ".single", "lib" + i, "1.0", "jar", null, repositories, monitor).getFile());
+      }
+      assertFalse(httpServer.isConcurrentRequestsReached());
+    } finally {
+      httpServer.stop();
+    }
+  }
+
+  private static ArtifactKey createArtifact(File repository, ArtifactKey key) throws IOException {
+    File dir = new File(repository,
+        key.getGroupId().replace('.', '/') + "/" + key.getArtifactId() + "/" + key.getVersion());
+    dir.mkdirs();
+    File jar = new File(dir, key.getArtifactId() + "-" + key.getVersion() + ".jar");
+    try (JarOutputStream out = new JarOutputStream(new FileOutputStream(jar))) {
+      out.putNextEntry(new ZipEntry(key.getArtifactId() + "/Library.class"));
+      out.closeEntry();
+    }
+    return key;
+  }
+}
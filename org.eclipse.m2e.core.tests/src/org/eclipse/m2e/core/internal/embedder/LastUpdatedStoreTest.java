@@ -0,0 +1,183 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *      Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.embedder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+
+public class LastUpdatedStoreTest {
+
+  private static final int ARTIFACTS = 1000;
+
+  private static final List<String> REPOSITORIES = Arrays.asList("central|https://repo.maven.apache.org/maven2|null",
+      "snapshots|https://repo.example.org/snapshots|null");
+
+  @Rule
+  public TemporaryFolder tempFolder = new TemporaryFolder();
+
+  @Test
+  public void testUnavailableArtifactChecks() throws Exception {
+    File file = new File(tempFolder.getRoot(), "lastUpdated.log");
+    LastUpdatedStore store = new LastUpdatedStore(file);
+    for(int i = 0; i < ARTIFACTS; i++ ) {
+      store.put(artifactKey(i), REPOSITORIES, "1000");
+    }
+    store.close();
+
+    store = new LastUpdatedStore(file);
+    for(int i = 0; i < ARTIFACTS; i++ ) {
+      Properties lastUpdated = store.get(artifactKey(i));
+      for(String repository : REPOSITORIES) {
+        assertEquals("1000", lastUpdated.getProperty(repository));
+      }
+    }
+    store.close();
+  }
+
+  @Test
+  public void testCompaction() throws Exception {
+    File file = new File(tempFolder.getRoot(), "lastUpdated.log");
+    LastUpdatedStore store = new LastUpdatedStore(file);
+    for(int round = 0; round < 10; round++ ) {
+      for(int i = 0; i < 500; i++ ) {
+        store.put(artifactKey(i), REPOSITORIES, Integer.toString(round));
+      }
+    }
+    store.close();
+
+    // 500 artifacts in 2 repositories, the log must not contain all 10 rounds
+    assertTrue(Files.readAllLines(file.toPath()).size() < 10 * 500 * REPOSITORIES.size());
+
+    store = new LastUpdatedStore(file);
+    for(int i = 0; i < 500; i++ ) {
+      assertEquals("9", store.get(artifactKey(i)).getProperty(REPOSITORIES.get(0)));
+    }
+    // entries read from the log count as live too
+    for(int round = 10; round < 20; round++ ) {
+      for(int i = 0; i < 500; i++ ) {
+        store.put(artifactKey(i), REPOSITORIES, Integer.toString(round));
+      }
+    }
+    store.close();
+    assertTrue(Files.readAllLines(file.toPath()).size() < 10 * 500 * REPOSITORIES.size());
+  }
+
+  @Test
+  public void testMigration() throws Exception {
+    File file = new File(tempFolder.getRoot(), "lastUpdated.log");
+    LastUpdatedStore store = new LastUpdatedStore(file);
+    Properties legacy = new Properties();
+    legacy.setProperty(REPOSITORIES.get(0), "42");
+    assertFalse(store.contains(artifactKey(0)));
+    store.migrate(artifactKey(0), legacy);
+    store.migrate(artifactKey(1), new Properties());
+    store.close();
+
+    store = new LastUpdatedStore(file);
+    assertTrue(store.contains(artifactKey(0)));
+    assertTrue(store.contains(artifactKey(1)));
+    assertEquals("42", store.get(artifactKey(0)).getProperty(REPOSITORIES.get(0)));
+    assertNull(store.get(artifactKey(1)).getProperty(REPOSITORIES.get(0)));
+    assertEquals(Collections.emptySet(), store.get(artifactKey(2)).keySet());
+    store.close();
+  }
+
+  @Test
+  public void testLookupsDoNotWrite() throws Exception {
+    File file = new File(tempFolder.getRoot(), "lastUpdated.log");
+    LastUpdatedStore store = new LastUpdatedStore(file);
+    assertFalse(store.contains(artifactKey(0)));
+    assertEquals(Collections.emptySet(), store.get(artifactKey(0)).keySet());
+    store.close();
+    assertFalse(file.exists());
+  }
+
+  @Test
+  public void testDeletedArtifactDirectoryIsForgotten() throws Exception {
+    File file = new File(tempFolder.getRoot(), "lastUpdated.log");
+    LastUpdatedStore store = new LastUpdatedStore(file);
+    String deleted = artifactKey(0);
+    store.put(deleted, REPOSITORIES, "1000");
+    store.put(artifactKey(1), REPOSITORIES, "1000");
+
+    // what purging the artifact from the local repository does
+    delete(new File(deleted));
+
+    assertFalse(store.contains(deleted));
+    assertEquals(Collections.emptySet(), store.get(deleted).keySet());
+    assertTrue(store.contains(artifactKey(1)));
+    store.close();
+
+    store = new LastUpdatedStore(file);
+    assertFalse(store.contains(deleted));
+    assertEquals("1000", store.get(artifactKey(1)).getProperty(REPOSITORIES.get(0)));
+    store.close();
+  }
+
+  @Test
+  public void testCompactionDropsDeletedArtifacts() throws Exception {
+    File file = new File(tempFolder.getRoot(), "lastUpdated.log");
+    LastUpdatedStore store = new LastUpdatedStore(file);
+    for(int i = 0; i < 500; i++ ) {
+      store.put(artifactKey(i), REPOSITORIES, "0");
+    }
+    for(int i = 0; i < 250; i++ ) {
+      delete(new File(artifactKey(i)));
+    }
+    for(int round = 1; round < 10; round++ ) {
+      for(int i = 250; i < 500; i++ ) {
+        store.put(artifactKey(i), REPOSITORIES, Integer.toString(round));
+      }
+    }
+    store.close();
+
+    // directories of deleted artifacts are created again, their entries must be gone from the log nonetheless
+    store = new LastUpdatedStore(file);
+    for(int i = 0; i < 250; i++ ) {
+      assertFalse(store.contains(artifactKey(i)));
+    }
+    for(int i = 250; i < 500; i++ ) {
+      assertEquals("9", store.get(artifactKey(i)).getProperty(REPOSITORIES.get(0)));
+    }
+    store.close();
+  }
+
+  private static void delete(File directory) {
+    for(File file : directory.listFiles()) {
+      file.delete();
+    }
+    directory.delete();
+  }
+
+  private String artifactKey(int i) {
+    File directory = new File(tempFolder.getRoot(), "repository/org/example/group" + (i % 100) + "/artifact" + i
+        + "/1.0");
+    directory.mkdirs();
+    return directory.getAbsolutePath();
+  }
+}
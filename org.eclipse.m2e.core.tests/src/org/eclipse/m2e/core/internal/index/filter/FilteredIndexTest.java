@@ -0,0 +1,166 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *      Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.index.filter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import org.eclipse.core.runtime.Status;
+
+import org.eclipse.m2e.core.embedder.ArtifactKey;
+import org.eclipse.m2e.core.internal.index.IIndex;
+import org.eclipse.m2e.core.internal.index.IndexedArtifact;
+import org.eclipse.m2e.core.internal.index.IndexedArtifactFile;
+import org.eclipse.m2e.core.internal.index.SearchExpression;
+import org.eclipse.m2e.core.internal.index.SearchPage;
+
+
+public class FilteredIndexTest {
+
+  private static final int ARTIFACTS = 1000;
+
+  private static final int VERSIONS = 3;
+
+  private static final int SEARCHES = 50;
+
+  private static final String REJECTED_VERSION = "1.1";
+
+  @Test
+  public void testFilterDecisionsAreRemembered() throws Exception {
+    AtomicInteger calls = new AtomicInteger();
+    FilteredIndex index = new FilteredIndex(null, new TestIndex(generateArtifacts()), (project, key) -> {
+      calls.incrementAndGet();
+      return REJECTED_VERSION.equals(key.getVersion()) ? Status.CANCEL_STATUS : Status.OK_STATUS;
+    });
+
+    for(int i = 0; i < SEARCHES; i++ ) {
+      Collection<IndexedArtifact> result = index.find(null, (SearchExpression) null, null, null);
+      assertEquals(ARTIFACTS, result.size());
+      for(IndexedArtifact artifact : result) {
+        assertEquals(VERSIONS - 1, artifact.getFiles().size());
+      }
+    }
+
+    assertEquals(ARTIFACTS * VERSIONS, calls.get());
+  }
+
+  @Test
+  public void testAcceptedArtifactsAreNotCopied() throws Exception {
+    List<IndexedArtifact> artifacts = generateArtifacts();
+    FilteredIndex index = new FilteredIndex(null, new TestIndex(artifacts), (project, key) -> Status.OK_STATUS);
+
+    List<IndexedArtifact> result = new ArrayList<>(index.find(null, (SearchExpression) null, null, null));
+
+    assertEquals(artifacts.size(), result.size());
+    for(int i = 0; i < artifacts.size(); i++ ) {
+      assertSame(artifacts.get(i), result.get(i));
+    }
+  }
+
+  @Test
+  public void testRejectedArtifactsAreRemoved() throws Exception {
+    FilteredIndex index = new FilteredIndex(null, new TestIndex(generateArtifacts()),
+        (project, key) -> key.getArtifactId().endsWith("7") ? Status.CANCEL_STATUS : Status.OK_STATUS);
+
+    Collection<IndexedArtifact> result = index.find(null, (SearchExpression) null, null, null);
+
+    assertEquals(ARTIFACTS - ARTIFACTS / 10, result.size());
+  }
+
+  @Test
+  public void testSearchResultsAreFiltered() throws Exception {
+    FilteredIndex index = new FilteredIndex(null, new TestIndex(generateArtifacts()),
+        (project, key) -> REJECTED_VERSION.equals(key.getVersion()) || key.getArtifactId().endsWith("7")
+            ? Status.CANCEL_STATUS
+            : Status.OK_STATUS);
+
+    SearchPage page = index.search(null, IIndex.SEARCH_ARTIFACT, 0, ARTIFACTS, null);
+
+    assertEquals(ARTIFACTS - ARTIFACTS / 10, page.getResults().size());
+    assertFalse(page.getResults().containsKey("org.example:artifact7"));
+    for(IndexedArtifact artifact : page.getResults().values()) {
+      assertEquals(VERSIONS - 1, artifact.getFiles().size());
+    }
+    assertNull(page.getContinuation());
+  }
+
+  private static List<IndexedArtifact> generateArtifacts() {
+    List<IndexedArtifact> artifacts = new ArrayList<>();
+    for(int a = 0; a < ARTIFACTS; a++ ) {
+      IndexedArtifact artifact = new IndexedArtifact("org.example", "artifact" + a, null, null, "jar");
+      for(int v = 0; v < VERSIONS; v++ ) {
+        artifact.addFile(new IndexedArtifactFile("central", "org.example", "artifact" + a, "1." + v, "jar", null,
+            "artifact" + a + "-1." + v + ".jar", 1000, new Date(0), IIndex.NOT_PRESENT, IIndex.NOT_PRESENT, null,
+            null));
+      }
+      artifacts.add(artifact);
+    }
+    return artifacts;
+  }
+
+  private static class TestIndex implements IIndex {
+
+    private final List<IndexedArtifact> artifacts;
+
+    TestIndex(List<IndexedArtifact> artifacts) {
+      this.artifacts = artifacts;
+    }
+
+    @Override
+    public IndexedArtifactFile getIndexedArtifactFile(ArtifactKey artifact) {
+      return null;
+    }
+
+    @Override
+    public IndexedArtifactFile identify(File file) {
+      return null;
+    }
+
+    @Override
+    public Collection<IndexedArtifact> find(SearchExpression groupId, SearchExpression artifactId,
+        SearchExpression version, SearchExpression packaging) {
+      return artifacts;
+    }
+
+    @Override
+    public Collection<IndexedArtifact> find(Collection<SearchExpression> groupId,
+        Collection<SearchExpression> artifactId, Collection<SearchExpression> version,
+        Collection<SearchExpression> packaging) {
+      return artifacts;
+    }
+
+    @Override
+    public SearchPage search(SearchExpression expression, String searchType, int classifier, int limit,
+        String continuation) {
+      SortedMap<String, IndexedArtifact> results = new TreeMap<>();
+      for(IndexedArtifact artifact : artifacts) {
+        results.put(artifact.getGroupId() + ":" + artifact.getArtifactId(), artifact);
+      }
+      return new SearchPage(results, null);
+    }
+  }
+}
@@ -0,0 +1,253 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *      Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.index.nexus;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+
+import org.eclipse.m2e.core.embedder.ArtifactKey;
+import org.eclipse.m2e.core.internal.index.IIndex;
+import org.eclipse.m2e.core.internal.index.IndexedArtifact;
+import org.eclipse.m2e.core.internal.index.IndexedArtifactFile;
+import org.eclipse.m2e.core.internal.index.SearchExpression;
+import org.eclipse.m2e.core.internal.index.SearchPage;
+
+
+public class CompositeIndexTest {
+
+  private static final int INDEXES = 12;
+
+  /**
+   * Less than the search threads of the composite, so all of them can wait for each other
+   */
+  private static final int CONCURRENT_INDEXES = 4;
+
+  private static final long TIMEOUT = 100;
+
+  @Test
+  public void testIndexesAreQueriedConcurrently() throws Exception {
+    // each index only answers once all of them are being queried
+    CountDownLatch started = new CountDownLatch(CONCURRENT_INDEXES);
+    List<IIndex> indexes = new ArrayList<>();
+    for(int i = 0; i < CONCURRENT_INDEXES; i++ ) {
+      indexes.add(new TestIndex("group" + i, started, null));
+    }
+    CompositeIndex index = new CompositeIndex(indexes, TimeUnit.MINUTES.toMillis(1));
+
+    Collection<IndexedArtifact> result = index.find(null, (SearchExpression) null, null, null);
+
+    assertEquals(CONCURRENT_INDEXES, result.size());
+  }
+
+  @Test
+  public void testBlockedIndexIsSkipped() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    TestIndex blocked = new TestIndex("blocked", null, release);
+    try {
+      CompositeIndex index = new CompositeIndex(List.of(new TestIndex("fast1"), blocked, new TestIndex("fast2")),
+          TIMEOUT);
+
+      Collection<IndexedArtifact> result = index.find(null, (SearchExpression) null, null, null);
+      assertEquals(2, result.size());
+
+      // the index is skipped while its previous query is still running
+      SearchPage page = index.search(null, IIndex.SEARCH_ARTIFACT, IIndex.SEARCH_ALL, 10, null);
+      assertEquals(2, page.getResults().size());
+      assertEquals(1, blocked.queries.get());
+
+      // by other composites as well
+      CompositeIndex other = new CompositeIndex(List.of(blocked, new TestIndex("fast3")), TIMEOUT);
+      assertEquals(1, other.find(null, (SearchExpression) null, null, null).size());
+      assertEquals(1, blocked.queries.get());
+    } finally {
+      release.countDown();
+    }
+  }
+
+  @Test
+  public void testLookupsWaitForAllIndexes() throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    TestIndex first = new TestIndex("first", started, release);
+    TestIndex second = new TestIndex("second");
+    CompositeIndex index = new CompositeIndex(List.of(first, second), TIMEOUT);
+
+    // lookups are not subject to the timeout, the first index still wins when it answers late
+    Thread releaser = new Thread(() -> {
+      try {
+        started.await();
+        Thread.sleep(2 * TIMEOUT);
+      } catch(InterruptedException ex) {
+        throw new IllegalStateException(ex);
+      }
+      release.countDown();
+    });
+    releaser.start();
+    assertSame(first.file, index.getIndexedArtifactFile(new ArtifactKey("g", "a", "1.0", null)));
+    releaser.join();
+
+    assertEquals(List.of(first.file, second.file), index.identifyAll(new File("a.jar")));
+  }
+
+  @Test
+  public void testResultsAreMergedInIndexOrder() throws Exception {
+    List<IIndex> indexes = new ArrayList<>();
+    for(int i = 0; i < INDEXES; i++ ) {
+      indexes.add(new TestIndex("group"));
+    }
+    CompositeIndex index = new CompositeIndex(indexes);
+
+    Collection<IndexedArtifact> result = index.find(null, (SearchExpression) null, null, null);
+
+    assertEquals(1, result.size());
+    IndexedArtifact artifact = result.iterator().next();
+    assertSame(((TestIndex) indexes.get(0)).artifact, artifact);
+  }
+
+  @Test
+  public void testErrorsArePropagated() throws Exception {
+    CompositeIndex index = new CompositeIndex(List.of(new TestIndex("fast"), new TestIndex("broken", true)));
+
+    try {
+      index.find(null, (SearchExpression) null, null, null);
+      fail("Expected CoreException");
+    } catch(CoreException ex) {
+      assertEquals("broken", ex.getStatus().getMessage());
+    }
+  }
+
+  @Test
+  public void testNoIndexes() throws Exception {
+    CompositeIndex index = new CompositeIndex(Collections.emptyList());
+
+    assertTrue(index.find(null, (SearchExpression) null, null, null).isEmpty());
+    assertNull(index.getIndexedArtifactFile(new ArtifactKey("g", "a", "1.0", null)));
+  }
+
+  /**
+   * Stand-in for a repository index. It can wait for other indexes to be queried, stay blocked until released, or fail.
+   */
+  private static class TestIndex implements IIndex {
+
+    final IndexedArtifactFile file;
+
+    final IndexedArtifact artifact;
+
+    final AtomicInteger queries = new AtomicInteger();
+
+    private final CountDownLatch started;
+
+    private final CountDownLatch release;
+
+    private final boolean broken;
+
+    TestIndex(String group) {
+      this(group, null, null, false);
+    }
+
+    TestIndex(String group, boolean broken) {
+      this(group, null, null, broken);
+    }
+
+    TestIndex(String group, CountDownLatch started, CountDownLatch release) {
+      this(group, started, release, false);
+    }
+
+    private TestIndex(String group, CountDownLatch started, CountDownLatch release, boolean broken) {
+      this.started = started;
+      this.release = release;
+      this.broken = broken;
+      this.file = new IndexedArtifactFile(group, group, "artifact", "1.0", "jar", null, "artifact-1.0.jar", 1000,
+          new Date(0), IIndex.NOT_PRESENT, IIndex.NOT_PRESENT, null, null);
+      this.artifact = new IndexedArtifact(group, "artifact", null, null, "jar");
+      artifact.addFile(file);
+    }
+
+    private void await() throws CoreException {
+      queries.incrementAndGet();
+      if(broken) {
+        throw new CoreException(new Status(IStatus.ERROR, "test", file.group)); //$NON-NLS-1$
+      }
+      try {
+        if(started != null) {
+          started.countDown();
+          if(!started.await(1, TimeUnit.MINUTES)) {
+            throw new IllegalStateException("Indexes were not queried concurrently");
+          }
+        }
+        if(release != null) {
+          release.await();
+        }
+      } catch(InterruptedException ex) {
+        throw new IllegalStateException(ex);
+      }
+    }
+
+    @Override
+    public IndexedArtifactFile getIndexedArtifactFile(ArtifactKey artifact) throws CoreException {
+      await();
+      return file;
+    }
+
+    @Override
+    public IndexedArtifactFile identify(File file) throws CoreException {
+      await();
+      return this.file;
+    }
+
+    @Override
+    public Collection<IndexedArtifact> find(SearchExpression groupId, SearchExpression artifactId,
+        SearchExpression version, SearchExpression packaging) throws CoreException {
+      await();
+      return List.of(artifact);
+    }
+
+    @Override
+    public Collection<IndexedArtifact> find(Collection<SearchExpression> groupId,
+        Collection<SearchExpression> artifactId, Collection<SearchExpression> version,
+        Collection<SearchExpression> packaging) throws CoreException {
+      await();
+      return List.of(artifact);
+    }
+
+    @Override
+    public SearchPage search(SearchExpression expression, String searchType, int classifier, int limit,
+        String continuation) throws CoreException {
+      await();
+      TreeMap<String, IndexedArtifact> results = new TreeMap<>();
+      results.put(file.group, artifact);
+      return new SearchPage(results, null);
+    }
+  }
+}
@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *      Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.index.nexus;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Test;
+
+
+public class GroupDictionaryTest {
+
+  private static final int GROUPS = 10000;
+
+  @Test
+  public void testPrefix() {
+    GroupDictionary dictionary = new GroupDictionary(
+        Arrays.asList("org.eclipse", "org", "com.example", "org.apache.maven", "org.apache", "orgx", "net"));
+
+    assertEquals(Arrays.asList("org", "org.apache", "org.apache.maven", "org.eclipse", "orgx"),
+        dictionary.getGroups("org"));
+    assertEquals(Arrays.asList("org.apache", "org.apache.maven"), dictionary.getGroups("org.apache"));
+    assertEquals(Collections.emptyList(), dictionary.getGroups("org.apache.maven.plugins"));
+    assertEquals(Collections.emptyList(), dictionary.getGroups("a"));
+    assertEquals(Collections.emptyList(), dictionary.getGroups("z"));
+    assertEquals(7, dictionary.getGroups(null).size());
+    assertEquals(7, dictionary.getGroups("").size());
+  }
+
+  @Test
+  public void testLargeIndex() {
+    Set<String> groups = generateGroups();
+    GroupDictionary dictionary = new GroupDictionary(groups);
+    assertEquals(GROUPS, dictionary.size());
+
+    List<String> prefixes = Arrays.asList("o", "org", "org.group1", "org.group12.", "com.group5", "net.group299",
+        "io.", "nothing");
+    for(String prefix : prefixes) {
+      assertEquals(prefix, scan(groups, prefix), dictionary.getGroups(prefix));
+    }
+  }
+
+  private static List<String> scan(Set<String> groups, String prefix) {
+    List<String> result = new ArrayList<>();
+    for(String group : groups) {
+      if(group.startsWith(prefix)) {
+        result.add(group);
+      }
+    }
+    Collections.sort(result);
+    return result;
+  }
+
+  private static Set<String> generateGroups() {
+    String[] roots = {"org", "com", "net", "io"};
+    Random random = new Random(1);
+    Set<String> groups = new HashSet<>();
+    while(groups.size() < GROUPS) {
+      groups.add(roots[random.nextInt(roots.length)] + ".group" + random.nextInt(1000) + "." + random.nextInt(1000));
+    }
+    return groups;
+  }
+}
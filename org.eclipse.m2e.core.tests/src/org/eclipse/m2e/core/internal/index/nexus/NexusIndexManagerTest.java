@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *      Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.index.nexus;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+import org.eclipse.core.resources.IProject;
+
+import org.eclipse.m2e.core.MavenPlugin;
+import org.eclipse.m2e.core.internal.index.IIndex;
+import org.eclipse.m2e.core.project.IMavenProjectFacade;
+import org.eclipse.m2e.core.repository.IRepository;
+import org.eclipse.m2e.tests.common.AbstractMavenProjectTestCase;
+
+
+public class NexusIndexManagerTest extends AbstractMavenProjectTestCase {
+
+  @Test
+  public void testProjectIndexesAreCached() throws Exception {
+    IProject project = createExisting(getClass().getSimpleName(), "resources/projects/simplePomOK", true);
+    waitForJobsToComplete();
+    NexusIndexManager indexManager = (NexusIndexManager) MavenPlugin.getIndexManager();
+
+    IIndex index = indexManager.getIndex(project);
+    IIndex filteredIndex = indexManager.getFilteredIndex(project);
+
+    assertNotNull(index);
+    assertNotSame(index, filteredIndex);
+    assertSame(index, indexManager.getIndex(project));
+    assertSame(filteredIndex, indexManager.getFilteredIndex(project));
+    assertSame(indexManager.getIndex(null), indexManager.getIndex(null));
+  }
+
+  @Test
+  public void testProjectIndexesAreDroppedWhenProjectChanges() throws Exception {
+    IProject project = createExisting(getClass().getSimpleName(), "resources/projects/simplePomOK", true);
+    waitForJobsToComplete();
+    NexusIndexManager indexManager = (NexusIndexManager) MavenPlugin.getIndexManager();
+    IMavenProjectFacade facade = MavenPlugin.getMavenProjectRegistry().getProject(project);
+    IIndex index = indexManager.getIndex(project);
+    IIndex filteredIndex = indexManager.getFilteredIndex(project);
+
+    refreshMavenProject(project);
+    waitForJobsToComplete();
+
+    assertNotSame(facade, MavenPlugin.getMavenProjectRegistry().getProject(project));
+    assertNotSame(index, indexManager.getIndex(project));
+    assertNotSame(filteredIndex, indexManager.getFilteredIndex(project));
+  }
+
+  @Test
+  public void testProjectIndexesAreDroppedWhenIndexDetailsChange() throws Exception {
+    IProject project = createExisting(getClass().getSimpleName(), "resources/projects/simplePomOK", true);
+    waitForJobsToComplete();
+    NexusIndexManager indexManager = (NexusIndexManager) MavenPlugin.getIndexManager();
+    IRepository repository = MavenPlugin.getRepositoryRegistry().getWorkspaceRepository();
+    IIndex index = indexManager.getIndex(project);
+    IIndex settingsIndex = indexManager.getIndex(null);
+
+    indexManager.setIndexDetails(repository, indexManager.getIndexDetails(repository), monitor);
+
+    assertNotSame(index, indexManager.getIndex(project));
+    assertNotSame(settingsIndex, indexManager.getIndex(null));
+  }
+
+  @Test
+  public void testProjectIndexesAreDroppedWhenRepositoryIsAdded() throws Exception {
+    IProject project = createExisting(getClass().getSimpleName(), "resources/projects/simplePomOK", true);
+    waitForJobsToComplete();
+    NexusIndexManager indexManager = (NexusIndexManager) MavenPlugin.getIndexManager();
+    IIndex index = indexManager.getIndex(project);
+
+    indexManager.repositoryAdded(MavenPlugin.getRepositoryRegistry().getWorkspaceRepository(), monitor);
+    waitForJobsToComplete();
+
+    assertNotSame(index, indexManager.getIndex(project));
+  }
+}
@@ -0,0 +1,202 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *      Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.index.nexus;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.Test;
+
+import org.eclipse.m2e.core.embedder.ArtifactKey;
+import org.eclipse.m2e.core.internal.index.IIndex;
+import org.eclipse.m2e.core.internal.index.IndexedArtifact;
+import org.eclipse.m2e.core.internal.index.IndexedArtifactFile;
+import org.eclipse.m2e.core.internal.index.SearchExpression;
+import org.eclipse.m2e.core.internal.index.SearchPage;
+
+
+public class SearchResultCollectorTest {
+
+  private static final int GROUPS = 20;
+
+  private static final int ARTIFACTS = 50;
+
+  private static final int VERSIONS = 5;
+
+  @Test
+  public void testFirstPage() {
+    List<IndexedArtifactFile> hits = generateHits("org.example", 5, 10, 3);
+    SearchPage page = collect(hits, 7, null);
+
+    assertEquals(7, page.getResults().size());
+    assertTrue(page.hasMore());
+    assertEquals(page.getResults().lastKey(), page.getContinuation());
+    Map<String, IndexedArtifact> all = collectAll(hits);
+    assertEquals(new ArrayList<>(all.keySet()).subList(0, 7), new ArrayList<>(page.getResults().keySet()));
+    for(IndexedArtifact artifact : page.getResults().values()) {
+      assertEquals(3, artifact.getFiles().size());
+    }
+  }
+
+  @Test
+  public void testLastPage() {
+    List<IndexedArtifactFile> hits = generateHits("org.example", 1, 3, 1);
+    SearchPage page = collect(hits, 3, null);
+
+    assertEquals(3, page.getResults().size());
+    assertFalse(page.hasMore());
+    assertNull(page.getContinuation());
+  }
+
+  @Test
+  public void testPagingOverLargeIndex() {
+    List<IndexedArtifactFile> hits = generateHits("org.example", GROUPS, ARTIFACTS, VERSIONS);
+    Map<String, IndexedArtifact> all = collectAll(hits);
+
+    SearchPage first = collect(hits, 50, null);
+    assertEquals(new ArrayList<>(all.keySet()).subList(0, 50), new ArrayList<>(first.getResults().keySet()));
+
+    List<String> paged = new ArrayList<>();
+    String continuation = null;
+    do {
+      SearchPage page = collect(hits, 300, continuation);
+      for(IndexedArtifact artifact : page.getResults().values()) {
+        assertEquals(VERSIONS, artifact.getFiles().size());
+      }
+      paged.addAll(page.getResults().keySet());
+      continuation = page.getContinuation();
+    } while(continuation != null);
+
+    assertEquals(new ArrayList<>(all.keySet()), paged);
+  }
+
+  @Test
+  public void testCompositeIndexPaging() throws Exception {
+    List<IndexedArtifactFile> hits1 = generateHits("org.example", 3, 20, 2);
+    List<IndexedArtifactFile> hits2 = generateHits("org.sample", 2, 20, 2);
+    hits2.addAll(generateHits("org.example", 1, 30, 2));
+    CompositeIndex index = new CompositeIndex(List.of(new TestIndex(hits1), new TestIndex(hits2)));
+
+    Map<String, IndexedArtifact> all = collectAll(hits1);
+    all.putAll(collectAll(hits2));
+
+    List<String> paged = new ArrayList<>();
+    String continuation = null;
+    do {
+      SearchPage page = index.search(null, IIndex.SEARCH_ARTIFACT, IIndex.SEARCH_ALL, 17, continuation);
+      assertTrue(page.getResults().size() <= 17);
+      paged.addAll(page.getResults().keySet());
+      continuation = page.getContinuation();
+    } while(continuation != null);
+
+    assertEquals(new ArrayList<>(all.keySet()), paged);
+  }
+
+  static SearchPage collect(List<IndexedArtifactFile> hits, int limit, String continuation) {
+    SearchResultCollector collector = new SearchResultCollector(limit, continuation);
+    for(IndexedArtifactFile hit : hits) {
+      IndexedArtifact artifact = collector.get(getKey(hit),
+          () -> new IndexedArtifact(hit.group, hit.artifact, null, null, hit.type));
+      if(artifact != null) {
+        artifact.addFile(hit);
+      }
+    }
+    return collector.toPage();
+  }
+
+  /**
+   * Collects hits the way search did before results were paged
+   */
+  private static Map<String, IndexedArtifact> collectAll(List<IndexedArtifactFile> hits) {
+    Map<String, IndexedArtifact> result = new TreeMap<>();
+    for(IndexedArtifactFile hit : hits) {
+      result.computeIfAbsent(getKey(hit), k -> new IndexedArtifact(hit.group, hit.artifact, null, null, hit.type))
+          .addFile(hit);
+    }
+    return result;
+  }
+
+  private static String getKey(IndexedArtifactFile hit) {
+    return null + " : " + null + " : " + hit.group + " : " + hit.artifact;
+  }
+
+  /**
+   * Generates hits of a prefix query, in random order like hits sorted by relevance
+   */
+  private static List<IndexedArtifactFile> generateHits(String prefix, int groups, int artifacts, int versions) {
+    List<IndexedArtifactFile> hits = new ArrayList<>();
+    for(int g = 0; g < groups; g++ ) {
+      String group = prefix + ".group" + g;
+      for(int a = 0; a < artifacts; a++ ) {
+        for(int v = 0; v < versions; v++ ) {
+          hits.add(new IndexedArtifactFile("central", group, "artifact" + a, "1." + v, "jar", null,
+              "artifact" + a + "-1." + v + ".jar", 1000, new Date(0), IIndex.NOT_PRESENT, IIndex.NOT_PRESENT, null,
+              null));
+        }
+      }
+    }
+    Collections.shuffle(hits, new Random(1));
+    return hits;
+  }
+
+  private static class TestIndex implements IIndex {
+
+    private final List<IndexedArtifactFile> hits;
+
+    TestIndex(List<IndexedArtifactFile> hits) {
+      this.hits = hits;
+    }
+
+    @Override
+    public SearchPage search(SearchExpression expression, String searchType, int classifier, int limit,
+        String continuation) {
+      return collect(hits, limit, continuation);
+    }
+
+    @Override
+    public IndexedArtifactFile getIndexedArtifactFile(ArtifactKey artifact) {
+      return null;
+    }
+
+    @Override
+    public IndexedArtifactFile identify(File file) {
+      return null;
+    }
+
+    @Override
+    public Collection<IndexedArtifact> find(SearchExpression groupId, SearchExpression artifactId,
+        SearchExpression version, SearchExpression packaging) {
+      return Collections.emptyList();
+    }
+
+    @Override
+    public Collection<IndexedArtifact> find(Collection<SearchExpression> groupId,
+        Collection<SearchExpression> artifactId, Collection<SearchExpression> version,
+        Collection<SearchExpression> packaging) {
+      return Collections.emptyList();
+    }
+  }
+}
@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *      Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.markers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.m2e.core.MavenPlugin;
+import org.eclipse.m2e.core.internal.IMavenConstants;
+import org.eclipse.m2e.tests.common.AbstractMavenProjectTestCase;
+
+
+public class MavenMarkerManagerTest extends AbstractMavenProjectTestCase {
+
+  private static final int MARKERS = 1000;
+
+  @Test
+  public void testUpdateMarkersInSingleDelta() throws Exception {
+    IWorkspace workspace = ResourcesPlugin.getWorkspace();
+    IProject project = workspace.getRoot().getProject("markers");
+    project.create(monitor);
+    project.open(monitor);
+    IFile pom = project.getFile(IMavenConstants.POM_FILE_NAME);
+    pom.create(new ByteArrayInputStream("<project/>".getBytes(StandardCharsets.UTF_8)), true, monitor);
+    waitForJobsToComplete();
+
+    IMavenMarkerManager markerManager = new MavenMarkerManager(MavenPlugin.getMavenConfiguration());
+    AtomicInteger deltas = new AtomicInteger();
+    IResourceChangeListener listener = event -> {
+      IResourceDelta delta = event.getDelta().findMember(pom.getFullPath());
+      if(delta != null && (delta.getFlags() & IResourceDelta.MARKERS) != 0) {
+        deltas.incrementAndGet();
+      }
+    };
+    workspace.addResourceChangeListener(listener, IResourceChangeEvent.POST_CHANGE);
+    try {
+      markerManager.updateMarkers(pom, IMavenConstants.MARKER_POM_LOADING_ID, markers -> {
+        for(int i = 0; i < MARKERS; i++ ) {
+          markers.addMarker(pom, IMavenConstants.MARKER_POM_LOADING_ID, "problem " + i, i, IMarker.SEVERITY_ERROR);
+        }
+      });
+      assertEquals(1, deltas.get());
+      Set<Long> ids = getMarkerIds(pom);
+      assertEquals(MARKERS, ids.size());
+
+      // unchanged problems keep their markers
+      deltas.set(0);
+      markerManager.updateMarkers(pom, IMavenConstants.MARKER_POM_LOADING_ID, markers -> {
+        for(int i = 10; i < MARKERS + 10; i++ ) {
+          markers.addMarker(pom, IMavenConstants.MARKER_POM_LOADING_ID, "problem " + i, i, IMarker.SEVERITY_ERROR);
+        }
+      });
+      assertEquals(1, deltas.get());
+      Set<Long> newIds = getMarkerIds(pom);
+      assertEquals(MARKERS, newIds.size());
+      newIds.retainAll(ids);
+      assertEquals(MARKERS - 10, newIds.size());
+
+      deltas.set(0);
+      markerManager.updateMarkers(pom, IMavenConstants.MARKER_POM_LOADING_ID, markers -> {
+      });
+      assertEquals(1, deltas.get());
+      assertEquals(0, getMarkerIds(pom).size());
+    } finally {
+      workspace.removeResourceChangeListener(listener);
+    }
+  }
+
+  @Test
+  public void testReusedMarkerLosesAttributesOfPreviousProblem() throws Exception {
+    IProject project = ResourcesPlugin.getWorkspace().getRoot().getProject("reused");
+    project.create(monitor);
+    project.open(monitor);
+    IFile pom = project.getFile(IMavenConstants.POM_FILE_NAME);
+    pom.create(new ByteArrayInputStream("<project/>".getBytes(StandardCharsets.UTF_8)), true, monitor);
+    waitForJobsToComplete();
+
+    IMavenMarkerManager markerManager = new MavenMarkerManager(MavenPlugin.getMavenConfiguration());
+    markerManager.updateMarkers(pom, IMavenConstants.MARKER_POM_LOADING_ID, markers -> {
+      IMarker marker = markers.addMarker(pom, IMavenConstants.MARKER_POM_LOADING_ID, "problem", 1,
+          IMarker.SEVERITY_ERROR);
+      marker.setAttribute(IMavenConstants.MARKER_ATTR_EDITOR_HINT, "hint");
+      marker.setAttribute(IMarker.CHAR_START, 10);
+    });
+    Set<Long> ids = getMarkerIds(pom);
+
+    markerManager.updateMarkers(pom, IMavenConstants.MARKER_POM_LOADING_ID, markers -> {
+      markers.addMarker(pom, IMavenConstants.MARKER_POM_LOADING_ID, "problem", 1, IMarker.SEVERITY_ERROR);
+    });
+
+    assertEquals(ids, getMarkerIds(pom));
+    IMarker marker = pom.findMarkers(IMavenConstants.MARKER_POM_LOADING_ID, true, IResource.DEPTH_ZERO)[0];
+    assertEquals("problem", marker.getAttribute(IMarker.MESSAGE));
+    assertNull(marker.getAttribute(IMavenConstants.MARKER_ATTR_EDITOR_HINT));
+    assertNull(marker.getAttribute(IMarker.CHAR_START));
+  }
+
+  private static Set<Long> getMarkerIds(IFile pom) throws Exception {
+    Set<Long> ids = new HashSet<>();
+    for(IMarker marker : pom.findMarkers(IMavenConstants.MARKER_POM_LOADING_ID, true, IResource.DEPTH_ZERO)) {
+      ids.add(marker.getId());
+    }
+    return ids;
+  }
+}
@@ -0,0 +1,162 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *      Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.project;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.junit.Test;
+
+import org.apache.maven.project.MavenProject;
+
+
+public class ProjectCachePlungerTest {
+
+  private static final int THREADS = 8;
+
+  private static final int PROJECTS_PER_THREAD = 4;
+
+  private static final int KEYS = 6;
+
+  private static final int ITERATIONS = 2000;
+
+  /**
+   * Number of projects currently registered per key, as seen by the test threads. A key is counted as used after its
+   * registration returned and until just before its project is removed.
+   */
+  private final AtomicIntegerArray used = new AtomicIntegerArray(KEYS);
+
+  private final AtomicIntegerArray flushed = new AtomicIntegerArray(KEYS);
+
+  private final Queue<String> errors = new ConcurrentLinkedQueue<>();
+
+  private final ProjectCachePlunger<Integer> plunger = new ProjectCachePlunger<>() {
+    @Override
+    protected void flush(Integer cacheKey) {
+      if(used.get(cacheKey) > 0) {
+        errors.add("Flushed key " + cacheKey + " while used by " + used.get(cacheKey) + " projects");
+      }
+      flushed.incrementAndGet(cacheKey);
+    }
+  };
+
+  @Test
+  public void testConcurrentRegisterAndRemove() throws Exception {
+    CyclicBarrier start = new CyclicBarrier(THREADS);
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for(int t = 0; t < THREADS; t++ ) {
+        int thread = t;
+        futures.add(executor.submit(() -> {
+          start.await();
+          refreshProjects(thread);
+          return null;
+        }));
+      }
+      for(Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertEquals(new ArrayList<>(), new ArrayList<>(errors));
+    // nothing leaked, every key was flushed once its last project was removed
+    assertTrue(plunger.keyProjects.isEmpty());
+    assertTrue(plunger.projectKeys.isEmpty());
+    for(int key = 0; key < KEYS; key++ ) {
+      assertEquals(0, used.get(key));
+      assertTrue("Key " + key + " was never flushed", flushed.get(key) > 0);
+    }
+  }
+
+  @Test
+  public void testRemovalBetweenLookupAndRegister() {
+    MavenProject a = new MavenProject();
+    a.setFile(new File("a", "pom.xml"));
+    MavenProject b = new MavenProject();
+    b.setFile(new File("b", "pom.xml"));
+    plunger.register(a, 0);
+
+    // project a is removed after a build of project b found the entry, but before the build registered project b
+    assertEquals("entry", plunger.acquire(0, () -> "entry"));
+    plunger.removeProject(a.getFile(), false);
+    assertEquals(0, flushed.get(0));
+    plunger.register(b, 0);
+    assertEquals(Collections.singleton(b.getFile()), plunger.getProjects(0));
+
+    // lookups that find nothing or are released do not keep the entry
+    assertNull(plunger.acquire(0, () -> null));
+    plunger.acquire(0, () -> "entry");
+    plunger.release(0);
+    plunger.removeProject(b.getFile(), false);
+    assertEquals(1, flushed.get(0));
+    assertTrue(plunger.keyProjects.isEmpty());
+    assertTrue(plunger.leases.isEmpty());
+  }
+
+  private void refreshProjects(int thread) {
+    Random random = new Random(thread);
+    List<MavenProject> projects = new ArrayList<>();
+    List<List<Integer>> projectKeys = new ArrayList<>();
+    for(int p = 0; p < PROJECTS_PER_THREAD; p++ ) {
+      MavenProject project = new MavenProject();
+      project.setFile(new File("thread" + thread + "/project" + p, "pom.xml"));
+      projects.add(project);
+      projectKeys.add(new ArrayList<>());
+    }
+    for(int i = 0; i < ITERATIONS; i++ ) {
+      int p = random.nextInt(PROJECTS_PER_THREAD);
+      MavenProject project = projects.get(p);
+      List<Integer> keys = projectKeys.get(p);
+
+      // refresh: release the previous cache entries of the project, then register the new ones
+      for(Integer key : keys) {
+        used.decrementAndGet(key);
+      }
+      plunger.removeProject(project.getFile(), false);
+      keys.clear();
+      for(int key = 0; key < KEYS; key++ ) {
+        if(random.nextBoolean()) {
+          plunger.register(project, key);
+          // the same key can be registered more than once for a project
+          plunger.register(project, key);
+          used.incrementAndGet(key);
+          keys.add(key);
+        }
+      }
+    }
+    for(int p = 0; p < PROJECTS_PER_THREAD; p++ ) {
+      for(Integer key : projectKeys.get(p)) {
+        used.decrementAndGet(key);
+      }
+      plunger.removeProject(projects.get(p).getFile(), false);
+    }
+  }
+}
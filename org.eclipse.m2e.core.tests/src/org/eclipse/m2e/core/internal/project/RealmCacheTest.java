@@ -0,0 +1,258 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *      Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.project;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.repository.RemoteRepository;
+import org.eclipse.aether.repository.RepositoryPolicy;
+
+import org.codehaus.plexus.classworlds.ClassWorld;
+import org.codehaus.plexus.classworlds.realm.ClassRealm;
+
+import org.apache.maven.model.Plugin;
+import org.apache.maven.plugin.PluginRealmCache;
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.project.ProjectRealmCache;
+
+import org.eclipse.m2e.core.MavenPlugin;
+
+
+public class RealmCacheTest {
+
+  private final AtomicLong now = new AtomicLong();
+
+  private final ClassWorld world = new ClassWorld();
+
+  private final Set<File> openProjects = new HashSet<>();
+
+  @Test
+  public void testEquivalentRepositoriesShareRealm() throws Exception {
+    EclipsePluginRealmCache cache = new EclipsePluginRealmCache();
+    Plugin plugin = new Plugin();
+    plugin.setGroupId("org.apache.maven.plugins");
+    plugin.setArtifactId("maven-compiler-plugin");
+    plugin.setVersion("3.8.1");
+
+    RemoteRepository central = new RemoteRepository.Builder("central", "default", "https://repo.maven.apache.org/maven2")
+        .build();
+    RemoteRepository centralNoUpdates = new RemoteRepository.Builder(central)
+        .setPolicy(new RepositoryPolicy(true, RepositoryPolicy.UPDATE_POLICY_NEVER, RepositoryPolicy.CHECKSUM_POLICY_WARN))
+        .build();
+    RemoteRepository other = new RemoteRepository.Builder("other", "default", "https://repo.example.org/maven2")
+        .build();
+
+    RepositorySystemSession session = MavenPlugin.getMaven().createExecutionContext()
+        .execute((context, monitor) -> context.getRepositorySession(), null);
+    PluginRealmCache.Key key = cache.createKey(plugin, null, null, null, Arrays.asList(central, other), session);
+
+    assertEquals(key, cache.createKey(plugin, null, null, null, Arrays.asList(other, centralNoUpdates, central),
+        session));
+    assertNotEquals(key, cache.createKey(plugin, null, null, null, Collections.singletonList(central), session));
+
+    ClassRealm realm = world.newRealm("plugin");
+    cache.put(key, realm, Collections.emptyList());
+    assertSame(realm,
+        cache.get(cache.createKey(plugin, null, null, null, Arrays.asList(other, central), session)).getRealm());
+  }
+
+  @Test
+  public void testIdlePluginRealmsExpire() throws Exception {
+    EclipsePluginRealmCache cache = new EclipsePluginRealmCache(new RealmCachePolicy<>(now::get, 1000, 100, 10, openProjects::contains));
+    PluginRealmCache.Key idle = new PluginRealmCache.Key() {
+    };
+    PluginRealmCache.Key registered = new PluginRealmCache.Key() {
+    };
+    PluginRealmCache.Key orphan = new PluginRealmCache.Key() {
+    };
+    cache.put(idle, world.newRealm("idle"), Collections.emptyList());
+    cache.put(registered, world.newRealm("registered"), Collections.emptyList());
+    cache.put(orphan, world.newRealm("orphan"), Collections.emptyList());
+    MavenProject a = newProject("a");
+    cache.register(a, idle, null);
+    cache.register(newProject("b"), registered, null);
+
+    // a long build of project a does not touch its realm, which must stay usable nevertheless
+    now.set(2000);
+    cache.put(new PluginRealmCache.Key() {
+    }, world.newRealm("new"), Collections.emptyList());
+
+    assertSame(world.getClassRealm("idle"), setupPluginRealm(cache, idle, a, "idle"));
+    assertSame(world.getClassRealm("registered"), cache.get(registered).getRealm());
+    assertNull(cache.get(orphan));
+    assertNull(world.getClassRealm("orphan"));
+
+    // realms of removed projects are disposed right away
+    cache.removeProject(a.getFile(), null, false);
+    assertNull(cache.get(idle));
+    assertNull(world.getClassRealm("idle"));
+    assertNotNull(cache.get(registered));
+  }
+
+  @Test
+  public void testLeastRecentlyUsedPluginRealmsExpire() throws Exception {
+    EclipsePluginRealmCache cache = new EclipsePluginRealmCache(
+        new RealmCachePolicy<>(now::get, Long.MAX_VALUE, 100, 2, openProjects::contains));
+    PluginRealmCache.Key[] keys = new PluginRealmCache.Key[5];
+    for(int i = 0; i < keys.length; i++ ) {
+      keys[i] = new PluginRealmCache.Key() {
+      };
+    }
+    for(int i = 0; i < 3; i++ ) {
+      now.set(i * 1000);
+      cache.put(keys[i], world.newRealm("realm" + i), Collections.emptyList());
+    }
+    // realm1 is in use while realm3 is added, realm0 is the least recently used one
+    now.set(2950);
+    assertNotNull(cache.get(keys[1]));
+    now.set(3000);
+    cache.put(keys[3], world.newRealm("realm3"), Collections.emptyList());
+    assertNull(world.getClassRealm("realm0"));
+    assertNotNull(world.getClassRealm("realm2"));
+
+    now.set(4000);
+    cache.put(keys[4], world.newRealm("realm4"), Collections.emptyList());
+
+    assertNull(world.getClassRealm("realm0"));
+    assertNotNull(world.getClassRealm("realm1"));
+    assertNull(world.getClassRealm("realm2"));
+    assertNotNull(world.getClassRealm("realm3"));
+    assertNotNull(cache.get(keys[1]));
+    assertNotNull(cache.get(keys[3]));
+    assertNull(cache.get(keys[2]));
+  }
+
+  @Test
+  public void testRegisteredProjectRealmsDoNotExpire() throws Exception {
+    EclipseProjectRealmCache cache = new EclipseProjectRealmCache(new RealmCachePolicy<>(now::get, 1000, 100, 10, openProjects::contains));
+    ClassRealm extension = world.newRealm("extension");
+    ProjectRealmCache.Key registered = cache.createKey(Collections.singletonList(extension));
+    ProjectRealmCache.Key orphan = new ProjectRealmCache.Key() {
+    };
+    cache.put(registered, world.newRealm("registered"), null);
+    cache.put(orphan, world.newRealm("orphan"), null);
+    cache.register(newProject("a"), registered, null);
+
+    now.set(2000);
+    cache.put(new ProjectRealmCache.Key() {
+    }, world.newRealm("new"), null);
+
+    assertNotNull(cache.get(registered));
+    assertNull(cache.get(orphan));
+    assertNull(world.getClassRealm("orphan"));
+  }
+
+  @Test
+  public void testBuildParticipantKeepsSharedRealm() throws Exception {
+    EclipsePluginRealmCache cache = new EclipsePluginRealmCache(
+        new RealmCachePolicy<>(now::get, 1000, 100, 2, openProjects::contains));
+    RemoteRepository central = new RemoteRepository.Builder("central", "default", "https://repo.maven.apache.org/maven2")
+        .build();
+    RemoteRepository other = new RemoteRepository.Builder("other", "default", "https://repo.example.org/maven2")
+        .build();
+    MavenProject a = newProject("a");
+    MavenProject b = newProject("b");
+
+    ClassRealm realm = setupPluginRealm(cache, createKey(cache, central, other), a, "plugin");
+    assertSame(realm, setupPluginRealm(cache, createKey(cache, other, central), b, "plugin"));
+
+    // project a is closed, then other plugins evict all idle realms while a long build of project b runs
+    openProjects.remove(a.getFile());
+    cache.removeProject(a.getFile(), null, false);
+    for(int i = 0; i < 3; i++ ) {
+      now.set(2000 + i * 200);
+      cache.put(new PluginRealmCache.Key() {
+      }, world.newRealm("other" + i), Collections.emptyList());
+    }
+    assertNull(world.getClassRealm("other0"));
+
+    // the build participants of project b still get the realm the build started with
+    assertSame(realm, world.getClassRealm("plugin"));
+    assertSame(realm, setupPluginRealm(cache, createKey(cache, central, other), b, "plugin"));
+
+    // once project b is closed as well, the realm expires like an unregistered one
+    openProjects.remove(b.getFile());
+    now.set(5000);
+    cache.put(new PluginRealmCache.Key() {
+    }, world.newRealm("last"), Collections.emptyList());
+    assertNull(world.getClassRealm("plugin"));
+    assertNull(cache.get(createKey(cache, central, other)));
+  }
+
+  @Test
+  public void testRemovalBetweenLookupAndRegisterKeepsRealm() throws Exception {
+    EclipsePluginRealmCache cache = new EclipsePluginRealmCache(
+        new RealmCachePolicy<>(now::get, 1000, 100, 10, openProjects::contains));
+    PluginRealmCache.Key key = new PluginRealmCache.Key() {
+    };
+    MavenProject a = newProject("a");
+    MavenProject b = newProject("b");
+    ClassRealm realm = setupPluginRealm(cache, key, a, "plugin");
+
+    // project a is removed after a build of project b found the realm, but before the build registered project b
+    PluginRealmCache.CacheRecord record = cache.get(key);
+    cache.removeProject(a.getFile(), null, false);
+    cache.register(b, key, record);
+
+    assertSame(realm, record.getRealm());
+    assertSame(realm, world.getClassRealm("plugin"));
+    cache.removeProject(b.getFile(), null, false);
+    assertNull(world.getClassRealm("plugin"));
+  }
+
+  /**
+   * Looks up a plugin realm the way Maven does when it sets up the plugins of a project.
+   */
+  private ClassRealm setupPluginRealm(EclipsePluginRealmCache cache, PluginRealmCache.Key key, MavenProject project,
+      String name) throws Exception {
+    PluginRealmCache.CacheRecord record = cache.get(key);
+    if(record == null) {
+      record = cache.put(key, world.newRealm(name), Collections.emptyList());
+    }
+    cache.register(project, key, record);
+    return record.getRealm();
+  }
+
+  private static PluginRealmCache.Key createKey(EclipsePluginRealmCache cache, RemoteRepository... repositories)
+      throws Exception {
+    Plugin plugin = new Plugin();
+    plugin.setGroupId("org.apache.maven.plugins");
+    plugin.setArtifactId("maven-compiler-plugin");
+    plugin.setVersion("3.8.1");
+    RepositorySystemSession session = MavenPlugin.getMaven().createExecutionContext()
+        .execute((context, monitor) -> context.getRepositorySession(), null);
+    return cache.createKey(plugin, null, null, null, Arrays.asList(repositories), session);
+  }
+
+  private MavenProject newProject(String name) {
+    MavenProject project = new MavenProject();
+    project.setFile(new File(name, "pom.xml"));
+    openProjects.add(project.getFile());
+    return project;
+  }
+}
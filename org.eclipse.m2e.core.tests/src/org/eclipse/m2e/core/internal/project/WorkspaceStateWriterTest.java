@@ -0,0 +1,175 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *      Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.project;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.Path;
+
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.apache.maven.project.MavenProject;
+
+import org.eclipse.m2e.core.embedder.ArtifactKey;
+import org.eclipse.m2e.core.project.IMavenProjectFacade;
+import org.eclipse.m2e.core.project.MavenProjectChangedEvent;
+import org.eclipse.m2e.tests.common.AbstractMavenProjectTestCase;
+
+
+public class WorkspaceStateWriterTest extends AbstractMavenProjectTestCase {
+
+  private static final int PROJECTS = 500;
+
+  private static final int EVENTS_PER_NOTIFICATION = 10;
+
+  /**
+   * Long enough for the write job to never run during the test, writes happen on flush only.
+   */
+  private static final long WRITE_DELAY = TimeUnit.HOURS.toMillis(1);
+
+  private final AtomicInteger loads = new AtomicInteger();
+
+  private final AtomicBoolean cached = new AtomicBoolean(true);
+
+  @Test
+  public void testIncrementalUpdate() throws Exception {
+    List<IMavenProjectFacade> facades = createProjects();
+    File stateFile = File.createTempFile("workspacestate", ".properties");
+    stateFile.deleteOnExit();
+
+    WorkspaceStateWriter writer = new WorkspaceStateWriter(
+        () -> facades.toArray(new IMavenProjectFacade[facades.size()]), stateFile, WRITE_DELAY);
+
+    // registry refresh notifies listeners several times while it processes the projects
+    for(int i = 0; i < PROJECTS; i += EVENTS_PER_NOTIFICATION) {
+      List<MavenProjectChangedEvent> events = new ArrayList<>();
+      for(IMavenProjectFacade facade : facades.subList(i, i + EVENTS_PER_NOTIFICATION)) {
+        events.add(new MavenProjectChangedEvent(facade.getPom(), MavenProjectChangedEvent.KIND_ADDED,
+            MavenProjectChangedEvent.FLAG_NONE, null, facade));
+      }
+      writer.mavenProjectChanged(events.toArray(new MavenProjectChangedEvent[events.size()]), monitor);
+    }
+    assertEquals(0, writer.getWriteCount());
+    writer.flush();
+
+    assertEquals(1, writer.getWriteCount());
+    assertEquals(0, loads.get());
+    assertEquals(PROJECTS * 2, loadState(stateFile).size());
+
+    // MavenProject instances were released, the extension is known from the project persistent property
+    cached.set(false);
+    IMavenProjectFacade changed = facades.get(0);
+    writer.mavenProjectChanged(new MavenProjectChangedEvent[] {new MavenProjectChangedEvent(changed.getPom(),
+        MavenProjectChangedEvent.KIND_CHANGED, MavenProjectChangedEvent.FLAG_NONE, changed, changed)}, monitor);
+    writer.flush();
+
+    assertEquals(2, writer.getWriteCount());
+    assertEquals(0, loads.get());
+    assertEquals(PROJECTS * 2, loadState(stateFile).size());
+
+    IMavenProjectFacade removed = facades.get(1);
+    writer.mavenProjectChanged(new MavenProjectChangedEvent[] {new MavenProjectChangedEvent(removed.getPom(),
+        MavenProjectChangedEvent.KIND_REMOVED, MavenProjectChangedEvent.FLAG_NONE, removed, null)}, monitor);
+    writer.flush();
+
+    assertEquals(3, writer.getWriteCount());
+    assertEquals(PROJECTS * 2 - 2, loadState(stateFile).size());
+
+    // nothing changed since the last write
+    writer.flush();
+    assertEquals(3, writer.getWriteCount());
+  }
+
+  private List<IMavenProjectFacade> createProjects() throws Exception {
+    List<IMavenProjectFacade> facades = new ArrayList<>();
+    IWorkspace workspace = ResourcesPlugin.getWorkspace();
+    workspace.run(m -> {
+      for(int i = 0; i < PROJECTS; i++ ) {
+        IProject project = workspace.getRoot().getProject("state" + i);
+        project.create(m);
+        project.open(m);
+        IFile pom = project.getFile("pom.xml");
+        pom.create(new ByteArrayInputStream(new byte[0]), true, m);
+        project.getFolder("target").create(true, true, m);
+        project.getFolder("target/classes").create(true, true, m);
+        facades.add(newFacade(project, new ArtifactKey("test", "state" + i, "1.0", null)));
+      }
+    }, monitor);
+    return facades;
+  }
+
+  private IMavenProjectFacade newFacade(IProject project, ArtifactKey artifact) {
+    MavenProject mavenProject = new MavenProject();
+    mavenProject.setArtifact(new DefaultArtifact(artifact.getGroupId(), artifact.getArtifactId(),
+        artifact.getVersion(), "compile", "jar", null, new DefaultArtifactHandler("jar")));
+    return (IMavenProjectFacade) Proxy.newProxyInstance(getClass().getClassLoader(),
+        new Class<?>[] {IMavenProjectFacade.class}, (proxy, method, args) -> {
+          switch(method.getName()) {
+            case "getProject":
+              return project;
+            case "getPom":
+              return project.getFile("pom.xml");
+            case "getArtifactKey":
+              return artifact;
+            case "getPackaging":
+              return "jar";
+            case "getOutputLocation":
+              return project.getFullPath().append(new Path("target/classes"));
+            case "getTestOutputLocation":
+              return null;
+            case "getMavenProject":
+              if(args != null && args.length == 1) {
+                loads.incrementAndGet();
+                return mavenProject;
+              }
+              return cached.get() ? mavenProject : null;
+            case "hashCode":
+              return System.identityHashCode(proxy);
+            case "equals":
+              return proxy == args[0];
+            case "toString":
+              return project.getName();
+            default:
+              throw new UnsupportedOperationException(method.getName());
+          }
+        });
+  }
+
+  private static Properties loadState(File stateFile) throws IOException {
+    Properties state = new Properties();
+    try (InputStream is = Files.newInputStream(stateFile.toPath())) {
+      state.load(is);
+    }
+    return state;
+  }
+}
@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *      Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.project.registry;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import org.apache.maven.model.Build;
+import org.apache.maven.model.Model;
+import org.apache.maven.model.Plugin;
+import org.apache.maven.model.PluginExecution;
+import org.apache.maven.plugin.MojoExecution;
+import org.apache.maven.project.MavenProject;
+
+
+public class ExecutionPlanCacheTest {
+
+  @Test
+  public void testSiblingsShareExecutionPlan() throws Exception {
+    ExecutionPlanCache cache = new ExecutionPlanCache();
+    AtomicInteger calculations = new AtomicInteger();
+    MavenProject a = newProject("a", "jar", "default-compile");
+    MavenProject b = newProject("b", "jar", "default-compile");
+
+    List<MojoExecution> planA = cache.get(a, ProjectRegistryManager.LIFECYCLE_DEFAULT, () -> {
+      calculations.incrementAndGet();
+      return Collections.singletonList(new MojoExecution(a.getPlugin("org.example:example-plugin"), "compile",
+          "default-compile"));
+    });
+    List<MojoExecution> planB = cache.get(b, ProjectRegistryManager.LIFECYCLE_DEFAULT, () -> {
+      calculations.incrementAndGet();
+      return null;
+    });
+
+    assertEquals(1, calculations.get());
+    assertEquals(1, cache.getComputedCount());
+    assertEquals(1, cache.getReusedCount());
+    assertEquals(1, planB.size());
+    assertNotSame(planA.get(0), planB.get(0));
+    assertSame(b.getPlugin("org.example:example-plugin"), planB.get(0).getPlugin());
+    assertEquals("default-compile", planB.get(0).getExecutionId());
+  }
+
+  @Test
+  public void testDifferentBuildConfiguration() throws Exception {
+    assertEquals(ExecutionPlanCache.getBuildKey(newProject("a", "jar", "default-compile")),
+        ExecutionPlanCache.getBuildKey(newProject("b", "jar", "default-compile")));
+    assertNotEquals(ExecutionPlanCache.getBuildKey(newProject("a", "jar", "default-compile")),
+        ExecutionPlanCache.getBuildKey(newProject("a", "war", "default-compile")));
+    assertNotEquals(ExecutionPlanCache.getBuildKey(newProject("a", "jar", "default-compile")),
+        ExecutionPlanCache.getBuildKey(newProject("a", "jar", "other-compile")));
+  }
+
+  @Test
+  public void testFailedPlanIsNotCached() throws Exception {
+    ExecutionPlanCache cache = new ExecutionPlanCache();
+    MavenProject project = newProject("a", "jar", "default-compile");
+
+    assertNull(cache.get(project, ProjectRegistryManager.LIFECYCLE_CLEAN, () -> null));
+    List<MojoExecution> plan = cache.get(project, ProjectRegistryManager.LIFECYCLE_CLEAN,
+        () -> Collections.emptyList());
+
+    assertEquals(Collections.emptyList(), plan);
+    assertEquals(1, cache.getComputedCount());
+  }
+
+  @Test
+  public void testSnapshotPluginPlansAreInvalidated() throws Exception {
+    ExecutionPlanCache cache = new ExecutionPlanCache();
+    MavenProject release = newProject("a", "jar", "default-compile");
+    MavenProject snapshot = newProject("b", "jar", "default-compile");
+    snapshot.getPlugin("org.example:example-plugin").setVersion("1.1-SNAPSHOT");
+
+    cache.get(release, ProjectRegistryManager.LIFECYCLE_DEFAULT, () -> Collections.emptyList());
+    cache.get(snapshot, ProjectRegistryManager.LIFECYCLE_DEFAULT, () -> Collections.emptyList());
+    cache.invalidateSnapshots();
+    cache.get(release, ProjectRegistryManager.LIFECYCLE_DEFAULT, () -> Collections.emptyList());
+    cache.get(snapshot, ProjectRegistryManager.LIFECYCLE_DEFAULT, () -> Collections.emptyList());
+
+    assertEquals(3, cache.getComputedCount());
+    assertEquals(1, cache.getReusedCount());
+  }
+
+  private static MavenProject newProject(String artifactId, String packaging, String executionId) {
+    PluginExecution execution = new PluginExecution();
+    execution.setId(executionId);
+    execution.addGoal("compile");
+    Plugin plugin = new Plugin();
+    plugin.setGroupId("org.example");
+    plugin.setArtifactId("example-plugin");
+    plugin.setVersion("1.0");
+    plugin.addExecution(execution);
+    Build build = new Build();
+    build.addPlugin(plugin);
+    Model model = new Model();
+    model.setGroupId("org.example");
+    model.setArtifactId(artifactId);
+    model.setVersion("1.0");
+    model.setPackaging(packaging);
+    model.setBuild(build);
+    return new MavenProject(model);
+  }
+}
@@ -0,0 +1,159 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *      Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.project;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.m2e.core.MavenPlugin;
+
+
+public class LocalProjectScannerTest {
+
+  private static final int AGGREGATORS = 3;
+
+  private static final int MODULES = 10;
+
+  @Rule
+  public TemporaryFolder tempFolder = new TemporaryFolder();
+
+  @Test
+  public void testScanGeneratedTree() throws Exception {
+    File root = tempFolder.getRoot();
+    for(int i = 0; i < AGGREGATORS; i++ ) {
+      Path aggregator = root.toPath().resolve("group" + i).resolve("aggregator" + i);
+      List<String> modules = new ArrayList<>();
+      for(int j = 0; j < MODULES; j++ ) {
+        String module = "module" + j;
+        modules.add(module);
+        writePom(aggregator.resolve(module), "module" + i + "-" + j, new ArrayList<>());
+        Files.createDirectories(aggregator.resolve(module).resolve("src/main/java"));
+      }
+      writePom(aggregator, "aggregator" + i, modules);
+      // ignored folders must not contribute projects
+      writePom(root.toPath().resolve("group" + i).resolve("node_modules").resolve("npm" + i), "npm" + i,
+          new ArrayList<>());
+      writePom(root.toPath().resolve("group" + i).resolve("target").resolve("generated" + i), "generated" + i,
+          new ArrayList<>());
+    }
+
+    LocalProjectScanner scanner = new LocalProjectScanner(root, root.getAbsolutePath(), false,
+        MavenPlugin.getMavenModelManager());
+    scanner.run(new NullProgressMonitor());
+
+    assertEquals(scanner.getErrors().toString(), 0, scanner.getErrors().size());
+    assertEquals(AGGREGATORS, scanner.getProjects().size());
+    for(MavenProjectInfo aggregator : scanner.getProjects()) {
+      assertEquals(MODULES, aggregator.getProjects().size());
+      int j = 0;
+      for(MavenProjectInfo module : aggregator.getProjects()) {
+        assertEquals("module" + j++ , module.getLabel().substring(0, module.getLabel().indexOf('/')));
+      }
+    }
+  }
+
+  @Test
+  public void testCustomIgnoredFolders() throws Exception {
+    File root = tempFolder.getRoot();
+    writePom(root.toPath().resolve("target").resolve("project"), "project", new ArrayList<>());
+    writePom(root.toPath().resolve("generated").resolve("project"), "generated", new ArrayList<>());
+
+    LocalProjectScanner scanner = new LocalProjectScanner(root, root.getAbsolutePath(), false,
+        MavenPlugin.getMavenModelManager());
+    scanner.setIgnoredFolders(List.of("generated"));
+    scanner.run(new NullProgressMonitor());
+
+    assertEquals(1, scanner.getProjects().size());
+    assertEquals("project", scanner.getProjects().get(0).getModel().getArtifactId());
+  }
+
+  @Test
+  public void testLabelsAreRelativeToScannedFolder() throws Exception {
+    Path root = tempFolder.getRoot().toPath();
+    writePom(root.resolve("sub").resolve("dir"), "nested", List.of("module"));
+    writePom(root.resolve("sub").resolve("dir").resolve("module"), "module", new ArrayList<>());
+
+    LocalProjectScanner scanner = new LocalProjectScanner(root.toFile(), root.toString(), false,
+        MavenPlugin.getMavenModelManager());
+    scanner.run(new NullProgressMonitor());
+
+    assertEquals(1, scanner.getProjects().size());
+    MavenProjectInfo project = scanner.getProjects().get(0);
+    assertEquals("/sub/dir/pom.xml", project.getLabel());
+    assertEquals(1, project.getProjects().size());
+    assertEquals("module/pom.xml", project.getProjects().iterator().next().getLabel());
+  }
+
+  @Test
+  public void testScannedFolderIsProject() throws Exception {
+    Path root = tempFolder.getRoot().toPath();
+    writePom(root, "root", new ArrayList<>());
+
+    LocalProjectScanner scanner = new LocalProjectScanner(root.toFile(), root.toString(), false,
+        MavenPlugin.getMavenModelManager());
+    scanner.run(new NullProgressMonitor());
+
+    assertEquals(1, scanner.getProjects().size());
+    assertEquals("/pom.xml", scanner.getProjects().get(0).getLabel());
+  }
+
+  @Test
+  public void testSubfoldersOfBrokenProjectAreScanned() throws Exception {
+    Path root = tempFolder.getRoot().toPath();
+    Path broken = root.resolve("broken");
+    Files.createDirectories(broken);
+    Files.write(broken.resolve("pom.xml"), "<project>".getBytes(StandardCharsets.UTF_8));
+    writePom(broken.resolve("nested").resolve("child"), "child", new ArrayList<>());
+
+    LocalProjectScanner scanner = new LocalProjectScanner(root.toFile(), root.toString(), false,
+        MavenPlugin.getMavenModelManager());
+    scanner.run(new NullProgressMonitor());
+
+    assertEquals(1, scanner.getErrors().size());
+    assertEquals(1, scanner.getProjects().size());
+    MavenProjectInfo child = scanner.getProjects().get(0);
+    assertEquals("child", child.getModel().getArtifactId());
+    assertEquals("/broken/nested/child/pom.xml", child.getLabel());
+  }
+
+  private static void writePom(Path dir, String artifactId, List<String> modules) throws IOException {
+    Files.createDirectories(dir);
+    StringBuilder sb = new StringBuilder();
+    sb.append("<project><modelVersion>4.0.0</modelVersion>");
+    sb.append("<groupId>org.example</groupId><artifactId>").append(artifactId).append("</artifactId>");
+    sb.append("<version>1.0</version>");
+    if(!modules.isEmpty()) {
+      sb.append("<packaging>pom</packaging><modules>");
+      for(String module : modules) {
+        sb.append("<module>").append(module).append("</module>");
+      }
+      sb.append("</modules>");
+    }
+    sb.append("</project>");
+    Files.write(dir.resolve("pom.xml"), sb.toString().getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,146 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *      Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.ui.internal.console;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.m2e.core.ui.internal.M2EUIPluginActivator;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.ui.PlatformUI;
+import org.junit.Test;
+import org.slf4j.LoggerFactory;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+
+public class MavenConsoleImplTest {
+
+	private static final int LINES = 1_000_000;
+
+	/**
+	 * Name of the MavenConsoleAppender in the default logback configuration of m2e.
+	 */
+	private static final String CONSOLE_APPENDER = "MavenConsoleLog";
+
+	@Test
+	public void testBufferKeepsOrderAndDropsWhenFull() {
+		ConsoleLineBuffer buffer = new ConsoleLineBuffer(5);
+		assertEquals(8, buffer.getCapacity());
+		for (int i = 0; i < 10; i++) {
+			assertEquals(i < 8, buffer.offer(i % 3, "line" + i));
+		}
+		assertEquals(2, buffer.takeDropped());
+		assertEquals(0, buffer.takeDropped());
+
+		List<String> drained = new ArrayList<>();
+		assertEquals(8, buffer.drain((type, line) -> drained.add(type + ":" + line)));
+		assertEquals("0:line0", drained.get(0));
+		assertEquals("1:line7", drained.get(7));
+		assertEquals(0, buffer.drain((type, line) -> fail(line)));
+
+		// slots are reused once drained
+		assertTrue(buffer.offer(ConsoleDocument.ERROR, "again"));
+		assertEquals(1, buffer.drain((type, line) -> assertEquals("again", line)));
+	}
+
+	@Test
+	public void testConcurrentProducers() throws Exception {
+		ConsoleLineBuffer buffer = new ConsoleLineBuffer(1024);
+		int producers = 4;
+		int linesPerProducer = 100_000;
+		AtomicLong offered = new AtomicLong();
+		List<Thread> threads = new ArrayList<>();
+		for (int p = 0; p < producers; p++) {
+			int producer = p;
+			Thread thread = new Thread(() -> {
+				for (int i = 0; i < linesPerProducer; i++) {
+					if (buffer.offer(producer, Integer.toString(i))) {
+						offered.incrementAndGet();
+					}
+				}
+			});
+			threads.add(thread);
+			thread.start();
+		}
+		int[] last = new int[producers];
+		Arrays.fill(last, -1);
+		long[] drained = new long[1];
+		ConsoleLineBuffer.LineConsumer consumer = (type, line) -> {
+			int i = Integer.parseInt(line);
+			assertTrue("lines of a producer must stay in order", i > last[type]);
+			last[type] = i;
+			drained[0]++;
+		};
+		while (threads.stream().anyMatch(Thread::isAlive)) {
+			buffer.drain(consumer);
+		}
+		buffer.drain(consumer);
+		assertEquals(offered.get(), drained[0]);
+		assertEquals((long) producers * linesPerProducer, offered.get() + buffer.takeDropped());
+	}
+
+	@Test
+	public void testMillionLinesThroughAppender() throws Exception {
+		Display display = PlatformUI.getWorkbench().getDisplay();
+		if (display.getThread() == Thread.currentThread()) {
+			fail("Test cannot succeed in UI-Thread. Disable 'Run in UI thread' in this tests launch configuration.");
+		}
+		MavenConsoleImpl console = M2EUIPluginActivator.getDefault().getMavenConsole();
+
+		// log through the configured appender only, not to the log file
+		LoggerContext m2eContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+		Appender<ILoggingEvent> appender = m2eContext.getLogger(Logger.ROOT_LOGGER_NAME).getAppender(CONSOLE_APPENDER);
+		assertNotNull(appender);
+		LoggerContext context = new LoggerContext();
+		Logger logger = context.getLogger(MavenConsoleImplTest.class);
+		logger.setAdditive(false);
+		logger.setLevel(Level.INFO);
+		logger.addAppender(appender);
+		// log while holding the UI thread, so no scheduled flush can run in between
+		display.syncExec(() -> {
+			int flushesBefore = console.getFlushCount();
+			try {
+				for (int i = 0; i < LINES; i++) {
+					logger.info("Downloaded artifact {} of {}", i, LINES);
+				}
+			} finally {
+				logger.detachAppender(appender);
+			}
+
+			// all lines wait for a single flush
+			assertTrue(console.isFlushPending());
+			assertEquals(flushesBefore, console.getFlushCount());
+			console.flushLines();
+			assertEquals(flushesBefore + 1, console.getFlushCount());
+		});
+
+		if (!console.isVisible()) {
+			// the backlog of a closed console stays bounded
+			ConsoleDocument backlog = console.getConsoleDocument();
+			assertTrue(backlog.getLines().length < LINES);
+			assertTrue(backlog.getDiscardedCount() > 0);
+		}
+	}
+}
@@ -0,0 +1,196 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *      Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.ui.internal.markers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.eclipse.jface.text.IRegion;
+import org.eclipse.m2e.core.ui.internal.markers.PomElementIndex.DependencyEntry;
+import org.eclipse.m2e.core.ui.internal.markers.PomElementIndex.ExecutionEntry;
+import org.eclipse.m2e.core.ui.internal.markers.PomElementIndex.PluginEntry;
+import org.eclipse.m2e.core.ui.internal.markers.PomElementIndex.ValueEntry;
+import org.eclipse.wst.sse.core.StructuredModelManager;
+import org.eclipse.wst.sse.core.internal.provisional.text.IStructuredDocument;
+import org.eclipse.wst.xml.core.internal.provisional.document.IDOMModel;
+import org.junit.Before;
+import org.junit.Test;
+
+@SuppressWarnings("restriction")
+public class PomElementIndexTest {
+
+	private static final int DEPENDENCIES = 300;
+
+	private IDOMModel model;
+
+	private IStructuredDocument document;
+
+	@Before
+	public void setUp() {
+		model = (IDOMModel) StructuredModelManager.getModelManager()
+				.createUnManagedStructuredModelFor("org.eclipse.m2e.core.pomFile");
+		document = model.getStructuredDocument();
+		document.setText(this, createPom());
+	}
+
+	@Test
+	public void testOneTraversalPerChange() throws Exception {
+		int before = PomElementIndex.getTraversalCount(document);
+		PomElementIndex index = getIndex();
+		// resolving every marker of the refresh reuses the index
+		for (int i = 0; i < DEPENDENCIES; i++) {
+			assertSame(index, getIndex());
+			assertEquals(1, getIndex().findPlugins("org.apache.maven.plugins", "maven-jar-plugin").size());
+		}
+		assertEquals(1, PomElementIndex.getTraversalCount(document) - before);
+		assertEquals(DEPENDENCIES, index.dependencies.size());
+
+		document.replace(document.get().indexOf("</project>"), 0, "<description>changed</description>\n");
+		PomElementIndex changed = getIndex();
+		assertEquals(2, PomElementIndex.getTraversalCount(document) - before);
+		for (int i = 0; i < DEPENDENCIES; i++) {
+			assertSame(changed, getIndex());
+		}
+		assertEquals(2, PomElementIndex.getTraversalCount(document) - before);
+	}
+
+	@Test
+	public void testExecutionLocations() throws Exception {
+		PomElementIndex index = getIndex();
+		List<PluginEntry> plugins = index.findPlugins("org.apache.maven.plugins", "maven-compiler-plugin");
+		assertEquals(2, plugins.size());
+		assertFalse(plugins.get(0).inProfile);
+		assertTrue(plugins.get(1).inProfile);
+		assertEquals("java11", plugins.get(1).profile);
+
+		ExecutionEntry defaultExecution = plugins.get(0).findExecution("default");
+		assertNotNull(defaultExecution);
+		assertNull(defaultExecution.id);
+		assertEquals("<goal>compile</goal>", text(defaultExecution.findGoal("compile").region));
+		assertNull(defaultExecution.findGoal("testCompile"));
+
+		ExecutionEntry java11 = plugins.get(1).findExecution("java11-compile");
+		assertNotNull(java11);
+		assertEquals("<id>java11-compile</id>", text(java11.id.region));
+		assertNull(plugins.get(1).findExecution("default"));
+
+		assertTrue(index.findPlugins("org.codehaus.mojo", "maven-compiler-plugin").isEmpty());
+		assertEquals(1, index.findPlugins("org.codehaus.mojo", "build-helper-maven-plugin").size());
+	}
+
+	@Test
+	public void testDependencyVersions() throws Exception {
+		PomElementIndex index = getIndex();
+		DependencyEntry first = index.dependencies.get(0);
+		assertEquals("org.example", first.groupId);
+		assertEquals("artifact0", first.artifactId);
+		assertEquals("1.0", first.version.value);
+		assertEquals("<version>1.0</version>", text(first.version.region));
+		assertTrue(first.ignoreManaged);
+		assertFalse(index.dependencies.get(1).ignoreManaged);
+		assertEquals("test-jar", index.dependencies.get(2).type);
+
+		ValueEntry version = index.version;
+		assertEquals("1.0.0-SNAPSHOT", version.value);
+		assertEquals("1.0.0-SNAPSHOT", index.parentVersion);
+		assertFalse(index.schemaLocationDeclared);
+		assertEquals(document.get().indexOf("<project>"), index.projectStartTag.getOffset());
+	}
+
+	private PomElementIndex getIndex() {
+		return PomElementIndex.get(document, model.getDocument().getDocumentElement());
+	}
+
+	private String text(IRegion region) throws Exception {
+		return document.get(region.getOffset(), region.getLength());
+	}
+
+	private static String createPom() {
+		StringBuilder pom = new StringBuilder();
+		pom.append("<project>\n");
+		pom.append("  <modelVersion>4.0.0</modelVersion>\n");
+		pom.append("  <parent>\n");
+		pom.append("    <groupId>org.example</groupId>\n");
+		pom.append("    <artifactId>parent</artifactId>\n");
+		pom.append("    <version>1.0.0-SNAPSHOT</version>\n");
+		pom.append("  </parent>\n");
+		pom.append("  <artifactId>child</artifactId>\n");
+		pom.append("  <version>1.0.0-SNAPSHOT</version>\n");
+		pom.append("  <dependencies>\n");
+		for (int i = 0; i < DEPENDENCIES; i++) {
+			pom.append("    <dependency>\n");
+			pom.append("      <groupId>org.example</groupId>\n");
+			pom.append("      <artifactId>artifact").append(i).append("</artifactId>\n");
+			pom.append("      <version>1.0</version>");
+			if (i == 0) {
+				pom.append("<!--$NO-MVN-MAN-VER$-->");
+			}
+			pom.append("\n");
+			if (i == 2) {
+				pom.append("      <type>test-jar</type>\n");
+			}
+			pom.append("    </dependency>\n");
+		}
+		pom.append("  </dependencies>\n");
+		pom.append("  <build>\n");
+		pom.append("    <plugins>\n");
+		pom.append("      <plugin>\n");
+		pom.append("        <artifactId>maven-compiler-plugin</artifactId>\n");
+		pom.append("        <executions>\n");
+		pom.append("          <execution>\n");
+		pom.append("            <goals>\n");
+		pom.append("              <goal>compile</goal>\n");
+		pom.append("            </goals>\n");
+		pom.append("          </execution>\n");
+		pom.append("        </executions>\n");
+		pom.append("      </plugin>\n");
+		pom.append("      <plugin>\n");
+		pom.append("        <groupId>org.apache.maven.plugins</groupId>\n");
+		pom.append("        <artifactId>maven-jar-plugin</artifactId>\n");
+		pom.append("        <version>3.2.0</version>\n");
+		pom.append("      </plugin>\n");
+		pom.append("      <plugin>\n");
+		pom.append("        <groupId>org.codehaus.mojo</groupId>\n");
+		pom.append("        <artifactId>build-helper-maven-plugin</artifactId>\n");
+		pom.append("      </plugin>\n");
+		pom.append("    </plugins>\n");
+		pom.append("  </build>\n");
+		pom.append("  <profiles>\n");
+		pom.append("    <profile>\n");
+		pom.append("      <id>java11</id>\n");
+		pom.append("      <build>\n");
+		pom.append("        <plugins>\n");
+		pom.append("          <plugin>\n");
+		pom.append("            <groupId>org.apache.maven.plugins</groupId>\n");
+		pom.append("            <artifactId>maven-compiler-plugin</artifactId>\n");
+		pom.append("            <executions>\n");
+		pom.append("              <execution>\n");
+		pom.append("                <id>java11-compile</id>\n");
+		pom.append("              </execution>\n");
+		pom.append("            </executions>\n");
+		pom.append("          </plugin>\n");
+		pom.append("        </plugins>\n");
+		pom.append("      </build>\n");
+		pom.append("    </profile>\n");
+		pom.append("  </profiles>\n");
+		pom.append("</project>\n");
+		return pom.toString();
+	}
+}
@@ -0,0 +1,218 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *      Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.ui.internal.wizards;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.m2e.core.embedder.ArtifactKey;
+import org.eclipse.m2e.core.internal.index.IIndex;
+import org.eclipse.m2e.core.internal.index.IndexedArtifact;
+import org.eclipse.m2e.core.internal.index.IndexedArtifactFile;
+import org.eclipse.m2e.core.internal.index.SearchExpression;
+import org.eclipse.m2e.core.internal.index.SearchPage;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.layout.FillLayout;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.ui.PlatformUI;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+@SuppressWarnings("restriction")
+public class MavenPomSelectionComponentTest {
+
+	private static final String QUERY = "org.springframework";
+
+	private static final int ARTIFACTS = 1500;
+
+	private Display display;
+
+	private Shell shell;
+
+	private TestComponent component;
+
+	private final TestIndex index = new TestIndex();
+
+	@Before
+	public void setUp() {
+		display = PlatformUI.getWorkbench().getDisplay();
+		if (display.getThread() == Thread.currentThread()) {
+			fail("Test cannot succeed in UI-Thread. Disable 'Run in UI thread' in this tests launch configuration.");
+		}
+	}
+
+	@After
+	public void tearDown() {
+		if (shell != null) {
+			display.syncExec(shell::dispose);
+		}
+	}
+
+	@Test
+	public void testTypingIssuesOneSearch() throws Exception {
+		createComponent(Collections.emptySet());
+
+		for (int i = 1; i <= QUERY.length(); i++) {
+			String text = QUERY.substring(0, i);
+			display.syncExec(() -> component.searchText.setText(text));
+		}
+		runSearch();
+
+		// one search for the whole query, fetching the first page and the rest
+		assertEquals(2, index.queries.get());
+		assertEquals(IIndex.DEFAULT_SEARCH_LIMIT,
+				(int) display.syncCall(() -> component.searchResultViewer.getTree().getItemCount()));
+	}
+
+	@Test
+	public void testManagedArtifactsComeFirst() throws Exception {
+		createComponent(Set.of(new ArtifactKey(QUERY, "artifact0950", "1.0", null)));
+
+		display.syncExec(() -> component.searchText.setText(QUERY));
+		runSearch();
+
+		Object first = display.syncCall(() -> component.searchResultViewer.getTree().getItem(0).getData());
+		assertEquals("artifact0950", ((IndexedArtifact) first).getArtifactId());
+	}
+
+	@Test
+	public void testResultsAreNarrowedWhileTyping() throws Exception {
+		createComponent(Collections.emptySet());
+
+		display.syncExec(() -> component.searchText.setText("artifact01"));
+		runSearch();
+		int queries = index.queries.get();
+
+		// narrowing happens right away, before the search for the longer query
+		int items = display.syncCall(() -> {
+			component.searchText.setText("artifact012");
+			return component.searchResultViewer.getTree().getItemCount();
+		});
+
+		assertEquals(10, items);
+		assertEquals(queries, index.queries.get());
+	}
+
+	private void createComponent(Set<ArtifactKey> managed) {
+		display.syncExec(() -> {
+			shell = new Shell(display);
+			shell.setLayout(new FillLayout());
+			component = new TestComponent(shell, index);
+			component.init(null, IIndex.SEARCH_ARTIFACT, null, Collections.emptySet(), managed);
+			shell.open();
+		});
+	}
+
+	/**
+	 * Runs the pending search right away, searches of the test component are only scheduled
+	 */
+	private void runSearch() throws InterruptedException {
+		Job searchJob = display.syncCall(() -> component.searchJob);
+		searchJob.wakeUp();
+		searchJob.join();
+		// flush results posted to the UI thread
+		display.syncExec(() -> {
+		});
+	}
+
+	private static class TestComponent extends MavenPomSelectionComponent {
+
+		private final IIndex index;
+
+		TestComponent(Shell shell, IIndex index) {
+			super(shell, SWT.NONE);
+			this.index = index;
+		}
+
+		@Override
+		IIndex getSearchIndex() {
+			return index;
+		}
+
+		@Override
+		long getSearchDelay(boolean delay) {
+			// superseded searches must never run, the test starts the last one
+			return TimeUnit.HOURS.toMillis(1);
+		}
+	}
+
+	/**
+	 * Stand-in for the repository indexes that counts queries and returns the same artifacts for every query
+	 */
+	private static class TestIndex implements IIndex {
+
+		final AtomicInteger queries = new AtomicInteger();
+
+		private final TreeMap<String, IndexedArtifact> artifacts = new TreeMap<>();
+
+		TestIndex() {
+			for (int i = 0; i < ARTIFACTS; i++) {
+				String artifactId = String.format("artifact%04d", i);
+				IndexedArtifact artifact = new IndexedArtifact(QUERY, artifactId, null, null, "jar");
+				artifact.addFile(new IndexedArtifactFile("central", QUERY, artifactId, "1.0", "jar", null,
+						artifactId + "-1.0.jar", 1000, new Date(0), IIndex.NOT_PRESENT, IIndex.NOT_PRESENT, null, null));
+				artifacts.put(artifactId, artifact);
+			}
+		}
+
+		@Override
+		public SearchPage search(SearchExpression expression, String searchType, int classifier, int limit,
+				String continuation) {
+			queries.incrementAndGet();
+			TreeMap<String, IndexedArtifact> page = new TreeMap<>();
+			for (var entry : (continuation == null ? artifacts : artifacts.tailMap(continuation, false)).entrySet()) {
+				if (page.size() == limit) {
+					return new SearchPage(page, page.lastKey());
+				}
+				page.put(entry.getKey(), entry.getValue());
+			}
+			return new SearchPage(page, null);
+		}
+
+		@Override
+		public IndexedArtifactFile getIndexedArtifactFile(ArtifactKey artifact) {
+			return null;
+		}
+
+		@Override
+		public IndexedArtifactFile identify(File file) {
+			return null;
+		}
+
+		@Override
+		public Collection<IndexedArtifact> find(SearchExpression groupId, SearchExpression artifactId,
+				SearchExpression version, SearchExpression packaging) {
+			return Collections.emptyList();
+		}
+
+		@Override
+		public Collection<IndexedArtifact> find(Collection<SearchExpression> groupId,
+				Collection<SearchExpression> artifactId, Collection<SearchExpression> version,
+				Collection<SearchExpression> packaging) {
+			return Collections.emptyList();
+		}
+	}
+}
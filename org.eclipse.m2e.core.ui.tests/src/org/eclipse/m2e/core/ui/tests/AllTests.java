@@ -16,9 +16,14 @@ import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
 
+import org.eclipse.m2e.core.ui.internal.console.MavenConsoleImplTest;
+import org.eclipse.m2e.core.ui.internal.markers.PomElementIndexTest;
+import org.eclipse.m2e.core.ui.internal.wizards.MavenPomSelectionComponentTest;
+
 
 @RunWith(Suite.class)
-@SuiteClasses({ConsoleTest.class})
+@SuiteClasses({ConsoleTest.class, MavenConsoleLineMatcherTest.class,
+    MavenPomSelectionComponentTest.class, PomElementIndexTest.class, MavenConsoleImplTest.class})
 public class AllTests {
 
 }
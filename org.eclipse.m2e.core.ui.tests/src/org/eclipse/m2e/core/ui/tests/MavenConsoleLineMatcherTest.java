@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *      Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.ui.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.eclipse.m2e.internal.launch.MavenConsoleLineMatcher;
+import org.eclipse.m2e.internal.launch.MavenConsoleLineMatcher.Kind;
+import org.junit.Test;
+
+@SuppressWarnings("restriction")
+public class MavenConsoleLineMatcherTest {
+
+	private static final String BUILD_LOG = "/resources/logs/build.log";
+
+	private final MavenConsoleLineMatcher matcher = new MavenConsoleLineMatcher();
+
+	@Test
+	public void testRunningTest() {
+		assertMatch(Kind.TEST, "org.example.FooTest", "Running org.example.FooTest");
+		assertMatch(Kind.TEST, "org.example.FooTest", "[INFO] Running org.example.FooTest");
+	}
+
+	@Test
+	public void testFailedTest() {
+		assertMatch(Kind.TEST, "org.example.FooTest", "  testBar(org.example.FooTest)");
+		assertMatch(Kind.TEST, "org.example.FooTest",
+				"Failed tests:   testBar(org.example.FooTest): expected:<2> but was:<3>");
+	}
+
+	@Test
+	public void testDebugPort() {
+		assertMatch(Kind.DEBUG_PORT, "8000", "Listening for transport dt_socket at address: 8000 ");
+	}
+
+	@Test
+	public void testNoMatch() {
+		assertFalse(matcher.match(""));
+		assertFalse(matcher.match("[INFO] BUILD SUCCESS"));
+		assertFalse(matcher.match("Running "));
+		assertFalse(matcher.match("  test without parentheses"));
+		assertFalse(matcher.match("[DEBUG]   (f) testSourceDirectory = /work/src/test/java"));
+		assertFalse(matcher.match("Listening for transport dt_socket at address: "));
+		assertEquals(null, matcher.getKind());
+	}
+
+	@Test
+	public void testBuildLog() throws Exception {
+		List<String> matches = new ArrayList<>();
+		for (String line : readBuildLog()) {
+			if (matcher.match(line)) {
+				matches.add(matcher.getKind() + " " + line.substring(matcher.getStart(), matcher.getEnd()));
+			}
+		}
+
+		assertEquals(List.of( //
+				"DEBUG_PORT 5005", //
+				"TEST org.example.sample.CalculatorTest", //
+				"TEST org.example.sample.ParserTest", //
+				"TEST org.example.sample.CalculatorTest", //
+				"TEST org.example.sample.ParserTest", //
+				"TEST org.example.next.ServiceTest"), matches);
+	}
+
+	private void assertMatch(Kind kind, String expected, String line) {
+		assertTrue(line, matcher.match(line));
+		assertEquals(kind, matcher.getKind());
+		assertEquals(expected, line.substring(matcher.getStart(), matcher.getEnd()));
+	}
+
+	private static List<String> readBuildLog() throws Exception {
+		try (InputStream is = MavenConsoleLineMatcherTest.class.getResourceAsStream(BUILD_LOG)) {
+			return new String(is.readAllBytes(), StandardCharsets.UTF_8).lines().collect(Collectors.toList());
+		}
+	}
+}
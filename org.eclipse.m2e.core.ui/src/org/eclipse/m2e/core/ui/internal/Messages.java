@@ -215,6 +215,10 @@ public class Messages extends NLS {
 
   public static String MavenArchetypesPreferencePage_title;
 
+  public static String MavenConsoleImpl_discarded;
+
+  public static String MavenConsoleImpl_dropped;
+
   public static String MavenConsoleImpl_title;
 
   public static String MavenConsolePageParticipant_any;
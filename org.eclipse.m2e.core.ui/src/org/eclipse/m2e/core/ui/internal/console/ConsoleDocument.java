@@ -36,6 +36,8 @@ public class ConsoleDocument {
 
   private int readIndex = 0;
 
+  private int discarded = 0;
+
   private static final int BUFFER_SIZE = 200;
 
   protected static class ConsoleLine {
@@ -63,6 +65,7 @@ public class ConsoleDocument {
     lines = null;
     writeIndex = 0;
     readIndex = 0;
+    discarded = 0;
   }
 
   /**
@@ -83,9 +86,17 @@ public class ConsoleDocument {
       if(++readIndex >= BUFFER_SIZE) {
         readIndex = 0;
       }
+      discarded++ ;
     }
   }
 
+  /**
+   * Returns the number of lines that were overwritten by newer lines since the document was last cleared.
+   */
+  public int getDiscardedCount() {
+    return discarded;
+  }
+
   public ConsoleLine[] getLines() {
     if(isEmpty())
       return new ConsoleLine[0];
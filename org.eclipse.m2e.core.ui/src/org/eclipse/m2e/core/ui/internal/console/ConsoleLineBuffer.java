@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *      Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.ui.internal.console;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+
+/**
+ * Bounded lock-free ring buffer of console lines, filled by any number of logging threads and drained by the UI
+ * thread. Each slot carries a sequence number telling producers and the consumer whose turn it is, so neither side
+ * ever blocks. Lines offered while the buffer is full are dropped and counted.
+ */
+class ConsoleLineBuffer {
+
+  interface LineConsumer {
+    void accept(int type, String line);
+  }
+
+  private final int capacity;
+
+  private final int mask;
+
+  private final AtomicLongArray sequences;
+
+  private final String[] lines;
+
+  private final int[] types;
+
+  private final AtomicLong tail = new AtomicLong();
+
+  private final AtomicLong dropped = new AtomicLong();
+
+  // only accessed by the draining thread
+  private long head;
+
+  /**
+   * @param capacity maximum number of pending lines, rounded up to a power of two
+   */
+  ConsoleLineBuffer(int capacity) {
+    this.capacity = Math.max(2, Integer.highestOneBit(capacity - 1) << 1);
+    this.mask = this.capacity - 1;
+    this.sequences = new AtomicLongArray(this.capacity);
+    this.lines = new String[this.capacity];
+    this.types = new int[this.capacity];
+    for(int i = 0; i < this.capacity; i++ ) {
+      sequences.set(i, i);
+    }
+  }
+
+  /**
+   * Adds a line, may be called from any thread.
+   *
+   * @return false if the buffer was full and the line was dropped
+   */
+  boolean offer(int type, String line) {
+    long position = tail.get();
+    while(true) {
+      int index = (int) position & mask;
+      long sequence = sequences.get(index);
+      if(sequence == position) {
+        if(tail.compareAndSet(position, position + 1)) {
+          lines[index] = line;
+          types[index] = type;
+          // publishes the line to the consumer
+          sequences.set(index, position + 1);
+          return true;
+        }
+        position = tail.get();
+      } else if(sequence < position) {
+        // the slot still holds a line capacity positions back, the buffer is full
+        dropped.incrementAndGet();
+        return false;
+      } else {
+        // another producer claimed the slot
+        position = tail.get();
+      }
+    }
+  }
+
+  /**
+   * Passes all published lines to the consumer in the order they were claimed. Must only be called from one thread at
+   * a time.
+   *
+   * @return number of lines drained
+   */
+  int drain(LineConsumer consumer) {
+    int count = 0;
+    while(true) {
+      int index = (int) head & mask;
+      if(sequences.get(index) != head + 1) {
+        // empty, or the next line is not published yet
+        return count;
+      }
+      String line = lines[index];
+      int type = types[index];
+      lines[index] = null;
+      // hands the slot back to producers for the next round
+      sequences.set(index, head + capacity);
+      head++ ;
+      consumer.accept(type, line);
+      count++ ;
+    }
+  }
+
+  /**
+   * Returns the number of lines dropped since the last call and resets the count.
+   */
+  long takeDropped() {
+    return dropped.getAndSet(0);
+  }
+
+  int getCapacity() {
+    return capacity;
+  }
+}
@@ -20,6 +20,8 @@ import java.util.Date;
 import java.util.List;
 import java.util.Locale;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.jface.preference.JFacePreferences;
 import org.eclipse.jface.resource.ColorRegistry;
@@ -28,6 +30,7 @@ import org.eclipse.jface.resource.JFaceColors;
 import org.eclipse.jface.resource.JFaceResources;
 import org.eclipse.jface.util.IPropertyChangeListener;
 import org.eclipse.jface.util.PropertyChangeEvent;
+import org.eclipse.osgi.util.NLS;
 import org.eclipse.swt.graphics.Color;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.ui.PlatformUI;
@@ -72,6 +75,27 @@ public class MavenConsoleImpl extends IOConsole implements MavenConsole, IProper
 
   private final List<IMavenConsoleListener> listeners = new CopyOnWriteArrayList<>();
 
+  /**
+   * Maximum number of lines waiting to be written by the UI thread, further lines are dropped.
+   */
+  private static final int PENDING_LINES_CAPACITY = 1 << 16;
+
+  /**
+   * Delay in milliseconds before pending lines are written, so that one flush per frame writes all lines logged
+   * meanwhile.
+   */
+  private static final int FLUSH_DELAY = 16;
+
+  // DateFormat is not thread safe, loggers of all threads end up here
+  private static final ThreadLocal<DateFormat> DATE_FORMAT = ThreadLocal
+      .withInitial(() -> DateFormat.getDateTimeInstance(DateFormat.SHORT, DateFormat.LONG, Locale.getDefault()));
+
+  private final ConsoleLineBuffer pendingLines = new ConsoleLineBuffer(PENDING_LINES_CAPACITY);
+
+  private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+  private final AtomicInteger flushCount = new AtomicInteger();
+
   public MavenConsoleImpl(ImageDescriptor imageDescriptor) {
     super(TITLE, imageDescriptor);
     this.setConsoleDocument(new ConsoleDocument());
@@ -135,8 +159,14 @@ public class MavenConsoleImpl extends IOConsole implements MavenConsole, IProper
    * Is always called from main thread, so synchronization not necessary
    */
   protected void dumpConsole() {
+    // lines logged before the console was opened go to the backlog first to keep their order
+    flushLines();
     setVisible(true);
     ConsoleDocument.ConsoleLine[] lines = getConsoleDocument().getLines();
+    int discarded = getConsoleDocument().getDiscardedCount();
+    if(discarded > 0) {
+      appendLine(ConsoleDocument.MESSAGE, NLS.bind(Messages.MavenConsoleImpl_discarded, discarded));
+    }
     for(ConsoleLine line : lines) {
       appendLine(line.type, line.line);
     }
@@ -144,35 +174,45 @@ public class MavenConsoleImpl extends IOConsole implements MavenConsole, IProper
   }
 
   private void appendLine(final int type, final String line) {
-    show(false);
+    pendingLines.offer(type, line);
     //the synchronization here caused a deadlock. since the writes are simply appending to the output stream
     //or the document, just doing it on the main thread to avoid deadlocks and or corruption of the
-    //document or output stream
-    Display.getDefault().asyncExec(() -> {
-      if(isVisible()) {
-        try {
-          switch(type) {
-            case ConsoleDocument.COMMAND:
-              getCommandStream().write(line);
-              getCommandStream().write('\n');
-              break;
-            case ConsoleDocument.MESSAGE:
-              getMessageStream().write(line);
-              getMessageStream().write('\n');
-              break;
-            case ConsoleDocument.ERROR:
-              getErrorStream().write(line);
-              getErrorStream().write('\n');
-              break;
-          }
-        } catch(IOException ex) {
-          // Don't log using slf4j - it will cause a cycle
-          ex.printStackTrace();
-        }
-      } else {
-        getConsoleDocument().appendConsoleLine(type, line);
-      }
-    });
+    //document or output stream. Lines are queued and written in bulk by a single flush instead of posting
+    //one runnable per line, which floods the event queue on verbose builds.
+    if(flushScheduled.compareAndSet(false, true)) {
+      Display display = Display.getDefault();
+      display.asyncExec(() -> display.timerExec(FLUSH_DELAY, this::flushLines));
+    }
+  }
+
+  /**
+   * Writes all pending lines, must be called from the UI thread.
+   */
+  void flushLines() {
+    // reset before draining, lines offered after this point schedule another flush
+    flushScheduled.set(false);
+    flushCount.incrementAndGet();
+    LineWriter writer = new LineWriter(isVisible());
+    pendingLines.drain(writer);
+    long dropped = pendingLines.takeDropped();
+    if(dropped > 0) {
+      writer.accept(ConsoleDocument.MESSAGE, NLS.bind(Messages.MavenConsoleImpl_dropped, dropped));
+    }
+    writer.flush();
+  }
+
+  /**
+   * @return number of times pending lines were written to the console
+   */
+  int getFlushCount() {
+    return flushCount.get();
+  }
+
+  /**
+   * @return true if lines are waiting for a flush that has not started yet
+   */
+  boolean isFlushPending() {
+    return flushScheduled.get();
   }
 
     /**
@@ -242,7 +282,7 @@ public class MavenConsoleImpl extends IOConsole implements MavenConsole, IProper
   }
 
   private DateFormat getDateFormat() {
-    return DateFormat.getDateTimeInstance(DateFormat.SHORT, DateFormat.LONG, Locale.getDefault());
+    return DATE_FORMAT.get();
   }
 
   // MavenConsole
@@ -409,6 +449,58 @@ public class MavenConsoleImpl extends IOConsole implements MavenConsole, IProper
 
   }
 
+  /**
+   * Joins consecutive lines of the same type into one write to the matching stream. Lines go to the backlog while the
+   * console is not visible.
+   */
+  private class LineWriter implements ConsoleLineBuffer.LineConsumer {
+    private final boolean visible;
+
+    private final StringBuilder text = new StringBuilder();
+
+    private int type = -1;
+
+    LineWriter(boolean visible) {
+      this.visible = visible;
+    }
+
+    @Override
+    public void accept(int type, String line) {
+      if(!visible) {
+        getConsoleDocument().appendConsoleLine(type, line);
+        return;
+      }
+      if(type != this.type) {
+        flush();
+        this.type = type;
+      }
+      text.append(line).append('\n');
+    }
+
+    void flush() {
+      if(text.length() == 0) {
+        return;
+      }
+      try {
+        switch(type) {
+          case ConsoleDocument.COMMAND:
+            getCommandStream().write(text.toString());
+            break;
+          case ConsoleDocument.MESSAGE:
+            getMessageStream().write(text.toString());
+            break;
+          case ConsoleDocument.ERROR:
+            getErrorStream().write(text.toString());
+            break;
+        }
+      } catch(IOException ex) {
+        // Don't log using slf4j - it will cause a cycle
+        ex.printStackTrace();
+      }
+      text.setLength(0);
+    }
+  }
+
   public void addMavenConsoleListener(IMavenConsoleListener listener) {
     listeners.remove(listener);
     listeners.add(listener);
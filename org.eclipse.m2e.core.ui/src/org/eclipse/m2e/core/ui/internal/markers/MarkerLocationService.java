@@ -14,16 +14,9 @@
 
 package org.eclipse.m2e.core.ui.internal.markers;
 
-import static org.eclipse.m2e.core.ui.internal.editing.PomEdits.childEquals;
-import static org.eclipse.m2e.core.ui.internal.editing.PomEdits.childMissingOrEqual;
-import static org.eclipse.m2e.core.ui.internal.editing.PomEdits.findChild;
-import static org.eclipse.m2e.core.ui.internal.editing.PomEdits.findChilds;
-import static org.eclipse.m2e.core.ui.internal.editing.PomEdits.getTextValue;
-import static org.eclipse.m2e.core.ui.internal.editing.PomEdits.textEquals;
-
 import java.io.File;
 import java.io.IOException;
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -31,10 +24,6 @@ import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import org.w3c.dom.Comment;
-import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.resources.IResource;
@@ -43,13 +32,8 @@ import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.IRegion;
 import org.eclipse.osgi.util.NLS;
 import org.eclipse.wst.sse.core.StructuredModelManager;
-import org.eclipse.wst.sse.core.internal.provisional.IndexedRegion;
 import org.eclipse.wst.sse.core.internal.provisional.text.IStructuredDocument;
-import org.eclipse.wst.sse.core.internal.provisional.text.IStructuredDocumentRegion;
-import org.eclipse.wst.sse.core.internal.provisional.text.ITextRegion;
-import org.eclipse.wst.xml.core.internal.parser.regions.TagNameRegion;
 import org.eclipse.wst.xml.core.internal.provisional.document.IDOMModel;
-import org.eclipse.wst.xml.core.internal.regions.DOMRegionContext;
 
 import org.apache.maven.model.Dependency;
 import org.apache.maven.model.DependencyManagement;
@@ -66,10 +50,11 @@ import org.eclipse.m2e.core.internal.markers.IMavenMarkerManager;
 import org.eclipse.m2e.core.internal.preferences.MavenPreferenceConstants;
 import org.eclipse.m2e.core.internal.preferences.ProblemSeverity;
 import org.eclipse.m2e.core.ui.internal.M2EUIPluginActivator;
-import org.eclipse.m2e.core.ui.internal.editing.PomEdits;
-import org.eclipse.m2e.core.ui.internal.editing.PomEdits.Matcher;
+import org.eclipse.m2e.core.ui.internal.markers.PomElementIndex.DependencyEntry;
+import org.eclipse.m2e.core.ui.internal.markers.PomElementIndex.ExecutionEntry;
+import org.eclipse.m2e.core.ui.internal.markers.PomElementIndex.PluginEntry;
+import org.eclipse.m2e.core.ui.internal.markers.PomElementIndex.ValueEntry;
 import org.eclipse.m2e.core.ui.internal.util.XmlUtils;
-import org.eclipse.m2e.model.edit.pom.util.NodeOperation;
 
 
 /**
@@ -82,8 +67,6 @@ import org.eclipse.m2e.model.edit.pom.util.NodeOperation;
 public class MarkerLocationService implements IMarkerLocationService, IEditorMarkerService {
   private static final Logger log = LoggerFactory.getLogger(MarkerLocationService.class);
 
-  private static final String XSI_SCHEMA_LOCATION = "xsi:schemaLocation"; //$NON-NLS-1$
-
   private static final String PROJECT_NODE = "project"; //$NON-NLS-1$
 
   private static final String OFFSET = "offset"; //$NON-NLS-1$
@@ -138,85 +121,40 @@ public class MarkerLocationService implements IMarkerLocationService, IEditorMar
 
     if(IMavenConstants.EDITOR_HINT_NOT_COVERED_MOJO_EXECUTION.equals(hint)) {
       try {
-        final boolean lookInPM = false;
         final String groupId = marker.getAttribute(IMavenConstants.MARKER_ATTR_GROUP_ID, "");
         final String artifactId = marker.getAttribute(IMavenConstants.MARKER_ATTR_ARTIFACT_ID, "");
         final String exec = marker.getAttribute(IMavenConstants.MARKER_ATTR_EXECUTION_ID, "");
         final String goal = marker.getAttribute(IMavenConstants.MARKER_ATTR_GOAL, "");
-        XmlUtils.performOnRootElement((IFile) marker.getResource(), new NodeOperation<Element>() {
-            @Override
-            public void process(Element root, IStructuredDocument structuredDocument) {
-            Element build = findChild(root, PomEdits.BUILD);
-            List<Element> candidates = new ArrayList<>();
-            Element plugin = findPlugin(build, groupId, artifactId);
-            if(plugin != null) {
-              candidates.add(plugin);
-            }
-            if(lookInPM) {
-              plugin = findPlugin(findChild(build, PomEdits.PLUGIN_MANAGEMENT), groupId, artifactId);
-              if(plugin != null) {
-                candidates.add(plugin);
-              }
-            }
-            //look in profiles
-            List<Element> profiles = findChilds(findChild(root, PomEdits.PROFILES), PomEdits.PROFILE);
-            //TODO eventually we should only process the activated profiles.. but need MavenProject for it.
-            for(Element profile : profiles) {
-              Element profBuild = findChild(profile, PomEdits.BUILD);
-              plugin = findPlugin(profBuild, groupId, artifactId);
-              if(plugin != null) {
-                candidates.add(plugin);
+        XmlUtils.performOnRootElement((IFile) marker.getResource(), (root, structuredDocument) -> {
+          //all markers of the pom share one index, the DOM is only walked again after the document changed
+          PomElementIndex index = PomElementIndex.get(structuredDocument, root);
+          //plugins of the build first, then those of the profiles
+          //TODO eventually we should only process the activated profiles.. but need MavenProject for it.
+          //pluginManagement sections are not indexed, they are unlikely to declare the executions
+          List<PluginEntry> candidates = index.findPlugins(groupId, artifactId);
+          IRegion ourMarkerPlacement = null;
+          for(PluginEntry candid : candidates) {
+            ExecutionEntry execution = candid.findExecution(exec);
+            if(execution != null) {
+              ValueEntry goalEl = execution.findGoal(goal);
+              if(goalEl != null) {
+                ourMarkerPlacement = goalEl.region;
+                break;
               }
-              if(lookInPM) {
-                plugin = findPlugin(findChild(profBuild, PomEdits.PLUGIN_MANAGEMENT), groupId, artifactId);
-                if(plugin != null) {
-                  candidates.add(plugin);
-                }
+              //only remember the first execution match
+              if(ourMarkerPlacement == null) {
+                ourMarkerPlacement = execution.id != null ? execution.id.region : execution.region;
               }
             }
-            Element ourMarkerPlacement = null;
-            for(Element candid : candidates) {
-              Matcher match = "default".equals(exec) ? childMissingOrEqual(PomEdits.ID, "default")
-                  : childEquals(PomEdits.ID, exec);
-              Element execution = findChild(findChild(candid, PomEdits.EXECUTIONS), PomEdits.EXECUTION, match);
-              if(execution != null) {
-                Element goalEl = findChild(findChild(execution, PomEdits.GOALS), PomEdits.GOAL, textEquals(goal));
-                if(goalEl != null) {
-                  ourMarkerPlacement = goalEl;
-                  break;
-                }
-                //only remember the first execution match
-                if(ourMarkerPlacement == null) {
-                  ourMarkerPlacement = findChild(execution, PomEdits.ID);
-                  if(ourMarkerPlacement == null) { //just old plain paranoia
-                    ourMarkerPlacement = execution;
-                  }
-                }
-              }
-            }
-            if(ourMarkerPlacement == null) {
-              plugin = candidates.size() > 0 ? candidates.get(0) : null;
-              //executions not here (eg. in PM or parent PM), just mark the plugin's artifactId
-              ourMarkerPlacement = findChild(plugin, PomEdits.ARTIFACT_ID);
-              if(ourMarkerPlacement == null && plugin != null) { //just old plain paranoia
-                ourMarkerPlacement = plugin;
-              } else {
-                //what are the strategies for placement when no plugin is found?
-                // we could.. search pluginManagement, but it's unlikely to be there..
-                ourMarkerPlacement = build != null ? build : root;
-              }
-            }
-
-            annotateMarker(marker, structuredDocument, ourMarkerPlacement);
           }
-
-          private Element findPlugin(Element build, String groupId, String artifactId) {
-            Matcher grIdmatch = "org.apache.maven.plugins".equals(groupId)
-                ? childMissingOrEqual(PomEdits.GROUP_ID, groupId)
-                : childEquals(PomEdits.GROUP_ID, groupId);
-            return findChild(findChild(build, PomEdits.PLUGINS), PomEdits.PLUGIN, grIdmatch,
-                childEquals(PomEdits.ARTIFACT_ID, artifactId));
+          if(ourMarkerPlacement == null) {
+            //executions not here (eg. in PM or parent PM) or no plugin found, mark the build section
+            //what are the strategies for placement when no plugin is found?
+            // we could.. search pluginManagement, but it's unlikely to be there..
+            ourMarkerPlacement = index.buildRegion != null ? index.buildRegion : index.rootRegion;
           }
+
+          annotateMarker(marker, structuredDocument, ourMarkerPlacement);
         });
       } catch(IOException e) {
         log.error("Error locating marker", e);
@@ -227,21 +165,22 @@ public class MarkerLocationService implements IMarkerLocationService, IEditorMar
   }
 
   private void annotateMarker(final IMarker marker, IStructuredDocument structuredDocument,
-      Element ourMarkerPlacement) {
-    if(ourMarkerPlacement instanceof IndexedRegion) {
-      IndexedRegion region = (IndexedRegion) ourMarkerPlacement;
+      IRegion ourMarkerPlacement) {
+    if(ourMarkerPlacement != null) {
+      int startOffset = ourMarkerPlacement.getOffset();
+      int endOffset = startOffset + ourMarkerPlacement.getLength();
       try {
-        marker.setAttribute(IMarker.CHAR_START, region.getStartOffset());
+        marker.setAttribute(IMarker.CHAR_START, startOffset);
         //as end, mark just the end of line where the region starts to prevent marking the entire <build> section.
         IRegion line;
         try {
-          line = structuredDocument.getLineInformationOfOffset(region.getStartOffset());
-          int end = Math.min(region.getEndOffset(), line.getOffset() + line.getLength());
+          line = structuredDocument.getLineInformationOfOffset(startOffset);
+          int end = Math.min(endOffset, line.getOffset() + line.getLength());
           marker.setAttribute(IMarker.CHAR_END, end);
         } catch(BadLocationException e) {
-          marker.setAttribute(IMarker.CHAR_END, region.getStartOffset() + region.getLength());
+          marker.setAttribute(IMarker.CHAR_END, endOffset);
         }
-        marker.setAttribute(IMarker.LINE_NUMBER, structuredDocument.getLineOfOffset(region.getStartOffset()) + 1);
+        marker.setAttribute(IMarker.LINE_NUMBER, structuredDocument.getLineOfOffset(startOffset) + 1);
       } catch(CoreException e) {
         log.error(e.getMessage(), e);
       }
@@ -251,8 +190,24 @@ public class MarkerLocationService implements IMarkerLocationService, IEditorMar
   @Override
   public void addEditorHintMarkers(IMavenMarkerManager markerManager, IFile pom, MavenProject mavenProject,
       String type) {
-    checkForSchema(markerManager, pom, type);
-    checkVarious(markerManager, pom, mavenProject, type);
+    IDOMModel domModel = null;
+    try {
+      domModel = (IDOMModel) StructuredModelManager.getModelManager().getModelForRead(pom);
+      if(domModel == null) {
+        return;
+      }
+      IStructuredDocument document = domModel.getStructuredDocument();
+      //one walk over the DOM serves all the checks below
+      PomElementIndex index = PomElementIndex.get(document, domModel.getDocument().getDocumentElement());
+      checkForSchema(markerManager, pom, type, document, index);
+      checkVarious(markerManager, pom, mavenProject, type, document, index);
+    } catch(Exception ex) {
+      log.error("Error checking for warnings", ex); //$NON-NLS-1$
+    } finally {
+      if(domModel != null) {
+        domModel.releaseFromRead();
+      }
+    }
   }
 
   /**
@@ -262,98 +217,49 @@ public class MarkerLocationService implements IMarkerLocationService, IEditorMar
    * @param mavenMarkerManager
    * @param pomFile
    */
-  static void checkForSchema(IMavenMarkerManager mavenMarkerManager, IResource pomFile, String type) {
-    IDOMModel domModel = null;
+  static void checkForSchema(IMavenMarkerManager mavenMarkerManager, IResource pomFile, String type,
+      IStructuredDocument document, PomElementIndex index) {
     try {
-      if(!(pomFile instanceof IFile)) {
-        return;
-      }
-      domModel = (IDOMModel) StructuredModelManager.getModelManager().getModelForRead((IFile) pomFile);
-      IStructuredDocument document = domModel.getStructuredDocument();
-
-      // iterate through document regions
-      documentLoop: for(IStructuredDocumentRegion documentRegion : document.getStructuredDocumentRegions()) {
-        // only check tag regions
-        if(DOMRegionContext.XML_TAG_NAME.equals(documentRegion.getType())) {
-          for(ITextRegion textRegion : documentRegion.getRegions().toArray()) {
-            // find a project tag
-            if(textRegion instanceof TagNameRegion && PROJECT_NODE.equals(documentRegion.getText(textRegion))) {
-              // check if schema is missing
-              if(documentRegion.getText().lastIndexOf(XSI_SCHEMA_LOCATION) == -1) {
-                int offset = documentRegion.getStartOffset();
-                int lineNumber = document.getLineOfOffset(offset) + 1;
-                IMarker marker = mavenMarkerManager.addMarker(pomFile, type,
-                    org.eclipse.m2e.core.internal.Messages.MavenMarkerManager_error_noschema, lineNumber,
-                    IMarker.SEVERITY_WARNING);
-                //the quick fix in the marker view needs to know the offset, since it doesn't have access to the
-                //editor/source viewer
-                if(marker != null) {
-                  marker.setAttribute(OFFSET, offset);
-                  marker.setAttribute(IMavenConstants.MARKER_ATTR_EDITOR_HINT,
-                      IMavenConstants.EDITOR_HINT_MISSING_SCHEMA);
-                  marker.setAttribute(IMarker.CHAR_START, documentRegion.getStartOffset());
-                  marker.setAttribute(IMarker.CHAR_END, documentRegion.getEndOffset());
-                  marker.setAttribute("problemType", "pomhint"); //only imporant in case we enable the generic xml quick fixes //$NON-NLS-1$ //$NON-NLS-2$
-                }
-              }
-              // there could only be one project tag
-              break documentLoop;
-            }
-          }
+      IRegion projectTag = index.projectStartTag;
+      // check if schema is missing
+      if(projectTag != null && !index.schemaLocationDeclared) {
+        int offset = projectTag.getOffset();
+        int lineNumber = document.getLineOfOffset(offset) + 1;
+        IMarker marker = mavenMarkerManager.addMarker(pomFile, type,
+            org.eclipse.m2e.core.internal.Messages.MavenMarkerManager_error_noschema, lineNumber,
+            IMarker.SEVERITY_WARNING);
+        //the quick fix in the marker view needs to know the offset, since it doesn't have access to the
+        //editor/source viewer
+        if(marker != null) {
+          marker.setAttribute(OFFSET, offset);
+          marker.setAttribute(IMavenConstants.MARKER_ATTR_EDITOR_HINT, IMavenConstants.EDITOR_HINT_MISSING_SCHEMA);
+          marker.setAttribute(IMarker.CHAR_START, offset);
+          marker.setAttribute(IMarker.CHAR_END, offset + projectTag.getLength());
+          marker.setAttribute("problemType", "pomhint"); //only imporant in case we enable the generic xml quick fixes //$NON-NLS-1$ //$NON-NLS-2$
         }
       }
     } catch(Exception ex) {
       log.error("Error checking for schema", ex); //$NON-NLS-1$
-    } finally {
-      if(domModel != null) {
-        domModel.releaseFromRead();
-      }
     }
   }
 
-  private static void checkManagedDependencies(IMavenMarkerManager mavenMarkerManager, Element root, IResource pomFile,
-      MavenProject mavenproject, String type, IStructuredDocument document) throws CoreException {
+  private static List<String> getActiveProfiles(MavenProject mavenproject) {
+    // see MavenProject.getInjectedProfileIds() for a list of currently active profiles in effective pom
+    String currentProjectKey = mavenproject.getGroupId() + ":" + mavenproject.getArtifactId() + ":" //$NON-NLS-1$//$NON-NLS-2$
+        + mavenproject.getVersion();
+    List<String> activeprofiles = mavenproject.getInjectedProfileIds().get(currentProjectKey);
+    return activeprofiles != null ? activeprofiles : Collections.emptyList();
+  }
+
+  private static void checkManagedDependencies(IMavenMarkerManager mavenMarkerManager, PomElementIndex index,
+      IResource pomFile, MavenProject mavenproject, String type, IStructuredDocument document) throws CoreException {
     ProblemSeverity overridingManagedVersionSeverity = getOverridingManagedVersionSeverity();
     if(ProblemSeverity.ignore.equals(overridingManagedVersionSeverity)) {
       return;
     }
-    List<Element> candidates = new ArrayList<>();
-
-    Element dependencies = findChild(root, PomEdits.DEPENDENCIES);
-    if(dependencies != null) {
-      for(Element el : findChilds(dependencies, PomEdits.DEPENDENCY)) {
-        Element version = findChild(el, PomEdits.VERSION);
-        if(version != null) {
-          candidates.add(el);
-        }
-      }
-    }
     //we should also consider <dependencies> section in the profiles, but profile are optional and so is their
     // dependencyManagement section.. that makes handling our markers more complex.
-    // see MavenProject.getInjectedProfileIds() for a list of currently active profiles in effective pom
-    String currentProjectKey = mavenproject.getGroupId() + ":" + mavenproject.getArtifactId() + ":" //$NON-NLS-1$//$NON-NLS-2$
-        + mavenproject.getVersion();
-    List<String> activeprofiles = mavenproject.getInjectedProfileIds().get(currentProjectKey);
-    //remember what profile we found the dependency in.
-    Map<Element, String> candidateProfile = new HashMap<>();
-    Element profiles = findChild(root, PomEdits.PROFILES);
-    if(profiles != null) {
-      for(Element profile : findChilds(profiles, PomEdits.PROFILE)) {
-        String idString = getTextValue(findChild(profile, PomEdits.ID));
-        if(idString != null && activeprofiles.contains(idString)) {
-          dependencies = findChild(profile, PomEdits.DEPENDENCIES);
-          if(dependencies != null) {
-            for(Element el : findChilds(dependencies, PomEdits.DEPENDENCY)) {
-              Element version = findChild(el, PomEdits.VERSION);
-              if(version != null) {
-                candidates.add(el);
-                candidateProfile.put(el, idString);
-              }
-            }
-          }
-        }
-      }
-    }
+    List<String> activeprofiles = getActiveProfiles(mavenproject);
     //collect the managed dep ids
     Map<String, Dependency> managed = new HashMap<>();
     DependencyManagement dm = mavenproject.getDependencyManagement();
@@ -370,41 +276,40 @@ public class MarkerLocationService implements IMarkerLocationService, IEditorMar
       }
     }
 
-    //now we have all the candidates, match them against the effective managed set
-    for(Element dep : candidates) {
-      Element version = findChild(dep, PomEdits.VERSION);
-      String grpString = getTextValue(findChild(dep, PomEdits.GROUP_ID));
-      String artString = getTextValue(findChild(dep, PomEdits.ARTIFACT_ID));
-      String versionString = getTextValue(version);
+    //now match the candidates against the effective managed set
+    for(DependencyEntry dep : index.dependencies) {
+      if(dep.profile != null && !activeprofiles.contains(dep.profile)) {
+        continue;
+      }
+      String grpString = dep.groupId;
+      String artString = dep.artifactId;
+      String versionString = dep.version.value;
       if(grpString != null && artString != null && versionString != null) {
-        String typeString = getTextValue(findChild(dep, PomEdits.TYPE));
-        String classifier = getTextValue(findChild(dep, PomEdits.CLASSIFIER));
-        String id = getDependencyKey(grpString, artString, typeString, classifier);
+        String id = getDependencyKey(grpString, artString, dep.type, dep.classifier);
         if(managed.containsKey(id)) {
           Dependency managedDep = managed.get(id);
           String managedVersion = managedDep == null ? null : managedDep.getVersion();
-          if(version instanceof IndexedRegion) {
-            IndexedRegion off = (IndexedRegion) version;
-            if(lookForIgnoreMarker(document, version, off, IMavenConstants.MARKER_IGNORE_MANAGED)) {
+          IRegion off = dep.version.region;
+          if(off != null) {
+            if(dep.ignoreManaged) {
               continue;
             }
             String msg = versionString.equals(managedVersion)
                 ? org.eclipse.m2e.core.internal.Messages.MavenMarkerManager_redundant_managed_title
                 : org.eclipse.m2e.core.internal.Messages.MavenMarkerManager_managed_title;
             IMarker mark = mavenMarkerManager.addMarker(pomFile, type, NLS.bind(msg, managedVersion, artString),
-                document.getLineOfOffset(off.getStartOffset()) + 1, overridingManagedVersionSeverity.getSeverity());
+                document.getLineOfOffset(off.getOffset()) + 1, overridingManagedVersionSeverity.getSeverity());
             mark.setAttribute(IMavenConstants.MARKER_ATTR_EDITOR_HINT,
                 IMavenConstants.EDITOR_HINT_MANAGED_DEPENDENCY_OVERRIDE);
-            mark.setAttribute(IMarker.CHAR_START, off.getStartOffset());
-            mark.setAttribute(IMarker.CHAR_END, off.getEndOffset());
+            mark.setAttribute(IMarker.CHAR_START, off.getOffset());
+            mark.setAttribute(IMarker.CHAR_END, off.getOffset() + off.getLength());
             mark.setAttribute("problemType", "pomhint"); //only important in case we enable the generic xml quick fixes //$NON-NLS-1$ //$NON-NLS-2$
             //add these attributes to easily and deterministically find the declaration in question
             mark.setAttribute("groupId", grpString); //$NON-NLS-1$
             mark.setAttribute("artifactId", artString); //$NON-NLS-1$
             setManagedVersionAttributes(mark, mavenproject, managedDep);
-            String profile = candidateProfile.get(dep);
-            if(profile != null) {
-              mark.setAttribute("profile", profile); //$NON-NLS-1$
+            if(dep.profile != null) {
+              mark.setAttribute("profile", dep.profile); //$NON-NLS-1$
             }
           }
         }
@@ -439,56 +344,18 @@ public class MarkerLocationService implements IMarkerLocationService, IEditorMar
     return key.toString();
   }
 
-  private static void checkManagedPlugins(IMavenMarkerManager mavenMarkerManager, Element root, IResource pomFile,
-      MavenProject mavenproject, String type, IStructuredDocument document) throws CoreException {
+  private static void checkManagedPlugins(IMavenMarkerManager mavenMarkerManager, PomElementIndex index,
+      IResource pomFile, MavenProject mavenproject, String type, IStructuredDocument document) throws CoreException {
     ProblemSeverity overridingManagedVersionSeverity = getOverridingManagedVersionSeverity();
     if(ProblemSeverity.ignore.equals(overridingManagedVersionSeverity)) {
       return;
     }
-    List<Element> candidates = new ArrayList<>();
-    Element build = findChild(root, PomEdits.BUILD);
-    if(build == null) {
+    if(index.buildRegion == null) {
       return;
     }
-    Element plugins = findChild(build, PomEdits.PLUGINS);
-    if(plugins != null) {
-      for(Element el : findChilds(plugins, PomEdits.PLUGIN)) {
-        Element version = findChild(el, PomEdits.VERSION);
-        if(version != null) {
-          candidates.add(el);
-        }
-      }
-    }
     //we should also consider <plugins> section in the profiles, but profile are optional and so is their
     // pluginManagement section.. that makes handling our markers more complex.
-    // see MavenProject.getInjectedProfileIds() for a list of currently active profiles in effective pom
-    String currentProjectKey = mavenproject.getGroupId() + ":" + mavenproject.getArtifactId() + ":" //$NON-NLS-1$//$NON-NLS-2$
-        + mavenproject.getVersion();
-    List<String> activeprofiles = mavenproject.getInjectedProfileIds().get(currentProjectKey);
-    //remember what profile we found the dependency in.
-    Map<Element, String> candidateProfile = new HashMap<>();
-    Element profiles = findChild(root, PomEdits.PROFILES);
-    if(profiles != null) {
-      for(Element profile : findChilds(profiles, PomEdits.PROFILE)) {
-        String idString = getTextValue(findChild(profile, PomEdits.ID));
-        if(idString != null && activeprofiles.contains(idString)) {
-          build = findChild(profile, PomEdits.BUILD);
-          if(build == null) {
-            continue;
-          }
-          plugins = findChild(build, PomEdits.PLUGINS);
-          if(plugins != null) {
-            for(Element el : findChilds(plugins, PomEdits.PLUGIN)) {
-              Element version = findChild(el, PomEdits.VERSION);
-              if(version != null) {
-                candidates.add(el);
-                candidateProfile.put(el, idString);
-              }
-            }
-          }
-        }
-      }
-    }
+    List<String> activeprofiles = getActiveProfiles(mavenproject);
     //collect the managed plugin ids
     Map<String, Plugin> managed = new HashMap<>();
     PluginManagement pm = mavenproject.getPluginManagement();
@@ -507,23 +374,25 @@ public class MarkerLocationService implements IMarkerLocationService, IEditorMar
       }
     }
 
-    //now we have all the candidates, match them against the effective managed set
-    for(Element dep : candidates) {
-      String grpString = getTextValue(findChild(dep, PomEdits.GROUP_ID));
+    //now match the candidates against the effective managed set
+    for(PluginEntry dep : index.plugins) {
+      if(dep.version == null || (dep.inProfile && (dep.profile == null || !activeprofiles.contains(dep.profile)))) {
+        continue;
+      }
+      String grpString = dep.groupId;
       if(grpString == null) {
         grpString = "org.apache.maven.plugins"; //$NON-NLS-1$
       }
-      String artString = getTextValue(findChild(dep, PomEdits.ARTIFACT_ID));
-      Element version = findChild(dep, PomEdits.VERSION);
-      String versionString = getTextValue(version);
+      String artString = dep.artifactId;
+      String versionString = dep.version.value;
       if(artString != null && versionString != null) {
         String id = Plugin.constructKey(grpString, artString);
         if(managed.containsKey(id)) {
           Plugin managedPlugin = managed.get(id);
           String managedVersion = managedPlugin == null ? null : managedPlugin.getVersion();
-          if(version instanceof IndexedRegion) {
-            IndexedRegion off = (IndexedRegion) version;
-            if(lookForIgnoreMarker(document, version, off, IMavenConstants.MARKER_IGNORE_MANAGED)) {
+          IRegion off = dep.version.region;
+          if(off != null) {
+            if(dep.ignoreManaged) {
               continue;
             }
 
@@ -531,19 +400,18 @@ public class MarkerLocationService implements IMarkerLocationService, IEditorMar
                 ? org.eclipse.m2e.core.internal.Messages.MavenMarkerManager_redundant_managed_title
                 : org.eclipse.m2e.core.internal.Messages.MavenMarkerManager_managed_title;
             IMarker mark = mavenMarkerManager.addMarker(pomFile, type, NLS.bind(msg, managedVersion, artString),
-                document.getLineOfOffset(off.getStartOffset()) + 1, overridingManagedVersionSeverity.getSeverity());
+                document.getLineOfOffset(off.getOffset()) + 1, overridingManagedVersionSeverity.getSeverity());
             mark.setAttribute(IMavenConstants.MARKER_ATTR_EDITOR_HINT,
                 IMavenConstants.EDITOR_HINT_MANAGED_PLUGIN_OVERRIDE);
-            mark.setAttribute(IMarker.CHAR_START, off.getStartOffset());
-            mark.setAttribute(IMarker.CHAR_END, off.getEndOffset());
+            mark.setAttribute(IMarker.CHAR_START, off.getOffset());
+            mark.setAttribute(IMarker.CHAR_END, off.getOffset() + off.getLength());
             mark.setAttribute("problemType", "pomhint"); //only imporant in case we enable the generic xml quick fixes //$NON-NLS-1$ //$NON-NLS-2$
             //add these attributes to easily and deterministicaly find the declaration in question
             mark.setAttribute("groupId", grpString); //$NON-NLS-1$
             mark.setAttribute("artifactId", artString); //$NON-NLS-1$
             setManagedVersionAttributes(mark, mavenproject, managedPlugin);
-            String profile = candidateProfile.get(dep);
-            if(profile != null) {
-              mark.setAttribute("profile", profile); //$NON-NLS-1$
+            if(dep.profile != null) {
+              mark.setAttribute("profile", dep.profile); //$NON-NLS-1$
             }
           }
         }
@@ -551,45 +419,44 @@ public class MarkerLocationService implements IMarkerLocationService, IEditorMar
     }
   }
 
-  private static void checkParentMatchingGroupIdVersion(IMavenMarkerManager mavenMarkerManager, Element root,
-      IResource pomFile, String type, IStructuredDocument document) throws CoreException {
-    Element parent = findChild(root, PomEdits.PARENT);
-    Element groupId = findChild(root, PomEdits.GROUP_ID);
+  private static void checkParentMatchingGroupIdVersion(IMavenMarkerManager mavenMarkerManager,
+      PomElementIndex index, IResource pomFile, String type, IStructuredDocument document) throws CoreException {
+    ValueEntry groupId = index.groupId;
     ProblemSeverity matchingParentGroupIdSeverity = getMatchingParentGroupIdSeverity();
-    if(parent != null && groupId != null && !ProblemSeverity.ignore.equals(matchingParentGroupIdSeverity)) {
+    if(groupId != null && !ProblemSeverity.ignore.equals(matchingParentGroupIdSeverity)) {
       //now compare the values of parent and project groupid..
-      String parentString = getTextValue(findChild(parent, PomEdits.GROUP_ID));
-      String childString = getTextValue(groupId);
+      String parentString = index.parentGroupId;
+      String childString = groupId.value;
       if(parentString != null && parentString.equals(childString)) {
         //now figure out the offset
-        if(groupId instanceof IndexedRegion) {
-          IndexedRegion off = (IndexedRegion) groupId;
+        if(groupId.region != null) {
+          IRegion off = groupId.region;
           IMarker mark = mavenMarkerManager.addMarker(pomFile, type,
               org.eclipse.m2e.core.internal.Messages.MavenMarkerManager_duplicate_groupid,
-              document.getLineOfOffset(off.getStartOffset()) + 1, matchingParentGroupIdSeverity.getSeverity());
+              document.getLineOfOffset(off.getOffset()) + 1, matchingParentGroupIdSeverity.getSeverity());
           mark.setAttribute(IMavenConstants.MARKER_ATTR_EDITOR_HINT, IMavenConstants.EDITOR_HINT_PARENT_GROUP_ID);
-          mark.setAttribute(IMarker.CHAR_START, off.getStartOffset());
-          mark.setAttribute(IMarker.CHAR_END, off.getEndOffset());
+          mark.setAttribute(IMarker.CHAR_START, off.getOffset());
+          mark.setAttribute(IMarker.CHAR_END, off.getOffset() + off.getLength());
           mark.setAttribute("problemType", "pomhint"); //only important in case we enable the generic xml quick fixes //$NON-NLS-1$ //$NON-NLS-2$
         }
       }
     }
-    Element version = findChild(root, PomEdits.VERSION);
+    ValueEntry version = index.version;
     ProblemSeverity matchingParentVersionSeverity = getMatchingParentVersionSeverity();
-    if(parent != null && version != null && !ProblemSeverity.ignore.equals(matchingParentVersionSeverity)) {
+    if(version != null && !ProblemSeverity.ignore.equals(matchingParentVersionSeverity)) {
       //now compare the values of parent and project version..
-      String parentString = getTextValue(findChild(parent, PomEdits.VERSION));
-      String childString = getTextValue(version);
+      String parentString = index.parentVersion;
+      String childString = version.value;
       if(parentString != null && parentString.equals(childString)) {
         //now figure out the offset
-        if(version instanceof IndexedRegion) {
-          IndexedRegion off = (IndexedRegion) version;
+        if(version.region != null) {
+          IRegion off = version.region;
           IMarker mark = mavenMarkerManager.addMarker(pomFile, type,
               org.eclipse.m2e.core.internal.Messages.MavenMarkerManager_duplicate_version,
-              document.getLineOfOffset(off.getStartOffset()) + 1, matchingParentVersionSeverity.getSeverity());
+              document.getLineOfOffset(off.getOffset()) + 1, matchingParentVersionSeverity.getSeverity());
           mark.setAttribute(IMavenConstants.MARKER_ATTR_EDITOR_HINT, IMavenConstants.EDITOR_HINT_PARENT_VERSION);
-          mark.setAttribute(IMarker.CHAR_START, off.getStartOffset());
-          mark.setAttribute(IMarker.CHAR_END, off.getEndOffset());
+          mark.setAttribute(IMarker.CHAR_START, off.getOffset());
+          mark.setAttribute(IMarker.CHAR_END, off.getOffset() + off.getLength());
           mark.setAttribute("problemType", "pomhint"); //only important in case we enable the generic xml quick fixes //$NON-NLS-1$ //$NON-NLS-2$
         }
       }
@@ -617,57 +484,19 @@ public class MarkerLocationService implements IMarkerLocationService, IEditorMar
    * @param mavenProject can be null
    */
   static void checkVarious(IMavenMarkerManager mavenMarkerManager, IResource pomFile, MavenProject mavenProject,
-      String type) {
-    IDOMModel domModel = null;
+      String type, IStructuredDocument document, PomElementIndex index) {
     try {
-      if(!(pomFile instanceof IFile)) {
-        return;
-      }
-      domModel = (IDOMModel) StructuredModelManager.getModelManager().getModelForRead((IFile) pomFile);
-      IStructuredDocument document = domModel.getStructuredDocument();
-      Element root = domModel.getDocument().getDocumentElement();
-
-      if(root != null && "project".equals(root.getNodeName())) { //$NON-NLS-1$
+      if(PROJECT_NODE.equals(index.rootName)) {
         //now check parent version and groupid against the current project's ones..
-        checkParentMatchingGroupIdVersion(mavenMarkerManager, root, pomFile, type, document);
+        checkParentMatchingGroupIdVersion(mavenMarkerManager, index, pomFile, type, document);
         if(mavenProject != null) {
-          checkManagedDependencies(mavenMarkerManager, root, pomFile, mavenProject, type, document);
-          checkManagedPlugins(mavenMarkerManager, root, pomFile, mavenProject, type, document);
+          checkManagedDependencies(mavenMarkerManager, index, pomFile, mavenProject, type, document);
+          checkManagedPlugins(mavenMarkerManager, index, pomFile, mavenProject, type, document);
         }
       }
     } catch(Exception t) {
       log.error("Error checking for warnings", t); //$NON-NLS-1$
-    } finally {
-      if(domModel != null) {
-        domModel.releaseFromRead();
-      }
-    }
-  }
-
-  private static boolean lookForIgnoreMarker(IStructuredDocument document, Element version, IndexedRegion off,
-      String ignoreString) {
-    Node reg = version;
-    int line = document.getLineOfOffset(off.getStartOffset());
-    try {
-      int lineend = document.getLineOffset(line) + document.getLineLength(line) - 1;
-      int start = off.getStartOffset();
-      while(reg != null && start < lineend) {
-        reg = reg.getNextSibling();
-        if(reg instanceof Comment) {
-          Comment comm = (Comment) reg;
-          String data = comm.getData();
-          if(data != null && data.contains(ignoreString)) {
-            return true;
-          }
-        }
-        if(reg != null) {
-          start = ((IndexedRegion) reg).getStartOffset();
-        }
-      }
-    } catch(BadLocationException ex) {
-      //not possible IMHO we ask for line offset of line we know is in the document.
     }
-    return false;
   }
 
 }
@@ -0,0 +1,365 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *      Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.ui.internal.markers;
+
+import static org.eclipse.m2e.core.ui.internal.editing.PomEdits.findChild;
+import static org.eclipse.m2e.core.ui.internal.editing.PomEdits.findChilds;
+import static org.eclipse.m2e.core.ui.internal.editing.PomEdits.getTextValue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import org.w3c.dom.Comment;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.IDocumentExtension4;
+import org.eclipse.jface.text.IRegion;
+import org.eclipse.jface.text.Region;
+import org.eclipse.wst.sse.core.internal.provisional.IndexedRegion;
+import org.eclipse.wst.sse.core.internal.provisional.text.IStructuredDocument;
+import org.eclipse.wst.sse.core.internal.provisional.text.IStructuredDocumentRegion;
+import org.eclipse.wst.xml.core.internal.provisional.document.IDOMNode;
+
+import org.eclipse.m2e.core.internal.IMavenConstants;
+import org.eclipse.m2e.core.ui.internal.editing.PomEdits;
+
+
+/**
+ * Offsets and values of the pom elements markers are attached to, collected in a single walk over the DOM of the pom.
+ * Indexes are cached per structured document and reused until the document is modified, so that all markers of a pom
+ * and all editor hint checks of a project change share one traversal. The index keeps no references to DOM nodes.
+ *
+ * @since 1.18
+ */
+@SuppressWarnings("restriction")
+class PomElementIndex {
+
+  private static final String XSI_SCHEMA_LOCATION = "xsi:schemaLocation"; //$NON-NLS-1$
+
+  private static final String DEFAULT_PLUGIN_GROUP_ID = "org.apache.maven.plugins"; //$NON-NLS-1$
+
+  private static final Map<IStructuredDocument, PomElementIndex> cache = Collections
+      .synchronizedMap(new WeakHashMap<>());
+
+  private static final Map<IStructuredDocument, Integer> traversals = Collections.synchronizedMap(new WeakHashMap<>());
+
+  private final long modificationStamp;
+
+  IRegion rootRegion;
+
+  String rootName;
+
+  /**
+   * Region of the start tag of the project element, null if the root element is not a project.
+   */
+  IRegion projectStartTag;
+
+  boolean schemaLocationDeclared;
+
+  ValueEntry groupId;
+
+  ValueEntry version;
+
+  String parentGroupId;
+
+  String parentVersion;
+
+  IRegion buildRegion;
+
+  /**
+   * Versioned dependencies of the project and of profiles with an id, in document order.
+   */
+  final List<DependencyEntry> dependencies = new ArrayList<>();
+
+  /**
+   * Build plugins of the project and of all its profiles, in document order.
+   */
+  final List<PluginEntry> plugins = new ArrayList<>();
+
+  private PomElementIndex(long modificationStamp) {
+    this.modificationStamp = modificationStamp;
+  }
+
+  /**
+   * Returns the index of the given document, walking the DOM only if the document was modified since the index was
+   * last built.
+   */
+  static PomElementIndex get(IStructuredDocument document, Element root) {
+    long stamp = document instanceof IDocumentExtension4 ? ((IDocumentExtension4) document).getModificationStamp()
+        : IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
+    if(stamp != IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP) {
+      PomElementIndex index = cache.get(document);
+      if(index != null && index.modificationStamp == stamp) {
+        return index;
+      }
+    }
+    PomElementIndex index = build(document, root, stamp);
+    if(stamp != IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP) {
+      cache.put(document, index);
+    }
+    return index;
+  }
+
+  /**
+   * @return number of DOM traversals of the given document performed so far, for tests
+   */
+  static int getTraversalCount(IStructuredDocument document) {
+    return traversals.getOrDefault(document, 0);
+  }
+
+  /**
+   * Returns the plugins declared in the build of the project or any of its profiles matching the given coordinates. A
+   * missing groupId matches the default plugin groupId.
+   */
+  List<PluginEntry> findPlugins(String groupId, String artifactId) {
+    List<PluginEntry> result = new ArrayList<>();
+    for(PluginEntry plugin : plugins) {
+      boolean groupIdMatches = DEFAULT_PLUGIN_GROUP_ID.equals(groupId)
+          ? plugin.groupId == null || groupId.equals(plugin.groupId)
+          : groupId.equals(plugin.groupId);
+      if(groupIdMatches && artifactId.equals(plugin.artifactId)) {
+        result.add(plugin);
+      }
+    }
+    return result;
+  }
+
+  private static PomElementIndex build(IStructuredDocument document, Element root, long stamp) {
+    traversals.merge(document, 1, Integer::sum);
+    PomElementIndex index = new PomElementIndex(stamp);
+    if(root == null) {
+      return index;
+    }
+    index.rootName = root.getNodeName();
+    index.rootRegion = region(root);
+    if(!"project".equals(index.rootName)) { //$NON-NLS-1$
+      return index;
+    }
+    if(root instanceof IDOMNode) {
+      IStructuredDocumentRegion startTag = ((IDOMNode) root).getStartStructuredDocumentRegion();
+      if(startTag != null) {
+        index.projectStartTag = new Region(startTag.getStartOffset(), startTag.getLength());
+        index.schemaLocationDeclared = startTag.getText().lastIndexOf(XSI_SCHEMA_LOCATION) != -1;
+      }
+    }
+    index.groupId = ValueEntry.of(findChild(root, PomEdits.GROUP_ID));
+    index.version = ValueEntry.of(findChild(root, PomEdits.VERSION));
+    Element parent = findChild(root, PomEdits.PARENT);
+    if(parent != null) {
+      index.parentGroupId = getTextValue(findChild(parent, PomEdits.GROUP_ID));
+      index.parentVersion = getTextValue(findChild(parent, PomEdits.VERSION));
+    }
+    Element build = findChild(root, PomEdits.BUILD);
+    index.buildRegion = region(build);
+    index.addDependencies(document, findChild(root, PomEdits.DEPENDENCIES), null);
+    index.addPlugins(document, build, false, null);
+    for(Element profile : findChilds(findChild(root, PomEdits.PROFILES), PomEdits.PROFILE)) {
+      String profileId = getTextValue(findChild(profile, PomEdits.ID));
+      if(profileId != null) {
+        index.addDependencies(document, findChild(profile, PomEdits.DEPENDENCIES), profileId);
+      }
+      index.addPlugins(document, findChild(profile, PomEdits.BUILD), true, profileId);
+    }
+    return index;
+  }
+
+  private void addDependencies(IStructuredDocument document, Element dependencies, String profile) {
+    for(Element dependency : findChilds(dependencies, PomEdits.DEPENDENCY)) {
+      Element version = findChild(dependency, PomEdits.VERSION);
+      if(version != null) {
+        this.dependencies.add(new DependencyEntry(dependency, version, profile, document));
+      }
+    }
+  }
+
+  private void addPlugins(IStructuredDocument document, Element build, boolean inProfile, String profile) {
+    for(Element plugin : findChilds(findChild(build, PomEdits.PLUGINS), PomEdits.PLUGIN)) {
+      this.plugins.add(new PluginEntry(plugin, inProfile, profile, document));
+    }
+  }
+
+  static IRegion region(Node node) {
+    if(node instanceof IndexedRegion) {
+      IndexedRegion region = (IndexedRegion) node;
+      return new Region(region.getStartOffset(), region.getEndOffset() - region.getStartOffset());
+    }
+    return null;
+  }
+
+  /**
+   * Looks for a comment containing the ignore string following the element on the line the element starts on.
+   */
+  static boolean lookForIgnoreMarker(IStructuredDocument document, Element element, String ignoreString) {
+    if(!(element instanceof IndexedRegion)) {
+      return false;
+    }
+    Node reg = element;
+    int start = ((IndexedRegion) element).getStartOffset();
+    try {
+      int line = document.getLineOfOffset(start);
+      int lineend = document.getLineOffset(line) + document.getLineLength(line) - 1;
+      while(reg != null && start < lineend) {
+        reg = reg.getNextSibling();
+        if(reg instanceof Comment) {
+          Comment comm = (Comment) reg;
+          String data = comm.getData();
+          if(data != null && data.contains(ignoreString)) {
+            return true;
+          }
+        }
+        if(reg != null) {
+          start = ((IndexedRegion) reg).getStartOffset();
+        }
+      }
+    } catch(BadLocationException ex) {
+      //not possible IMHO we ask for line offset of line we know is in the document.
+    }
+    return false;
+  }
+
+  /**
+   * Trimmed text value and region of an element.
+   */
+  static class ValueEntry {
+    final String value;
+
+    final IRegion region;
+
+    private ValueEntry(String value, IRegion region) {
+      this.value = value;
+      this.region = region;
+    }
+
+    static ValueEntry of(Element element) {
+      return element == null ? null : new ValueEntry(getTextValue(element), region(element));
+    }
+  }
+
+  static class DependencyEntry {
+    final String groupId;
+
+    final String artifactId;
+
+    final String type;
+
+    final String classifier;
+
+    final ValueEntry version;
+
+    /**
+     * Whether the version is followed by a comment telling m2e to ignore managed version overrides.
+     */
+    final boolean ignoreManaged;
+
+    /**
+     * Id of the profile declaring the dependency, null for dependencies of the project itself.
+     */
+    final String profile;
+
+    DependencyEntry(Element dependency, Element version, String profile, IStructuredDocument document) {
+      this.groupId = getTextValue(findChild(dependency, PomEdits.GROUP_ID));
+      this.artifactId = getTextValue(findChild(dependency, PomEdits.ARTIFACT_ID));
+      this.type = getTextValue(findChild(dependency, PomEdits.TYPE));
+      this.classifier = getTextValue(findChild(dependency, PomEdits.CLASSIFIER));
+      this.version = ValueEntry.of(version);
+      this.ignoreManaged = lookForIgnoreMarker(document, version, IMavenConstants.MARKER_IGNORE_MANAGED);
+      this.profile = profile;
+    }
+  }
+
+  static class PluginEntry {
+    /**
+     * Declared groupId, null if the plugin relies on the default plugin groupId.
+     */
+    final String groupId;
+
+    final String artifactId;
+
+    /**
+     * The version of the plugin, null if not declared.
+     */
+    final ValueEntry version;
+
+    final boolean ignoreManaged;
+
+    final boolean inProfile;
+
+    /**
+     * Id of the profile declaring the plugin, null for plugins of the project itself or of profiles without id.
+     */
+    final String profile;
+
+    final List<ExecutionEntry> executions = new ArrayList<>();
+
+    PluginEntry(Element plugin, boolean inProfile, String profile, IStructuredDocument document) {
+      this.groupId = getTextValue(findChild(plugin, PomEdits.GROUP_ID));
+      this.artifactId = getTextValue(findChild(plugin, PomEdits.ARTIFACT_ID));
+      Element versionElement = findChild(plugin, PomEdits.VERSION);
+      this.version = ValueEntry.of(versionElement);
+      this.ignoreManaged = versionElement != null
+          && lookForIgnoreMarker(document, versionElement, IMavenConstants.MARKER_IGNORE_MANAGED);
+      this.inProfile = inProfile;
+      this.profile = profile;
+      for(Element execution : findChilds(findChild(plugin, PomEdits.EXECUTIONS), PomEdits.EXECUTION)) {
+        executions.add(new ExecutionEntry(execution));
+      }
+    }
+
+    /**
+     * Returns the first execution with the given id, executions without id match the default execution id.
+     */
+    ExecutionEntry findExecution(String executionId) {
+      for(ExecutionEntry execution : executions) {
+        if(executionId.equals(execution.id == null ? null : execution.id.value)
+            || (execution.id == null && "default".equals(executionId))) { //$NON-NLS-1$
+          return execution;
+        }
+      }
+      return null;
+    }
+  }
+
+  static class ExecutionEntry {
+    final IRegion region;
+
+    /**
+     * The id of the execution, null if not declared.
+     */
+    final ValueEntry id;
+
+    final List<ValueEntry> goals = new ArrayList<>();
+
+    ExecutionEntry(Element execution) {
+      this.region = region(execution);
+      this.id = ValueEntry.of(findChild(execution, PomEdits.ID));
+      for(Element goal : findChilds(findChild(execution, PomEdits.GOALS), PomEdits.GOAL)) {
+        goals.add(ValueEntry.of(goal));
+      }
+    }
+
+    ValueEntry findGoal(String goal) {
+      for(ValueEntry entry : goals) {
+        if(goal.equals(entry.value)) {
+          return entry;
+        }
+      }
+      return null;
+    }
+  }
+}
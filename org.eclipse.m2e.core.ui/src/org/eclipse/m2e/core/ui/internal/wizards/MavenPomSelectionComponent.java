@@ -15,14 +15,14 @@ package org.eclipse.m2e.core.ui.internal.wizards;
 
 import java.text.DateFormat;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Collection;
 import java.util.HashSet;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
@@ -70,9 +70,9 @@ import org.eclipse.m2e.core.embedder.ArtifactKey;
 import org.eclipse.m2e.core.internal.IMavenConstants;
 import org.eclipse.m2e.core.internal.MavenPluginActivator;
 import org.eclipse.m2e.core.internal.index.IIndex;
-import org.eclipse.m2e.core.internal.index.IndexManager;
 import org.eclipse.m2e.core.internal.index.IndexedArtifact;
 import org.eclipse.m2e.core.internal.index.IndexedArtifactFile;
+import org.eclipse.m2e.core.internal.index.SearchPage;
 import org.eclipse.m2e.core.internal.index.UserInputSearchExpression;
 import org.eclipse.m2e.core.internal.index.filter.ArtifactFilterManager;
 import org.eclipse.m2e.core.ui.internal.M2EUIPluginActivator;
@@ -139,6 +139,24 @@ public class MavenPomSelectionComponent extends Composite {
 
   private static final long LONG_DELAY = 500L;
 
+  /**
+   * Number of results fetched first, so the table fills quickly. The remaining results are fetched with one more
+   * query, as every page costs a full index query.
+   */
+  private static final int FIRST_PAGE_SIZE = 100;
+
+  /**
+   * Results shown in the viewer, managed artifacts first. Only accessed from the UI thread.
+   */
+  List<IndexedArtifact> results = new ArrayList<>();
+
+  int managedResults;
+
+  /**
+   * Query of the search that produced the shown results, or null if no results are shown.
+   */
+  String resultsQuery;
+
   final HashSet<String> artifactKeys = new HashSet<>();
 
   final HashSet<String> managedKeys = new HashSet<>();
@@ -390,19 +408,16 @@ public class MavenPomSelectionComponent extends Composite {
 
   void scheduleSearch(String query, boolean delay) {
     if(query != null && query.length() > 2) {
-      if(searchJob == null) {
-        IndexManager indexManager = MavenPlugin.getIndexManager();
-        searchJob = new SearchJob(queryType, indexManager);
-      } else {
-        if(!searchJob.cancel()) {
-          //for already running ones, just create new instance so that the previous one can peacefully die
-          //without preventing the new one from completing first
-          IndexManager indexManager = MavenPlugin.getIndexManager();
-          searchJob = new SearchJob(queryType, indexManager);
-        }
+      query = query.toLowerCase();
+      narrowResults(query);
+      if(searchJob != null) {
+        searchJob.cancel();
       }
-      searchJob.setQuery(query.toLowerCase());
-      searchJob.schedule(delay ? LONG_DELAY : SHORT_DELAY);
+      //always create new instance so that a running one can peacefully die without preventing the new one
+      //from completing first, and results it already posted to the UI thread are ignored
+      searchJob = new SearchJob(queryType);
+      searchJob.setQuery(query);
+      searchJob.schedule(getSearchDelay(delay));
     } else {
       if(searchJob != null) {
         searchJob.cancel();
@@ -410,6 +425,84 @@ public class MavenPomSelectionComponent extends Composite {
     }
   }
 
+  IIndex getSearchIndex() throws CoreException {
+    return MavenPlugin.getIndexManager().getAllIndexes();
+  }
+
+  long getSearchDelay(boolean delay) {
+    return delay ? LONG_DELAY : SHORT_DELAY;
+  }
+
+  /**
+   * Narrows the shown results while the user keeps typing, until the search for the longer query completes. The
+   * narrowed results are only a preview, the index may match artifacts that do not contain the query literally.
+   */
+  private void narrowResults(String query) {
+    if(resultsQuery == null || !query.startsWith(resultsQuery) || query.indexOf('*') >= 0
+        || searchResultViewer.getContentProvider() == null || searchResultViewer.getControl().isDisposed()) {
+      return;
+    }
+    List<IndexedArtifact> narrowed = new ArrayList<>();
+    int managed = 0;
+    for(int i = 0; i < results.size(); i++ ) {
+      IndexedArtifact artifact = results.get(i);
+      if(contains(artifact.getGroupId(), query) || contains(artifact.getArtifactId(), query)
+          || contains(artifact.getClassname(), query)) {
+        narrowed.add(artifact);
+        if(i < managedResults) {
+          managed++ ;
+        }
+      }
+    }
+    if(narrowed.size() < results.size()) {
+      results = narrowed;
+      managedResults = managed;
+      resultsQuery = query;
+      searchResultViewer.setInput(results);
+    }
+  }
+
+  private static boolean contains(String value, String query) {
+    return value != null && value.toLowerCase().contains(query);
+  }
+
+  /**
+   * Shows a page of search results, keeping managed artifacts first.
+   */
+  void addResults(String query, Collection<IndexedArtifact> page, boolean firstPage) {
+    if(searchResultViewer.getControl().isDisposed()) {
+      return;
+    }
+    if(firstPage) {
+      results = new ArrayList<>(page.size());
+      managedResults = 0;
+      resultsQuery = query;
+      searchResultViewer.setInput(results);
+    }
+    List<IndexedArtifact> added = new ArrayList<>(page.size());
+    for(IndexedArtifact artifact : page) {
+      //335139 have the managed entries always come up as first results
+      if(managedKeys.contains(getKey(artifact))) {
+        results.add(managedResults, artifact);
+        searchResultViewer.insert(results, artifact, managedResults);
+        managedResults++ ;
+      } else {
+        results.add(artifact);
+        added.add(artifact);
+      }
+    }
+    searchResultViewer.add(results, added.toArray());
+  }
+
+  void clearResults() {
+    results = new ArrayList<>();
+    managedResults = 0;
+    resultsQuery = null;
+    if(!searchResultViewer.getControl().isDisposed()) {
+      searchResultViewer.setInput(results);
+    }
+  }
+
   public static String getKey(IndexedArtifactFile file) {
     return file.group + ":" + file.artifact + ":" + file.version; //$NON-NLS-1$ //$NON-NLS-2$
   }
@@ -423,30 +516,19 @@ public class MavenPomSelectionComponent extends Composite {
    */
   private class SearchJob extends Job {
 
-    private final IndexManager indexManager;
-
     private String query;
 
     private final String field;
 
-    private volatile boolean stop = false;
-
-    public SearchJob(String field, IndexManager indexManager) {
+    public SearchJob(String field) {
       super(Messages.MavenPomSelectionComponent_searchJob);
       this.field = field;
-      this.indexManager = indexManager;
     }
 
     public void setQuery(String query) {
       this.query = query;
     }
 
-    @Override
-    public boolean shouldRun() {
-      stop = false;
-      return super.shouldRun();
-    }
-
     public int getClassifier() {
       // mkleint: no more allowing people to opt in/out displaying javadoc and sources..
       // allow tests and every other classifier..
@@ -463,53 +545,59 @@ public class MavenPomSelectionComponent extends Composite {
       if(query != null) {
         String activeQuery = query;
         try {
-          setResult(IStatus.OK, NLS.bind(Messages.MavenPomSelectionComponent_searching, activeQuery.toLowerCase()),
-              null);
-
-          Map<String, IndexedArtifact> res = indexManager.getAllIndexes().search(
-              new UserInputSearchExpression(activeQuery), field, classifier);
-
-          //335139 have the managed entries always come up as first results
-          LinkedHashMap<String, IndexedArtifact> managed = new LinkedHashMap<>();
-          LinkedHashMap<String, IndexedArtifact> nonManaged = new LinkedHashMap<>();
-          for(Map.Entry<String, IndexedArtifact> art : res.entrySet()) {
-            String key = art.getValue().getGroupId() + ":" + art.getValue().getArtifactId(); //$NON-NLS-1$
-            if(managedKeys.contains(key)) {
-              managed.put(art.getKey(), art.getValue());
-            } else {
-              nonManaged.put(art.getKey(), art.getValue());
+          setStatus(monitor, IStatus.OK,
+              NLS.bind(Messages.MavenPomSelectionComponent_searching, activeQuery.toLowerCase()));
+
+          IIndex index = getSearchIndex();
+          UserInputSearchExpression expression = new UserInputSearchExpression(activeQuery);
+          int count = 0;
+          String continuation = null;
+          do {
+            if(monitor.isCanceled()) {
+              return Status.CANCEL_STATUS;
             }
-          }
-          managed.putAll(nonManaged);
-          setResult(IStatus.OK, NLS.bind(Messages.MavenPomSelectionComponent_results, activeQuery, res.size()), managed);
+            int limit = continuation == null ? FIRST_PAGE_SIZE : IIndex.DEFAULT_SEARCH_LIMIT - count;
+            SearchPage page = index.search(expression, field, classifier, limit, continuation);
+            boolean firstPage = continuation == null;
+            List<IndexedArtifact> artifacts = new ArrayList<>(page.getResults().values());
+            update(monitor, () -> addResults(activeQuery, artifacts, firstPage));
+            count += artifacts.size();
+            continuation = page.getContinuation();
+          } while(continuation != null && count < IIndex.DEFAULT_SEARCH_LIMIT);
+
+          setStatus(monitor, IStatus.OK, NLS.bind(Messages.MavenPomSelectionComponent_results, activeQuery, count));
         } catch(BooleanQuery.TooManyClauses ex) {
-          setResult(IStatus.ERROR, Messages.MavenPomSelectionComponent_toomany,
-              Collections.<String, IndexedArtifact> emptyMap());
+          setError(monitor, Messages.MavenPomSelectionComponent_toomany);
         } catch(final RuntimeException ex) {
-          setResult(IStatus.ERROR, NLS.bind(Messages.MavenPomSelectionComponent_error, ex.toString()),
-              Collections.<String, IndexedArtifact> emptyMap());
+          setError(monitor, NLS.bind(Messages.MavenPomSelectionComponent_error, ex.toString()));
         } catch(final Exception ex) {
-          setResult(IStatus.ERROR, NLS.bind(Messages.MavenPomSelectionComponent_error, ex.getMessage()),
-              Collections.<String, IndexedArtifact> emptyMap());
+          setError(monitor, NLS.bind(Messages.MavenPomSelectionComponent_error, ex.getMessage()));
         }
       }
       return Status.OK_STATUS;
     }
 
-    @Override
-    protected void canceling() {
-      stop = true;
+    private void setStatus(IProgressMonitor monitor, int severity, String message) {
+      update(monitor, () -> MavenPomSelectionComponent.this.setStatus(severity, message));
     }
 
-    private void setResult(final int severity, final String message, final Map<String, IndexedArtifact> result) {
-      if(stop)
+    private void setError(IProgressMonitor monitor, String message) {
+      update(monitor, () -> {
+        MavenPomSelectionComponent.this.setStatus(IStatus.ERROR, message);
+        clearResults();
+      });
+    }
+
+    /**
+     * Updates the UI asynchronously, unless this search was superseded by then.
+     */
+    private void update(IProgressMonitor monitor, Runnable runnable) {
+      if(monitor.isCanceled()) {
         return;
-      Display.getDefault().syncExec(() -> {
-        setStatus(severity, message);
-        if(result != null) {
-          if(!searchResultViewer.getControl().isDisposed()) {
-            searchResultViewer.setInput(result);
-          }
+      }
+      Display.getDefault().asyncExec(() -> {
+        if(searchJob == this && !monitor.isCanceled() && !isDisposed()) {
+          runnable.run();
         }
       });
     }
@@ -627,6 +715,9 @@ public class MavenPomSelectionComponent extends Composite {
       if(inputElement instanceof Map) {
         return ((Map<?, ?>) inputElement).values().toArray();
       }
+      if(inputElement instanceof Collection) {
+        return ((Collection<?>) inputElement).toArray();
+      }
       return EMPTY;
     }
 
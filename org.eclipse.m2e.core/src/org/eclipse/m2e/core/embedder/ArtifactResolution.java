@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *      Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.embedder;
+
+import java.io.File;
+
+import org.eclipse.core.runtime.IStatus;
+
+import org.apache.maven.artifact.Artifact;
+
+
+/**
+ * Outcome of resolving one artifact of a batch, see {@link IMaven#resolve(java.util.Collection, String,
+ * java.util.List, org.eclipse.core.runtime.IProgressMonitor)}.
+ *
+ * @since 1.18
+ */
+public final class ArtifactResolution {
+
+  private final ArtifactKey artifactKey;
+
+  private final Artifact artifact;
+
+  private final IStatus status;
+
+  public ArtifactResolution(ArtifactKey artifactKey, Artifact artifact, IStatus status) {
+    this.artifactKey = artifactKey;
+    this.artifact = artifact;
+    this.status = status;
+  }
+
+  /**
+   * @return key of the requested artifact
+   */
+  public ArtifactKey getArtifactKey() {
+    return artifactKey;
+  }
+
+  /**
+   * @return the artifact, with file and version set if it was resolved
+   */
+  public Artifact getArtifact() {
+    return artifact;
+  }
+
+  /**
+   * @return the artifact file or {@code null} if the artifact could not be resolved
+   */
+  public File getFile() {
+    return isResolved() ? artifact.getFile() : null;
+  }
+
+  public boolean isResolved() {
+    return status.isOK();
+  }
+
+  /**
+   * @return {@link IStatus#OK} status if the artifact was resolved, otherwise an error status describing why it could
+   *         not be resolved
+   */
+  public IStatus getStatus() {
+    return status;
+  }
+
+  @Override
+  public String toString() {
+    return artifactKey + (isResolved() ? " -> " + artifact.getFile() : " unresolved"); //$NON-NLS-1$ //$NON-NLS-2$
+  }
+}
@@ -91,6 +91,18 @@ public interface IMaven {
   Artifact resolve(String groupId, String artifactId, String version, String type, String classifier,
       List<ArtifactRepository> artifactRepositories, IProgressMonitor monitor) throws CoreException;
 
+  /**
+   * Resolves specified artifacts of the given type from specified remote repositories with a single request to the
+   * repository system, which downloads missing artifacts concurrently. Failure to resolve one artifact does not abort
+   * resolution of the others.
+   *
+   * @return resolution outcome of each requested artifact, in request order
+   * @throws CoreException if the request could not be executed at all
+   * @since 1.18
+   */
+  List<ArtifactResolution> resolve(Collection<ArtifactKey> artifacts, String type,
+      List<ArtifactRepository> artifactRepositories, IProgressMonitor monitor) throws CoreException;
+
   /**
    * Returns path of the specified artifact relative to repository baseDir. Can use used to access local repository
    * files bypassing maven resolution logic.
@@ -188,12 +188,16 @@ public class MavenModelManager {
    *             supports workspace dependency resolution
    */
   @Deprecated
-  public DependencyNode readDependencyTree(MavenProject mavenProject, String classpath, IProgressMonitor monitor)
-      throws CoreException {
+  public synchronized DependencyNode readDependencyTree(MavenProject mavenProject, String classpath,
+      IProgressMonitor monitor) throws CoreException {
     return readDependencyTree(null, mavenProject, classpath, monitor);
   }
 
-  public synchronized DependencyNode readDependencyTree(IMavenProjectFacade context, final MavenProject mavenProject,
+  /**
+   * Reads the verbose dependency graph of the given project. Every invocation uses its own execution context, so
+   * graphs of different projects can be read concurrently.
+   */
+  public DependencyNode readDependencyTree(IMavenProjectFacade context, final MavenProject mavenProject,
       final String scope, IProgressMonitor monitor) throws CoreException {
     monitor.setTaskName(Messages.MavenModelManager_monitor_building);
 
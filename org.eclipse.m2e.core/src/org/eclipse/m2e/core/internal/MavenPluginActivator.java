@@ -121,6 +121,8 @@ public class MavenPluginActivator extends Plugin {
 
   private ProjectRegistryManager managerImpl;
 
+  private WorkspaceStateWriter workspaceStateWriter;
+
   private IMavenMarkerManager mavenMarkerManager;
 
   private RepositoryRegistry repositoryRegistry;
@@ -214,7 +216,7 @@ public class MavenPluginActivator extends Plugin {
 
     ////////////////////////////////////////////////////////////////////////////////////////////////
 
-    this.maven = new MavenImpl(mavenConfiguration);
+    this.maven = new MavenImpl(mavenConfiguration, stateLocationDir);
 
     // TODO eagerly reads workspace state cache
     this.managerImpl = new ProjectRegistryManager(maven, stateLocationDir, !updateProjectsOnStartup /* readState */,
@@ -227,7 +229,8 @@ public class MavenPluginActivator extends Plugin {
         | IResourceChangeEvent.PRE_CLOSE | IResourceChangeEvent.PRE_DELETE);
 
     this.projectManager = new MavenProjectManager(managerImpl, mavenBackgroundJob, stateLocationDir);
-    this.projectManager.addMavenProjectChangedListener(new WorkspaceStateWriter(projectManager));
+    this.workspaceStateWriter = new WorkspaceStateWriter(projectManager);
+    this.projectManager.addMavenProjectChangedListener(workspaceStateWriter);
     if(updateProjectsOnStartup || managerImpl.getProjects().length == 0) {
       this.projectManager.refresh(new MavenUpdateRequest(workspace.getRoot().getProjects(), //
           mavenConfiguration.isOffline() /*offline*/, false /* updateSnapshots */));
@@ -332,6 +335,9 @@ public class MavenPluginActivator extends Plugin {
       this.projectManager.removeMavenProjectChangedListener(indexManager);
     }
     this.projectManager.removeMavenProjectChangedListener(repositoryRegistry);
+    this.projectManager.removeMavenProjectChangedListener(workspaceStateWriter);
+    this.workspaceStateWriter.flush();
+    this.workspaceStateWriter = null;
     this.projectManager = null;
 
     toDisposeContainers.forEach(PlexusContainer::dispose);
@@ -361,6 +367,10 @@ public class MavenPluginActivator extends Plugin {
     return this.projectManager;
   }
 
+  public WorkspaceStateWriter getWorkspaceStateWriter() {
+    return this.workspaceStateWriter;
+  }
+
   public ProjectRegistryManager getMavenProjectManagerImpl() {
     return this.managerImpl;
   }
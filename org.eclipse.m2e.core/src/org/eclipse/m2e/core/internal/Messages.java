@@ -248,6 +248,8 @@ public class Messages extends NLS {
 
   public static String RepositoryRegistryUpdateJob_title;
 
+  public static String WorkspaceStateWriter_title;
+
   public static String pluginMarkerBuildError;
 
   public static String importProjectExists;
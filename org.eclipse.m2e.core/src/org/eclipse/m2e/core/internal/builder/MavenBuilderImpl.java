@@ -26,14 +26,18 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.function.Function;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import org.eclipse.core.resources.IFolder;
 import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.IWorkspaceRunnable;
 import org.eclipse.core.resources.IncrementalProjectBuilder;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
@@ -69,6 +73,16 @@ public class MavenBuilderImpl {
 
   private static final String BUILD_PARTICIPANT_ID_ATTR_NAME = "buildParticipantId";
 
+  /**
+   * Minimum number of changed children of a folder before the folder is refreshed instead of its children.
+   */
+  private static final int MIN_COALESCED_CHILDREN = 4;
+
+  /**
+   * Share of a folder's members that must have changed before the folder is refreshed instead of its children.
+   */
+  private static final double COALESCE_RATIO = 0.5;
+
   private final DeltaProvider deltaProvider;
 
   private final List<IIncrementalBuildFramework> incrementalBuildFrameworks;
@@ -226,28 +240,45 @@ public class MavenBuilderImpl {
     }
   }
 
-  private void refreshResources(IProject project, Collection<File> resources, IProgressMonitor monitor)
+  /**
+   * Refreshes files and folders reported as changed by the build. Changed resources are coalesced into their common
+   * ancestor folders (see {@link #getRefreshRoots(Collection, Function)}), and all refreshes are executed in a single
+   * workspace operation, so the build produces one resource change event.
+   */
+  void refreshResources(IProject project, Collection<File> resources, IProgressMonitor monitor)
       throws CoreException {
+    if(resources.isEmpty()) {
+      return;
+    }
+    Set<IPath> changedPaths = new LinkedHashSet<>();
     for(File file : resources) {
       IPath path = MavenProjectUtils.getProjectRelativePath(project, file.getAbsolutePath());
       if(path == null) {
         log.debug("Could not get relative path for file: {}", file.getAbsoluteFile());
         continue; // odd
       }
+      changedPaths.add(path);
+    }
 
-      IResource resource;
-      if(path.isEmpty()) {
-        resource = project;
-      } else if(!file.exists()) {
-        resource = project.findMember(path); // null if path does not exist in the workspace
-      } else if(file.isDirectory()) {
-        resource = project.getFolder(path);
-      } else {
-        resource = project.getFile(path);
+    Collection<IPath> refreshRoots = getRefreshRoots(changedPaths, folderPath -> {
+      IFolder folder = project.getFolder(folderPath);
+      try {
+        return folder.exists() ? folder.members().length : -1;
+      } catch(CoreException ex) {
+        return -1;
       }
-      if(resource != null) {
-        resource.refreshLocal(IResource.DEPTH_INFINITE, monitor);
-        if(resource.exists()) {
+    });
+
+    IWorkspaceRunnable refresh = pm -> {
+      for(IPath path : refreshRoots) {
+        IResource resource = getResource(project, path);
+        if(resource != null) {
+          resource.refreshLocal(IResource.DEPTH_INFINITE, pm);
+        }
+      }
+      for(IPath path : changedPaths) {
+        IResource resource = path.isEmpty() ? project : project.findMember(path);
+        if(resource != null && resource.exists()) {
           // the resource has changed for certain, make sure resource sends IResourceChangeEvent
 
           // eclipse uses file lastModified timestamp to detect resource changes
@@ -255,10 +286,82 @@ public class MavenBuilderImpl {
           // - two builds happen within filesystem resolution (1s on linux and osx, causes problems during unit tests)
           // - maven mojo deliberately keeps lastModified (unlikely, but theoretically possible)
           // @see org.eclipse.core.internal.localstore.RefreshLocalVisitor.visit(UnifiedTreeNode)
-          resource.touch(monitor);
+          resource.touch(pm);
         }
       }
+    };
+    project.getWorkspace().run(refresh, null, IWorkspace.AVOID_UPDATE, monitor);
+  }
+
+  private static IResource getResource(IProject project, IPath path) {
+    if(path.isEmpty()) {
+      return project;
+    }
+    File file = project.getLocation() != null ? project.getLocation().append(path).toFile() : null;
+    if(file == null || !file.exists()) {
+      return project.findMember(path); // null if path does not exist in the workspace
+    } else if(file.isDirectory()) {
+      return project.getFolder(path);
     }
+    return project.getFile(path);
+  }
+
+  /**
+   * Computes the minimal set of project relative paths to refresh in order to pick up all changed paths. Paths
+   * contained in other changed paths are dropped. Changed children of a folder are replaced by the folder itself when
+   * the folder is not yet known to the workspace, or when they account for a large enough share of the folder's
+   * members, so code generators emitting thousands of files result in a few folder refreshes. The project itself is
+   * only refreshed if it was reported as changed.
+   *
+   * @param memberCounts returns the number of workspace members of a folder, or -1 if the folder does not exist in the
+   *          workspace
+   */
+  static Collection<IPath> getRefreshRoots(Collection<IPath> changedPaths, Function<IPath, Integer> memberCounts) {
+    Set<IPath> roots = removeNested(changedPaths);
+    boolean coalesced = true;
+    while(coalesced) {
+      coalesced = false;
+      Map<IPath, List<IPath>> byParent = new LinkedHashMap<>();
+      for(IPath path : roots) {
+        if(path.segmentCount() > 1) {
+          byParent.computeIfAbsent(path.removeLastSegments(1), parent -> new ArrayList<>()).add(path);
+        }
+      }
+      for(Entry<IPath, List<IPath>> entry : byParent.entrySet()) {
+        int changed = entry.getValue().size();
+        if(changed < MIN_COALESCED_CHILDREN) {
+          continue;
+        }
+        int members = memberCounts.apply(entry.getKey());
+        if(members < 0 || changed >= members * COALESCE_RATIO) {
+          roots.removeAll(entry.getValue());
+          roots.add(entry.getKey());
+          coalesced = true;
+        }
+      }
+      if(coalesced) {
+        roots = removeNested(roots);
+      }
+    }
+    return roots;
+  }
+
+  private static Set<IPath> removeNested(Collection<IPath> paths) {
+    Set<IPath> result = new LinkedHashSet<>();
+    Set<IPath> all = new HashSet<>(paths);
+    for(IPath path : paths) {
+      if(path.isEmpty()) {
+        return Collections.singleton(path); // the whole project
+      }
+      boolean nested = false;
+      for(int i = path.segmentCount() - 1; i > 0 && !nested; i-- ) {
+        nested = all.contains(path.uptoSegment(i));
+      }
+      if(!nested) {
+        result.add(path);
+      }
+    }
+    return result;
   }
 
   private void processBuildResults(IProject project, MavenProject mavenProject, MavenExecutionResult result,
@@ -0,0 +1,262 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *      Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.embedder;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Properties;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+/**
+ * Repository-wide store of the times artifacts were last looked up in remote repositories. Replaces the
+ * m2e-lastUpdated.properties files that used to be written next to each artifact in the local repository.
+ * <p>
+ * The store is an append-only log kept in memory as a map from artifact key to per-repository timestamps. Each line is
+ * either {@code T<tab>artifactKey<tab>repositoryKey<tab>timestamp} or {@code M<tab>artifactKey}, the latter records
+ * that the legacy properties file of the artifact was migrated. The log is rewritten when it grows well beyond the
+ * number of live entries.
+ * <p>
+ * Artifact keys are the paths of the artifact directories in the local repository. Like the legacy properties files,
+ * entries live only as long as their directory: entries of deleted directories are ignored and dropped from the log
+ * when it is rewritten.
+ */
+class LastUpdatedStore {
+  private static final Logger log = LoggerFactory.getLogger(LastUpdatedStore.class);
+
+  private static final char TIMESTAMP = 'T';
+
+  private static final char MIGRATED = 'M';
+
+  private static final char SEPARATOR = '\t';
+
+  /**
+   * Minimum number of obsolete log lines before the log is compacted.
+   */
+  private static final int COMPACTION_THRESHOLD = 1000;
+
+  private final File file;
+
+  private Map<String, Map<String, String>> entries;
+
+  private int logLines;
+
+  /**
+   * Number of lines of the compacted log, i.e. live timestamps plus migrated artifacts without timestamps.
+   */
+  private int liveLines;
+
+  private Writer writer;
+
+  LastUpdatedStore(File file) {
+    this.file = file;
+  }
+
+  /**
+   * Returns true if the store has an entry for the artifact, i.e. its lookup times were recorded or migrated.
+   */
+  synchronized boolean contains(String artifactKey) throws IOException {
+    return getTimestamps(artifactKey) != null;
+  }
+
+  /**
+   * Returns lookup times of the artifact, keyed by repository key.
+   */
+  synchronized Properties get(String artifactKey) throws IOException {
+    Properties result = new Properties();
+    Map<String, String> timestamps = getTimestamps(artifactKey);
+    if(timestamps != null) {
+      result.putAll(timestamps);
+    }
+    return result;
+  }
+
+  /**
+   * Imports lookup times of the artifact read from a legacy m2e-lastUpdated.properties file.
+   */
+  synchronized void migrate(String artifactKey, Properties legacy) throws IOException {
+    Map<String, String> timestamps = getTimestamps(artifactKey);
+    int oldLines = timestamps != null ? lines(timestamps) : 0;
+    if(timestamps == null) {
+      timestamps = new HashMap<>();
+      entries.put(artifactKey, timestamps);
+    }
+    StringBuilder lines = new StringBuilder();
+    lines.append(MIGRATED).append(SEPARATOR).append(artifactKey).append('\n');
+    int count = 1;
+    for(String repositoryKey : legacy.stringPropertyNames()) {
+      String timestamp = legacy.getProperty(repositoryKey);
+      timestamps.put(repositoryKey, timestamp);
+      appendTimestamp(lines, artifactKey, repositoryKey, timestamp);
+      count++ ;
+    }
+    liveLines += lines(timestamps) - oldLines;
+    append(lines, count);
+  }
+
+  /**
+   * Records the lookup time of the artifact in the given repositories.
+   */
+  synchronized void put(String artifactKey, Iterable<String> repositoryKeys, String timestamp) throws IOException {
+    Map<String, String> timestamps = getTimestamps(artifactKey);
+    int oldLines = timestamps != null ? lines(timestamps) : 0;
+    if(timestamps == null) {
+      timestamps = new HashMap<>();
+      entries.put(artifactKey, timestamps);
+    }
+    StringBuilder lines = new StringBuilder();
+    int count = 0;
+    for(String repositoryKey : repositoryKeys) {
+      timestamps.put(repositoryKey, timestamp);
+      appendTimestamp(lines, artifactKey, repositoryKey, timestamp);
+      count++ ;
+    }
+    if(count == 0) {
+      lines.append(MIGRATED).append(SEPARATOR).append(artifactKey).append('\n');
+      count++ ;
+    }
+    liveLines += lines(timestamps) - oldLines;
+    append(lines, count);
+  }
+
+  synchronized void close() {
+    if(writer != null) {
+      try {
+        writer.close();
+      } catch(IOException ex) {
+        log.warn("Could not close {}", file, ex);
+      }
+      writer = null;
+    }
+  }
+
+  private static void appendTimestamp(StringBuilder lines, String artifactKey, String repositoryKey,
+      String timestamp) {
+    lines.append(TIMESTAMP).append(SEPARATOR).append(artifactKey).append(SEPARATOR).append(repositoryKey)
+        .append(SEPARATOR).append(timestamp).append('\n');
+  }
+
+  private void append(CharSequence lines, int count) throws IOException {
+    if(logLines + count > liveLines * 2 + COMPACTION_THRESHOLD) {
+      compact();
+      return; // compacted log contains the new lines already
+    }
+    if(writer == null) {
+      file.getParentFile().mkdirs();
+      writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+          StandardOpenOption.APPEND);
+    }
+    writer.append(lines);
+    writer.flush();
+    logLines += count;
+  }
+
+  /**
+   * Returns the timestamps recorded for the artifact, or null if there are none or its directory was deleted since.
+   */
+  private Map<String, String> getTimestamps(String artifactKey) throws IOException {
+    Map<String, String> timestamps = getEntries().get(artifactKey);
+    if(timestamps != null && !isLive(artifactKey)) {
+      // the artifact was purged from the local repository, forget that it was looked up
+      entries.remove(artifactKey);
+      liveLines -= lines(timestamps);
+      return null;
+    }
+    return timestamps;
+  }
+
+  private static boolean isLive(String artifactKey) {
+    return new File(artifactKey).isDirectory();
+  }
+
+  private static int lines(Map<String, String> timestamps) {
+    return Math.max(1, timestamps.size());
+  }
+
+  /**
+   * Rewrites the log so it only contains live entries. Entries of deleted artifact directories are dropped.
+   */
+  private void compact() throws IOException {
+    close();
+    file.getParentFile().mkdirs();
+    File tmp = new File(file.getParentFile(), file.getName() + ".tmp"); //$NON-NLS-1$
+    int lines = 0;
+    try (BufferedWriter out = Files.newBufferedWriter(tmp.toPath(), StandardCharsets.UTF_8)) {
+      StringBuilder line = new StringBuilder();
+      for(Iterator<Map.Entry<String, Map<String, String>>> iter = entries.entrySet().iterator(); iter.hasNext();) {
+        Map.Entry<String, Map<String, String>> entry = iter.next();
+        if(!isLive(entry.getKey())) {
+          iter.remove();
+          continue;
+        }
+        line.setLength(0);
+        if(entry.getValue().isEmpty()) {
+          line.append(MIGRATED).append(SEPARATOR).append(entry.getKey()).append('\n');
+        }
+        for(Map.Entry<String, String> timestamp : entry.getValue().entrySet()) {
+          appendTimestamp(line, entry.getKey(), timestamp.getKey(), timestamp.getValue());
+        }
+        out.append(line);
+        lines += lines(entry.getValue());
+      }
+    }
+    Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    logLines = lines;
+    liveLines = lines;
+  }
+
+  private Map<String, Map<String, String>> getEntries() throws IOException {
+    if(entries == null) {
+      Map<String, Map<String, String>> loaded = new HashMap<>();
+      int lines = 0;
+      try (BufferedReader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+        String line;
+        while((line = reader.readLine()) != null) {
+          lines++ ;
+          String[] parts = line.split(String.valueOf(SEPARATOR), -1);
+          if(parts.length == 2 && parts[0].length() == 1 && parts[0].charAt(0) == MIGRATED) {
+            loaded.computeIfAbsent(parts[1], k -> new HashMap<>());
+          } else if(parts.length == 4 && parts[0].length() == 1 && parts[0].charAt(0) == TIMESTAMP) {
+            loaded.computeIfAbsent(parts[1], k -> new HashMap<>()).put(parts[2], parts[3]);
+          } else {
+            log.debug("Skipping malformed line {} of {}", lines, file); //$NON-NLS-1$
+          }
+        }
+      } catch(NoSuchFileException ex) {
+        // that's okay, nothing recorded yet
+      }
+      int live = 0;
+      for(Map<String, String> timestamps : loaded.values()) {
+        live += lines(timestamps);
+      }
+      entries = loaded;
+      logLines = lines;
+      liveLines = live;
+    }
+    return entries;
+  }
+}
@@ -157,6 +157,8 @@ import org.apache.maven.settings.crypto.SettingsDecryptionResult;
 import org.apache.maven.settings.io.SettingsWriter;
 import org.apache.maven.wagon.proxy.ProxyInfo;
 
+import org.eclipse.m2e.core.embedder.ArtifactKey;
+import org.eclipse.m2e.core.embedder.ArtifactResolution;
 import org.eclipse.m2e.core.embedder.ICallable;
 import org.eclipse.m2e.core.embedder.ILocalRepositoryListener;
 import org.eclipse.m2e.core.embedder.IMaven;
@@ -180,6 +182,10 @@ public class MavenImpl implements IMaven, IMavenConfigurationChangeListener {
    */
   public static final String MAVEN_CORE_REALM_ID = "plexus.core"; //$NON-NLS-1$
 
+  private static final String LAST_UPDATED_FILENAME = "m2e-lastUpdated.properties"; //$NON-NLS-1$
+
+  private static final String LAST_UPDATED_STORE_FILENAME = "lastUpdated.log"; //$NON-NLS-1$
+
   private DefaultPlexusContainer plexus;
 
   private final IMavenConfiguration mavenConfiguration;
@@ -201,8 +207,26 @@ public class MavenImpl implements IMaven, IMavenConfigurationChangeListener {
   /** Last modified timestamp of cached user settings */
   private long settings_timestamp;
 
+  /**
+   * Repository-wide store of artifact lookup times, or null if lookup times are kept in m2e-lastUpdated.properties
+   * files in the local repository.
+   */
+  private final LastUpdatedStore lastUpdatedStore;
+
   public MavenImpl(IMavenConfiguration mavenConfiguration) {
+    this(mavenConfiguration, null);
+  }
+
+  /**
+   * @param stateLocationDir plugin state location used to store artifact lookup times, or null to store them next to
+   *          each artifact in the local repository
+   * @since 1.18
+   */
+  public MavenImpl(IMavenConfiguration mavenConfiguration, File stateLocationDir) {
     this.mavenConfiguration = mavenConfiguration;
+    this.lastUpdatedStore = stateLocationDir != null
+        ? new LastUpdatedStore(new File(stateLocationDir, LAST_UPDATED_STORE_FILENAME))
+        : null;
     mavenConfiguration.addConfigurationChangeListener(this);
   }
 
@@ -783,15 +807,7 @@ public class MavenImpl implements IMaven, IMavenConfigurationChangeListener {
 
   public Artifact resolve(final Artifact artifact, List<ArtifactRepository> remoteRepositories, IProgressMonitor monitor)
       throws CoreException {
-    if(remoteRepositories == null) {
-      try {
-        remoteRepositories = getArtifactRepositories();
-      } catch(CoreException e) {
-        // we've tried
-        remoteRepositories = Collections.emptyList();
-      }
-    }
-    final List<ArtifactRepository> _remoteRepositories = remoteRepositories;
+    final List<ArtifactRepository> _remoteRepositories = getRemoteRepositories(remoteRepositories);
 
     return context().execute((context, pm) -> {
         org.eclipse.aether.RepositorySystem repoSystem = lookup(org.eclipse.aether.RepositorySystem.class);
@@ -809,30 +825,92 @@ public class MavenImpl implements IMaven, IMavenConfigurationChangeListener {
 
         setLastUpdated(context.getLocalRepository(), _remoteRepositories, artifact);
 
-        if(result.isResolved()) {
-          artifact.selectVersion(result.getArtifact().getVersion());
-          artifact.setFile(result.getArtifact().getFile());
-          artifact.setResolved(true);
-        } else {
-          ArrayList<IStatus> members = new ArrayList<>();
-          for(Exception e : result.getExceptions()) {
-            if(!(e instanceof ArtifactNotFoundException)) {
-              members.add(new Status(IStatus.ERROR, IMavenConstants.PLUGIN_ID, -1, e.getMessage(), e));
-            }
-          }
-          if(members.isEmpty()) {
-            members.add(new Status(IStatus.ERROR, IMavenConstants.PLUGIN_ID, -1, NLS.bind(
-                Messages.MavenImpl_error_missing, artifact), null));
-          }
-          IStatus[] newMembers = members.toArray(new IStatus[members.size()]);
-          throw new CoreException(new MultiStatus(IMavenConstants.PLUGIN_ID, -1, newMembers, NLS.bind(
-              Messages.MavenImpl_error_resolve, artifact.toString()), null));
+        IStatus status = applyResult(artifact, result);
+        if(!status.isOK()) {
+          throw new CoreException(status);
         }
 
         return artifact;
       }, monitor);
   }
 
+  @Override
+  public List<ArtifactResolution> resolve(Collection<ArtifactKey> artifacts, String type,
+      List<ArtifactRepository> remoteRepositories, IProgressMonitor monitor) throws CoreException {
+    final List<ArtifactRepository> _remoteRepositories = getRemoteRepositories(remoteRepositories);
+
+    return context().execute((context, pm) -> {
+      org.eclipse.aether.RepositorySystem repoSystem = lookup(org.eclipse.aether.RepositorySystem.class);
+      RepositorySystem repositorySystem = lookup(RepositorySystem.class);
+      List<org.eclipse.aether.repository.RemoteRepository> repositories = RepositoryUtils.toRepos(_remoteRepositories);
+
+      List<ArtifactKey> keys = new ArrayList<>(artifacts);
+      List<Artifact> requested = new ArrayList<>(keys.size());
+      List<ArtifactRequest> requests = new ArrayList<>(keys.size());
+      for(ArtifactKey key : keys) {
+        Artifact artifact = repositorySystem.createArtifactWithClassifier(key.getGroupId(), key.getArtifactId(),
+            key.getVersion(), type, key.getClassifier());
+        requested.add(artifact);
+        requests.add(new ArtifactRequest(RepositoryUtils.toArtifact(artifact), repositories, null));
+      }
+
+      // one request lets the repository connectors download missing artifacts in parallel
+      List<ArtifactResult> results;
+      try {
+        results = repoSystem.resolveArtifacts(context.getRepositorySession(), requests);
+      } catch(ArtifactResolutionException ex) {
+        results = ex.getResults();
+      }
+
+      List<ArtifactResolution> resolutions = new ArrayList<>(keys.size());
+      for(int i = 0; i < keys.size(); i++ ) {
+        Artifact artifact = requested.get(i);
+        setLastUpdated(context.getLocalRepository(), _remoteRepositories, artifact);
+        resolutions.add(new ArtifactResolution(keys.get(i), artifact, applyResult(artifact, results.get(i))));
+      }
+      return resolutions;
+    }, monitor);
+  }
+
+  private List<ArtifactRepository> getRemoteRepositories(List<ArtifactRepository> remoteRepositories) {
+    if(remoteRepositories == null) {
+      try {
+        remoteRepositories = getArtifactRepositories();
+      } catch(CoreException e) {
+        // we've tried
+        remoteRepositories = Collections.emptyList();
+      }
+    }
+    return remoteRepositories;
+  }
+
+  /**
+   * Updates the artifact from the resolution result.
+   *
+   * @return OK status if the artifact was resolved, otherwise the reasons why not
+   */
+  private static IStatus applyResult(Artifact artifact, ArtifactResult result) {
+    if(result.isResolved()) {
+      artifact.selectVersion(result.getArtifact().getVersion());
+      artifact.setFile(result.getArtifact().getFile());
+      artifact.setResolved(true);
+      return Status.OK_STATUS;
+    }
+    ArrayList<IStatus> members = new ArrayList<>();
+    for(Exception e : result.getExceptions()) {
+      if(!(e instanceof ArtifactNotFoundException)) {
+        members.add(new Status(IStatus.ERROR, IMavenConstants.PLUGIN_ID, -1, e.getMessage(), e));
+      }
+    }
+    if(members.isEmpty()) {
+      members.add(new Status(IStatus.ERROR, IMavenConstants.PLUGIN_ID, -1, NLS.bind(
+          Messages.MavenImpl_error_missing, artifact), null));
+    }
+    IStatus[] newMembers = members.toArray(new IStatus[members.size()]);
+    return new MultiStatus(IMavenConstants.PLUGIN_ID, -1, newMembers, NLS.bind(Messages.MavenImpl_error_resolve,
+        artifact.toString()), null);
+  }
+
   public Artifact resolvePluginArtifact(Plugin plugin, List<ArtifactRepository> remoteRepositories,
       IProgressMonitor monitor) throws CoreException {
     Artifact artifact = lookup(RepositorySystem.class).createPluginArtifact(plugin);
@@ -850,10 +928,33 @@ public class MavenImpl implements IMaven, IMavenConfigurationChangeListener {
   /*package*/void setLastUpdated(ArtifactRepository localRepository, List<ArtifactRepository> remoteRepositories,
       Artifact artifact) throws CoreException {
 
-    Properties lastUpdated = loadLastUpdated(localRepository, artifact);
-
     String timestamp = Long.toString(System.currentTimeMillis());
 
+    if(lastUpdatedStore != null) {
+      List<String> repositoryKeys = new ArrayList<>(remoteRepositories.size());
+      for(ArtifactRepository repository : remoteRepositories) {
+        repositoryKeys.add(getLastUpdatedKey(repository, artifact));
+      }
+      String key = getLastUpdatedStoreKey(localRepository, artifact);
+      try {
+        if(!lastUpdatedStore.contains(key)) {
+          // first update of this artifact, import m2e-lastUpdated.properties written by older versions
+          Properties legacy = loadLegacyLastUpdated(localRepository, artifact);
+          if(!legacy.isEmpty()) {
+            lastUpdatedStore.migrate(key, legacy);
+          }
+        }
+        // the entry is dropped when the artifact directory is deleted, like the legacy file was
+        new File(key).mkdirs();
+        lastUpdatedStore.put(key, repositoryKeys, timestamp);
+      } catch(IOException ex) {
+        throw new CoreException(new Status(IStatus.ERROR, IMavenConstants.PLUGIN_ID, -1,
+            Messages.MavenImpl_error_write_lastUpdated, ex));
+      }
+      return;
+    }
+
+    Properties lastUpdated = loadLastUpdated(localRepository, artifact);
     for(ArtifactRepository repository : remoteRepositories) {
       lastUpdated.setProperty(getLastUpdatedKey(repository, artifact), timestamp);
     }
@@ -923,6 +1024,28 @@ public class MavenImpl implements IMaven, IMavenConfigurationChangeListener {
   }
 
   private Properties loadLastUpdated(ArtifactRepository localRepository, Artifact artifact) throws CoreException {
+    if(lastUpdatedStore == null) {
+      return loadLegacyLastUpdated(localRepository, artifact);
+    }
+    String key = getLastUpdatedStoreKey(localRepository, artifact);
+    try {
+      if(!lastUpdatedStore.contains(key)) {
+        // not updated since m2e-lastUpdated.properties was written by an older version, it is migrated on update
+        return loadLegacyLastUpdated(localRepository, artifact);
+      }
+      return lastUpdatedStore.get(key);
+    } catch(IOException ex) {
+      throw new CoreException(new Status(IStatus.ERROR, IMavenConstants.PLUGIN_ID, -1,
+          Messages.MavenImpl_error_read_lastUpdated, ex));
+    }
+  }
+
+  private String getLastUpdatedStoreKey(ArtifactRepository localRepository, Artifact artifact) {
+    return new File(localRepository.getBasedir(), basePathOf(localRepository, artifact)).getAbsolutePath();
+  }
+
+  private Properties loadLegacyLastUpdated(ArtifactRepository localRepository, Artifact artifact)
+      throws CoreException {
     Properties lastUpdated = new Properties();
     File lastUpdatedFile = getLastUpdatedFile(localRepository, artifact);
     try (BufferedInputStream is = new BufferedInputStream(new FileInputStream(lastUpdatedFile))) {
@@ -938,7 +1061,7 @@ public class MavenImpl implements IMaven, IMavenConfigurationChangeListener {
 
   private File getLastUpdatedFile(ArtifactRepository localRepository, Artifact artifact) {
     return new File(localRepository.getBasedir(), basePathOf(localRepository, artifact) + "/" //$NON-NLS-1$
-        + "m2e-lastUpdated.properties"); //$NON-NLS-1$
+        + LAST_UPDATED_FILENAME);
   }
 
   private static final char PATH_SEPARATOR = '/';
@@ -1383,6 +1506,9 @@ public class MavenImpl implements IMaven, IMavenConfigurationChangeListener {
     if(plexus != null) {
       plexus.dispose();
     }
+    if(lastUpdatedStore != null) {
+      lastUpdatedStore.close();
+    }
   }
 
   @Override
@@ -81,6 +81,11 @@ public interface IIndex {
 
   int NOT_AVAILABLE = 2;
 
+  /**
+   * Maximum number of artifacts returned by the convenience search methods
+   */
+  int DEFAULT_SEARCH_LIMIT = 1000;
+
   // index queries
 
   IndexedArtifactFile getIndexedArtifactFile(ArtifactKey artifact) throws CoreException;
@@ -118,19 +123,39 @@ public interface IIndex {
 
   /**
    * Convenience method to search in all indexes enabled for repositories defined in settings.xml. This method always
-   * performs "scored" search.
+   * performs "scored" search and returns at most {@link #DEFAULT_SEARCH_LIMIT} artifacts.
    */
-  Map<String, IndexedArtifact> search(SearchExpression expression, String searchType) throws CoreException;
+  default Map<String, IndexedArtifact> search(SearchExpression expression, String searchType) throws CoreException {
+    return search(expression, searchType, SEARCH_ALL);
+  }
 
   /**
    * Convenience method to search in all indexes enabled for repositories defined in settings.xml. This method always
-   * performs "scored" search.
+   * performs "scored" search and returns at most {@link #DEFAULT_SEARCH_LIMIT} artifacts.
    *
    * @param term - search term
    * @param searchType - query type. Should be one of the SEARCH_* values.
    * @param classifier - the type of classifiers to search for, SEARCH_ALL, SEARCH_JAVADOCS, SEARCH_SOURCES,
    *          SEARCH_TESTS
    */
-  Map<String, IndexedArtifact> search(SearchExpression expression, String searchType, int classifier)
+  default Map<String, IndexedArtifact> search(SearchExpression expression, String searchType, int classifier)
+      throws CoreException {
+    return search(expression, searchType, classifier, DEFAULT_SEARCH_LIMIT, null).getResults();
+  }
+
+  /**
+   * Searches a page of artifacts. Results are grouped by artifact and sorted by their key, each page holds the first
+   * {@code limit} artifacts after the given continuation. Artifacts outside of the page are skipped while reading the
+   * index, so the cost of a search is bounded by the limit rather than by the number of hits.
+   *
+   * @param expression - search term
+   * @param searchType - query type. Should be one of the SEARCH_* values.
+   * @param classifier - the type of classifiers to search for, SEARCH_ALL, SEARCH_JAVADOCS, SEARCH_SOURCES,
+   *          SEARCH_TESTS
+   * @param limit - maximum number of artifacts in the page
+   * @param continuation - continuation of the previous page, or null to get the first page
+   * @since 1.18
+   */
+  SearchPage search(SearchExpression expression, String searchType, int classifier, int limit, String continuation)
       throws CoreException;
 }
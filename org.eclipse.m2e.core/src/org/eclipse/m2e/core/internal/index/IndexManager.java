@@ -39,6 +39,14 @@ public interface IndexManager {
    */
   IIndex getIndex(IProject project) throws CoreException;
 
+  /**
+   * Returns the index of {@link #getIndex(IProject)} with search results filtered by the artifact filters of the
+   * project. Filter decisions are remembered as long as the project does not change.
+   *
+   * @since 1.18
+   */
+  IIndex getFilteredIndex(IProject project) throws CoreException;
+
   /**
    * Returns index aggregating all indexes enabled for repositories defined in settings.xml
    *
@@ -0,0 +1,55 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *      Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.index;
+
+import java.util.Collections;
+import java.util.SortedMap;
+
+
+/**
+ * A page of index search results. Results are grouped by artifact and sorted by their key, pages are requested with
+ * {@link IIndex#search(SearchExpression, String, int, int, String)}.
+ *
+ * @since 1.18
+ */
+public class SearchPage {
+
+  private final SortedMap<String, IndexedArtifact> results;
+
+  private final String continuation;
+
+  public SearchPage(SortedMap<String, IndexedArtifact> results, String continuation) {
+    this.results = Collections.unmodifiableSortedMap(results);
+    this.continuation = continuation;
+  }
+
+  /**
+   * @return results of this page, keyed and sorted like the results of
+   *         {@link IIndex#search(SearchExpression, String, int)}
+   */
+  public SortedMap<String, IndexedArtifact> getResults() {
+    return results;
+  }
+
+  /**
+   * @return the continuation to pass to get the next page, or null if this is the last page
+   */
+  public String getContinuation() {
+    return continuation;
+  }
+
+  public boolean hasMore() {
+    return continuation != null;
+  }
+}
@@ -16,11 +16,16 @@ package org.eclipse.m2e.core.internal.index.filter;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.BiFunction;
+
+import com.google.common.cache.CacheBuilder;
 
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IStatus;
 
 import org.eclipse.m2e.core.embedder.ArtifactKey;
 import org.eclipse.m2e.core.internal.MavenPluginActivator;
@@ -28,6 +33,7 @@ import org.eclipse.m2e.core.internal.index.IIndex;
 import org.eclipse.m2e.core.internal.index.IndexedArtifact;
 import org.eclipse.m2e.core.internal.index.IndexedArtifactFile;
 import org.eclipse.m2e.core.internal.index.SearchExpression;
+import org.eclipse.m2e.core.internal.index.SearchPage;
 
 
 /**
@@ -37,13 +43,30 @@ import org.eclipse.m2e.core.internal.index.SearchExpression;
  */
 public class FilteredIndex implements IIndex {
 
+  private static final int MAXIMUM_DECISIONS = 10000;
+
   private final IIndex index;
 
   private final IProject project;
 
+  private final BiFunction<IProject, ArtifactKey, IStatus> artifactFilter;
+
+  /**
+   * Filter decisions by artifact. Filters only depend on the project and the artifact, so decisions stay valid for the
+   * lifetime of this index, which is expected to be replaced when the project changes. Searches over large indexes
+   * touch many artifacts, so only the most recent decisions are kept.
+   */
+  private final Map<ArtifactKey, Boolean> decisions = CacheBuilder.newBuilder().maximumSize(MAXIMUM_DECISIONS)
+      .<ArtifactKey, Boolean> build().asMap();
+
   public FilteredIndex(IProject project, IIndex index) {
+    this(project, index, (p, key) -> MavenPluginActivator.getDefault().getArifactFilterManager().filter(p, key));
+  }
+
+  FilteredIndex(IProject project, IIndex index, BiFunction<IProject, ArtifactKey, IStatus> artifactFilter) {
     this.project = project;
     this.index = index;
+    this.artifactFilter = artifactFilter;
   }
 
   @Override
@@ -70,14 +93,10 @@ public class FilteredIndex implements IIndex {
   }
 
   @Override
-  public Map<String, IndexedArtifact> search(SearchExpression expression, String searchType) throws CoreException {
-    return filter(index.search(expression, searchType));
-  }
-
-  @Override
-  public Map<String, IndexedArtifact> search(SearchExpression expression, String searchType, int classifier)
-      throws CoreException {
-    return filter(index.search(expression, searchType, classifier));
+  public SearchPage search(SearchExpression expression, String searchType, int classifier, int limit,
+      String continuation) throws CoreException {
+    SearchPage page = index.search(expression, searchType, classifier, limit, continuation);
+    return new SearchPage(filter(page.getResults()), page.getContinuation());
   }
 
   // filter methods
@@ -94,19 +113,28 @@ public class FilteredIndex implements IIndex {
   }
 
   protected IndexedArtifact filter(IndexedArtifact original) {
-    ArtifactFilterManager arifactFilterManager = MavenPluginActivator.getDefault().getArifactFilterManager();
+    if(original.getFiles().stream().allMatch(file -> isAccepted(file.getAdapter(ArtifactKey.class)))) {
+      return original;
+    }
     IndexedArtifact result = new IndexedArtifact(original.getGroupId(), original.getArtifactId(),
         original.getPackageName(), original.getClassname(), original.getPackaging());
     for(IndexedArtifactFile file : original.getFiles()) {
-      if(arifactFilterManager.filter(project, file.getAdapter(ArtifactKey.class)).isOK()) {
+      if(isAccepted(file.getAdapter(ArtifactKey.class))) {
         result.addFile(file);
       }
     }
     return result;
   }
 
-  private Map<String, IndexedArtifact> filter(Map<String, IndexedArtifact> original) {
-    LinkedHashMap<String, IndexedArtifact> result = new LinkedHashMap<>();
+  private boolean isAccepted(ArtifactKey key) {
+    if(key == null) {
+      return artifactFilter.apply(project, null).isOK();
+    }
+    return decisions.computeIfAbsent(key, k -> artifactFilter.apply(project, k).isOK());
+  }
+
+  private SortedMap<String, IndexedArtifact> filter(Map<String, IndexedArtifact> original) {
+    SortedMap<String, IndexedArtifact> result = new TreeMap<>();
     for(Map.Entry<String, IndexedArtifact> entry : original.entrySet()) {
       IndexedArtifact filtered = filter(entry.getValue());
       if(filtered != null && !filtered.getFiles().isEmpty()) {
@@ -21,27 +21,78 @@ import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.Status;
 
 import org.eclipse.m2e.core.embedder.ArtifactKey;
 import org.eclipse.m2e.core.internal.index.IIndex;
 import org.eclipse.m2e.core.internal.index.IndexedArtifact;
 import org.eclipse.m2e.core.internal.index.IndexedArtifactFile;
 import org.eclipse.m2e.core.internal.index.SearchExpression;
+import org.eclipse.m2e.core.internal.index.SearchPage;
 
 
 /**
  * CompositeIndex
+ * <p>
+ * Member indexes are searched concurrently and their results are merged in the order of the indexes. An index that does
+ * not answer a search within the timeout, for example because it is locked by an index update, is left out of the
+ * result. Exact lookups by artifact or file query the indexes one after another and wait for each of them.
  *
  * @author igor
  */
 public class CompositeIndex implements IIndex {
+  private static final Logger log = LoggerFactory.getLogger(CompositeIndex.class);
+
+  /**
+   * Default time in milliseconds to wait for the member indexes.
+   */
+  public static final long DEFAULT_TIMEOUT = 5000;
+
+  private static final int PARALLELISM = 8;
+
+  private static final ExecutorService executor;
+
+  static {
+    ThreadPoolExecutor pool = new ThreadPoolExecutor(PARALLELISM, PARALLELISM, 30, TimeUnit.SECONDS,
+        new LinkedBlockingQueue<>(), SearchThread::new);
+    pool.allowCoreThreadTimeOut(true);
+    executor = pool;
+  }
 
   private final List<IIndex> indexes;
 
+  private final long timeout;
+
+  /**
+   * Queries that timed out and are still running, by underlying index. Such indexes are skipped by all composites until
+   * the query completes, so a blocked index does not take up more than one search thread. Composites of different
+   * projects create their own {@link NexusIndex} instances, so these are tracked by repository.
+   */
+  private static final Map<Object, Future<?>> pending = new ConcurrentHashMap<>();
+
   public CompositeIndex(List<IIndex> indexes) {
+    this(indexes, DEFAULT_TIMEOUT);
+  }
+
+  /**
+   * @param timeout time in milliseconds to wait for the member indexes
+   */
+  public CompositeIndex(List<IIndex> indexes, long timeout) {
     this.indexes = indexes;
+    this.timeout = timeout;
   }
 
   @Override
@@ -83,8 +134,8 @@ public class CompositeIndex implements IIndex {
   public Collection<IndexedArtifact> find(SearchExpression groupId, SearchExpression artifactId,
       SearchExpression version, SearchExpression packaging) throws CoreException {
     Set<IndexedArtifact> result = new TreeSet<>();
-    for(IIndex index : indexes) {
-      Collection<IndexedArtifact> findResults = index.find(groupId, artifactId, version, packaging);
+    for(Collection<IndexedArtifact> findResults : query(
+        index -> index.find(groupId, artifactId, version, packaging))) {
       if(findResults != null) {
         result.addAll(findResults);
       }
@@ -98,8 +149,8 @@ public class CompositeIndex implements IIndex {
       Collection<SearchExpression> packaging) throws CoreException {
 
     Set<IndexedArtifact> result = new TreeSet<>();
-    for(IIndex index : indexes) {
-      Collection<IndexedArtifact> findResults = index.find(groupId, artifactId, version, packaging);
+    for(Collection<IndexedArtifact> findResults : query(
+        index -> index.find(groupId, artifactId, version, packaging))) {
       if(findResults != null) {
         result.addAll(findResults);
       }
@@ -108,28 +159,122 @@ public class CompositeIndex implements IIndex {
   }
 
   @Override
-  public Map<String, IndexedArtifact> search(SearchExpression term, String searchType) throws CoreException {
-    Map<String, IndexedArtifact> result = new TreeMap<>();
-    for(IIndex index : indexes) {
-      Map<String, IndexedArtifact> iresult = index.search(term, searchType);
-      if(iresult != null) {
-        result.putAll(iresult);
+  public SearchPage search(SearchExpression term, String searchType, int classifier, int limit, String continuation)
+      throws CoreException {
+    TreeMap<String, IndexedArtifact> result = new TreeMap<>();
+    // indexes only returned their artifacts up to their continuation, the merged page must stop at the first one
+    String next = null;
+    for(SearchPage page : query(index -> index.search(term, searchType, classifier, limit, continuation))) {
+      if(page != null) {
+        result.putAll(page.getResults());
+        if(page.hasMore() && (next == null || page.getContinuation().compareTo(next) < 0)) {
+          next = page.getContinuation();
+        }
       }
     }
-    return result;
+    if(result.size() > limit) {
+      while(result.size() > limit) {
+        result.pollLastEntry();
+      }
+      if(next == null || result.lastKey().compareTo(next) < 0) {
+        next = result.lastKey();
+      }
+    }
+    if(next != null) {
+      result.tailMap(next, false).clear();
+    }
+    return new SearchPage(result, next);
   }
 
-  @Override
-  public Map<String, IndexedArtifact> search(SearchExpression term, String searchType, int classifier)
-      throws CoreException {
-    Map<String, IndexedArtifact> result = new TreeMap<>();
+  @FunctionalInterface
+  private interface IndexQuery<T> {
+    T query(IIndex index) throws CoreException;
+  }
+
+  /**
+   * Runs the query against all indexes and returns their results in the order of the indexes. Results of indexes that
+   * did not answer in time, or are still busy with a query that did not, are null.
+   */
+  private <T> List<T> query(IndexQuery<T> query) throws CoreException {
+    List<T> results = new ArrayList<>(indexes.size());
+    if(indexes.size() < 2 || Thread.currentThread() instanceof SearchThread) {
+      // nothing to gain, or nested composite that would otherwise wait for its own pool
+      for(IIndex index : indexes) {
+        results.add(query.query(index));
+      }
+      return results;
+    }
+
+    List<Future<T>> futures = new ArrayList<>(indexes.size());
     for(IIndex index : indexes) {
-      Map<String, IndexedArtifact> iresult = index.search(term, searchType, classifier);
-      if(iresult != null) {
-        result.putAll(iresult);
+      futures.add(isPending(index) ? null : executor.submit(() -> query.query(index)));
+    }
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+    try {
+      for(int i = 0; i < futures.size(); i++ ) {
+        Future<T> future = futures.get(i);
+        T result = null;
+        if(future != null) {
+          try {
+            result = future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+          } catch(TimeoutException ex) {
+            log.warn("Index {} did not answer within {}ms, leaving it out of search results until it does", //$NON-NLS-1$
+                indexes.get(i), timeout);
+            pending.put(getKey(indexes.get(i)), future);
+            // keep it running, cancelling would mark it done while it still blocks a search thread
+            futures.set(i, null);
+          }
+        }
+        results.add(result);
+      }
+    } catch(ExecutionException ex) {
+      Throwable cause = ex.getCause();
+      if(cause instanceof CoreException) {
+        throw (CoreException) cause;
+      }
+      if(cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if(cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new IllegalStateException(cause);
+    } catch(InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new CoreException(Status.CANCEL_STATUS);
+    } finally {
+      for(Future<T> future : futures) {
+        if(future != null) {
+          // do not interrupt, lucene closes index files of interrupted threads
+          future.cancel(false);
+        }
       }
     }
-    return result;
+    return results;
+  }
+
+  private static boolean isPending(IIndex index) {
+    Object key = getKey(index);
+    Future<?> future = pending.get(key);
+    if(future == null) {
+      return false;
+    }
+    if(future.isDone()) {
+      pending.remove(key, future);
+      return false;
+    }
+    log.debug("Index {} is still busy with a previous query, skipping it", index); //$NON-NLS-1$
+    return true;
+  }
+
+  private static Object getKey(IIndex index) {
+    return index instanceof NexusIndex ? ((NexusIndex) index).getRepository().getUid() : index;
   }
 
+  private static class SearchThread extends Thread {
+    SearchThread(Runnable runnable) {
+      super(runnable, "M2E index search"); //$NON-NLS-1$
+      setDaemon(true);
+    }
+  }
 }
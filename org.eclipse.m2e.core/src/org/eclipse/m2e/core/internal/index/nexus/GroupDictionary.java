@@ -0,0 +1,70 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *      Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.index.nexus;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+
+/**
+ * Immutable sorted dictionary of the groupIds of an index. Groups starting with a prefix are found by binary search
+ * instead of testing every group of the index.
+ */
+class GroupDictionary {
+
+  private final String[] groups;
+
+  GroupDictionary(Collection<String> groups) {
+    this.groups = groups.toArray(new String[groups.size()]);
+    Arrays.sort(this.groups);
+  }
+
+  int size() {
+    return groups.length;
+  }
+
+  /**
+   * Returns the sorted groups starting with the given prefix, all groups if the prefix is null.
+   */
+  List<String> getGroups(String prefix) {
+    List<String> all = Arrays.asList(groups);
+    if(prefix == null || prefix.isEmpty()) {
+      return all;
+    }
+    // groups starting with the prefix form a contiguous range, starting at the first group not less than the prefix
+    int from = firstIndex(prefix, false);
+    int to = firstIndex(prefix, true);
+    return all.subList(from, Math.max(from, to));
+  }
+
+  /**
+   * Returns the index of the first group not less than the prefix, or, if {@code skipPrefixed}, the index of the first
+   * group that is neither less than the prefix nor starts with it.
+   */
+  private int firstIndex(String prefix, boolean skipPrefixed) {
+    int low = 0;
+    int high = groups.length;
+    while(low < high) {
+      int mid = (low + high) >>> 1;
+      String group = groups[mid];
+      if(group.compareTo(prefix) < 0 || skipPrefixed && group.startsWith(prefix)) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+}
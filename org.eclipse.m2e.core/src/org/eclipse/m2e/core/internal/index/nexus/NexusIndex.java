@@ -16,7 +16,6 @@ package org.eclipse.m2e.core.internal.index.nexus;
 import java.io.File;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Map;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -32,6 +31,7 @@ import org.eclipse.m2e.core.internal.index.IMutableIndex;
 import org.eclipse.m2e.core.internal.index.IndexedArtifact;
 import org.eclipse.m2e.core.internal.index.IndexedArtifactFile;
 import org.eclipse.m2e.core.internal.index.SearchExpression;
+import org.eclipse.m2e.core.internal.index.SearchPage;
 import org.eclipse.m2e.core.repository.IRepository;
 
 
@@ -178,13 +178,13 @@ public class NexusIndex implements IMutableIndex {
   }
 
   @Override
-  public Map<String, IndexedArtifact> search(SearchExpression term, String searchType) throws CoreException {
-    return indexManager.search(getRepository(), term, searchType);
+  public SearchPage search(SearchExpression term, String searchType, int classifier, int limit, String continuation)
+      throws CoreException {
+    return indexManager.search(getRepository(), term, searchType, classifier, limit, continuation);
   }
 
   @Override
-  public Map<String, IndexedArtifact> search(SearchExpression term, String searchType, int classifier)
-      throws CoreException {
-    return indexManager.search(getRepository(), term, searchType, classifier);
+  public String toString() {
+    return "NexusIndex[" + repository.getUid() + "]"; //$NON-NLS-1$ //$NON-NLS-2$
   }
 }
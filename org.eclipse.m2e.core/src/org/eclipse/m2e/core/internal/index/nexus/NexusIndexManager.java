@@ -34,6 +34,7 @@ import java.util.Properties;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -99,7 +100,9 @@ import org.eclipse.m2e.core.internal.index.IndexedArtifactFile;
 import org.eclipse.m2e.core.internal.index.MatchTyped;
 import org.eclipse.m2e.core.internal.index.MatchTyped.MatchType;
 import org.eclipse.m2e.core.internal.index.SearchExpression;
+import org.eclipse.m2e.core.internal.index.SearchPage;
 import org.eclipse.m2e.core.internal.index.SourcedSearchExpression;
+import org.eclipse.m2e.core.internal.index.filter.FilteredIndex;
 import org.eclipse.m2e.core.internal.index.nexus.IndexUpdaterJob.IndexCommand;
 import org.eclipse.m2e.core.internal.repository.IRepositoryIndexer;
 import org.eclipse.m2e.core.project.IMavenProjectChangedListener;
@@ -173,6 +176,22 @@ public class NexusIndexManager implements IndexManager, IMavenProjectChangedList
    */
   private final Map<String, Object> indexLocks = new WeakHashMap<>();
 
+  /**
+   * Sorted groups of repository indexes, keyed by repository UID. Entries are built on first group search and dropped
+   * whenever the index changes.
+   */
+  private final Map<String, GroupDictionary> groupDictionaries = new ConcurrentHashMap<>();
+
+  /**
+   * Indexes of the repositories of each project, dropped when the project or the repositories change.
+   */
+  private final Map<IProject, ProjectIndexes> projectIndexes = new ConcurrentHashMap<>();
+
+  /**
+   * Indexes of the repositories defined in settings.xml, used for projects that are not Maven projects.
+   */
+  private volatile ProjectIndexes settingsIndexes;
+
   private final PlexusContainer container;
 
   public NexusIndexManager(PlexusContainer container, IMavenProjectRegistry projectManager,
@@ -365,6 +384,14 @@ public class NexusIndexManager implements IndexManager, IMavenProjectChangedList
    */
   protected Map<String, IndexedArtifact> search(IRepository repository, SearchExpression term, String type,
       int classifier) throws CoreException {
+    return search(repository, term, type, classifier, Integer.MAX_VALUE, null).getResults();
+  }
+
+  /**
+   * Searches a page of artifacts, see {@link IIndex#search(SearchExpression, String, int, int, String)}.
+   */
+  protected SearchPage search(IRepository repository, SearchExpression term, String type, int classifier, int limit,
+      String continuation) throws CoreException {
     Query query;
     if(IIndex.SEARCH_GROUP.equals(type)) {
       query = constructQuery(MAVEN.GROUP_ID, term);
@@ -429,34 +456,39 @@ public class NexusIndexManager implements IndexManager, IMavenProjectChangedList
       query = constructQuery(MAVEN.SHA1, term.getStringValue(), term.getStringValue().length() == 40 ? SearchType.EXACT
           : SearchType.SCORED);
     } else {
-      return Collections.emptyMap();
+      return new SearchPage(new TreeMap<>(), null);
     }
 
-    Map<String, IndexedArtifact> result = new TreeMap<>();
+    SearchResultCollector result = new SearchResultCollector(limit, continuation);
 
     try {
-      IteratorSearchResponse response;
-
       synchronized(getIndexLock(repository)) {
         IndexingContext context = getIndexingContext(repository);
-        if(context == null) {
-          response = getIndexer().searchIterator(new IteratorSearchRequest(query));
-        } else {
-          response = getIndexer().searchIterator(new IteratorSearchRequest(query, context));
-        }
-
-        for(ArtifactInfo artifactInfo : response.getResults()) {
-          addArtifactFile(result, getIndexedArtifactFile(artifactInfo), null, null, artifactInfo.getPackaging());
+        IteratorSearchRequest request = context == null ? new IteratorSearchRequest(query)
+            : new IteratorSearchRequest(query, context);
+        try (IteratorSearchResponse response = getIndexer().searchIterator(request)) {
+          for(ArtifactInfo artifactInfo : response.getResults()) {
+            // only hits of artifacts on the page are converted
+            String key = getArtifactFileKey(artifactInfo.getGroupId(), artifactInfo.getArtifactId(), null, null);
+            IndexedArtifact indexedArtifact = result.get(key, () -> new IndexedArtifact(artifactInfo.getGroupId(),
+                artifactInfo.getArtifactId(), null, null, artifactInfo.getPackaging()));
+            if(indexedArtifact != null) {
+              indexedArtifact.addFile(getIndexedArtifactFile(artifactInfo));
+            }
+          }
         }
+      }
 
-        // https://issues.sonatype.org/browse/MNGECLIPSE-1630
-        // lucene can't handle prefix queries that match many index entries.
-        // to workaround, use term query to locate group artifacts and manually
-        // match subgroups
-        if(IIndex.SEARCH_GROUP.equals(type) && context != null) {
-          Set<String> groups = context.getAllGroups();
-          for(String group : groups) {
-            if(term == null || group.startsWith(term.getStringValue()) && !group.equals(term.getStringValue())) {
+      // https://issues.sonatype.org/browse/MNGECLIPSE-1630
+      // lucene can't handle prefix queries that match many index entries.
+      // to workaround, use term query to locate group artifacts and manually
+      // match subgroups
+      if(IIndex.SEARCH_GROUP.equals(type)) {
+        GroupDictionary groups = getGroupDictionary(repository);
+        if(groups != null) {
+          String prefix = term == null ? null : term.getStringValue();
+          for(String group : groups.getGroups(prefix)) {
+            if(!group.equals(prefix)) {
               String key = getArtifactFileKey(group, group, null, null);
               result.put(key, new IndexedArtifact(group, group, null, null, null));
             }
@@ -468,7 +500,38 @@ public class NexusIndexManager implements IndexManager, IMavenProjectChangedList
           Messages.NexusIndexManager_error_search, ex));
     }
 
-    return result;
+    return result.toPage();
+  }
+
+  /**
+   * Returns the group dictionary of the repository index, reading the groups of the index if the index changed since
+   * the dictionary was last built. Returns null if the repository has no index.
+   */
+  private GroupDictionary getGroupDictionary(IRepository repository) throws IOException {
+    if(repository == null) {
+      return null;
+    }
+    GroupDictionary groups = groupDictionaries.get(repository.getUid());
+    if(groups == null) {
+      synchronized(getIndexLock(repository)) {
+        groups = groupDictionaries.get(repository.getUid());
+        if(groups == null) {
+          IndexingContext context = getIndexingContext(repository);
+          if(context == null) {
+            return null;
+          }
+          groups = new GroupDictionary(context.getAllGroups());
+          groupDictionaries.put(repository.getUid(), groups);
+        }
+      }
+    }
+    return groups;
+  }
+
+  private void invalidateGroupDictionary(IRepository repository) {
+    if(repository != null) {
+      groupDictionaries.remove(repository.getUid());
+    }
   }
 
   /**
@@ -611,6 +674,7 @@ public class NexusIndexManager implements IndexManager, IMavenProjectChangedList
           artifactContext = getArtifactContext(file, context);
         }
         getIndexer().addArtifactToIndex(artifactContext, context);
+        invalidateGroupDictionary(repository);
       } catch(Exception ex) {
         String msg = "Unable to add " + getDocumentKey(key);
         log.error(msg, ex);
@@ -650,6 +714,7 @@ public class NexusIndexManager implements IndexManager, IMavenProjectChangedList
           artifactContext = getArtifactContext(file, context);
         }
         getIndexer().deleteArtifactFromIndex(artifactContext, context);
+        invalidateGroupDictionary(repository);
       } catch(Exception ex) {
         String msg = "Unable to remove " + getDocumentKey(key);
         log.error(msg, ex);
@@ -768,6 +833,10 @@ public class NexusIndexManager implements IndexManager, IMavenProjectChangedList
      * This method is called while holding workspace lock. Avoid long-running operations if possible.
      */
 
+    for(MavenProjectChangedEvent event : events) {
+      projectIndexes.remove(event.getSource().getProject());
+    }
+
     synchronized(getIndexLock(repositoryRegistry.getWorkspaceRepository())) {
       IndexingContext context = getIndexingContext(repositoryRegistry.getWorkspaceRepository());
 
@@ -812,8 +881,30 @@ public class NexusIndexManager implements IndexManager, IMavenProjectChangedList
 
   @Override
   public IIndex getIndex(IProject project) {
+    return getProjectIndexes(project).index;
+  }
+
+  @Override
+  public IIndex getFilteredIndex(IProject project) {
+    return getProjectIndexes(project).filteredIndex;
+  }
+
+  private ProjectIndexes getProjectIndexes(IProject project) {
     IMavenProjectFacade projectFacade = project != null ? projectManager.getProject(project) : null;
+    if(project == null) {
+      ProjectIndexes indexes = settingsIndexes;
+      if(indexes == null) {
+        indexes = new ProjectIndexes(null, null, createIndex(null));
+        settingsIndexes = indexes;
+      }
+      return indexes;
+    }
+    // the facade check catches project changes racing with the change event
+    return projectIndexes.compute(project, (p, indexes) -> indexes != null && indexes.facade == projectFacade
+        ? indexes : new ProjectIndexes(p, projectFacade, createIndex(projectFacade)));
+  }
 
+  private CompositeIndex createIndex(IMavenProjectFacade projectFacade) {
     ArrayList<IIndex> indexes = new ArrayList<>();
     indexes.add(getWorkspaceIndex());
     indexes.add(getLocalIndex());
@@ -838,6 +929,11 @@ public class NexusIndexManager implements IndexManager, IMavenProjectChangedList
     return new CompositeIndex(indexes);
   }
 
+  private void invalidateProjectIndexes() {
+    projectIndexes.clear();
+    settingsIndexes = null;
+  }
+
   @Override
   public IIndex getAllIndexes() {
     ArrayList<IIndex> indexes = new ArrayList<>();
@@ -900,6 +996,8 @@ public class NexusIndexManager implements IndexManager, IMavenProjectChangedList
 
   @Override
   public void repositoryAdded(IRepository repository, IProgressMonitor monitor) throws CoreException {
+    invalidateProjectIndexes();
+
     String details = getIndexDetails(repository);
 
     // for consistency, always process indexes using our background thread
@@ -979,6 +1077,9 @@ public class NexusIndexManager implements IndexManager, IMavenProjectChangedList
         this.localIndex = newLocalIndex(repositoryRegistry.getLocalRepository());
       }
     }
+
+    // cached project indexes refer to the previous index details
+    invalidateProjectIndexes();
   }
 
   protected IndexingContext createIndexingContext(IRepository repository) throws IOException {
@@ -1009,6 +1110,8 @@ public class NexusIndexManager implements IndexManager, IMavenProjectChangedList
 
   @Override
   public void repositoryRemoved(IRepository repository, IProgressMonitor monitor) {
+    invalidateProjectIndexes();
+
     synchronized(getIndexLock(repository)) {
       try {
         IndexingContext context = getIndexingContext(repository);
@@ -1026,6 +1129,7 @@ public class NexusIndexManager implements IndexManager, IMavenProjectChangedList
   }
 
   protected void fireIndexAdded(IRepository repository) {
+    invalidateGroupDictionary(repository);
     synchronized(indexListeners) {
       for(IndexListener listener : indexListeners) {
         listener.indexAdded(repository);
@@ -1034,6 +1138,7 @@ public class NexusIndexManager implements IndexManager, IMavenProjectChangedList
   }
 
   protected void fireIndexRemoved(IRepository repository) {
+    invalidateGroupDictionary(repository);
     synchronized(updatingIndexes) {
       if(repository != null) {
         //since workspace index can be null at startup, guard against nulls
@@ -1071,6 +1176,7 @@ public class NexusIndexManager implements IndexManager, IMavenProjectChangedList
     if(repository == null) {
       return;
     }
+    invalidateGroupDictionary(repository);
     synchronized(updatingIndexes) {
       updatingIndexes.remove(repository.getUid());
     }
@@ -1340,4 +1446,18 @@ public class NexusIndexManager implements IndexManager, IMavenProjectChangedList
       throw new NoSuchComponentException(ex);
     }
   }
+
+  private static class ProjectIndexes {
+    final IMavenProjectFacade facade;
+
+    final CompositeIndex index;
+
+    final FilteredIndex filteredIndex;
+
+    ProjectIndexes(IProject project, IMavenProjectFacade facade, CompositeIndex index) {
+      this.facade = facade;
+      this.index = index;
+      this.filteredIndex = new FilteredIndex(project, index);
+    }
+  }
 }
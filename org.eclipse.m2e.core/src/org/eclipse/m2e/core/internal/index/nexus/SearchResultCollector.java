@@ -0,0 +1,86 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *      Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.index.nexus;
+
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+import org.eclipse.m2e.core.internal.index.IndexedArtifact;
+import org.eclipse.m2e.core.internal.index.SearchPage;
+
+
+/**
+ * Collects a page of grouped search results. Index hits come in relevance order, the collector keeps the first
+ * {@code limit} artifact keys in lexical order that follow the continuation and drops everything else without
+ * creating result objects for it.
+ */
+class SearchResultCollector {
+
+  private final int limit;
+
+  private final String continuation;
+
+  private final TreeMap<String, IndexedArtifact> results = new TreeMap<>();
+
+  private boolean more;
+
+  SearchResultCollector(int limit, String continuation) {
+    if(limit <= 0) {
+      throw new IllegalArgumentException("limit must be positive: " + limit); //$NON-NLS-1$
+    }
+    this.limit = limit;
+    this.continuation = continuation;
+  }
+
+  /**
+   * Returns the artifact collected for the given key, creating it if needed, or null if the key is not part of the
+   * page.
+   */
+  IndexedArtifact get(String key, Supplier<IndexedArtifact> factory) {
+    IndexedArtifact artifact = results.get(key);
+    if(artifact == null && makeRoom(key)) {
+      artifact = factory.get();
+      results.put(key, artifact);
+    }
+    return artifact;
+  }
+
+  /**
+   * Replaces the artifact collected for the given key, if the key is part of the page.
+   */
+  void put(String key, IndexedArtifact artifact) {
+    if(results.containsKey(key) || makeRoom(key)) {
+      results.put(key, artifact);
+    }
+  }
+
+  SearchPage toPage() {
+    return new SearchPage(results, more ? results.lastKey() : null);
+  }
+
+  private boolean makeRoom(String key) {
+    if(continuation != null && key.compareTo(continuation) <= 0) {
+      return false;
+    }
+    if(results.size() < limit) {
+      return true;
+    }
+    more = true;
+    if(key.compareTo(results.lastKey()) > 0) {
+      return false;
+    }
+    results.pollLastEntry();
+    return true;
+  }
+}
@@ -80,4 +80,23 @@ public interface IMavenMarkerManager {
   void addErrorMarkers(IResource resource, String type, List<MavenProblemInfo> problems) throws CoreException;
 
   void addErrorMarker(IResource resource, String type, MavenProblemInfo problem);
+
+  /**
+   * Replaces all Maven markers of the specified type (including subtypes) on a resource with the markers added through
+   * the marker manager passed to the updater. Existing markers that are added again are kept, remaining markers are
+   * deleted, and all changes are applied in a single workspace operation.
+   *
+   * @since 1.18
+   */
+  void updateMarkers(IResource resource, String type, IMarkerUpdater updater) throws CoreException;
+
+  /**
+   * Adds the desired markers of a {@link IMavenMarkerManager#updateMarkers(IResource, String, IMarkerUpdater)} call.
+   *
+   * @since 1.18
+   */
+  @FunctionalInterface
+  interface IMarkerUpdater {
+    void update(IMavenMarkerManager markerManager) throws CoreException;
+  }
 }
@@ -0,0 +1,163 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *      Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.markers;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.CoreException;
+
+
+/**
+ * Tracks the markers of one type on one resource while they are being updated. Existing markers are read once and
+ * indexed by message, line, severity and transient flag, so duplicate checks don't have to query the resource for each
+ * added marker. Markers that were not added again during the session are stale and deleted by
+ * {@link #deleteStaleMarkers()}, unless the session only adds markers.
+ */
+class MarkerSession {
+
+  private final IResource resource;
+
+  private final String type;
+
+  private final boolean replace;
+
+  private Map<MarkerKey, Deque<IMarker>> existingMarkers;
+
+  private final List<IMarker> existingSubtypeMarkers = new ArrayList<>();
+
+  private final Map<MarkerKey, IMarker> sessionMarkers = new HashMap<>();
+
+  MarkerSession(IResource resource, String type, boolean replace) {
+    this.resource = resource;
+    this.type = type;
+    this.replace = replace;
+  }
+
+  /**
+   * @return true if markers of the given type on the given resource are managed by this session
+   */
+  boolean isManaged(IResource resource, String type) {
+    return this.resource.equals(resource) && this.type.equals(type);
+  }
+
+  /**
+   * Returns the marker with the given attributes, either added before during this session or already existing on the
+   * resource, or creates a new one. An existing marker loses all other attributes of the problem it was created for,
+   * callers set them again.
+   */
+  IMarker getOrCreateMarker(String message, int lineNumber, int severity, boolean isTransient) throws CoreException {
+    MarkerKey key = new MarkerKey(message, lineNumber, severity, isTransient);
+    IMarker marker = sessionMarkers.get(key);
+    if(marker != null) {
+      return marker;
+    }
+    Map<String, Object> attributes = new HashMap<>();
+    attributes.put(IMarker.MESSAGE, message);
+    attributes.put(IMarker.SEVERITY, severity);
+    attributes.put(IMarker.TRANSIENT, isTransient);
+    attributes.put(IMarker.LINE_NUMBER, lineNumber);
+    Deque<IMarker> existing = getExistingMarkers().get(key);
+    if(existing != null && !existing.isEmpty()) {
+      marker = existing.poll();
+    } else {
+      marker = resource.createMarker(type);
+    }
+    marker.setAttributes(attributes);
+    sessionMarkers.put(key, marker);
+    return marker;
+  }
+
+  /**
+   * Deletes markers that existed before the session and were not added again.
+   */
+  void deleteStaleMarkers() throws CoreException {
+    if(!replace) {
+      return;
+    }
+    List<IMarker> staleMarkers = new ArrayList<>();
+    if(existingMarkers == null) {
+      for(IMarker marker : resource.findMarkers(type, true /*includeSubtypes*/, IResource.DEPTH_INFINITE)) {
+        staleMarkers.add(marker);
+      }
+    } else {
+      existingMarkers.values().forEach(staleMarkers::addAll);
+      staleMarkers.addAll(existingSubtypeMarkers);
+    }
+    if(!staleMarkers.isEmpty()) {
+      resource.getWorkspace().deleteMarkers(staleMarkers.toArray(new IMarker[staleMarkers.size()]));
+    }
+  }
+
+  private Map<MarkerKey, Deque<IMarker>> getExistingMarkers() throws CoreException {
+    if(existingMarkers == null) {
+      existingMarkers = new HashMap<>();
+      IMarker[] markers = replace ? resource.findMarkers(type, true /*includeSubtypes*/, IResource.DEPTH_INFINITE)
+          : resource.findMarkers(type, false /*includeSubtypes*/, IResource.DEPTH_ZERO);
+      for(IMarker marker : markers) {
+        if(!type.equals(marker.getType())) {
+          existingSubtypeMarkers.add(marker); // markers of subtypes are never reused
+          continue;
+        }
+        MarkerKey key = new MarkerKey(marker.getAttribute(IMarker.MESSAGE),
+            marker.getAttribute(IMarker.LINE_NUMBER), marker.getAttribute(IMarker.SEVERITY),
+            marker.getAttribute(IMarker.TRANSIENT));
+        existingMarkers.computeIfAbsent(key, k -> new ArrayDeque<>()).add(marker);
+      }
+    }
+    return existingMarkers;
+  }
+
+  private static class MarkerKey {
+    private final Object message;
+
+    private final Object lineNumber;
+
+    private final Object severity;
+
+    private final Object isTransient;
+
+    MarkerKey(Object message, Object lineNumber, Object severity, Object isTransient) {
+      this.message = message;
+      this.lineNumber = lineNumber;
+      this.severity = severity;
+      this.isTransient = isTransient;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(message, lineNumber, severity, isTransient);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if(this == obj) {
+        return true;
+      }
+      if(!(obj instanceof MarkerKey)) {
+        return false;
+      }
+      MarkerKey other = (MarkerKey) obj;
+      return Objects.equals(message, other.message) && Objects.equals(lineNumber, other.lineNumber)
+          && Objects.equals(severity, other.severity) && Objects.equals(isTransient, other.isTransient);
+    }
+  }
+}
@@ -26,6 +26,9 @@ import com.google.common.base.Throwables;
 
 import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.IWorkspaceRunnable;
+import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.osgi.util.NLS;
@@ -53,8 +56,36 @@ public class MavenMarkerManager implements IMavenMarkerManager {
 
   private final IMavenConfiguration mavenConfiguration;
 
+  /**
+   * Session markers are added to, or null if markers are added to resources directly.
+   */
+  private final MarkerSession session;
+
   public MavenMarkerManager(IMavenConfiguration mavenConfiguration) {
+    this(mavenConfiguration, null);
+  }
+
+  private MavenMarkerManager(IMavenConfiguration mavenConfiguration, MarkerSession session) {
     this.mavenConfiguration = mavenConfiguration;
+    this.session = session;
+  }
+
+  @Override
+  public void updateMarkers(IResource resource, String type, IMarkerUpdater updater) throws CoreException {
+    if(resource == null || !resource.isAccessible()) {
+      updater.update(this);
+      return;
+    }
+    runInSession(new MarkerSession(resource, type, true /*replace*/), updater);
+  }
+
+  private void runInSession(MarkerSession markerSession, IMarkerUpdater updater) throws CoreException {
+    IWorkspaceRunnable runnable = monitor -> {
+      updater.update(new MavenMarkerManager(mavenConfiguration, markerSession));
+      markerSession.deleteStaleMarkers();
+    };
+    ResourcesPlugin.getWorkspace().run(runnable, null /*markers need no scheduling rule*/, IWorkspace.AVOID_UPDATE,
+        null);
   }
 
   @Override
@@ -99,6 +130,12 @@ public class MavenMarkerManager implements IMavenMarkerManager {
           lineNumber = 1;
         }
 
+        if(session != null && session.isManaged(resource, type)) {
+          marker = session.getOrCreateMarker(message, lineNumber, severity, isTransient);
+          log.debug("Added marker '{}' on resource '{}'.", message, resource.getFullPath());
+          return marker;
+        }
+
         //mkleint: this strongly smells like some sort of workaround for a problem with bad marker cleanup.
         //adding is adding and as such shall always be performed.
         marker = findMarker(resource, type, message, lineNumber, severity, isTransient);
@@ -312,6 +349,16 @@ public class MavenMarkerManager implements IMavenMarkerManager {
 
   @Override
   public void addErrorMarkers(IResource resource, String type, List<MavenProblemInfo> problems) {
+    if(session == null && problems.size() > 1 && resource != null && resource.isAccessible()) {
+      // batch duplicate checks and resource deltas of many markers
+      try {
+        runInSession(new MarkerSession(resource, type, false /*replace*/),
+            markerManager -> markerManager.addErrorMarkers(resource, type, problems));
+        return;
+      } catch(CoreException ex) {
+        log.error("Unable to add markers; " + ex.toString(), ex); //$NON-NLS-1$
+      }
+    }
     for(MavenProblemInfo problem : problems) {
       addErrorMarker(resource, type, problem);
     }
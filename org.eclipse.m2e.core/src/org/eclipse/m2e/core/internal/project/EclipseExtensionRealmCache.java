@@ -14,11 +14,16 @@
 package org.eclipse.m2e.core.internal.project;
 
 import java.io.File;
+import java.util.List;
 import java.util.Set;
 
 import javax.inject.Singleton;
 
+import org.codehaus.plexus.classworlds.realm.ClassRealm;
+
+import org.apache.maven.artifact.Artifact;
 import org.apache.maven.plugin.DefaultExtensionRealmCache;
+import org.apache.maven.project.ExtensionDescriptor;
 import org.apache.maven.project.MavenProject;
 
 import org.eclipse.m2e.core.embedder.ArtifactKey;
@@ -41,6 +46,17 @@ public class EclipseExtensionRealmCache extends DefaultExtensionRealmCache imple
     }
   };
 
+  @Override
+  public CacheRecord get(Key key) {
+    return plunger.acquire(key, () -> super.get(key));
+  }
+
+  @Override
+  public CacheRecord put(Key key, ClassRealm extensionRealm, ExtensionDescriptor extensionDescriptor,
+      List<Artifact> artifacts) {
+    return plunger.acquire(key, () -> super.put(key, extensionRealm, extensionDescriptor, artifacts));
+  }
+
   @Override
   public void register(MavenProject project, Key key, CacheRecord record) {
     plunger.register(project, key);
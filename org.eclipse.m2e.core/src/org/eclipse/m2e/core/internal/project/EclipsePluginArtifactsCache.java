@@ -14,11 +14,14 @@
 package org.eclipse.m2e.core.internal.project;
 
 import java.io.File;
+import java.util.List;
 import java.util.Set;
 
 import javax.inject.Singleton;
 
+import org.apache.maven.artifact.Artifact;
 import org.apache.maven.plugin.DefaultPluginArtifactsCache;
+import org.apache.maven.plugin.PluginResolutionException;
 import org.apache.maven.project.MavenProject;
 
 import org.eclipse.m2e.core.embedder.ArtifactKey;
@@ -34,6 +37,27 @@ public class EclipsePluginArtifactsCache extends DefaultPluginArtifactsCache imp
     }
   };
 
+  @Override
+  public CacheRecord get(Key key) throws PluginResolutionException {
+    CacheRecord record = plunger.acquire(key, () -> cache.get(key));
+    if(record != null && record.getException() != null) {
+      // Maven does not register projects for failed lookups
+      plunger.release(key);
+      throw record.getException();
+    }
+    return record;
+  }
+
+  @Override
+  public CacheRecord put(Key key, List<Artifact> pluginArtifacts) {
+    return plunger.acquire(key, () -> super.put(key, pluginArtifacts));
+  }
+
+  @Override
+  public CacheRecord put(Key key, PluginResolutionException exception) {
+    return plunger.acquire(key, () -> super.put(key, exception));
+  }
+
   @Override
   public void register(MavenProject project, Key cacheKey, CacheRecord record) {
     plunger.register(project, cacheKey);
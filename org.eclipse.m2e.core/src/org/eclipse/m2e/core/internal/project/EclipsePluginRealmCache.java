@@ -14,10 +14,21 @@
 package org.eclipse.m2e.core.internal.project;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import javax.inject.Singleton;
 
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.graph.DependencyFilter;
+import org.eclipse.aether.repository.RemoteRepository;
+
+import org.codehaus.plexus.classworlds.realm.ClassRealm;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.model.Plugin;
 import org.apache.maven.plugin.DefaultPluginRealmCache;
 import org.apache.maven.project.MavenProject;
 
@@ -25,6 +36,10 @@ import org.eclipse.m2e.core.embedder.ArtifactKey;
 
 
 /**
+ * Plugin realms are keyed by canonical remote repositories, so projects that only differ in the order or policies of
+ * their repositories share realms. Realms no open workspace project is registered for are disposed once they were not
+ * used for a while, see {@link RealmCachePolicy}.
+ *
  * @since 1.6
  */
 @Singleton
@@ -33,13 +48,48 @@ public class EclipsePluginRealmCache extends DefaultPluginRealmCache implements
 
   private final ProjectCachePlunger<Key> plunger = new ProjectCachePlunger<>() {
     protected void flush(Key cacheKey) {
-      CacheRecord cacheRecord = cache.remove(cacheKey);
-      if(cacheRecord != null) {
-        disposeClassRealm(cacheRecord.getRealm());
-      }
+      dispose(cacheKey);
     }
   };
 
+  private final RealmCachePolicy<Key> policy;
+
+  public EclipsePluginRealmCache() {
+    this(new RealmCachePolicy<>());
+  }
+
+  EclipsePluginRealmCache(RealmCachePolicy<Key> policy) {
+    this.policy = policy;
+  }
+
+  @Override
+  public Key createKey(Plugin plugin, ClassLoader parentRealm, Map<String, ClassLoader> foreignImports,
+      DependencyFilter dependencyFilter, List<RemoteRepository> repositories, RepositorySystemSession session) {
+    return super.createKey(plugin, parentRealm, foreignImports, dependencyFilter,
+        RealmCachePolicy.canonicalize(repositories), session);
+  }
+
+  @Override
+  public CacheRecord get(Key key) {
+    return plunger.acquire(key, () -> {
+      CacheRecord record = super.get(key);
+      policy.accessed(key, record != null);
+      return record;
+    });
+  }
+
+  @Override
+  public CacheRecord put(Key key, ClassRealm pluginRealm, List<Artifact> pluginArtifacts) {
+    for(Key expired : policy.getExpired(plunger::getProjects)) {
+      plunger.expire(expired, projects -> policy.isIdle(expired, projects));
+    }
+    return plunger.acquire(key, () -> {
+      CacheRecord record = super.put(key, pluginRealm, pluginArtifacts);
+      policy.added(key);
+      return record;
+    });
+  }
+
   @Override
   public void register(MavenProject project, Key cacheKey, CacheRecord record) {
     plunger.register(project, cacheKey);
@@ -54,6 +104,24 @@ public class EclipsePluginRealmCache extends DefaultPluginRealmCache implements
   public void flush() {
     super.flush();
     plunger.flush();
+    policy.clear();
   }
 
+  /**
+   * Reports realm count, jar size, hit ratio and number of expired realms.
+   */
+  @Override
+  public String toString() {
+    List<ClassRealm> realms = new ArrayList<>();
+    cache.values().forEach(record -> realms.add(record.getRealm()));
+    return getClass().getSimpleName() + "[" + policy.getStatistics(realms) + "]"; //$NON-NLS-1$ //$NON-NLS-2$
+  }
+
+  private void dispose(Key cacheKey) {
+    policy.removed(cacheKey);
+    CacheRecord cacheRecord = cache.remove(cacheKey);
+    if(cacheRecord != null) {
+      plunger.disposeClassRealm(cacheRecord.getRealm());
+    }
+  }
 }
@@ -14,10 +14,16 @@
 package org.eclipse.m2e.core.internal.project;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
 import javax.inject.Singleton;
 
+import org.eclipse.aether.graph.DependencyFilter;
+
+import org.codehaus.plexus.classworlds.realm.ClassRealm;
+
 import org.apache.maven.project.DefaultProjectRealmCache;
 import org.apache.maven.project.MavenProject;
 
@@ -25,6 +31,9 @@ import org.eclipse.m2e.core.embedder.ArtifactKey;
 
 
 /**
+ * Project realms stay referenced by cached {@link MavenProject} instances, so only realms no open workspace project
+ * is registered for expire, see {@link RealmCachePolicy}.
+ *
  * @since 1.6
  */
 @Singleton
@@ -33,13 +42,41 @@ public class EclipseProjectRealmCache extends DefaultProjectRealmCache implement
 
   private final ProjectCachePlunger<Key> plunger = new ProjectCachePlunger<>() {
     protected void flush(Key cacheKey) {
-      CacheRecord cacheRecord = cache.remove(cacheKey);
-      if(cacheRecord != null) {
-        disposeClassRealm(cacheRecord.getRealm());
-      }
+      dispose(cacheKey);
     }
   };
 
+  private final RealmCachePolicy<Key> policy;
+
+  public EclipseProjectRealmCache() {
+    this(new RealmCachePolicy<>());
+  }
+
+  EclipseProjectRealmCache(RealmCachePolicy<Key> policy) {
+    this.policy = policy;
+  }
+
+  @Override
+  public CacheRecord get(Key key) {
+    return plunger.acquire(key, () -> {
+      CacheRecord record = super.get(key);
+      policy.accessed(key, record != null);
+      return record;
+    });
+  }
+
+  @Override
+  public CacheRecord put(Key key, ClassRealm projectRealm, DependencyFilter extensionArtifactFilter) {
+    for(Key expired : policy.getExpired(plunger::getProjects)) {
+      plunger.expire(expired, projects -> policy.isIdle(expired, projects));
+    }
+    return plunger.acquire(key, () -> {
+      CacheRecord record = super.put(key, projectRealm, extensionArtifactFilter);
+      policy.added(key);
+      return record;
+    });
+  }
+
   @Override
   public void register(MavenProject project, Key key, CacheRecord record) {
     plunger.register(project, key);
@@ -54,6 +91,24 @@ public class EclipseProjectRealmCache extends DefaultProjectRealmCache implement
   public void flush() {
     super.flush();
     plunger.flush();
+    policy.clear();
   }
 
+  /**
+   * Reports realm count, jar size, hit ratio and number of expired realms.
+   */
+  @Override
+  public String toString() {
+    List<ClassRealm> realms = new ArrayList<>();
+    cache.values().forEach(record -> realms.add(record.getRealm()));
+    return getClass().getSimpleName() + "[" + policy.getStatistics(realms) + "]"; //$NON-NLS-1$ //$NON-NLS-2$
+  }
+
+  private void dispose(Key cacheKey) {
+    policy.removed(cacheKey);
+    CacheRecord cacheRecord = cache.remove(cacheKey);
+    if(cacheRecord != null) {
+      plunger.disposeClassRealm(cacheRecord.getRealm());
+    }
+  }
 }
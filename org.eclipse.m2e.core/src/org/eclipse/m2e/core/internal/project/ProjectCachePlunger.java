@@ -14,15 +14,19 @@
 package org.eclipse.m2e.core.internal.project;
 
 import java.io.File;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.google.common.collect.HashMultimap;
-import com.google.common.collect.Multimap;
-
 import org.eclipse.aether.RepositorySystemSession;
 import org.eclipse.aether.repository.RepositoryPolicy;
 
@@ -35,22 +39,71 @@ import org.eclipse.m2e.core.internal.embedder.MavenExecutionContext;
 
 
 /**
+ * Tracks which workspace projects use which cache entries and flushes entries no longer used by any project.
+ * <p>
+ * The set of projects registered for a cache key acts as its reference count. It is only changed atomically per key,
+ * and a key is flushed within the same atomic operation that released its last reference, so different projects can
+ * be registered and removed concurrently without flushing an entry that is still referenced or leaking one that is
+ * not. Registration and removal of the same project must not overlap.
+ * <p>
+ * Maven looks up or creates a cache entry before it registers the project it needs the entry for. Entries
+ * {@link #acquire(Object, Supplier) acquired} that way are referenced until the next registration of their key, so
+ * removal of other projects does not flush them in between.
+ *
  * @since 1.6
  */
 abstract class ProjectCachePlunger<Key> {
 
   private final Logger log = LoggerFactory.getLogger(getClass());
 
-  final Multimap<File, Key> projectKeys = HashMultimap.create();
+  final ConcurrentMap<File, Set<Key>> projectKeys = new ConcurrentHashMap<>();
+
+  final ConcurrentMap<Key, Set<File>> keyProjects = new ConcurrentHashMap<>();
+
+  /**
+   * Number of acquired entries per cache key whose project is not registered yet. Only changed while computing the
+   * key in {@link #keyProjects}.
+   */
+  final ConcurrentMap<Key, Integer> leases = new ConcurrentHashMap<>();
+
+  /**
+   * Looks up or creates the cache entry of the given key and references it until the next registration of the key.
+   *
+   * @param access returns the cache entry, or null if there is none
+   */
+  public <R> R acquire(Key cacheKey, Supplier<R> access) {
+    AtomicReference<R> result = new AtomicReference<>();
+    keyProjects.compute(cacheKey, (key, files) -> {
+      R entry = access.get();
+      if(entry != null) {
+        leases.merge(key, 1, Integer::sum);
+      }
+      result.set(entry);
+      return files;
+    });
+    return result.get();
+  }
 
-  final Multimap<Key, File> keyProjects = HashMultimap.create();
+  /**
+   * Drops the reference of an acquired entry no project is going to be registered for.
+   */
+  public void release(Key cacheKey) {
+    keyProjects.compute(cacheKey, (key, files) -> {
+      releaseLease(key);
+      return files;
+    });
+  }
 
   public void register(MavenProject project, Key cacheKey) {
     // project.file is null for parent pom.xml resolved from repositories
     File file = project.getFile();
+    // reference the key before releasing the acquired entry, so concurrent removal of other projects cannot flush it
+    keyProjects.compute(cacheKey, (key, files) -> {
+      releaseLease(key);
+      return file != null ? add(files, file) : files;
+    });
     if(file != null) {
-      projectKeys.put(file, cacheKey);
-      keyProjects.put(cacheKey, file);
+      projectKeys.compute(file, (pom, keys) -> add(keys, cacheKey));
     }
   }
 
@@ -62,25 +115,83 @@ abstract class ProjectCachePlunger<Key> {
     }
     final Set<File> affectedProjects = new HashSet<>();
 
-    for(Key cacheKey : projectKeys.removeAll(pom)) {
-      keyProjects.remove(cacheKey, pom);
-      if(forceDependencyUpdate && RepositoryPolicy.UPDATE_POLICY_ALWAYS.equals(session.getUpdatePolicy())
-          && session.getCache().get(session, cacheKey) == null) {
+    Set<Key> keys = projectKeys.remove(pom);
+    if(keys == null) {
+      return affectedProjects;
+    }
+    for(Key cacheKey : keys) {
+      boolean forceUpdate = forceDependencyUpdate
+          && RepositoryPolicy.UPDATE_POLICY_ALWAYS.equals(session.getUpdatePolicy())
+          && session.getCache().get(session, cacheKey) == null;
+      if(forceUpdate) {
         session.getCache().put(session, cacheKey, Boolean.TRUE);
-        for(File affectedPom : keyProjects.removeAll(cacheKey)) {
-          affectedProjects.add(affectedPom);
-          projectKeys.remove(affectedPom, cacheKey);
-        }
-      }
-      if(!keyProjects.containsKey(cacheKey)) {
-        flush(cacheKey);
-        log.debug("Flushed cache entry for {}", cacheKey);
       }
+      keyProjects.compute(cacheKey, (key, files) -> {
+        if(files != null) {
+          files.remove(pom);
+          if(forceUpdate) {
+            for(File affectedPom : files) {
+              affectedProjects.add(affectedPom);
+              projectKeys.computeIfPresent(affectedPom, (p, affectedKeys) -> remove(affectedKeys, key));
+            }
+            files.clear();
+          }
+          if(!files.isEmpty()) {
+            return files;
+          }
+        }
+        if(forceUpdate) {
+          leases.remove(key);
+        } else if(leases.containsKey(key)) {
+          // acquired for a project that is about to be registered
+          return null;
+        }
+        flush(key);
+        log.debug("Flushed cache entry for {}", key);
+        return null;
+      });
     }
 
     return affectedProjects;
   }
 
+  /**
+   * @return poms of the projects registered for the given cache key
+   */
+  public Set<File> getProjects(Key cacheKey) {
+    Set<File> projects = new HashSet<>();
+    keyProjects.computeIfPresent(cacheKey, (key, files) -> {
+      projects.addAll(files);
+      return files;
+    });
+    return projects;
+  }
+
+  /**
+   * Flushes the given cache key and drops its registrations if the entry is still expired. Acquisitions of the key
+   * cannot interleave with the check.
+   *
+   * @param expired tells whether the entry is expired, given the projects registered for it
+   * @return true if the key was flushed
+   */
+  public boolean expire(Key cacheKey, Predicate<Set<File>> expired) {
+    AtomicBoolean flushed = new AtomicBoolean();
+    keyProjects.compute(cacheKey, (key, files) -> {
+      Set<File> projects = files != null ? files : Collections.emptySet();
+      if(!expired.test(projects)) {
+        return files;
+      }
+      for(File pom : projects) {
+        projectKeys.computeIfPresent(pom, (p, keys) -> remove(keys, key));
+      }
+      leases.remove(key);
+      flush(key);
+      flushed.set(true);
+      return null;
+    });
+    return flushed.get();
+  }
+
   protected void disposeClassRealm(ClassRealm realm) {
     try {
       realm.getWorld().disposeRealm(realm.getId());
@@ -94,5 +205,21 @@ abstract class ProjectCachePlunger<Key> {
   public void flush() {
     projectKeys.clear();
     keyProjects.clear();
+    leases.clear();
+  }
+
+  private void releaseLease(Key key) {
+    leases.computeIfPresent(key, (k, count) -> count > 1 ? count - 1 : null);
+  }
+
+  private static <T> Set<T> add(Set<T> set, T element) {
+    Set<T> result = set != null ? set : new HashSet<>();
+    result.add(element);
+    return result;
+  }
+
+  private static <T> Set<T> remove(Set<T> set, T element) {
+    set.remove(element);
+    return set.isEmpty() ? null : set;
   }
 }
@@ -0,0 +1,227 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *      Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.project;
+
+import java.io.File;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.aether.repository.RemoteRepository;
+
+import org.codehaus.plexus.classworlds.realm.ClassRealm;
+
+
+/**
+ * Bounds the lifetime of cached class realms and collects statistics about them. Realms not used for
+ * {@link #IDLE_TIMEOUT} expire, and so do the least recently used ones once more than {@link #MAXIMUM_SIZE} realms are
+ * cached. Realms registered for an open workspace project never expire, as builds of that project use them for as
+ * long as they run. Realms only registered for closed or deleted projects, or for poms outside of the workspace, expire
+ * like unregistered ones. {@link #MINIMUM_IDLE_TIME} protects realms that were just created or looked up.
+ *
+ * @since 1.18
+ */
+class RealmCachePolicy<Key> {
+
+  static final long IDLE_TIMEOUT = TimeUnit.MINUTES.toMillis(30);
+
+  static final long MINIMUM_IDLE_TIME = TimeUnit.MINUTES.toMillis(1);
+
+  static final int MAXIMUM_SIZE = 100;
+
+  private final Map<Key, Long> lastAccess = new ConcurrentHashMap<>();
+
+  private final AtomicLong hits = new AtomicLong();
+
+  private final AtomicLong misses = new AtomicLong();
+
+  private final AtomicLong expired = new AtomicLong();
+
+  private final LongSupplier clock;
+
+  private final long idleTimeout;
+
+  private final long minimumIdleTime;
+
+  private final int maximumSize;
+
+  private final Predicate<File> openProject;
+
+  RealmCachePolicy() {
+    this(System::currentTimeMillis, IDLE_TIMEOUT, MINIMUM_IDLE_TIME, MAXIMUM_SIZE,
+        RealmCachePolicy::isOpenWorkspaceProject);
+  }
+
+  /**
+   * @param openProject tells whether a registered pom belongs to an open workspace project
+   */
+  RealmCachePolicy(LongSupplier clock, long idleTimeout, long minimumIdleTime, int maximumSize,
+      Predicate<File> openProject) {
+    this.clock = clock;
+    this.idleTimeout = idleTimeout;
+    this.minimumIdleTime = minimumIdleTime;
+    this.maximumSize = maximumSize;
+    this.openProject = openProject;
+  }
+
+  /**
+   * Records a cache lookup.
+   */
+  void accessed(Key key, boolean hit) {
+    if(hit) {
+      hits.incrementAndGet();
+      lastAccess.put(key, clock.getAsLong());
+    } else {
+      misses.incrementAndGet();
+    }
+  }
+
+  /**
+   * Records a realm added to the cache.
+   */
+  void added(Key key) {
+    lastAccess.put(key, clock.getAsLong());
+  }
+
+  /**
+   * Records a realm removed from the cache.
+   */
+  void removed(Key key) {
+    lastAccess.remove(key);
+  }
+
+  void clear() {
+    lastAccess.clear();
+  }
+
+  /**
+   * Returns keys of expired realms, least recently used first. The caller is expected to dispose the realms that are
+   * still {@link #isIdle(Object, Set) idle}, drop their registrations and report them as {@link #removed(Object)}.
+   *
+   * @param registeredProjects returns the poms a realm is registered for
+   */
+  List<Key> getExpired(Function<Key, Set<File>> registeredProjects) {
+    long now = clock.getAsLong();
+    List<Map.Entry<Key, Long>> idle = new ArrayList<>();
+    for(Map.Entry<Key, Long> entry : lastAccess.entrySet()) {
+      if(now - entry.getValue() >= minimumIdleTime && !isInUse(registeredProjects.apply(entry.getKey()))) {
+        idle.add(entry);
+      }
+    }
+    idle.sort(Map.Entry.comparingByValue());
+    int excess = lastAccess.size() - maximumSize;
+    List<Key> result = new ArrayList<>();
+    for(Map.Entry<Key, Long> entry : idle) {
+      if(excess > 0 || now - entry.getValue() >= idleTimeout) {
+        result.add(entry.getKey());
+        excess-- ;
+      }
+    }
+    expired.addAndGet(result.size());
+    return result;
+  }
+
+  /**
+   * @return true if the realm was not used for the minimum idle time and none of the given registered poms belongs to
+   *         an open workspace project
+   */
+  boolean isIdle(Key key, Set<File> registeredProjects) {
+    Long last = lastAccess.get(key);
+    return last != null && clock.getAsLong() - last >= minimumIdleTime && !isInUse(registeredProjects);
+  }
+
+  private boolean isInUse(Set<File> poms) {
+    for(File pom : poms) {
+      if(openProject.test(pom)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean isOpenWorkspaceProject(File pom) {
+    try {
+      for(IFile file : ResourcesPlugin.getWorkspace().getRoot().findFilesForLocationURI(pom.toURI())) {
+        if(file.isAccessible()) {
+          return true;
+        }
+      }
+      return false;
+    } catch(IllegalStateException ex) {
+      // workspace is closed, keep the realm
+      return true;
+    }
+  }
+
+  /**
+   * @return hits divided by lookups, or 0 if there were no lookups yet
+   */
+  double getHitRatio() {
+    long h = hits.get();
+    long lookups = h + misses.get();
+    return lookups > 0 ? (double) h / lookups : 0;
+  }
+
+  long getExpiredCount() {
+    return expired.get();
+  }
+
+  /**
+   * Returns statistics of the given cached realms. Realm heap usage cannot be measured, the size of the jars on the
+   * realm classpath is reported as an indication instead.
+   */
+  String getStatistics(Collection<ClassRealm> realms) {
+    long jarBytes = 0;
+    for(ClassRealm realm : realms) {
+      for(URL url : realm.getURLs()) {
+        if("file".equals(url.getProtocol())) { //$NON-NLS-1$
+          jarBytes += new File(url.getPath()).length();
+        }
+      }
+    }
+    return "realms=" + realms.size() + ", jarBytes=" + jarBytes + ", hits=" + hits.get() + ", misses=" + misses.get()
+        + String.format(", hitRatio=%.2f", getHitRatio()) + ", expired=" + expired.get();
+  }
+
+  /**
+   * Returns repositories that identify the same remote locations as the given ones, independent of order, duplicates,
+   * policies and authentication. Cache keys built from canonical repositories let equivalent plugin classpaths share
+   * one realm.
+   */
+  static List<RemoteRepository> canonicalize(List<RemoteRepository> repositories) {
+    if(repositories == null) {
+      return null;
+    }
+    Map<String, RemoteRepository> canonical = new TreeMap<>();
+    for(RemoteRepository repository : repositories) {
+      canonical.computeIfAbsent(repository.getId() + '@' + repository.getUrl(),
+          k -> new RemoteRepository.Builder(repository.getId(), repository.getContentType(), repository.getUrl())
+              .build());
+    }
+    return new ArrayList<>(canonical.values());
+  }
+}
@@ -15,6 +15,9 @@ package org.eclipse.m2e.core.internal.project;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,11 +30,15 @@ import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.QualifiedName;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
 
 import org.apache.maven.project.MavenProject;
 
 import org.eclipse.m2e.core.embedder.ArtifactKey;
+import org.eclipse.m2e.core.internal.Messages;
 import org.eclipse.m2e.core.internal.project.registry.MavenProjectManager;
 import org.eclipse.m2e.core.project.IMavenProjectChangedListener;
 import org.eclipse.m2e.core.project.IMavenProjectFacade;
@@ -41,81 +48,151 @@ import org.eclipse.m2e.workspace.MutableWorkspaceState;
 
 /**
  * Maintains map file of maven artifacts present in workspace.
+ * <p>
+ * The whole registry is read once, afterwards only the entries of projects named in change events are updated. The
+ * file is written by a background job, so bursts of events during a workspace refresh result in a single write.
  */
 public class WorkspaceStateWriter implements IMavenProjectChangedListener {
   private static QualifiedName PPROP_EXTENSION = new QualifiedName(WorkspaceStateWriter.class.getName(), "extension"); //$NON-NLS-1$
 
   private static final Logger log = LoggerFactory.getLogger(WorkspaceStateWriter.class);
 
-  private final MavenProjectManager projectManager;
+  private static final long WRITE_DELAY = 500L;
+
+  private final Supplier<IMavenProjectFacade[]> projects;
+
+  private final File stateFile;
+
+  private final Job writeJob;
+
+  private final long writeDelay;
+
+  /**
+   * Workspace state entries keyed by project pom, {@code null} until the registry was read for the first time.
+   */
+  private Map<IFile, ProjectEntry> entries;
+
+  private boolean dirty;
+
+  private int writeCount;
 
   public WorkspaceStateWriter(MavenProjectManager projectManager) {
-    this.projectManager = projectManager;
+    this(projectManager::getProjects, projectManager.getWorkspaceStateFile(), WRITE_DELAY);
+  }
+
+  /**
+   * @param writeDelay milliseconds to wait for further changes before the state file is written
+   */
+  WorkspaceStateWriter(Supplier<IMavenProjectFacade[]> projects, File stateFile, long writeDelay) {
+    this.projects = projects;
+    this.stateFile = stateFile;
+    this.writeDelay = writeDelay;
+    this.writeJob = new Job(Messages.WorkspaceStateWriter_title) {
+      @Override
+      protected IStatus run(IProgressMonitor monitor) {
+        write();
+        return Status.OK_STATUS;
+      }
+    };
+    this.writeJob.setSystem(true);
   }
 
   @Override
   public void mavenProjectChanged(MavenProjectChangedEvent[] events, IProgressMonitor monitor) {
-    try {
-      MutableWorkspaceState state = new MutableWorkspaceState();
-
-      IWorkspaceRoot root = ResourcesPlugin.getWorkspace().getRoot();
-      for(IMavenProjectFacade projectFacade : projectManager.getProjects()) {
-        IProject project = projectFacade.getProject();
-        if(!project.isAccessible()) {
-          log.debug("Project registry contains closed project {}", project);
-          // this is actually a bug somewhere in registry refresh logic, closed projects should not be there
-          continue;
+    synchronized(this) {
+      if(entries == null) {
+        entries = new LinkedHashMap<>();
+        for(IMavenProjectFacade projectFacade : projects.get()) {
+          update(projectFacade.getPom(), projectFacade, monitor);
         }
-        try {
-          ArtifactKey artifact = projectFacade.getArtifactKey();
-          IFile pomFile = projectFacade.getPom();
-          IPath location = pomFile.getLocation();
-          if(location != null) {
-            File pom = location.toFile();
-            if(pom.canRead()) {
-              state.putPom(pom, artifact.getGroupId(), artifact.getArtifactId(), artifact.getVersion());
-            }
-          }
-          IResource outputLocation = root.findMember(projectFacade.getOutputLocation());
-          if(!"pom".equals(projectFacade.getPackaging()) && outputLocation != null && outputLocation.exists()) { //$NON-NLS-1$
-            // three cases to consider
-            // 1. facade has cached MavenProject instance, i.e. it was refreshed during this eclipse session
-            // 2. project has persistent PPROP_EXTENSION
-            // 3. neither cached MavenProject instance nor PPROP_EXTENSION are present
-            String extension;
-            MavenProject mavenProject = projectFacade.getMavenProject();
-            if(mavenProject != null) {
-              extension = getAndPersistArtifactExtension(project, mavenProject);
-            } else {
-              extension = project.getPersistentProperty(PPROP_EXTENSION);
-            }
-            if(extension == null && mavenProject == null) {
-              // force loading of MavenProject
-              extension = getAndPersistArtifactExtension(project, projectFacade.getMavenProject(monitor));
-            }
-            if(extension != null) {
-              String classifier = artifact.getClassifier();
-              if(classifier == null) {
-                classifier = "";
-              }
-              state.putArtifact(outputLocation.getLocation().toFile(), artifact.getGroupId(), artifact.getArtifactId(),
-                  extension, classifier, artifact.getVersion());
-            } else {
-              log.warn("Could not determine project {} main artifact extension.", project);
-            }
-          }
-          // assume test output location gets attached as classified=tests
-          IResource testOutputLocation = root.findMember(projectFacade.getTestOutputLocation());
-          if(!"pom".equals(projectFacade.getPackaging()) && testOutputLocation != null && testOutputLocation.exists()) {
-            state.putArtifact(testOutputLocation.getLocation().toFile(), artifact.getGroupId(),
-                artifact.getArtifactId(), "jar", "tests", artifact.getVersion());
-          }
-        } catch(CoreException ex) {
-          log.error("Error writing workspace state file", ex);
+      } else {
+        for(MavenProjectChangedEvent event : events) {
+          update(event.getSource(), event.getMavenProject(), monitor);
         }
       }
+      dirty = true;
+    }
+    // does nothing if the job is already waiting, which coalesces bursts of events into one write
+    writeJob.schedule(writeDelay);
+  }
+
+  /**
+   * Writes pending changes of the workspace state to the state file immediately.
+   */
+  public void flush() {
+    writeJob.cancel();
+    write();
+  }
+
+  /**
+   * @return number of times the workspace state file was written
+   */
+  synchronized int getWriteCount() {
+    return writeCount;
+  }
+
+  private void update(IFile pom, IMavenProjectFacade projectFacade, IProgressMonitor monitor) {
+    if(projectFacade == null) {
+      entries.remove(pom);
+      return;
+    }
+    IProject project = projectFacade.getProject();
+    if(!project.isAccessible()) {
+      log.debug("Project registry contains closed project {}", project);
+      // this is actually a bug somewhere in registry refresh logic, closed projects should not be there
+      entries.remove(pom);
+      return;
+    }
+    try {
+      entries.put(pom, new ProjectEntry(projectFacade, getArtifactExtension(projectFacade, monitor)));
+    } catch(CoreException ex) {
+      log.error("Error writing workspace state file", ex);
+    }
+  }
+
+  private String getArtifactExtension(IMavenProjectFacade projectFacade, IProgressMonitor monitor)
+      throws CoreException {
+    if("pom".equals(projectFacade.getPackaging())) { //$NON-NLS-1$
+      return null;
+    }
+    // three cases to consider
+    // 1. facade has cached MavenProject instance, i.e. it was refreshed during this eclipse session
+    // 2. project has persistent PPROP_EXTENSION
+    // 3. neither cached MavenProject instance nor PPROP_EXTENSION are present
+    IProject project = projectFacade.getProject();
+    MavenProject mavenProject = projectFacade.getMavenProject();
+    if(mavenProject != null) {
+      return getAndPersistArtifactExtension(project, mavenProject);
+    }
+    String extension = project.getPersistentProperty(PPROP_EXTENSION);
+    if(extension == null && exists(projectFacade.getOutputLocation())) {
+      // force loading of MavenProject
+      extension = getAndPersistArtifactExtension(project, projectFacade.getMavenProject(monitor));
+    }
+    return extension;
+  }
 
-      state.store(projectManager.getWorkspaceStateFile());
+  private static boolean exists(IPath path) {
+    if(path == null) {
+      return false;
+    }
+    IResource resource = ResourcesPlugin.getWorkspace().getRoot().findMember(path);
+    return resource != null && resource.exists();
+  }
+
+  private synchronized void write() {
+    if(!dirty) {
+      return;
+    }
+    dirty = false;
+    MutableWorkspaceState state = new MutableWorkspaceState();
+    IWorkspaceRoot root = ResourcesPlugin.getWorkspace().getRoot();
+    for(ProjectEntry entry : entries.values()) {
+      entry.store(state, root);
+    }
+    try {
+      state.store(stateFile);
+      writeCount++ ;
     } catch(IOException ex) {
       log.error("Error writing workspace state file", ex);
     }
@@ -123,7 +200,68 @@ public class WorkspaceStateWriter implements IMavenProjectChangedListener {
 
   private String getAndPersistArtifactExtension(IProject project, MavenProject mavenProject) throws CoreException {
     String extension = mavenProject.getArtifact().getArtifactHandler().getExtension();
-    project.setPersistentProperty(PPROP_EXTENSION, extension);
+    if(!extension.equals(project.getPersistentProperty(PPROP_EXTENSION))) {
+      project.setPersistentProperty(PPROP_EXTENSION, extension);
+    }
     return extension;
   }
+
+  /**
+   * Workspace state relevant data of one project, captured when the project changed. Output folders are looked up
+   * when the state file is written, as they may be created after the project was refreshed.
+   */
+  private static class ProjectEntry {
+    private final IProject project;
+
+    private final ArtifactKey artifact;
+
+    private final File pom;
+
+    private final String packaging;
+
+    private final IPath outputLocation;
+
+    private final IPath testOutputLocation;
+
+    private final String extension;
+
+    ProjectEntry(IMavenProjectFacade projectFacade, String extension) {
+      this.project = projectFacade.getProject();
+      this.artifact = projectFacade.getArtifactKey();
+      IPath location = projectFacade.getPom().getLocation();
+      this.pom = location != null ? location.toFile() : null;
+      this.packaging = projectFacade.getPackaging();
+      this.outputLocation = projectFacade.getOutputLocation();
+      this.testOutputLocation = projectFacade.getTestOutputLocation();
+      this.extension = extension;
+    }
+
+    void store(MutableWorkspaceState state, IWorkspaceRoot root) {
+      if(pom != null && pom.canRead()) {
+        state.putPom(pom, artifact.getGroupId(), artifact.getArtifactId(), artifact.getVersion());
+      }
+      if("pom".equals(packaging)) { //$NON-NLS-1$
+        return;
+      }
+      IResource outputLocation = this.outputLocation != null ? root.findMember(this.outputLocation) : null;
+      if(outputLocation != null && outputLocation.exists()) {
+        if(extension != null) {
+          String classifier = artifact.getClassifier();
+          if(classifier == null) {
+            classifier = "";
+          }
+          state.putArtifact(outputLocation.getLocation().toFile(), artifact.getGroupId(), artifact.getArtifactId(),
+              extension, classifier, artifact.getVersion());
+        } else {
+          log.warn("Could not determine project {} main artifact extension.", project);
+        }
+      }
+      // assume test output location gets attached as classified=tests
+      IResource testOutputLocation = this.testOutputLocation != null ? root.findMember(this.testOutputLocation) : null;
+      if(testOutputLocation != null && testOutputLocation.exists()) {
+        state.putArtifact(testOutputLocation.getLocation().toFile(), artifact.getGroupId(), artifact.getArtifactId(),
+            "jar", "tests", artifact.getVersion());
+      }
+    }
+  }
 }
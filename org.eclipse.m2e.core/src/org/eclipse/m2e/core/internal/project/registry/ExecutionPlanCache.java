@@ -0,0 +1,205 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *      Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.project.registry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+
+import org.eclipse.core.runtime.CoreException;
+
+import org.codehaus.plexus.util.xml.Xpp3Dom;
+
+import org.apache.maven.artifact.ArtifactUtils;
+import org.apache.maven.artifact.repository.ArtifactRepository;
+import org.apache.maven.model.Dependency;
+import org.apache.maven.model.Extension;
+import org.apache.maven.model.Plugin;
+import org.apache.maven.model.PluginExecution;
+import org.apache.maven.model.Profile;
+import org.apache.maven.plugin.MojoExecution;
+import org.apache.maven.project.MavenProject;
+
+
+/**
+ * Content-keyed cache of calculated lifecycle execution plans. Modules of the same reactor usually inherit identical
+ * build plugin configuration from a shared parent, in which case they get identical execution plans. The cache key is
+ * derived from the effective build plugins and extensions, packaging, active profiles and plugin repositories of the
+ * project, so sibling modules with the same build configuration share one calculated plan.
+ * <p>
+ * Cached plans are templates, every lookup returns fresh {@link MojoExecution} instances bound to the
+ * {@link Plugin} model of the requesting project.
+ * <p>
+ * Plans of projects using SNAPSHOT plugins or extensions are dropped by {@link #invalidateSnapshots()}, as the plugin
+ * may have been rebuilt since the plan was calculated.
+ *
+ * @since 1.18
+ */
+class ExecutionPlanCache {
+
+  private static final int MAXIMUM_SIZE = 200;
+
+  private static final String SNAPSHOT_KEY = "\nsnapshot\n"; //$NON-NLS-1$
+
+  private final Cache<String, List<MojoExecution>> plans = CacheBuilder.newBuilder().maximumSize(MAXIMUM_SIZE)
+      .recordStats().build();
+
+  interface PlanCalculator {
+    List<MojoExecution> calculate() throws CoreException;
+  }
+
+  /**
+   * Returns the execution plan of the given lifecycle for the given project, calculating it with the provided
+   * calculator if no project with equivalent build configuration was seen before. Plans that could not be calculated
+   * are not cached.
+   */
+  List<MojoExecution> get(MavenProject project, String lifecycle, PlanCalculator calculator) throws CoreException {
+    String key = lifecycle + '\n' + getBuildKey(project);
+    List<MojoExecution> plan;
+    try {
+      plan = plans.get(key, () -> {
+        List<MojoExecution> calculated = calculator.calculate();
+        if(calculated == null) {
+          throw new PlanNotAvailableException();
+        }
+        return calculated;
+      });
+    } catch(ExecutionException ex) {
+      if(ex.getCause() instanceof CoreException) {
+        throw (CoreException) ex.getCause();
+      }
+      if(ex.getCause() instanceof PlanNotAvailableException) {
+        return null;
+      }
+      throw new IllegalStateException(ex.getCause());
+    }
+    return copy(project, plan);
+  }
+
+  void invalidateAll() {
+    plans.invalidateAll();
+  }
+
+  /**
+   * Drops the plans of projects that use SNAPSHOT plugins or extensions.
+   */
+  void invalidateSnapshots() {
+    plans.asMap().keySet().removeIf(key -> key.contains(SNAPSHOT_KEY));
+  }
+
+  /**
+   * @return number of execution plans served from the cache
+   */
+  long getReusedCount() {
+    return plans.stats().hitCount();
+  }
+
+  /**
+   * @return number of execution plans calculated by Maven
+   */
+  long getComputedCount() {
+    return plans.stats().loadSuccessCount();
+  }
+
+  @Override
+  public String toString() {
+    CacheStats stats = plans.stats();
+    return "ExecutionPlanCache[size=" + plans.size() + ", reused=" + stats.hitCount() + ", computed="
+        + stats.loadSuccessCount() + ", failed=" + stats.loadExceptionCount() + "]";
+  }
+
+  private static List<MojoExecution> copy(MavenProject project, List<MojoExecution> plan) {
+    List<MojoExecution> result = new ArrayList<>(plan.size());
+    for(MojoExecution execution : plan) {
+      Plugin plugin = project.getPlugin(execution.getPlugin().getKey());
+      MojoExecution copy = new MojoExecution(plugin != null ? plugin : execution.getPlugin(), execution.getGoal(),
+          execution.getExecutionId());
+      copy.setMojoDescriptor(execution.getMojoDescriptor());
+      if(execution.getConfiguration() != null) {
+        copy.setConfiguration(new Xpp3Dom(execution.getConfiguration()));
+      }
+      copy.setLifecyclePhase(execution.getLifecyclePhase());
+      result.add(copy);
+    }
+    return result;
+  }
+
+  static String getBuildKey(MavenProject project) {
+    StringBuilder sb = new StringBuilder();
+    if(usesSnapshots(project)) {
+      sb.append(SNAPSHOT_KEY, 1, SNAPSHOT_KEY.length());
+    }
+    sb.append("packaging=").append(project.getPackaging()).append('\n');
+    for(Profile profile : project.getActiveProfiles()) {
+      sb.append("profile=").append(profile.getId()).append('\n');
+    }
+    if(project.getPluginArtifactRepositories() != null) {
+      for(ArtifactRepository repository : project.getPluginArtifactRepositories()) {
+        sb.append("pluginRepository=").append(repository.getId()).append('@').append(repository.getUrl())
+            .append('\n');
+      }
+    }
+    for(Extension extension : project.getBuildExtensions()) {
+      sb.append("extension=").append(extension.getGroupId()).append(':').append(extension.getArtifactId())
+          .append(':').append(extension.getVersion()).append('\n');
+    }
+    for(Plugin plugin : project.getBuildPlugins()) {
+      sb.append("plugin=").append(plugin.getId()).append(" extensions=").append(plugin.getExtensions())
+          .append(" inherited=").append(plugin.getInherited()).append('\n');
+      appendConfiguration(sb, plugin.getConfiguration());
+      for(Dependency dependency : plugin.getDependencies()) {
+        sb.append(" dependency=").append(dependency.getManagementKey()).append(':').append(dependency.getVersion())
+            .append('\n');
+      }
+      for(PluginExecution execution : plugin.getExecutions()) {
+        sb.append(" execution=").append(execution.getId()).append(" phase=").append(execution.getPhase())
+            .append(" priority=").append(execution.getPriority()).append(" goals=").append(execution.getGoals())
+            .append('\n');
+        appendConfiguration(sb, execution.getConfiguration());
+      }
+    }
+    return sb.toString();
+  }
+
+  private static boolean usesSnapshots(MavenProject project) {
+    for(Extension extension : project.getBuildExtensions()) {
+      if(ArtifactUtils.isSnapshot(extension.getVersion())) {
+        return true;
+      }
+    }
+    for(Plugin plugin : project.getBuildPlugins()) {
+      if(ArtifactUtils.isSnapshot(plugin.getVersion())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static void appendConfiguration(StringBuilder sb, Object configuration) {
+    if(configuration != null) {
+      sb.append(" configuration=").append(configuration).append('\n');
+    }
+  }
+
+  /**
+   * Signals a plan that could not be calculated, such plans are not cached.
+   */
+  private static class PlanNotAvailableException extends Exception {
+    private static final long serialVersionUID = 1L;
+  }
+}
@@ -49,7 +49,7 @@ import org.eclipse.m2e.core.project.configurator.MojoExecutionKey;
 
 public class MavenProjectFacade implements IMavenProjectFacade, Serializable {
 
-  private static final long serialVersionUID = -3648172776786224087L;
+  private static final long serialVersionUID = 5486314307670313046L;
 
   private static final String CTX_EXECUTION_PLANS = MavenProjectFacade.class.getName() + "/executionPlans";
 
@@ -72,6 +72,8 @@ public class MavenProjectFacade implements IMavenProjectFacade, Serializable {
   // cached values from mavenProject
   private final ArtifactKey artifactKey;
 
+  private final ArtifactKey parentArtifactKey;
+
   private final List<String> modules;
 
   private final String packaging;
@@ -115,6 +117,9 @@ public class MavenProjectFacade implements IMavenProjectFacade, Serializable {
     this.resolverConfiguration = resolverConfiguration;
 
     this.artifactKey = new ArtifactKey(mavenProject.getArtifact());
+    this.parentArtifactKey = mavenProject.getParentArtifact() != null
+        ? new ArtifactKey(mavenProject.getParentArtifact())
+        : null;
     this.packaging = mavenProject.getPackaging();
     this.modules = mavenProject.getModules();
 
@@ -165,6 +170,7 @@ public class MavenProjectFacade implements IMavenProjectFacade, Serializable {
     this.resolverConfiguration = other.resolverConfiguration;
 
     this.artifactKey = other.artifactKey;
+    this.parentArtifactKey = other.parentArtifactKey;
     this.packaging = other.packaging;
     this.modules = new ArrayList<>(other.modules);
 
@@ -347,6 +353,11 @@ public class MavenProjectFacade implements IMavenProjectFacade, Serializable {
     return artifactKey;
   }
 
+  @Override
+  public ArtifactKey getParentArtifactKey() {
+    return parentArtifactKey;
+  }
+
   @Override
   public synchronized void setSessionProperty(String key, Object value) {
     if(sessionProperties == null) {
@@ -403,18 +414,27 @@ public class MavenProjectFacade implements IMavenProjectFacade, Serializable {
 
   /**
    * Maps LIFECYCLE_* to corresponding mojo executions. The mojo executions are not fully setup and cannot be executed
-   * directly.
+   * directly. Execution plans are calculated lazily, only for the lifecycles that were requested.
    */
   private Map<String, List<MojoExecution>> getExecutionPlans(IProgressMonitor monitor) throws CoreException {
     MavenProject mavenProject = getMavenProject(monitor);
     Map<String, List<MojoExecution>> executionPlans = getContextValue(mavenProject, CTX_EXECUTION_PLANS);
     if(executionPlans == null) {
-      executionPlans = manager.calculateExecutionPlans(pom, mavenProject, monitor);
+      executionPlans = new LinkedHashMap<>();
       mavenProject.setContextValue(CTX_EXECUTION_PLANS, executionPlans);
     }
     return executionPlans;
   }
 
+  private List<MojoExecution> getExecutionPlan(Map<String, List<MojoExecution>> executionPlans, String lifecycle,
+      IProgressMonitor monitor) throws CoreException {
+    if(!executionPlans.containsKey(lifecycle)) {
+      // null is recorded too, if execution plan could not be calculated
+      executionPlans.put(lifecycle, manager.calculateExecutionPlan(pom, getMavenProject(monitor), lifecycle, monitor));
+    }
+    return executionPlans.get(lifecycle);
+  }
+
   @SuppressWarnings("unchecked")
   private static <T> T getContextValue(MavenProject mavenProject, String key) {
     // XXX this is not thread safe, but needs to be fixed in maven, I can't fix this properly from m2e end
@@ -512,11 +532,9 @@ public class MavenProjectFacade implements IMavenProjectFacade, Serializable {
    */
   public List<MojoExecution> getMojoExecutions(IProgressMonitor monitor) throws CoreException {
     Map<String, List<MojoExecution>> executionPlans = getExecutionPlans(monitor);
-    if(executionPlans == null) {
-      return null;
-    }
     List<MojoExecution> mojoExecutions = new ArrayList<>();
-    for(List<MojoExecution> executionPlan : executionPlans.values()) {
+    for(String lifecycle : ProjectRegistryManager.LIFECYCLES) {
+      List<MojoExecution> executionPlan = getExecutionPlan(executionPlans, lifecycle, monitor);
       if(executionPlan != null) { // null if execution plan could not be calculated
         mojoExecutions.addAll(executionPlan);
       }
@@ -525,7 +543,6 @@ public class MavenProjectFacade implements IMavenProjectFacade, Serializable {
   }
 
   public List<MojoExecution> getExecutionPlan(String lifecycle, IProgressMonitor monitor) throws CoreException {
-    Map<String, List<MojoExecution>> executionPlans = getExecutionPlans(monitor);
-    return executionPlans != null ? executionPlans.get(lifecycle) : null;
+    return getExecutionPlan(getExecutionPlans(monitor), lifecycle, monitor);
   }
 }
@@ -24,7 +24,6 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.ListIterator;
@@ -138,6 +137,12 @@ public class ProjectRegistryManager {
 
   public static final String LIFECYCLE_SITE = "site";
 
+  /**
+   * Lifecycles m2e calculates execution plans for, in the order their mojo executions are reported.
+   */
+  static final List<String> LIFECYCLES = Collections
+      .unmodifiableList(Arrays.asList(LIFECYCLE_CLEAN, LIFECYCLE_DEFAULT, LIFECYCLE_SITE));
+
   /**
    * Path of project metadata files, relative to the project. These files are used to determine if project dependencies
    * need to be updated.
@@ -167,6 +172,8 @@ public class ProjectRegistryManager {
 
   private final Cache<MavenProjectFacade, MavenProject> mavenProjectCache;
 
+  private final ExecutionPlanCache executionPlanCache = new ExecutionPlanCache();
+
   /**
    * @noreference For tests only
    */
@@ -327,6 +334,9 @@ public class ProjectRegistryManager {
 
     final DependencyResolutionContext context = new DependencyResolutionContext(pomFiles);
 
+    // SNAPSHOT plugins may have been rebuilt since the last refresh
+    executionPlanCache.invalidateSnapshots();
+
     // safety net -- do not force refresh of the same installed/resolved artifact more than once
     final Set<ArtifactKey> installedArtifacts = new HashSet<>();
 
@@ -361,6 +371,11 @@ public class ProjectRegistryManager {
     }
 
     log.debug("Refreshed: {}", pomFiles); //$NON-NLS-1$
+    log.debug("Execution plans: {}", executionPlanCache); //$NON-NLS-1$
+    if(log.isDebugEnabled()) {
+      log.debug("Class realms: {}, {}", getMavenCache(PluginRealmCache.class), //$NON-NLS-1$
+          getMavenCache(ProjectRealmCache.class));
+    }
   }
 
   private void refresh(final MutableProjectRegistry newState, final DependencyResolutionContext context,
@@ -620,11 +635,12 @@ public class ProjectRegistryManager {
     newFacade.setSessionProperty(MavenProjectFacade.PROP_LIFECYCLE_MAPPING, mappingResult.getLifecycleMapping());
     LifecycleMappingFactory.setProjectConfigurators(newFacade, mappingResult);
 
-    markerManager.deleteMarkers(newFacade.getPom(), IMavenConstants.MARKER_LIFECYCLEMAPPING_ID);
-    if(mappingResult.hasProblems()) {
-      markerManager.addErrorMarkers(newFacade.getPom(), IMavenConstants.MARKER_LIFECYCLEMAPPING_ID,
-          mappingResult.getProblems());
-    }
+    markerManager.updateMarkers(newFacade.getPom(), IMavenConstants.MARKER_LIFECYCLEMAPPING_ID, markers -> {
+      if(mappingResult.hasProblems()) {
+        markers.addErrorMarkers(newFacade.getPom(), IMavenConstants.MARKER_LIFECYCLEMAPPING_ID,
+            mappingResult.getProblems());
+      }
+    });
   }
 
   private void detachMappingSources(Map<MojoExecutionKey, List<IPluginExecutionMetadata>> mapping) {
@@ -706,10 +722,6 @@ public class ProjectRegistryManager {
   private Map<IFile, MavenProjectFacade> readMavenProjectFacades(final Collection<IFile> poms,
       final MutableProjectRegistry state, final IProgressMonitor monitor)
       throws CoreException {
-    for(IFile pom : poms) {
-      markerManager.deleteMarkers(pom, IMavenConstants.MARKER_POM_LOADING_ID);
-    }
-
     final Map<IFile, ResolverConfiguration> resolverConfigurations = new HashMap<>(poms.size(), 1.f);
     final Multimap<ResolverConfiguration, IFile> groupsToImport = LinkedHashMultimap.create();
     for(IFile pom : poms) {
@@ -728,9 +740,18 @@ public class ProjectRegistryManager {
       Collection<IFile> pomFiles = entry.getValue();
       result.putAll(execute(state, poms.size() == 1 ? pomFiles.iterator().next() : null, resolverConfiguration,
           (executionContext, pm) -> {
-            Map<File, MavenExecutionResult> mavenResults = getMaven().readMavenProjects(pomFiles.stream()
-                .filter(IFile::isAccessible).map(ProjectRegistryManager::toJavaIoFile).collect(Collectors.toList()),
-                executionContext.newProjectBuildingRequest());
+            Map<File, MavenExecutionResult> mavenResults;
+            try {
+              mavenResults = getMaven().readMavenProjects(pomFiles.stream().filter(IFile::isAccessible)
+                  .map(ProjectRegistryManager::toJavaIoFile).collect(Collectors.toList()),
+                  executionContext.newProjectBuildingRequest());
+            } catch(CoreException | RuntimeException ex) {
+              // poms were not read, problems found by the previous read are stale
+              for(IFile pom : pomFiles) {
+                markerManager.deleteMarkers(pom, IMavenConstants.MARKER_POM_LOADING_ID);
+              }
+              throw ex;
+            }
 
             Map<IFile, MavenProjectFacade> facades = new HashMap<>(mavenResults.size(), 1.f);
             for (IFile pom : pomFiles) {
@@ -739,9 +760,10 @@ public class ProjectRegistryManager {
               }
               MavenExecutionResult mavenResult = mavenResults.get(ProjectRegistryManager.toJavaIoFile(pom));
               MavenProject mavenProject = mavenResult.getProject();
-              MarkerUtils.addEditorHintMarkers(markerManager, pom, mavenProject,
-                      IMavenConstants.MARKER_POM_LOADING_ID);
-              markerManager.addMarkers(pom, IMavenConstants.MARKER_POM_LOADING_ID, mavenResult);
+              markerManager.updateMarkers(pom, IMavenConstants.MARKER_POM_LOADING_ID, markers -> {
+                MarkerUtils.addEditorHintMarkers(markers, pom, mavenProject, IMavenConstants.MARKER_POM_LOADING_ID);
+                markers.addMarkers(pom, IMavenConstants.MARKER_POM_LOADING_ID, mavenResult);
+              });
               if(mavenProject != null && mavenProject.getArtifact() != null) {
                 MavenProjectFacade mavenProjectFacade = new MavenProjectFacade(ProjectRegistryManager.this, pom, mavenProject,
                           resolverConfiguration);
@@ -757,26 +779,22 @@ public class ProjectRegistryManager {
     return result;
   }
 
-      /*package*/Map<String, List<MojoExecution>> calculateExecutionPlans(IFile pom, MavenProject mavenProject,
-          IProgressMonitor monitor) {
-    Map<String, List<MojoExecution>> executionPlans = new LinkedHashMap<>();
-    executionPlans.put(LIFECYCLE_CLEAN, calculateExecutionPlan(pom, mavenProject, LIFECYCLE_CLEAN, monitor));
-    executionPlans.put(LIFECYCLE_DEFAULT, calculateExecutionPlan(pom, mavenProject, LIFECYCLE_DEFAULT, monitor));
-    executionPlans.put(LIFECYCLE_SITE, calculateExecutionPlan(pom, mavenProject, LIFECYCLE_SITE, monitor));
-    return executionPlans;
-  }
-
-  private List<MojoExecution> calculateExecutionPlan(IFile pom, final MavenProject mavenProject, final String lifecycle,
-      final IProgressMonitor monitor) {
-    List<MojoExecution> mojoExecutions = null;
+  /**
+   * Calculates execution plan of the given lifecycle. Projects with identical build configuration share calculated
+   * plans via {@link ExecutionPlanCache}.
+   */
+  /*package*/List<MojoExecution> calculateExecutionPlan(IFile pom, final MavenProject mavenProject,
+      final String lifecycle, final IProgressMonitor monitor) {
     try {
-      MavenExecutionPlan executionPlan = maven.calculateExecutionPlan(mavenProject, Arrays.asList(lifecycle), false,
-          monitor);
-      return executionPlan.getMojoExecutions();
+      return executionPlanCache.get(mavenProject, lifecycle, () -> {
+        MavenExecutionPlan executionPlan = maven.calculateExecutionPlan(mavenProject, Arrays.asList(lifecycle), false,
+            monitor);
+        return executionPlan.getMojoExecutions();
+      });
     } catch(CoreException e) {
       markerManager.addErrorMarkers(pom, IMavenConstants.MARKER_POM_LOADING_ID, e);
     }
-    return mojoExecutions;
+    return null;
   }
 
   public IFile getModulePom(IFile pom, String moduleName) {
@@ -981,10 +999,22 @@ public class ProjectRegistryManager {
       }
     }
     List<MavenProjectChangedEvent> events = projectRegistry.apply(newState);
+    for(MavenProjectChangedEvent event : events) {
+      if(event.getKind() != MavenProjectChangedEvent.KIND_CHANGED || isMavenPlugin(event.getMavenProject())
+          || isMavenPlugin(event.getOldMavenProject())) {
+        // workspace plugins and extensions resolve differently now, cached execution plans can't be trusted anymore
+        executionPlanCache.invalidateAll();
+        break;
+      }
+    }
     //stateReader.writeWorkspaceState(projectRegistry);
     notifyProjectChangeListeners(events, monitor);
   }
 
+  private static boolean isMavenPlugin(IMavenProjectFacade facade) {
+    return facade != null && "maven-plugin".equals(facade.getPackaging()); //$NON-NLS-1$
+  }
+
   public void writeWorkspaceState() {
     if(stateReader != null && projectRegistry != null) {
       stateReader.writeWorkspaceState(projectRegistry);
@@ -1154,6 +1184,10 @@ public class ProjectRegistryManager {
       key = facade.getArtifactKey();
       project = getMavenProject(facade); // cached only
       mavenProjectCache.invalidate(facade);
+      if(forceDependencyUpdate || "maven-plugin".equals(facade.getPackaging())) { //$NON-NLS-1$
+        // plugin descriptors may have changed, cached execution plans can't be trusted anymore
+        executionPlanCache.invalidateAll();
+      }
       Set<IFile> ifiles = new HashSet<>();
       for(File file : flushMavenCaches(facade.getPomFile(), key, project, forceDependencyUpdate)) {
         MavenProjectFacade affected = projectRegistry.getProjectFacade(file);
@@ -1180,6 +1214,14 @@ public class ProjectRegistryManager {
     return affected;
   }
 
+  private Object getMavenCache(Class<?> clazz) {
+    try {
+      return maven.getPlexusContainer().lookup(clazz);
+    } catch(ComponentLookupException | CoreException ex) {
+      return ex.getMessage();
+    }
+  }
+
   private Set<File> flushMavenCache(Class<?> clazz, File pom, ArtifactKey key, boolean force) {
     try {
       IManagedCache cache = (IManagedCache) maven.getPlexusContainer().lookup(clazz);
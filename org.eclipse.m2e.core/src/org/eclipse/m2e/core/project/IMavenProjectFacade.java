@@ -119,6 +119,16 @@ public interface IMavenProjectFacade {
 
   ArtifactKey getArtifactKey();
 
+  /**
+   * Returns the key of the parent pom.xml declared by this project, or <code>null</code> if the project has no parent or
+   * the parent was not recorded when the project was read.
+   *
+   * @since 1.18
+   */
+  default ArtifactKey getParentArtifactKey() {
+    return null;
+  }
+
   /**
    * Associates the value with the key in session (i.e. transient) context. Intended as a mechanism to cache state
    * derived from MavenProject. Session properties are cleared when MavenProject is re-read from disk.
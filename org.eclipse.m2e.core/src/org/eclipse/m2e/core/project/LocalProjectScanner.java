@@ -16,20 +16,37 @@ package org.eclipse.m2e.core.project;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.FileSystemLoopException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
-import org.eclipse.core.runtime.SubProgressMonitor;
 import org.eclipse.osgi.util.NLS;
 
 import org.apache.maven.model.Model;
@@ -41,19 +58,45 @@ import org.eclipse.m2e.core.internal.Messages;
 
 
 /**
+ * Scans folders for Maven projects. Folders are walked with {@link Files#walkFileTree}, skipping folders matching
+ * {@link #setIgnoredFolders(Collection) ignore patterns}, while the pom.xml files of discovered projects and their
+ * modules are parsed in parallel on a fork/join pool. The resulting {@link MavenProjectInfo} tree is assembled in walk
+ * order, so results don't depend on parsing order.
+ *
  * @author Eugene Kuleshov
  */
 public class LocalProjectScanner extends AbstractProjectScanner<MavenProjectInfo> {
+
+  /**
+   * Folder name patterns skipped by default while looking for projects. Modules explicitly referenced from a pom.xml
+   * are never skipped.
+   *
+   * @since 1.18
+   */
+  public static final List<String> DEFAULT_IGNORED_FOLDERS = Collections
+      .unmodifiableList(Arrays.asList(IMavenConstants.METADATA_FOLDER, ".git", "node_modules", "target")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
   private final File workspaceRoot;
 
   private final List<String> folders;
 
   private final boolean basedirRemameRequired;
 
-  private final Set<File> scannedFolders = new HashSet<>();
+  private final Set<Path> scannedFolders = new HashSet<>();
 
   private final MavenModelManager modelManager;
 
+  private List<PathMatcher> ignoredFolders = toMatchers(DEFAULT_IGNORED_FOLDERS);
+
+  private int parallelism = Runtime.getRuntime().availableProcessors();
+
+  /**
+   * Parsed pom.xml files, keyed by real path of the project basedir.
+   */
+  private final Map<Path, ForkJoinTask<ParsedPom>> parsedPoms = new ConcurrentHashMap<>();
+
+  private volatile boolean canceled;
+
   public LocalProjectScanner(File workspaceRoot, String folder, boolean needsRename, MavenModelManager modelManager) {
     this(workspaceRoot, Collections.singletonList(folder), needsRename, modelManager);
   }
@@ -66,90 +109,207 @@ public class LocalProjectScanner extends AbstractProjectScanner<MavenProjectInfo
     this.modelManager = modelManager;
   }
 
+  /**
+   * Sets glob patterns matched against folder names that are not scanned for projects. The metadata folder is always
+   * ignored.
+   *
+   * @since 1.18
+   */
+  public void setIgnoredFolders(Collection<String> patterns) {
+    List<String> allPatterns = new ArrayList<>(patterns);
+    allPatterns.add(IMavenConstants.METADATA_FOLDER);
+    this.ignoredFolders = toMatchers(allPatterns);
+  }
+
+  /**
+   * Sets the number of threads used to parse pom.xml files.
+   *
+   * @since 1.18
+   */
+  public void setParallelism(int parallelism) {
+    this.parallelism = Math.max(1, parallelism);
+  }
+
   @Override
   public void run(IProgressMonitor monitor) throws InterruptedException {
     SubMonitor subMonitor = SubMonitor.convert(monitor, Messages.LocalProjectScanner_task_scanning, 1);
 
     subMonitor.beginTask(Messages.LocalProjectScanner_task_scanning, IProgressMonitor.UNKNOWN);
+    canceled = false;
+    ForkJoinPool pool = new ForkJoinPool(parallelism);
     try {
       for(String folderName : folders) {
         try {
-          File folder = new File(folderName).getCanonicalFile();
-          scanFolder(folder, "", new SubProgressMonitor(subMonitor, IProgressMonitor.UNKNOWN)); //$NON-NLS-1$
+          Path folder = new File(folderName).toPath();
+          if(Files.isDirectory(folder)) {
+            Path root = folder.toRealPath();
+            List<Path> projectFolders = new ArrayList<>();
+            walkFolder(root, root, true, projectFolders, pool, subMonitor);
+            addProjects(root, projectFolders, pool, subMonitor);
+          }
         } catch(IOException ex) {
           addError(ex);
         }
+        if(canceled) {
+          throw new InterruptedException();
+        }
       }
     } finally {
+      canceled = true;
+      pool.shutdownNow();
+      parsedPoms.clear();
       subMonitor.done();
     }
   }
 
-  private void scanFolder(File baseDir, String rootRelPath, IProgressMonitor monitor) throws InterruptedException {
-    if(monitor.isCanceled()) {
-      throw new InterruptedException();
+  /**
+   * Reads the projects in the given folders, in walk order. As folders without pom.xml, subfolders of folders whose
+   * pom.xml can't be read are scanned for projects too.
+   */
+  private void addProjects(Path root, List<Path> projectFolders, ForkJoinPool pool, IProgressMonitor monitor)
+      throws IOException, InterruptedException {
+    for(Path projectFolder : projectFolders) {
+      if(monitor.isCanceled()) {
+        canceled = true;
+        throw new InterruptedException();
+      }
+      if(scannedFolders.contains(projectFolder.toRealPath())) {
+        continue;
+      }
+      MavenProjectInfo projectInfo = readMavenProjectInfo(projectFolder, getRelativePath(root, projectFolder), null);
+      if(projectInfo != null) {
+        addProject(projectInfo);
+      } else {
+        List<Path> nestedFolders = new ArrayList<>();
+        walkFolder(root, projectFolder, false, nestedFolders, pool, monitor);
+        addProjects(root, nestedFolders, pool, monitor);
+      }
     }
+  }
 
-    monitor.subTask(baseDir.toString());
-    monitor.worked(1);
-
-    // Don't scan the .metadata folder
-    if(!baseDir.exists() || !baseDir.isDirectory() || IMavenConstants.METADATA_FOLDER.equals(baseDir.getName())) {
-      return;
+  /**
+   * Returns the path of the folder relative to the scanned folder, like "/sub/dir", or an empty string for the scanned
+   * folder itself.
+   */
+  private static String getRelativePath(Path root, Path folder) {
+    StringBuilder sb = new StringBuilder();
+    for(Path name : root.relativize(folder)) {
+      if(!name.toString().isEmpty()) {
+        sb.append('/').append(name);
+      }
     }
+    return sb.toString();
+  }
 
-    try {
-      if(scannedFolders.contains(baseDir.getCanonicalFile())) {
-        return;
+  /**
+   * Walks the folder tree from start and collects folders containing a pom.xml, in walk order. Subfolders of such
+   * folders are not walked, instead the project pom.xml is scheduled for parsing right away. Collected folders are
+   * below root as walked, symbolic links are not resolved.
+   *
+   * @param includeStart whether start itself is collected if it contains a pom.xml
+   */
+  private void walkFolder(Path root, Path start, boolean includeStart, List<Path> projectFolders, ForkJoinPool pool,
+      IProgressMonitor monitor) throws IOException {
+    Set<Object> visitedFolders = new HashSet<>();
+    Files.walkFileTree(start, EnumSet.of(FileVisitOption.FOLLOW_LINKS), Integer.MAX_VALUE,
+        new SimpleFileVisitor<Path>() {
+          @Override
+          public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+            if(monitor.isCanceled()) {
+              canceled = true;
+              return FileVisitResult.TERMINATE;
+            }
+            monitor.subTask(dir.toString());
+            monitor.worked(1);
+
+            if(isIgnored(dir, root)) {
+              return FileVisitResult.SKIP_SUBTREE;
+            }
+            Object fileKey = attrs.fileKey();
+            if(fileKey != null && !visitedFolders.add(fileKey)) {
+              return FileVisitResult.SKIP_SUBTREE;
+            }
+            if((includeStart || !dir.equals(start)) && Files.isRegularFile(dir.resolve(IMavenConstants.POM_FILE_NAME))) {
+              projectFolders.add(dir);
+              schedule(dir.toRealPath(), pool);
+              return FileVisitResult.SKIP_SUBTREE; // don't scan subfolders of the Maven project
+            }
+            return FileVisitResult.CONTINUE;
+          }
+
+          @Override
+          public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+            return FileVisitResult.CONTINUE;
+          }
+
+          @Override
+          public FileVisitResult visitFileFailed(Path file, IOException ex) {
+            if(ex instanceof AccessDeniedException) {
+              addError(new Exception(NLS.bind(Messages.LocalProjectScanner_accessDeniedFromFolder, file)));
+            } else if(!(ex instanceof FileSystemLoopException) && !(ex instanceof NoSuchFileException)) {
+              addError(ex);
+            }
+            return FileVisitResult.CONTINUE;
+          }
+        });
+  }
+
+  private boolean isIgnored(Path dir, Path root) {
+    Path name = dir.getFileName();
+    if(name == null) {
+      return false;
+    }
+    if(dir.equals(root)) {
+      // explicitly requested folders are only skipped if they are the metadata folder
+      return IMavenConstants.METADATA_FOLDER.equals(name.toString());
+    }
+    for(PathMatcher matcher : ignoredFolders) {
+      if(matcher.matches(name)) {
+        return true;
       }
-    } catch(IOException ex1) {
-      addError(ex1);
-      return;
     }
+    return false;
+  }
 
-    MavenProjectInfo projectInfo = readMavenProjectInfo(baseDir, rootRelPath, null);
-    if(projectInfo != null) {
-      addProject(projectInfo);
-      return; // don't scan subfolders of the Maven project
+  private void schedule(Path projectFolder, ForkJoinPool pool) {
+    ParsePomTask task = new ParsePomTask(projectFolder);
+    if(parsedPoms.putIfAbsent(projectFolder, task) == null) {
+      pool.execute(task);
     }
+  }
 
-    File[] files = baseDir.listFiles();
-    if(files == null) {
-      addError(new Exception(NLS.bind(Messages.LocalProjectScanner_accessDeniedFromFolder, baseDir.getAbsolutePath())));
-      return;
-    }
-    for(File file2 : files) {
-      File file;
-      try {
-        file = file2.getCanonicalFile();
-        if(file.isDirectory()) {
-          scanFolder(file, rootRelPath + "/" + file.getName(), monitor); //$NON-NLS-1$
-        }
-      } catch(IOException ex) {
-        addError(ex);
-      }
+  private ParsedPom getParsedPom(Path projectFolder) {
+    ForkJoinTask<ParsedPom> task = parsedPoms.get(projectFolder);
+    if(task == null) {
+      // module folder that could not be resolved while parsing, parse in the calling thread
+      return new ParsePomTask(projectFolder).invoke();
     }
+    return task.join();
   }
 
-  private MavenProjectInfo readMavenProjectInfo(File baseDir, String modulePath, MavenProjectInfo parentInfo) {
+  private MavenProjectInfo readMavenProjectInfo(Path baseDir, String modulePath, MavenProjectInfo parentInfo) {
     try {
-      baseDir = baseDir.getCanonicalFile();
+      if(!Files.isDirectory(baseDir)) {
+        return null;
+      }
+      baseDir = baseDir.toRealPath();
 
       if(!scannedFolders.add(baseDir)) {
         return null; // we already know this project
         //mkleint: well, if the project is first scanned standalone and later scanned via parent reference, the parent ref gets thrown away??
       }
 
-      File pomFile = new File(baseDir, IMavenConstants.POM_FILE_NAME);
-      if(!pomFile.exists()) {
+      ParsedPom parsedPom = getParsedPom(baseDir);
+      if(parsedPom.error != null) {
+        addError(parsedPom.error);
         return null;
       }
-
-      Model model = null;
-      try (InputStream pomStream = Files.newInputStream(pomFile.toPath())) {
-        model = modelManager.readMavenModel(pomStream);
+      Model model = parsedPom.model;
+      if(model == null) {
+        return null;
       }
 
+      File pomFile = baseDir.resolve(IMavenConstants.POM_FILE_NAME).toFile();
       String pomName = modulePath + "/" + IMavenConstants.POM_FILE_NAME; //$NON-NLS-1$
 
       if(model.getArtifactId() == null) {
@@ -163,33 +323,11 @@ public class LocalProjectScanner extends AbstractProjectScanner<MavenProjectInfo
         projectInfo.setBasedirRename(getBasedirRename(projectInfo));
       }
 
-      Map<String, Set<String>> modules = new LinkedHashMap<>();
-      for(String module : model.getModules()) {
-        if(module.endsWith("/pom.xml")) { //$NON-NLS-1$
-          module = module.substring(0, module.length() - "/pom.xml".length()); //$NON-NLS-1$
-        }
-        modules.put(module, new HashSet<>());
-      }
-
-      for(Profile profile : model.getProfiles()) {
-        for(String module : profile.getModules()) {
-          if(module.endsWith("/pom.xml")) { //$NON-NLS-1$
-            module = module.substring(0, module.length() - "/pom.xml".length()); //$NON-NLS-1$
-          }
-          Set<String> profiles = modules.get(module);
-          if(profiles == null) {
-            profiles = new HashSet<>();
-            modules.put(module, profiles);
-          }
-          profiles.add(profile.getId());
-        }
-      }
-
-      for(Map.Entry<String, Set<String>> e : modules.entrySet()) {
+      for(Map.Entry<String, Set<String>> e : getModules(model).entrySet()) {
         String module = e.getKey();
         Set<String> profiles = e.getValue();
 
-        File moduleBaseDir = new File(baseDir, module);
+        Path moduleBaseDir = baseDir.resolve(module);
         MavenProjectInfo moduleInfo = readMavenProjectInfo(moduleBaseDir, module, projectInfo);
         if(moduleInfo != null) {
           moduleInfo.addProfiles(profiles);
@@ -206,6 +344,100 @@ public class LocalProjectScanner extends AbstractProjectScanner<MavenProjectInfo
     return null;
   }
 
+  /**
+   * Returns modules of the model, mapped to the ids of profiles declaring them.
+   */
+  private static Map<String, Set<String>> getModules(Model model) {
+    Map<String, Set<String>> modules = new LinkedHashMap<>();
+    for(String module : model.getModules()) {
+      if(module.endsWith("/pom.xml")) { //$NON-NLS-1$
+        module = module.substring(0, module.length() - "/pom.xml".length()); //$NON-NLS-1$
+      }
+      modules.put(module, new HashSet<>());
+    }
+
+    for(Profile profile : model.getProfiles()) {
+      for(String module : profile.getModules()) {
+        if(module.endsWith("/pom.xml")) { //$NON-NLS-1$
+          module = module.substring(0, module.length() - "/pom.xml".length()); //$NON-NLS-1$
+        }
+        Set<String> profiles = modules.get(module);
+        if(profiles == null) {
+          profiles = new HashSet<>();
+          modules.put(module, profiles);
+        }
+        profiles.add(profile.getId());
+      }
+    }
+    return modules;
+  }
+
+  private static List<PathMatcher> toMatchers(Collection<String> patterns) {
+    List<PathMatcher> matchers = new ArrayList<>(patterns.size());
+    for(String pattern : patterns) {
+      matchers.add(FileSystems.getDefault().getPathMatcher("glob:" + pattern)); //$NON-NLS-1$
+    }
+    return matchers;
+  }
+
+  private static class ParsedPom {
+    final Model model;
+
+    final Exception error;
+
+    ParsedPom(Model model, Exception error) {
+      this.model = model;
+      this.error = error;
+    }
+  }
+
+  /**
+   * Parses pom.xml of a project folder and forks parsing of its modules.
+   */
+  private class ParsePomTask extends RecursiveTask<ParsedPom> {
+    private static final long serialVersionUID = 1L;
+
+    private final Path baseDir;
+
+    ParsePomTask(Path baseDir) {
+      this.baseDir = baseDir;
+    }
+
+    @Override
+    protected ParsedPom compute() {
+      if(canceled) {
+        return new ParsedPom(null, null);
+      }
+      Path pomFile = baseDir.resolve(IMavenConstants.POM_FILE_NAME);
+      if(!Files.isRegularFile(pomFile)) {
+        return new ParsedPom(null, null);
+      }
+      Model model;
+      try (InputStream pomStream = Files.newInputStream(pomFile)) {
+        model = modelManager.readMavenModel(pomStream);
+      } catch(CoreException | IOException | RuntimeException ex) {
+        return new ParsedPom(null, ex);
+      }
+      if(inForkJoinPool()) {
+        for(String module : getModules(model).keySet()) {
+          Path moduleBaseDir = baseDir.resolve(module);
+          try {
+            if(Files.isDirectory(moduleBaseDir)) {
+              Path moduleFolder = moduleBaseDir.toRealPath();
+              ParsePomTask task = new ParsePomTask(moduleFolder);
+              if(parsedPoms.putIfAbsent(moduleFolder, task) == null) {
+                task.fork();
+              }
+            }
+          } catch(IOException ex) {
+            // reported when the project tree is assembled
+          }
+        }
+      }
+      return new ParsedPom(model, null);
+    }
+  }
+
   protected MavenProjectInfo newMavenProjectInfo(String label, File pomFile, Model model, MavenProjectInfo parent) {
     return new MavenProjectInfo(label, pomFile, model, parent);
   }
@@ -0,0 +1,250 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *      Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.editor.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.graph.DefaultDependencyNode;
+import org.eclipse.aether.graph.Dependency;
+import org.eclipse.aether.graph.DependencyNode;
+import org.eclipse.aether.graph.DependencyVisitor;
+import org.eclipse.m2e.editor.pom.DependencyGraph;
+import org.eclipse.m2e.editor.pom.Matcher;
+import org.junit.Test;
+
+public class DependencyGraphTest {
+
+	private static final String[] QUERIES = { "org", "org.example", "org.example.g1", "org.example.g17", "leaf",
+			"leaf-3", "shared", "missing" };
+
+	@Test
+	public void testFilterMatchesNodeWalk() {
+		DependencyNode root = createGraph(20, 40, 3);
+		DependencyGraph graph = new DependencyGraph(root);
+		for (String query : QUERIES) {
+			DependencyGraph.Filter filter = graph.filter(query);
+			Matcher matcher = new TextMatcher(query);
+			assertVisibility(root, matcher, filter, graph);
+			DependencyGraph.Filter fromMatcher = graph.filter(matcher);
+			assertVisibility(root, matcher, fromMatcher, graph);
+		}
+		assertNull(graph.filter(" "));
+		assertNull(graph.filter((Matcher) null));
+	}
+
+	@Test
+	public void testIncrementalFilteringMatchesFullFiltering() {
+		DependencyNode root = createGraph(20, 40, 3);
+		DependencyGraph incremental = new DependencyGraph(root);
+		StringBuilder typed = new StringBuilder();
+		for (char c : "org.example.g17.a".toCharArray()) {
+			typed.append(c);
+			DependencyGraph.Filter refined = incremental.filter(typed.toString());
+			DependencyGraph.Filter full = new DependencyGraph(root).filter(typed.toString());
+			assertEquals(typed.toString(), full.getVisibleCount(), refined.getVisibleCount());
+			assertVisibility(root, new TextMatcher(typed.toString()), refined, incremental);
+		}
+		// deleting characters widens the result again
+		assertEquals(new DependencyGraph(root).filter("org.example.g1").getVisibleCount(),
+				incremental.filter("org.example.g1").getVisibleCount());
+	}
+
+	@Test
+	public void testNavigation() {
+		DependencyNode root = createGraph(2, 3, 2);
+		DependencyGraph graph = new DependencyGraph(root);
+		DependencyNode direct = root.getChildren().get(1);
+		assertSame(root, graph.getParent(direct));
+		assertNull(graph.getParent(root));
+		assertArrayEquals(root.getChildren().toArray(), graph.getChildren(root, null));
+
+		DependencyGraph.Filter filter = graph.filter("org.example.g1");
+		assertArrayEquals(new Object[] { direct }, graph.getChildren(root, filter));
+		assertTrue(filter.isMatching(direct));
+		assertFalse(filter.isMatching(root));
+		assertTrue(filter.isVisible(root));
+
+		assertSame(direct, graph.findFirst(new TextMatcher("g1")));
+		assertNull(graph.findFirst(new TextMatcher("missing")));
+	}
+
+	@Test
+	public void testVeryDeepGraph() {
+		DependencyNode root = node("org.example", "root");
+		DependencyNode parent = root;
+		for (int i = 0; i < 100_000; i++) {
+			DependencyNode child = node("org.example.deep", "a" + i);
+			parent.getChildren().add(child);
+			parent = child;
+		}
+		DependencyGraph graph = new DependencyGraph(root);
+		assertEquals(100_001, graph.size());
+		assertEquals(100_001, graph.filter("a99999").getVisibleCount());
+	}
+
+	@Test
+	public void testFilteringMatchesWalkingTheGraph() {
+		// 20 direct dependencies with transitive chains 50 deep, every chain node with 3 leaves
+		DependencyNode root = createGraph(20, 50, 3);
+		DependencyGraph graph = new DependencyGraph(root);
+
+		// the previous implementation visited the subtree of every node for each filter pass
+		for (String query : QUERIES) {
+			assertEquals(query, countVisibleByWalking(root, new TextMatcher(query)),
+					graph.filter(query).getVisibleCount());
+		}
+	}
+
+	@Test
+	public void testFilteringDeepGraphMatchesWalkingTheGraph() {
+		// 2 direct dependencies with transitive chains 500 deep
+		DependencyNode root = createGraph(2, 500, 1);
+		DependencyGraph graph = new DependencyGraph(root);
+		assertEquals(1 + 2 * (1 + 500 * 2) + 1, graph.size());
+
+		// "a499" only matches the end of the chains, so every node above them stays visible
+		assertEquals(2 * (1 + 500) + 1, graph.filter("a499").getVisibleCount());
+		for (String query : new String[] { "a499", "a250", "leaf", "shared", "org.example.g1.l42", "missing" }) {
+			Matcher matcher = new TextMatcher(query);
+			assertEquals(query, countVisibleByWalking(root, matcher), graph.filter(query).getVisibleCount());
+			assertVisibility(root, matcher, graph.filter(query), graph);
+		}
+	}
+
+	private static void assertVisibility(DependencyNode root, Matcher matcher, DependencyGraph.Filter filter,
+			DependencyGraph graph) {
+		List<DependencyNode> all = new ArrayList<>();
+		collect(root, all);
+		for (DependencyNode node : all) {
+			if (node == root) {
+				continue;
+			}
+			assertEquals(isMatching(node, matcher), filter.isMatching(node));
+			assertEquals(hasMatch(node, matcher), filter.isVisible(node));
+		}
+	}
+
+	private static int countVisibleByWalking(DependencyNode root, Matcher matcher) {
+		List<DependencyNode> all = new ArrayList<>();
+		collect(root, all);
+		int count = 0;
+		for (DependencyNode node : all) {
+			if (hasMatch(node, matcher)) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	private static void collect(DependencyNode node, List<DependencyNode> result) {
+		Set<DependencyNode> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+		Deque<DependencyNode> stack = new ArrayDeque<>();
+		stack.push(node);
+		while (!stack.isEmpty()) {
+			DependencyNode next = stack.pop();
+			if (seen.add(next)) {
+				result.add(next);
+				for (DependencyNode child : next.getChildren()) {
+					stack.push(child);
+				}
+			}
+		}
+	}
+
+	private static boolean hasMatch(DependencyNode node, Matcher matcher) {
+		boolean[] found = new boolean[1];
+		node.accept(new DependencyVisitor() {
+			@Override
+			public boolean visitEnter(DependencyNode n) {
+				if (isMatching(n, matcher)) {
+					found[0] = true;
+				}
+				return !found[0];
+			}
+
+			@Override
+			public boolean visitLeave(DependencyNode n) {
+				return !found[0];
+			}
+		});
+		return found[0];
+	}
+
+	private static boolean isMatching(DependencyNode node, Matcher matcher) {
+		return node.getDependency() != null && matcher.isMatchingArtifact(
+				node.getDependency().getArtifact().getGroupId(), node.getDependency().getArtifact().getArtifactId());
+	}
+
+	/**
+	 * Direct dependencies, each with a chain of transitive dependencies where every chain node has some leaves. A
+	 * shared node is reachable from the end of every chain.
+	 */
+	private static DependencyNode createGraph(int direct, int depth, int leaves) {
+		DependencyNode root = new DefaultDependencyNode(new DefaultArtifact("org.example:project:1.0"));
+		DependencyNode shared = node("org.example.shared", "shared");
+		for (int d = 0; d < direct; d++) {
+			DependencyNode parent = node("org.example.g" + d, "direct-" + d);
+			root.getChildren().add(parent);
+			for (int level = 0; level < depth; level++) {
+				DependencyNode child = node("org.example.g" + d + ".l" + level, "a" + level);
+				for (int l = 0; l < leaves; l++) {
+					child.getChildren().add(node("org.example.leaves", "leaf-" + l));
+				}
+				parent.getChildren().add(child);
+				parent = child;
+			}
+			parent.getChildren().add(shared);
+		}
+		return root;
+	}
+
+	private static DependencyNode node(String groupId, String artifactId) {
+		return new DefaultDependencyNode(new Dependency(new DefaultArtifact(groupId, artifactId, "jar", "1.0"), "compile"));
+	}
+
+	/**
+	 * Same matching as the search field of the dependency hierarchy page
+	 */
+	private static class TextMatcher extends Matcher {
+		private final String text;
+
+		TextMatcher(String text) {
+			this.text = text.toLowerCase();
+		}
+
+		@Override
+		public boolean isMatchingArtifact(String groupId, String artifactId) {
+			return artifactId.toLowerCase().contains(text) || groupId.toLowerCase().contains(text);
+		}
+
+		@Override
+		public boolean isEmpty() {
+			return text.trim().isEmpty();
+		}
+	}
+}
@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *      Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.editor.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.apache.maven.model.Model;
+import org.apache.maven.project.MavenProject;
+import org.eclipse.m2e.editor.pom.EffectivePomCache;
+import org.junit.Test;
+
+public class EffectivePomCacheTest {
+
+	private final EffectivePomCache cache = new EffectivePomCache(4);
+
+	@Test
+	public void testRenderingUnchangedModelDoesNotSerialize() throws IOException {
+		MavenProject project = project("/work/app/pom.xml", "my-app");
+		String content = cache.render(project);
+		assertTrue(content.contains("<artifactId>my-app</artifactId>"));
+		assertEquals(1, cache.getRenderCount());
+
+		for (int i = 0; i < 10; i++) {
+			assertSame(content, cache.render(project));
+		}
+		assertEquals(1, cache.getRenderCount());
+	}
+
+	@Test
+	public void testNewModelIsSerializedAgain() throws IOException {
+		String content = cache.render(project("/work/app/pom.xml", "my-app"));
+		String changed = cache.render(project("/work/app/pom.xml", "my-app-2"));
+		assertEquals(2, cache.getRenderCount());
+		assertNotEquals(content, changed);
+		assertTrue(changed.contains("my-app-2"));
+	}
+
+	@Test
+	public void testProjectsAreCachedSeparately() throws IOException {
+		MavenProject app = project("/work/app/pom.xml", "my-app");
+		MavenProject lib = project("/work/lib/pom.xml", "my-lib");
+		cache.render(app);
+		cache.render(lib);
+		cache.render(app);
+		cache.render(lib);
+		assertEquals(2, cache.getRenderCount());
+		assertEquals(1, cache.getRenderCount(new File("/work/app/pom.xml")));
+		cache.render(project("/work/app/pom.xml", "my-app-2"));
+		assertEquals(2, cache.getRenderCount(new File("/work/app/pom.xml")));
+		assertEquals(1, cache.getRenderCount(new File("/work/lib/pom.xml")));
+	}
+
+	@Test
+	public void testProjectsWithoutPomFileAreNotCached() throws IOException {
+		MavenProject project = project(null, "my-app");
+		cache.render(project);
+		cache.render(project);
+		assertEquals(2, cache.getRenderCount());
+	}
+
+	@Test
+	public void testRepeatedRenderingOfLargeModel() throws IOException {
+		MavenProject project = project("/work/big/pom.xml", "big");
+		for (int i = 0; i < 20000; i++) {
+			project.getModel().addProperty("property." + i, "value of property " + i);
+		}
+		String content = cache.render(project);
+		for (int i = 0; i < 100; i++) {
+			assertSame(content, cache.render(project));
+		}
+		assertEquals(1, cache.getRenderCount());
+	}
+
+	private static MavenProject project(String pom, String artifactId) {
+		Model model = new Model();
+		model.setModelVersion("4.0.0");
+		model.setGroupId("com.mycompany.app");
+		model.setArtifactId(artifactId);
+		model.setVersion("1");
+		MavenProject project = new MavenProject(model);
+		if (pom != null) {
+			project.setFile(new File(pom));
+		}
+		return project;
+	}
+}
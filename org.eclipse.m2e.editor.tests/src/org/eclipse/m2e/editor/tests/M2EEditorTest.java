@@ -14,6 +14,7 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import java.io.ByteArrayInputStream;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
@@ -24,9 +25,11 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.jobs.IJobChangeEvent;
+import org.eclipse.core.runtime.jobs.IJobChangeListener;
 import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.core.runtime.jobs.JobChangeAdapter;
 import org.eclipse.jface.text.IDocument;
+import org.eclipse.m2e.editor.pom.EffectivePomCache;
 import org.eclipse.m2e.editor.pom.MavenPomEditor;
 import org.eclipse.m2e.tests.common.AbstractMavenProjectTestCase;
 import org.eclipse.swt.widgets.Display;
@@ -69,4 +72,48 @@ public class M2EEditorTest extends AbstractMavenProjectTestCase {
 			assertFalse(document.get().contains("Loading"));
 		}
 	}
+
+	@Test
+	public void testReopeningEffectivePomDoesNotSerializeAgain() throws CoreException, IOException {
+		try (InputStream in = new ByteArrayInputStream(("<project>\n"
+				+ "  <modelVersion>4.0.0</modelVersion>\n"
+				+ "  <groupId>com.mycompany.app</groupId>\n"
+				+ "  <artifactId>my-cached-app</artifactId>\n"
+				+ "  <version>1</version>\n"
+				+ "</project>").getBytes())) {
+			IProject project = createProject("cached", in);
+			MavenPomEditor editor = (MavenPomEditor) IDE.openEditor(PlatformUI.getWorkbench().getActiveWorkbenchWindow().getActivePage(), new FileEditorInput(project.getFile("pom.xml")), MavenPomEditor.EDITOR_ID);
+			int[] loads = { 0 };
+			IJobChangeListener listener = new JobChangeAdapter() {
+				@Override
+				public void done(IJobChangeEvent event) {
+					if (event.getJob().getClass().getSimpleName().contains("LoadEffective")) {
+						loads[0]++;
+					}
+				}
+			};
+			Job.getJobManager().addJobChangeListener(listener);
+			try {
+				editor.loadEffectivePOM();
+				assertTrue(DisplayHelper.waitForCondition(Display.getDefault(), 3000, () -> loads[0] == 1));
+				ITextEditor effectivePomEditor = editor.getEffectivePomSourcePage();
+				IDocument document = effectivePomEditor.getDocumentProvider().getDocument(effectivePomEditor.getEditorInput());
+				String content = document.get();
+				assertTrue(content.contains("my-cached-app"));
+				// other editors and jobs may render effective POMs meanwhile, only count this one
+				File pom = project.getFile("pom.xml").getLocation().toFile();
+				int renderCount = EffectivePomCache.getDefault().getRenderCount(pom);
+				assertTrue(renderCount > 0);
+
+				// what bringing the tab to front again does
+				editor.loadEffectivePOM();
+				assertEquals(content, document.get());
+				assertTrue(DisplayHelper.waitForCondition(Display.getDefault(), 3000, () -> loads[0] == 2));
+				assertEquals(renderCount, EffectivePomCache.getDefault().getRenderCount(pom));
+				assertEquals(content, document.get());
+			} finally {
+				Job.getJobManager().removeJobChangeListener(listener);
+			}
+		}
+	}
 }
@@ -0,0 +1,167 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *      Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.editor.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.m2e.core.embedder.ArtifactKey;
+import org.eclipse.m2e.editor.mojo.MojoParameter;
+import org.eclipse.m2e.editor.mojo.MojoParameterCache;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class MojoParameterCacheTest {
+
+	private static final ArtifactKey PLUGIN = new ArtifactKey("org.apache.maven.plugins", "maven-compiler-plugin",
+			"3.8.1", null);
+
+	private File directory;
+
+	private File jar;
+
+	private final AtomicInteger loads = new AtomicInteger();
+
+	@Before
+	public void setUp() throws IOException {
+		directory = Files.createTempDirectory("mojoParameters").toFile();
+		jar = new File(directory, "maven-compiler-plugin-3.8.1.jar");
+		Files.write(jar.toPath(), new byte[] { 1, 2, 3 });
+	}
+
+	@After
+	public void tearDown() {
+		delete(directory);
+	}
+
+	private static void delete(File file) {
+		File[] children = file.listFiles();
+		if (children != null) {
+			for (File child : children) {
+				delete(child);
+			}
+		}
+		file.delete();
+	}
+
+	@Test
+	public void testParametersSurviveRestart() throws Exception {
+		File cacheDirectory = new File(directory, "cache");
+		MojoParameterCache cache = new MojoParameterCache(cacheDirectory, key -> jar);
+
+		MojoParameter computed = cache.get(PLUGIN, "mojo/*", this::load);
+
+		// a new cache instance is what a restarted workbench gets
+		MojoParameterCache restarted = new MojoParameterCache(cacheDirectory, key -> jar);
+		assertTrue(restarted.contains(PLUGIN, "mojo/*"));
+		MojoParameter cached = restarted.get(PLUGIN, "mojo/*", this::load);
+
+		assertEquals(1, loads.get());
+		assertEquals(describe(computed), describe(cached));
+		assertEquals("[Configuration]", cached.getNestedParameter("compilerArguments").getExpression());
+	}
+
+	@Test
+	public void testChangedPluginIsComputedAgain() throws Exception {
+		File cacheDirectory = new File(directory, "cache");
+		new MojoParameterCache(cacheDirectory, key -> jar).get(PLUGIN, "mojo/*", this::load);
+
+		Files.write(jar.toPath(), new byte[] { 1, 2, 3, 4 });
+
+		MojoParameterCache restarted = new MojoParameterCache(cacheDirectory, key -> jar);
+		assertFalse(restarted.contains(PLUGIN, "mojo/*"));
+		restarted.get(PLUGIN, "mojo/*", this::load);
+		assertEquals(2, loads.get());
+	}
+
+	@Test
+	public void testUnresolvedPluginIsNotPersisted() throws Exception {
+		File cacheDirectory = new File(directory, "cache");
+		File missing = new File(directory, "missing.jar");
+		MojoParameterCache cache = new MojoParameterCache(cacheDirectory, key -> missing);
+
+		cache.get(PLUGIN, "mojo/*", this::load);
+		cache.get(PLUGIN, "mojo/*", this::load);
+		assertEquals(1, loads.get());
+
+		new MojoParameterCache(cacheDirectory, key -> missing).get(PLUGIN, "mojo/*", this::load);
+		assertEquals(2, loads.get());
+	}
+
+	@Test
+	public void testMemoryTierIsBacked() throws Exception {
+		MojoParameterCache cache = new MojoParameterCache(new File(directory, "cache"), key -> jar, 1);
+
+		cache.get(PLUGIN, "mojo/compile", this::load);
+		cache.get(PLUGIN, "mojo/testCompile", this::load);
+		cache.invalidateMemory();
+		cache.get(PLUGIN, "mojo/compile", this::load);
+		cache.get(PLUGIN, "mojo/testCompile", this::load);
+
+		assertEquals(2, loads.get());
+	}
+
+	@Test
+	public void testDiskTierIsBounded() throws Exception {
+		File cacheDirectory = new File(directory, "cache");
+		MojoParameterCache cache = new MojoParameterCache(cacheDirectory, key -> jar, 10, 2);
+
+		List<String> keys = List.of("mojo/compile", "mojo/testCompile", "mojo/help");
+		for (String key : keys) {
+			cache.get(PLUGIN, key, this::load);
+		}
+		assertEquals(2, cacheDirectory.list().length);
+
+		MojoParameterCache restarted = new MojoParameterCache(cacheDirectory, key -> jar, 10, 2);
+		assertEquals(2, keys.stream().filter(key -> restarted.contains(PLUGIN, key)).count());
+	}
+
+	private MojoParameter load() {
+		loads.incrementAndGet();
+		List<MojoParameter> parameters = new ArrayList<>();
+		for (int i = 0; i < 50; i++) {
+			MojoParameter parameter = new MojoParameter("parameter" + i, "String");
+			parameter.setDescription("Description of parameter " + i + " \u00e9");
+			parameter.setRequired(i % 3 == 0);
+			parameters.add(parameter);
+		}
+		MojoParameter arguments = new MojoParameter("compilerArguments", "Map<String,String>").map();
+		arguments.setExpression("[Configuration]");
+		parameters.add(arguments);
+		parameters.add(new MojoParameter("compilerArgs", "List<String>",
+				new MojoParameter("compilerArg", "String").multiple()));
+		return new MojoParameter("", "*", parameters);
+	}
+
+	private static String describe(MojoParameter parameter) {
+		StringBuilder sb = new StringBuilder();
+		sb.append(parameter.getName()).append('{').append(parameter.getType()).append(',')
+				.append(parameter.isRequired()).append(',').append(parameter.isMultiple()).append(',')
+				.append(parameter.isMap()).append(',').append(parameter.getDescription()).append(',')
+				.append(parameter.getExpression()).append(',').append(parameter.getDefaultValue());
+		for (MojoParameter nested : parameter.getNestedParameters()) {
+			sb.append(describe(nested));
+		}
+		return sb.append('}').toString();
+	}
+}
@@ -117,6 +117,8 @@ public class Messages extends NLS {
 
   public static String MavenPomEditor_task_reading;
 
+  public static String MavenPomEditor_task_rendering;
+
   public static String MavenPomEditorPage_actio_refresh;
 
   public static String MavenPomEditorPage_action_open;
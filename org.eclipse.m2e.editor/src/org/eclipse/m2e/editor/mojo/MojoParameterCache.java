@@ -0,0 +1,289 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *      Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.editor.mojo;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import org.eclipse.m2e.core.embedder.ArtifactKey;
+
+
+/**
+ * Two-tier cache of computed {@link MojoParameter} trees. Computing the parameters of a plugin requires resolving the
+ * plugin and introspecting its mojo classes, so computed trees are also written to disk and survive restarts. Disk
+ * entries are keyed by plugin and cache key and are only used while the size and timestamp of the plugin jar in the
+ * local repository are unchanged.
+ * <p>
+ * The size of the in-memory tier defaults to {@value #DEFAULT_MEMORY_SIZE} entries and can be set with the
+ * {@value #MEMORY_SIZE_PROPERTY} system property. The disk tier keeps the {@value #DEFAULT_DISK_SIZE} most recently
+ * used entries.
+ */
+public class MojoParameterCache {
+  private static final Logger log = LoggerFactory.getLogger(MojoParameterCache.class);
+
+  public static final String MEMORY_SIZE_PROPERTY = "m2e.editor.mojoParameterCacheSize"; //$NON-NLS-1$
+
+  public static final int DEFAULT_MEMORY_SIZE = 1000;
+
+  public static final int DEFAULT_DISK_SIZE = 2000;
+
+  private static final String SUFFIX = ".params"; //$NON-NLS-1$
+
+  private static final int FORMAT_VERSION = 1;
+
+  private static final int REQUIRED = 1;
+
+  private static final int MULTIPLE = 2;
+
+  private static final int MAP = 4;
+
+  private final Cache<String, MojoParameter> memory;
+
+  private final File directory;
+
+  private final int diskSize;
+
+  private final Function<ArtifactKey, File> pluginJars;
+
+  /**
+   * @param directory directory of the disk tier, or null to only cache in memory
+   * @param pluginJars returns the jar file of a plugin in the local repository
+   */
+  public MojoParameterCache(File directory, Function<ArtifactKey, File> pluginJars) {
+    this(directory, pluginJars, Integer.getInteger(MEMORY_SIZE_PROPERTY, DEFAULT_MEMORY_SIZE));
+  }
+
+  public MojoParameterCache(File directory, Function<ArtifactKey, File> pluginJars, int memorySize) {
+    this(directory, pluginJars, memorySize, DEFAULT_DISK_SIZE);
+  }
+
+  public MojoParameterCache(File directory, Function<ArtifactKey, File> pluginJars, int memorySize, int diskSize) {
+    this.directory = directory;
+    this.diskSize = diskSize;
+    this.pluginJars = pluginJars;
+    this.memory = CacheBuilder.newBuilder().maximumSize(memorySize).softValues().build();
+  }
+
+  /**
+   * Returns the cached parameters of the plugin, computing them with the loader if neither tier has them.
+   *
+   * @throws ExecutionException if the loader failed
+   */
+  public MojoParameter get(ArtifactKey pluginKey, String key, Callable<MojoParameter> loader)
+      throws ExecutionException {
+    String cacheKey = pluginKey.toPortableString() + "/" + key; //$NON-NLS-1$
+    return memory.get(cacheKey, () -> {
+      MojoParameter parameter = read(pluginKey, cacheKey);
+      if(parameter == null) {
+        parameter = loader.call();
+        // the plugin is resolved now, so its fingerprint is available
+        if(parameter != null) {
+          write(pluginKey, cacheKey, parameter);
+        }
+      }
+      return parameter;
+    });
+  }
+
+  /**
+   * Returns true if the parameters are cached in memory or on disk, without computing them.
+   */
+  public boolean contains(ArtifactKey pluginKey, String key) {
+    String cacheKey = pluginKey.toPortableString() + "/" + key; //$NON-NLS-1$
+    if(memory.getIfPresent(cacheKey) != null) {
+      return true;
+    }
+    String fingerprint = getFingerprint(pluginKey);
+    if(directory == null || fingerprint == null) {
+      return false;
+    }
+    try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(getFile(cacheKey))))) {
+      return in.readInt() == FORMAT_VERSION && cacheKey.equals(in.readUTF()) && fingerprint.equals(in.readUTF());
+    } catch(IOException ex) {
+      return false;
+    }
+  }
+
+  /**
+   * Drops the in-memory tier, entries are read again from disk.
+   */
+  public void invalidateMemory() {
+    memory.invalidateAll();
+  }
+
+  private MojoParameter read(ArtifactKey pluginKey, String cacheKey) {
+    String fingerprint = getFingerprint(pluginKey);
+    if(directory == null || fingerprint == null) {
+      return null;
+    }
+    File file = getFile(cacheKey);
+    try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+      if(in.readInt() != FORMAT_VERSION || !cacheKey.equals(in.readUTF()) || !fingerprint.equals(in.readUTF())) {
+        return null;
+      }
+      MojoParameter parameter = readParameter(in);
+      // keeps the entry from being pruned as least recently used
+      file.setLastModified(System.currentTimeMillis());
+      return parameter;
+    } catch(FileNotFoundException ex) {
+      return null;
+    } catch(IOException ex) {
+      log.debug("Could not read cached mojo parameters {}", file, ex); //$NON-NLS-1$
+      return null;
+    }
+  }
+
+  private void write(ArtifactKey pluginKey, String cacheKey, MojoParameter parameter) {
+    String fingerprint = getFingerprint(pluginKey);
+    if(directory == null || fingerprint == null) {
+      return;
+    }
+    File file = getFile(cacheKey);
+    File tmp = new File(directory, file.getName() + "." + Thread.currentThread().getId() + ".tmp"); //$NON-NLS-1$ //$NON-NLS-2$
+    try {
+      directory.mkdirs();
+      try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp)))) {
+        out.writeInt(FORMAT_VERSION);
+        out.writeUTF(cacheKey);
+        out.writeUTF(fingerprint);
+        writeParameter(out, parameter);
+      }
+      Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch(IOException ex) {
+      log.debug("Could not write cached mojo parameters {}", file, ex); //$NON-NLS-1$
+      tmp.delete();
+    }
+    prune();
+  }
+
+  /**
+   * Deletes the least recently used entries of the disk tier beyond its size.
+   */
+  private void prune() {
+    File[] files = directory.listFiles((dir, name) -> name.endsWith(SUFFIX));
+    if(files == null || files.length <= diskSize) {
+      return;
+    }
+    // entries can be used while sorting, compare the times of the listing
+    Map<File, Long> lastUsed = new HashMap<>();
+    for(File file : files) {
+      lastUsed.put(file, file.lastModified());
+    }
+    Arrays.sort(files, Comparator.comparing(lastUsed::get));
+    for(int i = 0; i < files.length - diskSize; i++ ) {
+      files[i].delete();
+    }
+  }
+
+  private File getFile(String cacheKey) {
+    // collisions are detected by the key stored in the file
+    return new File(directory, Integer.toHexString(cacheKey.hashCode()) + SUFFIX);
+  }
+
+  private String getFingerprint(ArtifactKey pluginKey) {
+    File jar = pluginJars.apply(pluginKey);
+    if(jar == null || !jar.isFile()) {
+      return null;
+    }
+    return jar.length() + ":" + jar.lastModified(); //$NON-NLS-1$
+  }
+
+  private static void writeParameter(DataOutputStream out, MojoParameter parameter) throws IOException {
+    writeString(out, parameter.getName());
+    writeString(out, parameter.getType());
+    int flags = (parameter.isRequired() ? REQUIRED : 0) | (parameter.isMultiple() ? MULTIPLE : 0)
+        | (parameter.isMap() ? MAP : 0);
+    out.writeByte(flags);
+    writeString(out, parameter.getDescription());
+    writeString(out, parameter.getExpression());
+    writeString(out, parameter.getDefaultValue());
+    List<MojoParameter> nested = parameter.getNestedParameters();
+    out.writeInt(nested.size());
+    for(MojoParameter child : nested) {
+      writeParameter(out, child);
+    }
+  }
+
+  private static MojoParameter readParameter(DataInputStream in) throws IOException {
+    String name = readString(in);
+    String type = readString(in);
+    int flags = in.readByte();
+    String description = readString(in);
+    String expression = readString(in);
+    String defaultValue = readString(in);
+    int size = in.readInt();
+    List<MojoParameter> nested = new ArrayList<>(size);
+    for(int i = 0; i < size; i++ ) {
+      nested.add(readParameter(in));
+    }
+    MojoParameter parameter = new MojoParameter(name, type, nested);
+    parameter.setRequired((flags & REQUIRED) != 0);
+    if((flags & MULTIPLE) != 0) {
+      parameter.multiple();
+    }
+    if((flags & MAP) != 0) {
+      parameter.map();
+    }
+    parameter.setDescription(description);
+    parameter.setExpression(expression);
+    parameter.setDefaultValue(defaultValue);
+    return parameter;
+  }
+
+  private static void writeString(DataOutputStream out, String value) throws IOException {
+    if(value == null) {
+      out.writeInt(-1);
+      return;
+    }
+    // not writeUTF, mojo descriptions may exceed its 64k limit
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  private static String readString(DataInputStream in) throws IOException {
+    int length = in.readInt();
+    if(length < 0) {
+      return null;
+    }
+    byte[] bytes = new byte[length];
+    in.readFully(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+}
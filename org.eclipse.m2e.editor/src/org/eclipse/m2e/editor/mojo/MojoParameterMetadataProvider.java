@@ -13,12 +13,14 @@
 
 package org.eclipse.m2e.editor.mojo;
 
+import java.io.File;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -27,8 +29,7 @@ import java.util.concurrent.ExecutionException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 
 import org.eclipse.aether.repository.RemoteRepository;
 import org.eclipse.core.runtime.CoreException;
@@ -45,7 +46,9 @@ import org.eclipse.ui.PlatformUI;
 import org.codehaus.plexus.component.repository.exception.ComponentLookupException;
 
 import org.apache.maven.DefaultMaven;
+import org.apache.maven.artifact.repository.ArtifactRepository;
 import org.apache.maven.model.Plugin;
+import org.apache.maven.model.PluginExecution;
 import org.apache.maven.model.building.ModelSource;
 import org.apache.maven.model.building.UrlModelSource;
 import org.apache.maven.plugin.BuildPluginManager;
@@ -59,6 +62,7 @@ import org.apache.maven.project.ProjectBuildingException;
 import org.eclipse.m2e.core.MavenPlugin;
 import org.eclipse.m2e.core.embedder.ArtifactKey;
 import org.eclipse.m2e.core.embedder.ICallable;
+import org.eclipse.m2e.core.embedder.IMaven;
 import org.eclipse.m2e.core.embedder.IMavenExecutionContext;
 import org.eclipse.m2e.core.internal.IMavenConstants;
 import org.eclipse.m2e.core.internal.Messages;
@@ -75,8 +79,8 @@ public class MojoParameterMetadataProvider implements IMojoParameterMetadataProv
 
   private static final Logger log = LoggerFactory.getLogger(MojoParameterMetadataProvider.class);
 
-  private static final Cache<String, MojoParameter> cache = CacheBuilder.newBuilder().maximumSize(100).softValues()
-      .build();
+  private static final MojoParameterCache cache = new MojoParameterCache(getCacheDirectory(),
+      MojoParameterMetadataProvider::getPluginJar);
 
   protected final MavenImpl maven;
 
@@ -115,33 +119,23 @@ public class MojoParameterMetadataProvider implements IMojoParameterMetadataProv
   public MojoParameter getClassConfiguration(final ArtifactKey pluginKey, final String className) throws CoreException {
 
     try {
-      String key = pluginKey.toPortableString() + "/" + className;
-
-      return cache.get(key, () -> execute(pluginKey, (context, monitor) -> {
+      return cache.get(pluginKey, className, () -> execute(pluginKey, (context, monitor) -> {
         PluginDescriptor pd = getPluginDescriptor(pluginKey, context, monitor);
-
-        List<MojoParameter> parameters = null;
-        if(pd != null) {
-          Class<?> clazz;
-          try {
-            clazz = pd.getClassRealm().loadClass(className);
-          } catch(ClassNotFoundException ex) {
-            return null;
-          }
-          parameters = new PlexusConfigHelper().loadParameters(pd.getClassRealm(), clazz, monitor);
+        if(pd == null) {
+          throw unresolvedPlugin(pluginKey);
         }
+        Class<?> clazz;
+        try {
+          clazz = pd.getClassRealm().loadClass(className);
+        } catch(ClassNotFoundException ex) {
+          return null;
+        }
+        List<MojoParameter> parameters = new PlexusConfigHelper().loadParameters(pd.getClassRealm(), clazz, monitor);
         return new MojoParameter("", className, parameters); //$NON-NLS-1$
       }));
 
-    } catch(ExecutionException e) {
-      Throwable t = e.getCause();
-      if(t instanceof CoreException) {
-        throw (CoreException) t;
-      }
-      if(t instanceof RuntimeException) {
-        throw (RuntimeException) t;
-      }
-      throw new CoreException(new Status(IStatus.ERROR, IMavenConstants.PLUGIN_ID, -1, e.getMessage(), e));
+    } catch(ExecutionException | UncheckedExecutionException e) {
+      throw toCoreException(e);
     }
   }
 
@@ -174,28 +168,103 @@ public class MojoParameterMetadataProvider implements IMojoParameterMetadataProv
       return predefParameters;
     }
 
-    String key = pluginKey.toPortableString() + "/mojo/" + (mojo == null ? "*" : mojo); //$NON-NLS-1$ //$NON-NLS-2$
-
     try {
-      return cache.get(key, () -> execute(pluginKey, (context, monitor) -> {
-        PluginDescriptor pd = getPluginDescriptor(pluginKey, context, monitor);
-
-        List<MojoParameter> parameters = null;
-        if(pd != null) {
-          parameters = loadMojoParameters(pd, mojo, monitor);
-        }
-        return new MojoParameter("", mojo, parameters); //$NON-NLS-1$
-      }));
+      return cache.get(pluginKey, getMojoKey(mojo),
+          () -> execute(pluginKey, (context, monitor) -> loadMojoConfiguration(pluginKey, mojo, context, monitor)));
+    } catch(ExecutionException | UncheckedExecutionException e) {
+      throw toCoreException(e);
+    }
+  }
 
-    } catch(ExecutionException e) {
-      Throwable t = e.getCause();
-      if(t instanceof CoreException) {
-        throw (CoreException) t;
+  /**
+   * Computes and caches the mojo parameters of the build plugins of the project in the background, so the first
+   * completion in their configuration does not have to. Only plugins already in the local repository are considered,
+   * and they are resolved offline, so plugin dependencies are not downloaded either.
+   */
+  public void prefetch(MavenProject project, IProgressMonitor monitor) {
+    for(Plugin plugin : project.getBuildPlugins()) {
+      if(monitor.isCanceled()) {
+        return;
+      }
+      if(plugin.getVersion() == null) {
+        continue;
       }
-      if(t instanceof RuntimeException) {
-        throw (RuntimeException) t;
+      ArtifactKey pluginKey = new ArtifactKey(plugin.getGroupId(), plugin.getArtifactId(), plugin.getVersion(), null);
+      File jar = getPluginJar(pluginKey);
+      if(getPredefined(pluginKey) != null || jar == null || !jar.isFile()) {
+        continue;
+      }
+      Set<String> mojos = new LinkedHashSet<>();
+      mojos.add("*"); //$NON-NLS-1$
+      for(PluginExecution execution : plugin.getExecutions()) {
+        mojos.addAll(execution.getGoals());
+      }
+      for(String mojo : mojos) {
+        try {
+          cache.get(pluginKey, getMojoKey(mojo), () -> executeInContext((context, monitor1) -> {
+            PluginDescriptor pd = getPluginDescriptor(pluginKey, context, monitor1);
+            if(pd == null) {
+              // do not cache a plugin without parameters, completion resolves it online
+              throw new CoreException(new Status(IStatus.WARNING, MavenEditorPlugin.PLUGIN_ID,
+                  "Plugin " + pluginKey + " cannot be resolved offline")); //$NON-NLS-1$ //$NON-NLS-2$
+            }
+            return new MojoParameter("", mojo, loadMojoParameters(pd, mojo, monitor1)); //$NON-NLS-1$
+          }, true, monitor));
+        } catch(ExecutionException | RuntimeException ex) {
+          log.debug("Could not prefetch mojo parameters of {}", pluginKey, ex); //$NON-NLS-1$
+          break;
+        }
       }
-      throw new CoreException(new Status(IStatus.ERROR, IMavenConstants.PLUGIN_ID, -1, e.getMessage(), e));
+    }
+  }
+
+  MojoParameter loadMojoConfiguration(ArtifactKey pluginKey, String mojo, IMavenExecutionContext context,
+      IProgressMonitor monitor) throws CoreException {
+    PluginDescriptor pd = getPluginDescriptor(pluginKey, context, monitor);
+    if(pd == null) {
+      throw unresolvedPlugin(pluginKey);
+    }
+    return new MojoParameter("", mojo, loadMojoParameters(pd, mojo, monitor)); //$NON-NLS-1$
+  }
+
+  /**
+   * Fails the lookup of a plugin that cannot be resolved, so the cache does not persist it without parameters.
+   */
+  private static CoreException unresolvedPlugin(ArtifactKey pluginKey) {
+    return new CoreException(new Status(IStatus.ERROR, MavenEditorPlugin.PLUGIN_ID,
+        "Plugin " + pluginKey + " cannot be resolved")); //$NON-NLS-1$ //$NON-NLS-2$
+  }
+
+  private static String getMojoKey(String mojo) {
+    return "mojo/" + (mojo == null ? "*" : mojo); //$NON-NLS-1$ //$NON-NLS-2$
+  }
+
+  private static CoreException toCoreException(Exception e) {
+    // the cache wraps checked loader exceptions in ExecutionException and unchecked ones in
+    // UncheckedExecutionException, the latter propagate as they are
+    Throwable t = e.getCause();
+    if(t instanceof CoreException) {
+      return (CoreException) t;
+    }
+    if(t instanceof RuntimeException) {
+      throw (RuntimeException) t;
+    }
+    return new CoreException(new Status(IStatus.ERROR, IMavenConstants.PLUGIN_ID, -1, e.getMessage(), e));
+  }
+
+  private static File getCacheDirectory() {
+    MavenEditorPlugin plugin = MavenEditorPlugin.getDefault();
+    return plugin != null ? new File(plugin.getStateLocation().toFile(), "mojoParameters") : null; //$NON-NLS-1$
+  }
+
+  static File getPluginJar(ArtifactKey pluginKey) {
+    IMaven maven = MavenPlugin.getMaven();
+    try {
+      ArtifactRepository localRepository = maven.getLocalRepository();
+      return new File(localRepository.getBasedir(), maven.getArtifactPath(localRepository, pluginKey.getGroupId(),
+          pluginKey.getArtifactId(), pluginKey.getVersion(), "jar", null)); //$NON-NLS-1$
+    } catch(CoreException ex) {
+      return null;
     }
   }
 
@@ -233,15 +302,7 @@ public class MojoParameterMetadataProvider implements IMojoParameterMetadataProv
         monitor.beginTask(org.eclipse.m2e.editor.internal.Messages.PomTemplateContext_resolvingPlugin, 100);
         try {
 
-          MavenExecutionContext context = maven.createExecutionContext();
-          context.getExecutionRequest().setCacheTransferError(false);
-          T res = context.execute((context1, monitor1) -> {
-            MavenProject mp = getProject(context1);
-            if(mp != null) {
-              return context1.execute(mp, callable, monitor1);
-            }
-            return null;
-          }, monitor);
+          T res = executeInContext(callable, monitor);
 
           if(monitor.isCanceled())
             return;
@@ -266,6 +327,28 @@ public class MojoParameterMetadataProvider implements IMojoParameterMetadataProv
     return res;
   }
 
+  <T> T executeInContext(ICallable<T> callable, IProgressMonitor monitor) throws CoreException {
+    return executeInContext(callable, false, monitor);
+  }
+
+  /**
+   * @param offline resolve plugins from the local repository only
+   */
+  <T> T executeInContext(ICallable<T> callable, boolean offline, IProgressMonitor monitor) throws CoreException {
+    MavenExecutionContext context = maven.createExecutionContext();
+    context.getExecutionRequest().setCacheTransferError(false);
+    if(offline) {
+      context.getExecutionRequest().setOffline(true);
+    }
+    return context.execute((context1, monitor1) -> {
+      MavenProject mp = getProject(context1);
+      if(mp != null) {
+        return context1.execute(mp, callable, monitor1);
+      }
+      return null;
+    }, monitor);
+  }
+
   MavenProject getProject(IMavenExecutionContext context) {
 
     ModelSource modelSource = new UrlModelSource(DefaultMaven.class.getResource("project/standalone.xml")); //$NON-NLS-1$
@@ -0,0 +1,322 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *      Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.editor.pom;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.graph.DependencyNode;
+
+
+/**
+ * Flattened, index based representation of a dependency graph, computed once when the graph is loaded so that
+ * filtering and navigation don't need to walk the {@link DependencyNode} structure again.
+ * <p>
+ * Every distinct node gets an id in depth-first pre-order, every distinct groupId:artifactId pair a key id. Matchers
+ * are evaluated once per key instead of once per node, and a node is visible when it or any of its descendants matches.
+ * Nodes shared by several parents are indexed once. Text filters are incremental: when the new text contains the
+ * previous one, only keys that matched before are tested again.
+ *
+ * @since 1.18
+ */
+public class DependencyGraph {
+
+  private static final DependencyNode[] NO_NODES = new DependencyNode[0];
+
+  private final DependencyNode root;
+
+  private final Map<DependencyNode, Integer> ids = new IdentityHashMap<>();
+
+  private final List<DependencyNode> nodes = new ArrayList<>();
+
+  private int[] parents;
+
+  private int[][] children;
+
+  private int[] postOrder;
+
+  private int[] nodeKeys;
+
+  private final List<String> groupIds = new ArrayList<>();
+
+  private final List<String> artifactIds = new ArrayList<>();
+
+  private String[] searchableGroupIds;
+
+  private String[] searchableArtifactIds;
+
+  private String lastText;
+
+  private BitSet lastTextMatches;
+
+  public DependencyGraph(DependencyNode root) {
+    this.root = root;
+    index();
+  }
+
+  public DependencyNode getRoot() {
+    return root;
+  }
+
+  /**
+   * @return number of distinct nodes, including the root
+   */
+  public int size() {
+    return nodes.size();
+  }
+
+  /**
+   * @return number of distinct groupId:artifactId pairs in the graph
+   */
+  public int getKeyCount() {
+    return groupIds.size();
+  }
+
+  /**
+   * Returns the parent the node was first reached from, or null for the root and unknown nodes.
+   */
+  public DependencyNode getParent(DependencyNode node) {
+    Integer id = ids.get(node);
+    return id == null || parents[id] < 0 ? null : nodes.get(parents[id]);
+  }
+
+  /**
+   * Returns the children of the node that are visible with the given filter, all children if the filter is null.
+   */
+  public DependencyNode[] getChildren(DependencyNode node, Filter filter) {
+    Integer id = ids.get(node);
+    if(id == null) {
+      return NO_NODES;
+    }
+    int[] childIds = children[id];
+    List<DependencyNode> result = new ArrayList<>(childIds.length);
+    for(int child : childIds) {
+      if(filter == null || filter.visible.get(child)) {
+        result.add(nodes.get(child));
+      }
+    }
+    return result.toArray(NO_NODES);
+  }
+
+  /**
+   * Returns the first node in depth-first order whose artifact matches, or null.
+   */
+  public DependencyNode findFirst(Matcher matcher) {
+    if(matcher == null || matcher.isEmpty()) {
+      return null;
+    }
+    BitSet tested = new BitSet(getKeyCount());
+    for(int id = 0; id < nodeKeys.length; id++ ) {
+      int key = nodeKeys[id];
+      if(key >= 0 && !tested.get(key)) {
+        tested.set(key);
+        if(matcher.isMatchingArtifact(groupIds.get(key), artifactIds.get(key))) {
+          return nodes.get(id);
+        }
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Computes the nodes to show for the matcher, null if the matcher does not filter anything.
+   */
+  public Filter filter(Matcher matcher) {
+    if(matcher == null || matcher.isEmpty()) {
+      return null;
+    }
+    BitSet keyMatches = new BitSet(getKeyCount());
+    for(int key = 0; key < getKeyCount(); key++ ) {
+      if(matcher.isMatchingArtifact(groupIds.get(key), artifactIds.get(key))) {
+        keyMatches.set(key);
+      }
+    }
+    return new Filter(keyMatches);
+  }
+
+  /**
+   * Computes the nodes to show for nodes whose groupId or artifactId contains the text, ignoring case, like
+   * {@link SearchMatcher} does. Returns null if the text is blank.
+   */
+  public synchronized Filter filter(String text) {
+    if(text == null || text.trim().isEmpty()) {
+      return null;
+    }
+    String query = text.toLowerCase();
+    BitSet keyMatches = new BitSet(getKeyCount());
+    if(lastText != null && query.contains(lastText)) {
+      // refined query, matches are a subset of the previous ones
+      for(int key = lastTextMatches.nextSetBit(0); key >= 0; key = lastTextMatches.nextSetBit(key + 1)) {
+        if(matches(key, query)) {
+          keyMatches.set(key);
+        }
+      }
+    } else {
+      for(int key = 0; key < getKeyCount(); key++ ) {
+        if(matches(key, query)) {
+          keyMatches.set(key);
+        }
+      }
+    }
+    lastText = query;
+    lastTextMatches = keyMatches;
+    return new Filter(keyMatches);
+  }
+
+  private boolean matches(int key, String query) {
+    return searchableArtifactIds[key].contains(query) || searchableGroupIds[key].contains(query);
+  }
+
+  private void index() {
+    Map<String, Integer> keys = new HashMap<>();
+    List<Integer> parentList = new ArrayList<>();
+    List<int[]> childList = new ArrayList<>();
+    List<Integer> keyList = new ArrayList<>();
+    List<Integer> postOrderList = new ArrayList<>();
+
+    // iterative depth-first walk, dependency graphs can be deeper than the stack allows
+    List<DependencyNode> stack = new ArrayList<>();
+    List<Integer> position = new ArrayList<>();
+    if(root != null) {
+      register(root, -1, keys, parentList, keyList, childList);
+      stack.add(root);
+      position.add(0);
+    }
+    while(!stack.isEmpty()) {
+      int top = stack.size() - 1;
+      DependencyNode node = stack.get(top);
+      int id = ids.get(node);
+      List<DependencyNode> nodeChildren = node.getChildren();
+      int index = position.get(top);
+      if(index == 0) {
+        childList.set(id, new int[nodeChildren.size()]);
+      }
+      if(index < nodeChildren.size()) {
+        position.set(top, index + 1);
+        DependencyNode child = nodeChildren.get(index);
+        Integer childId = ids.get(child);
+        if(childId == null) {
+          childId = register(child, id, keys, parentList, keyList, childList);
+          stack.add(child);
+          position.add(0);
+        }
+        childList.get(id)[index] = childId;
+      } else {
+        stack.remove(top);
+        position.remove(top);
+        postOrderList.add(id);
+      }
+    }
+
+    int size = nodes.size();
+    parents = new int[size];
+    children = new int[size][];
+    nodeKeys = new int[size];
+    for(int i = 0; i < size; i++ ) {
+      parents[i] = parentList.get(i);
+      children[i] = childList.get(i);
+      nodeKeys[i] = keyList.get(i);
+    }
+    postOrder = new int[postOrderList.size()];
+    for(int i = 0; i < postOrder.length; i++ ) {
+      postOrder[i] = postOrderList.get(i);
+    }
+    searchableGroupIds = new String[groupIds.size()];
+    searchableArtifactIds = new String[artifactIds.size()];
+    for(int key = 0; key < groupIds.size(); key++ ) {
+      searchableGroupIds[key] = lowerCase(groupIds.get(key));
+      searchableArtifactIds[key] = lowerCase(artifactIds.get(key));
+    }
+  }
+
+  private int register(DependencyNode node, int parent, Map<String, Integer> keys, List<Integer> parentList,
+      List<Integer> keyList, List<int[]> childList) {
+    int id = nodes.size();
+    ids.put(node, id);
+    nodes.add(node);
+    parentList.add(parent);
+    childList.add(null);
+    int key = -1;
+    if(node.getDependency() != null) {
+      Artifact artifact = node.getDependency().getArtifact();
+      String groupId = artifact.getGroupId();
+      String artifactId = artifact.getArtifactId();
+      key = keys.computeIfAbsent(groupId + ":" + artifactId, k -> { //$NON-NLS-1$
+        groupIds.add(groupId);
+        artifactIds.add(artifactId);
+        return groupIds.size() - 1;
+      });
+    }
+    keyList.add(key);
+    return id;
+  }
+
+  private static String lowerCase(String value) {
+    return value == null ? "" : value.toLowerCase(); //$NON-NLS-1$
+  }
+
+  /**
+   * Nodes matching a query, plus the nodes leading to them.
+   */
+  public class Filter {
+    private final BitSet matching;
+
+    private final BitSet visible;
+
+    Filter(BitSet keyMatches) {
+      matching = new BitSet(size());
+      visible = new BitSet(size());
+      for(int id = 0; id < nodeKeys.length; id++ ) {
+        if(nodeKeys[id] >= 0 && keyMatches.get(nodeKeys[id])) {
+          matching.set(id);
+        }
+      }
+      // children complete before their parents in post-order
+      for(int id : postOrder) {
+        if(matching.get(id)) {
+          visible.set(id);
+        } else {
+          for(int child : children[id]) {
+            if(visible.get(child)) {
+              visible.set(id);
+              break;
+            }
+          }
+        }
+      }
+    }
+
+    public boolean isMatching(DependencyNode node) {
+      Integer id = ids.get(node);
+      return id != null && matching.get(id);
+    }
+
+    public boolean isVisible(DependencyNode node) {
+      Integer id = ids.get(node);
+      return id != null && visible.get(id);
+    }
+
+    /**
+     * @return number of visible nodes, including the root if anything matches
+     */
+    public int getVisibleCount() {
+      return visible.cardinality();
+    }
+  }
+}
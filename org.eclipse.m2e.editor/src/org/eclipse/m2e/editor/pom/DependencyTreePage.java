@@ -14,15 +14,17 @@
 package org.eclipse.m2e.editor.pom;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import org.eclipse.aether.graph.DependencyNode;
-import org.eclipse.aether.graph.DependencyVisitor;
 import org.eclipse.aether.util.graph.manager.DependencyManagerUtils;
 import org.eclipse.aether.util.graph.transformer.ConflictResolver;
 import org.eclipse.core.runtime.CoreException;
@@ -43,10 +45,10 @@ import org.eclipse.jface.resource.JFaceResources;
 import org.eclipse.jface.util.IPropertyChangeListener;
 import org.eclipse.jface.util.PropertyChangeEvent;
 import org.eclipse.jface.viewers.IColorProvider;
+import org.eclipse.jface.viewers.ILazyTreeContentProvider;
 import org.eclipse.jface.viewers.ISelectionChangedListener;
 import org.eclipse.jface.viewers.IStructuredContentProvider;
 import org.eclipse.jface.viewers.IStructuredSelection;
-import org.eclipse.jface.viewers.ITreeContentProvider;
 import org.eclipse.jface.viewers.LabelProvider;
 import org.eclipse.jface.viewers.SelectionChangedEvent;
 import org.eclipse.jface.viewers.StructuredSelection;
@@ -125,7 +127,18 @@ public class DependencyTreePage extends FormPage implements IMavenProjectChanged
 
   ViewerFilter currentFilter;
 
-  ArrayList<DependencyNode> dependencyNodes = new ArrayList<>();
+  /**
+   * Trees with more visible nodes than this are only expanded to {@link #EXPAND_LEVEL} after loading or filtering.
+   */
+  private static final int EXPAND_ALL_LIMIT = 1000;
+
+  private static final int EXPAND_LEVEL = 2;
+
+  DependencyGraph dependencyGraph;
+
+  DependencyGraph.Filter treeFilter;
+
+  DependencyTreeContentProvider treeContentProvider;
 
   Highlighter highlighter;
 
@@ -216,30 +229,25 @@ public class DependencyTreePage extends FormPage implements IMavenProjectChanged
       @Override
       protected IStatus run(IProgressMonitor monitor) {
         try {
-          mavenProject = pomEditor.readMavenProject(force, monitor);
-          if(mavenProject == null) {
+          final MavenProject project = pomEditor.readMavenProject(force, monitor);
+          if(project == null) {
             log.error("Unable to read maven project. Dependencies not updated."); //$NON-NLS-1$
             return Status.CANCEL_STATUS;
           }
+          mavenProject = project;
+
+          // the resolved dependencies are known already, show them while the hierarchy is being computed
+          getPartControl().getDisplay().asyncExec(() -> {
+            if(!listViewer.getTable().isDisposed()) {
+              listViewer.setInput(project);
+            }
+          });
 
           final DependencyNode dependencyNode = pomEditor.readDependencyTree(force, currentClasspath, monitor);
           if(dependencyNode == null) {
             return Status.CANCEL_STATUS;
           }
-          dependencyNode.accept(new DependencyVisitor() {
-            @Override
-            public boolean visitEnter(DependencyNode node) {
-              if(node.getDependency() != null) {
-                dependencyNodes.add(node);
-              }
-              return true;
-            }
-
-            @Override
-            public boolean visitLeave(DependencyNode dependencynode) {
-              return true;
-            }
-          });
+          final DependencyGraph graph = new DependencyGraph(dependencyNode);
 
           getPartControl().getDisplay().syncExec(() -> {
             FormUtils.setMessage(getManagedForm().getForm(), null, IMessageProvider.NONE);
@@ -247,17 +255,16 @@ public class DependencyTreePage extends FormPage implements IMavenProjectChanged
               return;
             }
 
+            dependencyGraph = graph;
+            setTreeFilter(currentFilter, false);
+            treeContentProvider.reset();
             treeViewer.setInput(dependencyNode);
             treeViewer.getTree().setRedraw(false);
             try {
-              treeViewer.expandAll();
+              expandTree();
             } finally {
               treeViewer.getTree().setRedraw(true);
             }
-            if(listViewer.getTable().isDisposed()) {
-              return;
-            }
-            listViewer.setInput(mavenProject);
           });
         } catch(final CoreException ex) {
           log.error(ex.getMessage(), ex);
@@ -284,14 +291,16 @@ public class DependencyTreePage extends FormPage implements IMavenProjectChanged
     hierarchySection.setText(Messages.DependencyTreePage_section_hierarchy);
     formToolkit.paintBordersFor(hierarchySection);
 
-    Tree tree = formToolkit.createTree(hierarchySection, SWT.H_SCROLL | SWT.V_SCROLL | SWT.MULTI);
+    Tree tree = formToolkit.createTree(hierarchySection, SWT.H_SCROLL | SWT.V_SCROLL | SWT.MULTI | SWT.VIRTUAL);
     hierarchySection.setClient(tree);
 
     treeViewer = new TreeViewer(tree);
     treeViewer.setData(FormToolkit.KEY_DRAW_BORDER, Boolean.TRUE);
+    treeViewer.setUseHashlookup(true);
 
     DependencyTreeLabelProvider treeLabelProvider = new DependencyTreeLabelProvider();
-    treeViewer.setContentProvider(new DependencyTreeContentProvider());
+    treeContentProvider = new DependencyTreeContentProvider();
+    treeViewer.setContentProvider(treeContentProvider);
     treeViewer.setLabelProvider(treeLabelProvider);
 
     treeViewer.addSelectionChangedListener(event -> {
@@ -355,11 +364,9 @@ public class DependencyTreePage extends FormPage implements IMavenProjectChanged
 
       @Override
       public void run() {
-        if(treeViewer.getComparator() == null) {
-          treeViewer.setComparator(new ViewerComparator());
-        } else {
-          treeViewer.setComparator(null);
-        }
+        // lazy trees don't support viewer comparators, the content provider sorts
+        treeContentProvider.setComparator(isChecked() ? new ViewerComparator() : null);
+        refreshTree();
       }
     });
 
@@ -373,7 +380,7 @@ public class DependencyTreePage extends FormPage implements IMavenProjectChanged
           @Override
           public void run() {
             treeLabelProvider.setShowGroupId(isChecked());
-            treeViewer.refresh();
+            refreshTree();
           }
         });
 
@@ -385,19 +392,8 @@ public class DependencyTreePage extends FormPage implements IMavenProjectChanged
 
       @Override
       public void run() {
-        if(isChecked()) {
-          setTreeFilter(currentFilter, true);
-//          treeViewer.setFilters(new ViewerFilter[] {searchFilter, listSelectionFilter});
-        } else {
-          treeViewer.removeFilter(searchFilter);
-        }
-        treeViewer.getTree().setRedraw(false);
-        try {
-          treeViewer.refresh();
-          treeViewer.expandAll();
-        } finally {
-          treeViewer.getTree().setRedraw(true);
-        }
+        setTreeFilter(currentFilter, true);
+        refreshTree();
       }
     };
     hierarchyFilterAction.setChecked(true);
@@ -432,12 +428,13 @@ public class DependencyTreePage extends FormPage implements IMavenProjectChanged
 
     final DependencyListLabelProvider listLabelProvider = new DependencyListLabelProvider();
 
-    Table table = formToolkit.createTable(listSection, SWT.FLAT | SWT.MULTI);
+    Table table = formToolkit.createTable(listSection, SWT.FLAT | SWT.MULTI | SWT.VIRTUAL);
     listSection.setClient(table);
 
     // listViewer = new TableViewer(listSection, SWT.FLAT | SWT.MULTI);
     listViewer = new TableViewer(table);
     listViewer.setData(FormToolkit.KEY_DRAW_BORDER, Boolean.TRUE);
+    listViewer.setUseHashlookup(true);
     listViewer.setContentProvider(new DependencyListContentProvider());
     listViewer.setLabelProvider(listLabelProvider);
     listViewer.setComparator(new ViewerComparator()); // by default is sorted
@@ -531,7 +528,7 @@ public class DependencyTreePage extends FormPage implements IMavenProjectChanged
     searchControl = new SearchControl(Messages.DependencyTreePage_find, managedForm);
     searchMatcher = new SearchMatcher(searchControl);
     searchFilter = new DependencyFilter(new SearchMatcher(searchControl));
-    treeViewer.addFilter(searchFilter); // by default is filtered
+    currentFilter = searchFilter; // by default is filtered
 
     ScrolledForm form = managedForm.getForm();
 
@@ -602,8 +599,8 @@ public class DependencyTreePage extends FormPage implements IMavenProjectChanged
         if(!listViewer.getTable().isDisposed()) {
           isSettingSelection = true;
           selectListElements(searchMatcher);
-          selectTreeElements(searchMatcher);
           setTreeFilter(searchFilter, false);
+          selectTreeElements(searchMatcher);
           isSettingSelection = false;
         }
         return Status.OK_STATUS;
@@ -626,10 +623,46 @@ public class DependencyTreePage extends FormPage implements IMavenProjectChanged
     });
   }
 
+  /**
+   * Makes the filter the current one and computes the nodes of the hierarchy it leaves visible. The hierarchy is not
+   * refreshed.
+   */
   protected void setTreeFilter(ViewerFilter filter, boolean force) {
     currentFilter = filter;
-    if(filter != null && (force || (treeViewer.getFilters().length > 0 && treeViewer.getFilters()[0] != filter))) {
-      treeViewer.addFilter(filter);
+    if(dependencyGraph == null || !hierarchyFilterAction.isChecked() || !(filter instanceof DependencyFilter)) {
+      treeFilter = null;
+    } else if(filter == searchFilter) {
+      // incremental while the user keeps typing
+      treeFilter = dependencyGraph.filter(searchControl.getSearchText().getText());
+    } else {
+      treeFilter = dependencyGraph.filter(((DependencyFilter) filter).matcher);
+    }
+  }
+
+  void refreshTree() {
+    if(treeViewer.getTree().isDisposed()) {
+      return;
+    }
+    treeContentProvider.reset();
+    treeViewer.getTree().setRedraw(false);
+    try {
+      treeViewer.refresh();
+      expandTree();
+    } finally {
+      treeViewer.getTree().setRedraw(true);
+    }
+  }
+
+  /**
+   * Expands the hierarchy fully unless that would create too many items.
+   */
+  void expandTree() {
+    int visible = treeFilter != null ? treeFilter.getVisibleCount()
+        : dependencyGraph != null ? dependencyGraph.size() : 0;
+    if(visible <= EXPAND_ALL_LIMIT) {
+      treeViewer.expandAll();
+    } else {
+      treeViewer.expandToLevel(EXPAND_LEVEL);
     }
   }
 
@@ -652,21 +685,12 @@ public class DependencyTreePage extends FormPage implements IMavenProjectChanged
   void selectTreeElements(Matcher matcher) {
     DependencyTreeLabelProvider treeLabelProvider = (DependencyTreeLabelProvider) treeViewer.getLabelProvider();
     treeLabelProvider.setMatcher(matcher);
-    treeViewer.getTree().setRedraw(false);
-    try {
-      treeViewer.refresh();
-      treeViewer.expandAll();
-    } finally {
-      treeViewer.getTree().setRedraw(true);
-    }
+    refreshTree();
 
-    if(!matcher.isEmpty()) {
-      for(DependencyNode node : dependencyNodes) {
-        org.eclipse.aether.artifact.Artifact a = node.getDependency().getArtifact();
-        if(matcher.isMatchingArtifact(a.getGroupId(), a.getGroupId())) {
-          treeViewer.reveal(node);
-          break;
-        }
+    if(dependencyGraph != null) {
+      DependencyNode node = dependencyGraph.findFirst(matcher);
+      if(node != null) {
+        treeViewer.reveal(node);
       }
     }
   }
@@ -685,36 +709,6 @@ public class DependencyTreePage extends FormPage implements IMavenProjectChanged
         if(element instanceof Artifact) {
           Artifact a = (Artifact) element;
           return matcher.isMatchingArtifact(a.getGroupId(), a.getArtifactId());
-
-        } else if(element instanceof DependencyNode) {
-          DependencyNode node = (DependencyNode) element;
-          org.eclipse.aether.artifact.Artifact a = node.getDependency().getArtifact();
-          if(matcher.isMatchingArtifact(a.getGroupId(), a.getArtifactId())) {
-            return true;
-          }
-
-          class ChildMatcher implements DependencyVisitor {
-            protected boolean foundMatch = false;
-
-            @Override
-            public boolean visitEnter(DependencyNode node) {
-              org.eclipse.aether.artifact.Artifact a = node.getDependency().getArtifact();
-              if(matcher.isMatchingArtifact(a.getGroupId(), a.getArtifactId())) {
-                foundMatch = true;
-                return false;
-              }
-              return true;
-            }
-
-            @Override
-            public boolean visitLeave(DependencyNode node) {
-              return true;
-            }
-          }
-
-          ChildMatcher childMatcher = new ChildMatcher();
-          node.accept(childMatcher);
-          return childMatcher.foundMatch;
         }
       }
       return true;
@@ -736,8 +730,8 @@ public class DependencyTreePage extends FormPage implements IMavenProjectChanged
         isSettingSelection = true;
         IStructuredSelection selection = (IStructuredSelection) listViewer.getSelection();
         matcher = new ArtifactMatcher(selection);
-        selectTreeElements(matcher);
         setTreeFilter(this, false);
+        selectTreeElements(matcher);
         isSettingSelection = false;
       }
     }
@@ -746,9 +740,9 @@ public class DependencyTreePage extends FormPage implements IMavenProjectChanged
 
     @Override
     public void focusGained(FocusEvent e) {
-      if(hierarchyFilterAction.isChecked()) {
+      if(hierarchyFilterAction.isChecked() && currentFilter != this) {
         setTreeFilter(this, false);
-//        treeViewer.addFilter(this);
+        refreshTree();
       }
     }
 
@@ -759,35 +753,64 @@ public class DependencyTreePage extends FormPage implements IMavenProjectChanged
     }
   }
 
-  final class DependencyTreeContentProvider implements ITreeContentProvider {
+  /**
+   * Provides the children of the hierarchy from the {@link DependencyGraph}, only for items the virtual tree actually
+   * shows. Filtering and sorting happen here as lazy trees don't support viewer filters and comparators.
+   */
+  final class DependencyTreeContentProvider implements ILazyTreeContentProvider {
 
-    @Override
-    public Object[] getElements(Object input) {
-      return getChildren(input);
+    private final Map<DependencyNode, DependencyNode[]> visibleChildren = new IdentityHashMap<>();
+
+    private ViewerComparator comparator;
+
+    void setComparator(ViewerComparator comparator) {
+      this.comparator = comparator;
+    }
+
+    /**
+     * Forgets computed children, to be called when the graph, filter or sort order changed.
+     */
+    void reset() {
+      visibleChildren.clear();
+    }
+
+    DependencyNode[] getVisibleChildren(Object element) {
+      if(!(element instanceof DependencyNode) || dependencyGraph == null) {
+        return new DependencyNode[0];
+      }
+      return visibleChildren.computeIfAbsent((DependencyNode) element, node -> {
+        DependencyNode[] children = dependencyGraph.getChildren(node, treeFilter);
+        if(comparator != null) {
+          Arrays.sort(children, (a, b) -> comparator.compare(treeViewer, a, b));
+        }
+        return children;
+      });
     }
 
     @Override
-    public Object[] getChildren(Object element) {
-      if(element instanceof DependencyNode) {
-        DependencyNode node = (DependencyNode) element;
-        List<DependencyNode> children = node.getChildren();
-        return children.toArray(new DependencyNode[children.size()]);
+    public void updateElement(Object parent, int index) {
+      DependencyNode[] children = getVisibleChildren(parent);
+      if(index < children.length) {
+        DependencyNode child = children[index];
+        treeViewer.replace(parent, index, child);
+        treeViewer.setChildCount(child, getVisibleChildren(child).length);
       }
-      return new Object[0];
     }
 
     @Override
-    public Object getParent(Object element) {
-      return null;
+    public void updateChildCount(Object element, int currentChildCount) {
+      int count = getVisibleChildren(element).length;
+      if(count != currentChildCount) {
+        treeViewer.setChildCount(element, count);
+      }
     }
 
     @Override
-    public boolean hasChildren(Object element) {
-      if(element instanceof DependencyNode) {
-        DependencyNode node = (DependencyNode) element;
-        return !node.getChildren().isEmpty();
+    public Object getParent(Object element) {
+      if(element instanceof DependencyNode && dependencyGraph != null) {
+        return dependencyGraph.getParent((DependencyNode) element);
       }
-      return false;
+      return null;
     }
 
     @Override
@@ -796,6 +819,7 @@ public class DependencyTreePage extends FormPage implements IMavenProjectChanged
 
     @Override
     public void inputChanged(Viewer viewer, Object oldInput, Object newInput) {
+      reset();
     }
 
   }
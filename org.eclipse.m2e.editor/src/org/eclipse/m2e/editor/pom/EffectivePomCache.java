@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *      Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.editor.pom;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import org.apache.maven.model.Model;
+import org.apache.maven.model.io.xpp3.MavenXpp3Writer;
+import org.apache.maven.project.MavenProject;
+
+
+/**
+ * Caches the rendered effective POM of projects, keyed by their pom file. The effective model of a big parent
+ * hierarchy renders to megabytes of XML, so it is only serialized again after the model changed. The fingerprint of a
+ * model is the identity of its {@link Model} instance: the project registry and {@link MavenPomEditor} replace the
+ * {@link MavenProject} whenever the pom or its parents are read again.
+ *
+ * @since 1.18
+ */
+public class EffectivePomCache {
+
+  private static final int MAX_ENTRIES = 16;
+
+  private static final EffectivePomCache DEFAULT = new EffectivePomCache(MAX_ENTRIES);
+
+  private final Cache<String, Entry> entries;
+
+  private final AtomicInteger renderCount = new AtomicInteger();
+
+  public EffectivePomCache(int maxEntries) {
+    this.entries = CacheBuilder.newBuilder().maximumSize(maxEntries).build();
+  }
+
+  /**
+   * @return the cache shared by all POM editors
+   */
+  public static EffectivePomCache getDefault() {
+    return DEFAULT;
+  }
+
+  /**
+   * Returns the rendered effective POM of the project, serializing its model only if it is not the model the cached
+   * content was rendered from.
+   */
+  public String render(MavenProject project) throws IOException {
+    Model model = project.getModel();
+    String key = getKey(project);
+    Entry entry = key != null ? entries.getIfPresent(key) : null;
+    if(entry != null && entry.model.get() == model) {
+      return entry.content;
+    }
+    String content = write(model);
+    if(key != null) {
+      entries.put(key, new Entry(model, content, entry != null ? entry.renders + 1 : 1));
+    }
+    return content;
+  }
+
+  /**
+   * @return how often a model was serialized by this cache
+   */
+  public int getRenderCount() {
+    return renderCount.get();
+  }
+
+  /**
+   * @return how often the model of the given pom file was serialized since its content is cached
+   */
+  public int getRenderCount(File pom) {
+    Entry entry = entries.getIfPresent(pom.getAbsolutePath());
+    return entry != null ? entry.renders : 0;
+  }
+
+  private String write(Model model) throws IOException {
+    renderCount.incrementAndGet();
+    StringWriter sw = new StringWriter();
+    new MavenXpp3Writer().write(sw, model);
+    return sw.toString();
+  }
+
+  private static String getKey(MavenProject project) {
+    File file = project.getFile();
+    return file != null ? file.getAbsolutePath() : null;
+  }
+
+  private static final class Entry {
+    // don't keep models of closed projects alive
+    final WeakReference<Model> model;
+
+    final String content;
+
+    final int renders;
+
+    Entry(Model model, String content, int renders) {
+      this.model = new WeakReference<>(model);
+      this.content = content;
+      this.renders = renders;
+    }
+  }
+}
@@ -14,7 +14,6 @@
 package org.eclipse.m2e.editor.pom;
 
 import java.io.IOException;
-import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -47,6 +46,7 @@ import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.emf.common.notify.Adapter;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.jface.dialogs.IMessageProvider;
+import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.IDocument;
 import org.eclipse.jface.text.IDocumentListener;
 import org.eclipse.jface.text.source.IAnnotationModel;
@@ -82,7 +82,6 @@ import org.eclipse.wst.xml.core.internal.provisional.contenttype.ContentTypeIdFo
 import org.eclipse.wst.xml.core.internal.provisional.document.IDOMElement;
 import org.eclipse.wst.xml.core.internal.provisional.document.IDOMModel;
 
-import org.apache.maven.model.io.xpp3.MavenXpp3Writer;
 import org.apache.maven.project.MavenProject;
 
 import org.eclipse.m2e.core.MavenPlugin;
@@ -98,6 +97,7 @@ import org.eclipse.m2e.core.ui.internal.actions.OpenPomAction.MavenStorageEditor
 import org.eclipse.m2e.core.ui.internal.actions.SelectionUtil;
 import org.eclipse.m2e.editor.MavenEditorPlugin;
 import org.eclipse.m2e.editor.internal.Messages;
+import org.eclipse.m2e.editor.mojo.MojoParameterMetadataProvider;
 
 
 /**
@@ -154,6 +154,11 @@ public class MavenPomEditor extends FormEditor implements IResourceChangeListene
 
   private MavenStorageEditorInput effectivePomEditorInput;
 
+  /**
+   * whether the effective pom page shows a rendered effective pom, accessed in the UI thread only
+   */
+  private boolean effectivePomRendered;
+
   private boolean disposed = false;
 
   private IDocumentListener documentListener;
@@ -499,26 +504,27 @@ public class MavenPomEditor extends FormEditor implements IResourceChangeListene
       }
       String error = Messages.MavenPomEditor_error_loading_effective_pom;
       IDocument doc = getEffectivePomSourcePage().getDocumentProvider().getDocument(getEffectivePomEditorInput());
-      doc.set(error);
+      getSite().getShell().getDisplay().syncExec(() -> {
+        effectivePomRendered = false;
+        doc.set(error);
+      });
     }
 
     @Override
     protected IStatus run(IProgressMonitor monitor) {
       try {
-        StringWriter sw = new StringWriter();
         final String name = getPartName() + Messages.MavenPomEditor_effective;
         MavenProject mavenProject = SelectionUtil.getMavenProject(getEditorInput(), monitor);
         if(mavenProject == null) {
           showEffectivePomError(name);
           return Status.CANCEL_STATUS;
         }
-        new MavenXpp3Writer().write(sw, mavenProject.getModel());
-        final String content = sw.toString();
+        final String content = EffectivePomCache.getDefault().render(mavenProject);
         if(disposed) {
           return Status.OK_STATUS;
         }
         IDocument doc = getEffectivePomSourcePage().getDocumentProvider().getDocument(getEffectivePomEditorInput());
-        getSite().getShell().getDisplay().syncExec(() -> doc.set(content)); // run in UI Thread as some listeners require it
+        getSite().getShell().getDisplay().syncExec(() -> updateEffectivePom(doc, content)); // run in UI Thread as some listeners require it
         return Status.OK_STATUS;
       } catch(CoreException ce) {
         return new Status(IStatus.ERROR, MavenEditorPlugin.PLUGIN_ID, -1,
@@ -538,15 +544,61 @@ public class MavenPomEditor extends FormEditor implements IResourceChangeListene
     if(disposed) {
       return;
     }
-    String content = Messages.MavenPomEditor_loading;
-    IDocument doc = getEffectivePomSourcePage().getDocumentProvider().getDocument(getEffectivePomEditorInput());
-    doc.set(content);
+    if(!effectivePomRendered) {
+      String content = Messages.MavenPomEditor_loading;
+      IDocument doc = getEffectivePomSourcePage().getDocumentProvider().getDocument(getEffectivePomEditorInput());
+      doc.set(content);
+    }
 
-    //then start the load
+    //then start the load, an already rendered effective pom stays visible until it is updated
     LoadEffectivePomJob job = new LoadEffectivePomJob(Messages.MavenPomEditor_loading);
     job.schedule();
   }
 
+  /**
+   * Replaces only the changed part of the effective pom document, so that its viewer keeps position and does not
+   * re-create all of its content.
+   */
+  void updateEffectivePom(IDocument doc, String content) {
+    if(disposed) {
+      return;
+    }
+    effectivePomRendered = true;
+    String old = doc.get();
+    if(old.equals(content)) {
+      return;
+    }
+    int prefix = 0;
+    int max = Math.min(old.length(), content.length());
+    while(prefix < max && old.charAt(prefix) == content.charAt(prefix)) {
+      prefix++ ;
+    }
+    int suffix = 0;
+    max -= prefix;
+    while(suffix < max
+        && old.charAt(old.length() - 1 - suffix) == content.charAt(content.length() - 1 - suffix)) {
+      suffix++ ;
+    }
+    try {
+      doc.replace(prefix, old.length() - prefix - suffix,
+          content.substring(prefix, content.length() - suffix));
+    } catch(BadLocationException ex) {
+      // cannot happen, offsets are within the current content
+      doc.set(content);
+    }
+  }
+
+  /**
+   * Renders the effective pom of a project in the background, so that showing it later does not wait for it.
+   */
+  void prefetchEffectivePom(MavenProject project) {
+    try {
+      EffectivePomCache.getDefault().render(project);
+    } catch(IOException ex) {
+      log.error("failed to render effective pom for " + getEditorInput(), ex); //$NON-NLS-1$
+    }
+  }
+
   /**
    * @return
    */
@@ -959,8 +1011,12 @@ public class MavenPomEditor extends FormEditor implements IResourceChangeListene
       @Override
       protected IStatus run(IProgressMonitor monitor) {
         try {
-          //we're not interested in the result, just want to get the MP instance cached.
-          readMavenProject(true, monitor);
+          MavenProject project = readMavenProject(true, monitor);
+          if(project != null) {
+            // warm up configuration completion of the plugins used in this pom
+            new MojoParameterMetadataProvider().prefetch(project, monitor);
+            prefetchEffectivePom(project);
+          }
         } catch(CoreException e) {
           log.error("failed to load maven project for " + getEditorInput(), e);
         }
@@ -1000,6 +1056,15 @@ public class MavenPomEditor extends FormEditor implements IResourceChangeListene
             MavenProject mp = facade.getMavenProject();
             if(mp != null) {
               mavenProject = mp;
+              Job job = new Job(Messages.MavenPomEditor_task_rendering) {
+                @Override
+                protected IStatus run(IProgressMonitor monitor) {
+                  prefetchEffectivePom(mp);
+                  return Status.OK_STATUS;
+                }
+              };
+              job.setSystem(true);
+              job.schedule();
               if(getContainer() != null && !getContainer().isDisposed())
                 getContainer().getDisplay().asyncExec(() -> {
                   for(MavenPomEditorPage page : getMavenPomEditorPages()) {
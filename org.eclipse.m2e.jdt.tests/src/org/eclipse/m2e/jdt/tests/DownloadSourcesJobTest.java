@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *      Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.jdt.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.jar.JarOutputStream;
+import java.util.zip.ZipEntry;
+
+import org.apache.commons.io.FileUtils;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.jdt.core.IClasspathContainer;
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.m2e.jdt.IClasspathManager;
+import org.eclipse.m2e.jdt.MavenJdtPlugin;
+import org.eclipse.m2e.tests.common.AbstractMavenProjectTestCase;
+import org.eclipse.m2e.tests.common.HttpServer;
+import org.junit.Test;
+
+
+public class DownloadSourcesJobTest extends AbstractMavenProjectTestCase {
+
+  private static final int LIBRARIES = 8;
+
+  private static final int CONSUMERS = 2;
+
+  @Test
+  public void testParallelDownloadOfSharedSources() throws Exception {
+    // a group that is certainly not in the local repository yet
+    String groupId = "org.eclipse.m2e.tests.sources" + System.currentTimeMillis();
+    File basedir = Files.createTempDirectory("downloadsources").toFile();
+    File repository = new File(basedir, "repository");
+    for(int i = 0; i < LIBRARIES; i++ ) {
+      createLibrary(repository, groupId, "lib" + i);
+    }
+
+    HttpServer httpServer = new HttpServer();
+    httpServer.addResources("/repo", repository.getAbsolutePath());
+    httpServer.enableRecording(".*-sources\\.jar");
+    httpServer.start();
+    try {
+      IProject[] projects = new IProject[CONSUMERS];
+      for(int i = 0; i < CONSUMERS; i++ ) {
+        File pom = createConsumer(basedir, "consumer" + i, groupId, httpServer.getHttpUrl() + "/repo");
+        projects[i] = importProject(pom.getAbsolutePath());
+      }
+      waitForJobsToComplete();
+      httpServer.resetRecording();
+
+      IClasspathManager buildpathManager = MavenJdtPlugin.getDefault().getBuildpathManager();
+      for(IProject project : projects) {
+        buildpathManager.scheduleDownload(project, true, false);
+      }
+      waitForJobsToComplete();
+
+      // both projects use all libraries, yet every sources jar is downloaded once
+      assertEquals(httpServer.getRecordedRequests().toString(), LIBRARIES, httpServer.getRecordedRequests().size());
+
+      for(IProject project : projects) {
+        IJavaProject javaProject = JavaCore.create(project);
+        IClasspathContainer container = JavaCore.getClasspathContainer(new Path(IClasspathManager.CONTAINER_ID),
+            javaProject);
+        assertEquals(LIBRARIES, container.getClasspathEntries().length);
+        for(IClasspathEntry entry : container.getClasspathEntries()) {
+          assertNotNull(entry.getPath().toString(), entry.getSourceAttachmentPath());
+        }
+      }
+    } finally {
+      httpServer.stop();
+      FileUtils.deleteDirectory(basedir);
+    }
+  }
+
+  private static void createLibrary(File repository, String groupId, String artifactId) throws IOException {
+    File dir = new File(repository, groupId.replace('.', '/') + "/" + artifactId + "/1.0");
+    dir.mkdirs();
+    String pom = "<project><modelVersion>4.0.0</modelVersion><groupId>" + groupId + "</groupId><artifactId>"
+        + artifactId + "</artifactId><version>1.0</version></project>";
+    Files.write(new File(dir, artifactId + "-1.0.pom").toPath(), pom.getBytes(StandardCharsets.UTF_8));
+    createJar(new File(dir, artifactId + "-1.0.jar"), artifactId + "/Library.class");
+    createJar(new File(dir, artifactId + "-1.0-sources.jar"), artifactId + "/Library.java");
+  }
+
+  private static void createJar(File file, String entry) throws IOException {
+    try (JarOutputStream jar = new JarOutputStream(new FileOutputStream(file))) {
+      jar.putNextEntry(new ZipEntry(entry));
+      jar.closeEntry();
+    }
+  }
+
+  private static File createConsumer(File basedir, String artifactId, String groupId, String repositoryUrl)
+      throws IOException {
+    StringBuilder pom = new StringBuilder();
+    pom.append("<project><modelVersion>4.0.0</modelVersion>");
+    pom.append("<groupId>").append(groupId).append("</groupId>");
+    pom.append("<artifactId>").append(artifactId).append("</artifactId><version>1.0</version>");
+    pom.append("<repositories><repository><id>latency</id><url>").append(repositoryUrl)
+        .append("</url></repository></repositories>");
+    pom.append("<dependencies>");
+    for(int i = 0; i < LIBRARIES; i++ ) {
+      pom.append("<dependency><groupId>").append(groupId).append("</groupId><artifactId>lib").append(i)
+          .append("</artifactId><version>1.0</version></dependency>");
+    }
+    pom.append("</dependencies></project>");
+    File dir = new File(basedir, artifactId);
+    dir.mkdirs();
+    File file = new File(dir, "pom.xml");
+    Files.write(file.toPath(), pom.toString().getBytes(StandardCharsets.UTF_8));
+    return file;
+  }
+}
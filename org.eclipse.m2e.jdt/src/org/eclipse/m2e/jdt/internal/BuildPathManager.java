@@ -899,32 +899,39 @@ public class BuildPathManager implements IMavenProjectChangedListener, IResource
     return result;
   }
 
-  void attachSourcesAndJavadoc(IPackageFragmentRoot fragment, File sources, File javadoc, IProgressMonitor monitor) {
-    IJavaProject javaProject = fragment.getJavaProject();
-
-    IPath srcPath = sources != null ? Path.fromOSString(sources.getAbsolutePath()) : null;
-    String javaDocUrl = getJavaDocUrl(javadoc);
-
+  /**
+   * Attaches sources and javadoc to several package fragment roots of the given project with a single classpath
+   * update.
+   */
+  void attachSourcesAndJavadoc(IJavaProject javaProject,
+      Map<IPackageFragmentRoot, DownloadSourcesJob.Attachments> attachments, IProgressMonitor monitor) {
     try {
       IClasspathEntry[] cp = javaProject.getRawClasspath();
-      for(int i = 0; i < cp.length; i++ ) {
-        IClasspathEntry entry = cp[i];
-        if(IClasspathEntry.CPE_LIBRARY == entry.getEntryKind() && entry.equals(fragment.getRawClasspathEntry())) {
-          List<IClasspathAttribute> attributes = new ArrayList<>(Arrays.asList(entry.getExtraAttributes()));
-
-          if(srcPath == null) {
-            // configure javadocs if available
-            if(javaDocUrl != null) {
-              attributes
-                  .add(JavaCore.newClasspathAttribute(IClasspathAttribute.JAVADOC_LOCATION_ATTRIBUTE_NAME, javaDocUrl));
+      for(Map.Entry<IPackageFragmentRoot, DownloadSourcesJob.Attachments> attachment : attachments.entrySet()) {
+        IPackageFragmentRoot fragment = attachment.getKey();
+        File sources = attachment.getValue().sources;
+        IPath srcPath = sources != null ? Path.fromOSString(sources.getAbsolutePath()) : null;
+        String javaDocUrl = getJavaDocUrl(attachment.getValue().javadoc);
+
+        for(int i = 0; i < cp.length; i++ ) {
+          IClasspathEntry entry = cp[i];
+          if(IClasspathEntry.CPE_LIBRARY == entry.getEntryKind() && entry.equals(fragment.getRawClasspathEntry())) {
+            List<IClasspathAttribute> attributes = new ArrayList<>(Arrays.asList(entry.getExtraAttributes()));
+
+            if(srcPath == null) {
+              // configure javadocs if available
+              if(javaDocUrl != null) {
+                attributes.add(
+                    JavaCore.newClasspathAttribute(IClasspathAttribute.JAVADOC_LOCATION_ATTRIBUTE_NAME, javaDocUrl));
+              }
             }
-          }
 
-          cp[i] = JavaCore.newLibraryEntry(entry.getPath(), srcPath, null, entry.getAccessRules(), //
-              attributes.toArray(new IClasspathAttribute[attributes.size()]), //
-              entry.isExported());
+            cp[i] = JavaCore.newLibraryEntry(entry.getPath(), srcPath, null, entry.getAccessRules(), //
+                attributes.toArray(new IClasspathAttribute[attributes.size()]), //
+                entry.isExported());
 
-          break;
+            break;
+          }
         }
       }
 
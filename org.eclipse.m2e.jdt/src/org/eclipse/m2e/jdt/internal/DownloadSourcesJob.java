@@ -14,8 +14,11 @@
 package org.eclipse.m2e.jdt.internal;
 
 import java.io.File;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -32,11 +35,11 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.MultiStatus;
-import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.core.runtime.jobs.ISchedulingRule;
 import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IPackageFragmentRoot;
 
 import org.apache.maven.artifact.Artifact;
@@ -45,6 +48,7 @@ import org.apache.maven.project.MavenProject;
 
 import org.eclipse.m2e.core.MavenPlugin;
 import org.eclipse.m2e.core.embedder.ArtifactKey;
+import org.eclipse.m2e.core.embedder.ArtifactResolution;
 import org.eclipse.m2e.core.embedder.IMaven;
 import org.eclipse.m2e.core.internal.jobs.IBackgroundProcessingQueue;
 import org.eclipse.m2e.core.project.IMavenProjectFacade;
@@ -54,6 +58,11 @@ import org.eclipse.m2e.jdt.MavenJdtPlugin;
 
 /**
  * DownloadSourcesJob
+ * <p>
+ * Pending requests are processed in three steps. Attachments to download are determined for each request first and
+ * de-duplicated by artifact key, so an artifact used by many projects is downloaded once. The attachments are then
+ * resolved with one batch request per set of remote repositories, which lets the repository system download them
+ * concurrently, and finally the classpath of each affected project is updated once.
  *
  * @author igor
  */
@@ -103,7 +112,7 @@ class DownloadSourcesJob extends Job implements IBackgroundProcessingQueue {
     }
   }
 
-  private static final class Attachments {
+  static final class Attachments {
     public final File javadoc;
 
     public final File sources;
@@ -118,6 +127,55 @@ class DownloadSourcesJob extends Job implements IBackgroundProcessingQueue {
     }
   }
 
+  /**
+   * Sources or javadoc artifact to download, shared by all requests of the same artifact.
+   */
+  private static final class AttachmentDownload {
+    final ArtifactKey artifact;
+
+    final List<ArtifactRepository> repositories = new ArrayList<>();
+
+    File file;
+
+    AttachmentDownload(ArtifactKey artifact) {
+      this.artifact = artifact;
+    }
+
+    void addRepositories(List<ArtifactRepository> repositories) {
+      for(ArtifactRepository repository : repositories) {
+        if(this.repositories.stream().noneMatch(r -> Objects.equals(r.getId(), repository.getId())
+            && Objects.equals(r.getUrl(), repository.getUrl()))) {
+          this.repositories.add(repository);
+        }
+      }
+    }
+  }
+
+  /**
+   * Attachments requested for a maven project or, for non-maven projects, a package fragment root.
+   */
+  private static final class RequestedAttachments {
+    final IProject project;
+
+    final IPackageFragmentRoot fragment;
+
+    final AttachmentDownload sources;
+
+    final AttachmentDownload javadoc;
+
+    RequestedAttachments(IProject project, IPackageFragmentRoot fragment, AttachmentDownload sources,
+        AttachmentDownload javadoc) {
+      this.project = project;
+      this.fragment = fragment;
+      this.sources = sources;
+      this.javadoc = javadoc;
+    }
+
+    Attachments getFiles() {
+      return new Attachments(javadoc != null ? javadoc.file : null, sources != null ? sources.file : null);
+    }
+  }
+
   private final IMaven maven;
 
   private final BuildPathManager manager;
@@ -128,10 +186,6 @@ class DownloadSourcesJob extends Job implements IBackgroundProcessingQueue {
 
   private Set<DownloadRequest> requests = new HashSet<>();
 
-  private final Set<IProject> toUpdateMavenProjects = new HashSet<>();
-
-  private final Map<IPackageFragmentRoot, Attachments> toUpdateAttachments = new HashMap<>();
-
   public DownloadSourcesJob(BuildPathManager manager) {
     super(Messages.DownloadSourcesJob_job_download);
     this.manager = manager;
@@ -143,41 +197,59 @@ class DownloadSourcesJob extends Job implements IBackgroundProcessingQueue {
 
   @Override
   public IStatus run(IProgressMonitor monitor) {
-    int totalWork = 2 * queue.size();
-    SubMonitor subMonitor = SubMonitor.convert(monitor, totalWork);
-    while(!queue.isEmpty() && !monitor.isCanceled()) {
-      final DownloadRequest request = queue.poll();
+    List<DownloadRequest> pending = new ArrayList<>();
+    queue.drainTo(pending);
+    SubMonitor subMonitor = SubMonitor.convert(monitor, 3 * pending.size());
+
+    Map<ArtifactKey, AttachmentDownload> downloads = new LinkedHashMap<>();
+    List<RequestedAttachments> requested = new ArrayList<>();
+    for(DownloadRequest request : pending) {
+      if(monitor.isCanceled()) {
+        break;
+      }
       try {
         // Process requests one by one to not fill the maven context with too many projects at once and retain a lot of RAM
-        IStatus status = maven.execute((context, aMonitor) -> downloadFilesAndPopulateToUpdate(request, aMonitor),
-            subMonitor.split(1));
+        IStatus status = maven.execute(
+            (context, aMonitor) -> collectAttachments(request, downloads, requested, aMonitor), subMonitor.split(1));
         if(!status.isOK()) {
           // or maybe just log and ignore?
           queue.clear();
           requests.clear();
-          toUpdateAttachments.clear();
-          toUpdateMavenProjects.clear();
           return status;
         }
       } catch(CoreException ex) {
         return ex.getStatus();
       }
     }
+    if(!monitor.isCanceled()) {
+      download(downloads.values(), subMonitor.split(pending.size()));
+    }
     if(monitor.isCanceled()) {
       queue.clear();
       requests.clear();
-      toUpdateAttachments.clear();
-      toUpdateMavenProjects.clear();
       return Status.CANCEL_STATUS;
     }
 
+    Set<IProject> toUpdateMavenProjects = new LinkedHashSet<>();
+    Map<IJavaProject, Map<IPackageFragmentRoot, Attachments>> toUpdateAttachments = new LinkedHashMap<>();
+    for(RequestedAttachments attachments : requested) {
+      Attachments files = attachments.getFiles();
+      if(!files.isNotEmpty()) {
+        //only perform later classpath update if something changed
+        continue;
+      }
+      if(attachments.project != null) {
+        toUpdateMavenProjects.add(attachments.project);
+      } else {
+        toUpdateAttachments.computeIfAbsent(attachments.fragment.getJavaProject(), p -> new LinkedHashMap<>())
+            .put(attachments.fragment, files);
+      }
+    }
     if(!toUpdateAttachments.isEmpty() || !toUpdateMavenProjects.isEmpty()) {
       // consider update classpath after each individual download?
       // pro: user gets sources progressively (then faster)
       // con: more save operations
-      updateClasspath(manager, toUpdateMavenProjects, toUpdateAttachments, subMonitor.split(totalWork / 2));
-      toUpdateAttachments.clear();
-      toUpdateMavenProjects.clear();
+      updateClasspath(manager, toUpdateMavenProjects, toUpdateAttachments, subMonitor.split(pending.size()));
     }
     // updateClasspath might has added new requests to the queue. 
     requests.clear(); // Retain in requests all elements in queue (in an efficient manner)
@@ -187,7 +259,7 @@ class DownloadSourcesJob extends Job implements IBackgroundProcessingQueue {
   }
 
   private static void updateClasspath(BuildPathManager manager, Set<IProject> toUpdateMavenProjects,
-      Map<IPackageFragmentRoot, Attachments> toUpdateAttachments, IProgressMonitor monitor) {
+      Map<IJavaProject, Map<IPackageFragmentRoot, Attachments>> toUpdateAttachments, IProgressMonitor monitor) {
     SubMonitor updateMonitor = SubMonitor.convert(monitor, Messages.DownloadSourcesJob_job_associateWithClasspath,
         1 + toUpdateMavenProjects.size() + toUpdateAttachments.size());
     ISchedulingRule schedulingRule = ResourcesPlugin.getWorkspace().getRuleFactory().buildRule();
@@ -198,11 +270,10 @@ class DownloadSourcesJob extends Job implements IBackgroundProcessingQueue {
             .setTaskName(Messages.DownloadSourcesJob_job_associateWithClasspath + " - " + mavenProject.getName());
         manager.updateClasspath(mavenProject, updateMonitor.split(1));
       }
-      for(Map.Entry<IPackageFragmentRoot, Attachments> entry : toUpdateAttachments.entrySet()) {
+      for(Map.Entry<IJavaProject, Map<IPackageFragmentRoot, Attachments>> entry : toUpdateAttachments.entrySet()) {
         updateMonitor.setTaskName(
             Messages.DownloadSourcesJob_job_associateWithClasspath + " - " + entry.getKey().getElementName());
-        manager.attachSourcesAndJavadoc(entry.getKey(), entry.getValue().sources, entry.getValue().javadoc,
-            updateMonitor.split(1));
+        manager.attachSourcesAndJavadoc(entry.getKey(), entry.getValue(), updateMonitor.split(1));
       }
     } finally {
       getJobManager().endRule(schedulingRule);
@@ -210,8 +281,9 @@ class DownloadSourcesJob extends Job implements IBackgroundProcessingQueue {
     }
   }
 
-  IStatus downloadFilesAndPopulateToUpdate(DownloadRequest request, IProgressMonitor monitor) {
-    SubMonitor requestMonitor = SubMonitor.convert(monitor, 33);
+  IStatus collectAttachments(DownloadRequest request, Map<ArtifactKey, AttachmentDownload> downloads,
+      List<RequestedAttachments> requested, IProgressMonitor monitor) {
+    SubMonitor requestMonitor = SubMonitor.convert(monitor, 3);
     try {
       if(request.artifact != null) {
         requestMonitor.setTaskName(getName() + ": " + request.artifact.getArtifactId());
@@ -220,21 +292,24 @@ class DownloadSourcesJob extends Job implements IBackgroundProcessingQueue {
       }
       IMavenProjectFacade projectFacade = projectManager.create(request.project, requestMonitor.split(1));
       if(projectFacade != null) {
-        Attachments files = downloadMaven(projectFacade, request.artifact, request.downloadSources,
-            request.downloadJavaDoc, requestMonitor.split(2));
-        if(files != null && files.isNotEmpty()) {
-          //only perform later classpath update if something changed
-          toUpdateMavenProjects.add(request.project);
+        MavenProject mavenProject = projectFacade.getMavenProject(requestMonitor.split(2));
+        List<ArtifactRepository> repositories = mavenProject.getRemoteArtifactRepositories();
+        if(request.artifact != null) {
+          requested.add(getAttachments(request.project, null, request.artifact, repositories, request, downloads));
+        } else {
+          for(Artifact a : mavenProject.getArtifacts()) {
+            ArtifactKey aKey = new ArtifactKey(a.getGroupId(), a.getArtifactId(), a.getBaseVersion(),
+                a.getClassifier());
+            requested.add(getAttachments(request.project, null, aKey, repositories, request, downloads));
+          }
         }
       } else if(request.artifact != null) {
-        List<ArtifactRepository> repositories = maven.getArtifactRepositories();
-        Attachments files = downloadAttachments(request.artifact, repositories, request.downloadSources,
-            request.downloadJavaDoc, requestMonitor.split(2));
         if(request.fragment == null) {
           log.warn(
               "IPackageFragmentRoot is missing, skipping javadoc/source attachment for project " + request.project);
         } else {
-          toUpdateAttachments.put(request.fragment, files);
+          List<ArtifactRepository> repositories = maven.getArtifactRepositories();
+          requested.add(getAttachments(null, request.fragment, request.artifact, repositories, request, downloads));
         }
       }
       return Status.OK_STATUS;
@@ -246,76 +321,62 @@ class DownloadSourcesJob extends Job implements IBackgroundProcessingQueue {
     }
   }
 
-  private Attachments downloadMaven(IMavenProjectFacade projectFacade, ArtifactKey artifact, boolean downloadSources,
-      boolean downloadJavadoc, IProgressMonitor monitor) throws CoreException {
-    MavenProject mavenProject = projectFacade.getMavenProject(monitor);
-    List<ArtifactRepository> repositories = mavenProject.getRemoteArtifactRepositories();
-    Attachments files = null;
-    if(artifact != null) {
-      files = downloadAttachments(artifact, repositories, downloadSources, downloadJavadoc, monitor);
-    } else {
-      for(Artifact a : mavenProject.getArtifacts()) {
-        ArtifactKey aKey = new ArtifactKey(a.getGroupId(), a.getArtifactId(), a.getBaseVersion(), a.getClassifier());
-        files = downloadAttachments(aKey, repositories, downloadSources, downloadJavadoc, monitor);
-      }
-    }
-    if(files != null && files.isNotEmpty()) {
-      return files;
+  private RequestedAttachments getAttachments(IProject project, IPackageFragmentRoot fragment, ArtifactKey artifact,
+      List<ArtifactRepository> repositories, DownloadRequest request, Map<ArtifactKey, AttachmentDownload> downloads)
+      throws CoreException {
+    ArtifactKey[] attached = manager.getAttachedSourcesAndJavadoc(artifact, repositories, request.downloadSources,
+        request.downloadJavaDoc);
+    return new RequestedAttachments(project, fragment, getDownload(attached[0], repositories, downloads),
+        getDownload(attached[1], repositories, downloads));
+  }
+
+  private static AttachmentDownload getDownload(ArtifactKey attachment, List<ArtifactRepository> repositories,
+      Map<ArtifactKey, AttachmentDownload> downloads) {
+    if(attachment == null) {
+      return null;
     }
-    return null;
+    AttachmentDownload download = downloads.computeIfAbsent(attachment, AttachmentDownload::new);
+    download.addRepositories(repositories);
+    return download;
   }
 
   /**
-   * @return null if no attachment was found, the found attachments otherwise
-   * @throws CoreException
+   * Resolves the given attachments, grouped by the remote repositories they are looked up in. Attachments that could
+   * not be downloaded are logged and left without file.
    */
-  private Attachments downloadAttachments(ArtifactKey artifact, List<ArtifactRepository> repositories,
-      boolean downloadSources, boolean downloadJavadoc, IProgressMonitor monitor) throws CoreException {
-    if(monitor != null && monitor.isCanceled()) {
-      String message = "Downloading of sources/javadocs was canceled"; //$NON-NLS-1$
-      log.debug(message);
-      throw new OperationCanceledException(message);
-    }
-    ArtifactKey[] attached = manager.getAttachedSourcesAndJavadoc(artifact, repositories, downloadSources,
-        downloadJavadoc);
-
-    File source = null;
-    if(attached[0] != null) {
-      try {
-        source = download(attached[0], repositories, monitor);
-        log.info("Downloaded sources for " + artifact.toString());
-      } catch(CoreException e) {
-        log.error("Could not download sources for " + artifact.toString(), e); //$NON-NLS-1$
+  private void download(Collection<AttachmentDownload> downloads, IProgressMonitor monitor) {
+    Map<List<String>, List<AttachmentDownload>> batches = new LinkedHashMap<>();
+    for(AttachmentDownload download : downloads) {
+      List<String> repositories = new ArrayList<>();
+      for(ArtifactRepository repository : download.repositories) {
+        repositories.add(repository.getId() + '@' + repository.getUrl());
       }
+      batches.computeIfAbsent(repositories, k -> new ArrayList<>()).add(download);
     }
-    if(monitor != null) {
-      monitor.worked(1);
-    }
-    File javadoc = null;
-    if(attached[1] != null) {
+    SubMonitor downloadMonitor = SubMonitor.convert(monitor, batches.size());
+    for(List<AttachmentDownload> batch : batches.values()) {
+      if(downloadMonitor.isCanceled()) {
+        log.debug("Downloading of sources/javadocs was canceled"); //$NON-NLS-1$
+        return;
+      }
+      Map<ArtifactKey, AttachmentDownload> byArtifact = new LinkedHashMap<>();
+      batch.forEach(download -> byArtifact.put(download.artifact, download));
       try {
-        javadoc = download(attached[1], repositories, monitor);
-        log.info("Downloaded javadoc for " + artifact.toString());
+        List<ArtifactResolution> resolutions = maven.resolve(byArtifact.keySet(), "jar", //$NON-NLS-1$
+            batch.get(0).repositories, downloadMonitor.split(1));
+        for(ArtifactResolution resolution : resolutions) {
+          if(resolution.isResolved()) {
+            byArtifact.get(resolution.getArtifactKey()).file = resolution.getFile();
+            log.info("Downloaded " + resolution.getArtifactKey());
+          } else {
+            log.error("Could not download " + resolution.getArtifactKey(), //$NON-NLS-1$
+                new CoreException(resolution.getStatus()));
+          }
+        }
       } catch(CoreException e) {
-        log.error("Could not download javadoc for " + artifact.toString(), e); //$NON-NLS-1$
+        log.error("Could not download sources or javadoc", e); //$NON-NLS-1$
       }
     }
-    if(source == null && javadoc == null) {
-      return null;
-    }
-    return new Attachments(javadoc, source);
-  }
-
-  private File download(ArtifactKey artifact, List<ArtifactRepository> repositories, IProgressMonitor monitor)
-      throws CoreException {
-    Artifact resolved = maven.resolve(artifact.getGroupId(), //
-        artifact.getArtifactId(), //
-        artifact.getVersion(), //
-        "jar" /*type*/, // //$NON-NLS-1$
-        artifact.getClassifier(), //
-        repositories, //
-        monitor);
-    return resolved.getFile();
   }
 
   private void scheduleDownload(IProject project, IPackageFragmentRoot fragment, ArtifactKey artifact,
@@ -52,6 +52,8 @@ import org.apache.maven.artifact.Artifact;
 import org.apache.maven.project.MavenProject;
 
 import org.eclipse.m2e.core.MavenPlugin;
+import org.eclipse.m2e.core.embedder.ArtifactKey;
+import org.eclipse.m2e.core.embedder.ArtifactResolution;
 import org.eclipse.m2e.core.project.IMavenProjectFacade;
 import org.eclipse.m2e.core.project.IMavenProjectRegistry;
 import org.eclipse.m2e.core.project.ResolverConfiguration;
@@ -261,35 +263,43 @@ public class MavenRuntimeClasspathProvider extends StandardClasspathProvider {
         }
       }
     }
+    List<ArtifactKey> missing = new ArrayList<>();
     // even junit-jupiter-api depends on junit-platform-commons, so it should always be present
     if(platformCommonsArtifact != null && platformLauncherArtifact == null) {
-      addResolvedJUnit5Dependency(resolved, GROUP_ORG_JUNIT_PLATFORM, platformCommonsArtifact.getVersion(),
-          ARTIFACT_JUNIT_PLATFORM_LAUNCHER, mavenProject, monitor);
+      missing.add(new ArtifactKey(GROUP_ORG_JUNIT_PLATFORM, ARTIFACT_JUNIT_PLATFORM_LAUNCHER,
+          platformCommonsArtifact.getVersion(), null));
     }
     // required for junit-platform-launcher, but might be already present if pom contains engine
     if(platformCommonsArtifact != null && platformEngineArtifact == null) {
-      addResolvedJUnit5Dependency(resolved, GROUP_ORG_JUNIT_PLATFORM, platformCommonsArtifact.getVersion(),
-          ARTIFACT_JUNIT_PLATFORM_ENGINE, mavenProject, monitor);
+      missing.add(new ArtifactKey(GROUP_ORG_JUNIT_PLATFORM, ARTIFACT_JUNIT_PLATFORM_ENGINE,
+          platformCommonsArtifact.getVersion(), null));
     }
     // engine might be automagically added by surefire, so we add it, too
     if(jupiterApiArtifact != null && jupiterEngineArtifact == null) {
-      addResolvedJUnit5Dependency(resolved, GROUP_ORG_JUNIT_JUPITER, jupiterApiArtifact.getVersion(),
-          ARTIFACT_JUNIT_JUPITER_ENGINE, mavenProject, monitor);
+      missing.add(new ArtifactKey(GROUP_ORG_JUNIT_JUPITER, ARTIFACT_JUNIT_JUPITER_ENGINE,
+          jupiterApiArtifact.getVersion(), null));
+    }
+    if(!missing.isEmpty()) {
+      addResolvedJUnit5Dependencies(resolved, missing, mavenProject, monitor);
     }
   }
 
-  private void addResolvedJUnit5Dependency(Set<IRuntimeClasspathEntry> resolved, String groupId, String version,
-      String artifactId, MavenProject mavenProject, IProgressMonitor monitor) {
+  private void addResolvedJUnit5Dependencies(Set<IRuntimeClasspathEntry> resolved, List<ArtifactKey> artifacts,
+      MavenProject mavenProject, IProgressMonitor monitor) {
     try {
-      File file = MavenPlugin.getMaven()
-          .resolve(groupId, artifactId, version, "jar", null, mavenProject.getRemoteArtifactRepositories(), monitor) //$NON-NLS-1$
-          .getFile();
-      if(file != null) {
-        resolved.add(JavaRuntime.newArchiveRuntimeClasspathEntry(Path.fromOSString(file.getAbsolutePath()),
-            IRuntimeClasspathEntry.USER_CLASSES));
+      for(ArtifactResolution resolution : MavenPlugin.getMaven().resolve(artifacts, "jar", //$NON-NLS-1$
+          mavenProject.getRemoteArtifactRepositories(), monitor)) {
+        File file = resolution.getFile();
+        if(file != null) {
+          resolved.add(JavaRuntime.newArchiveRuntimeClasspathEntry(Path.fromOSString(file.getAbsolutePath()),
+              IRuntimeClasspathEntry.USER_CLASSES));
+        } else {
+          log.error("Could not resolve JUnit5 dependency " + resolution.getArtifactKey(), //$NON-NLS-1$
+              new CoreException(resolution.getStatus()));
+        }
       }
     } catch(CoreException ex) {
-      log.error("Could not resolve JUnit5 dependency " + groupId + ":" + artifactId + ":" + version, ex); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+      log.error("Could not resolve JUnit5 dependencies " + artifacts, ex); //$NON-NLS-1$
     }
   }
 
@@ -0,0 +1,155 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *      Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.internal.launch;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+
+/**
+ * Finds test names and debugger ports in lines printed by Maven launches. Lines are first checked for plain keywords,
+ * regular expressions only run on the few lines containing them. An instance is reused for all lines of a console and
+ * is not thread safe.
+ */
+public class MavenConsoleLineMatcher {
+
+  public enum Kind {
+    /**
+     * The matched region is the name of a test class
+     */
+    TEST,
+
+    /**
+     * The matched region is the port a debugger can connect to, the link covers the line up to the port
+     */
+    DEBUG_PORT
+  }
+
+  static final String LISTENING_MARKER = "Listening for transport dt_socket at address: ";
+
+  static final String RUNNING_MARKER = "Running ";
+
+  private static final String TEST_MARKER = "  test"; //$NON-NLS-1$
+
+  private static final String TEST_TEMPLATE = "(?:  )test.+\\(([\\w\\.]+)\\)"; //$NON-NLS-1$
+
+  private static final Pattern PATTERN2 = Pattern.compile(TEST_TEMPLATE);
+
+  private final Matcher testMatcher = PATTERN2.matcher(""); //$NON-NLS-1$
+
+  private Kind kind;
+
+  private int start;
+
+  private int end;
+
+  /**
+   * Matches the given line, returns true if it contains a test name or a debugger port.
+   */
+  public boolean match(CharSequence line) {
+    kind = null;
+
+    int index = indexOf(line, RUNNING_MARKER, 0);
+    if(index > -1) {
+      return found(Kind.TEST, index + RUNNING_MARKER.length(), line.length());
+    }
+
+    if(startsWith(line, LISTENING_MARKER)) {
+      int portStart = LISTENING_MARKER.length();
+      int portEnd = line.length();
+      while(portStart < portEnd && line.charAt(portStart) <= ' ') {
+        portStart++ ;
+      }
+      while(portEnd > portStart && line.charAt(portEnd - 1) <= ' ') {
+        portEnd-- ;
+      }
+      return found(Kind.DEBUG_PORT, portStart, portEnd);
+    }
+
+    // test names are followed by parentheses, skip the regular expression unless both are present
+    index = indexOf(line, TEST_MARKER, 0);
+    if(index > -1 && indexOf(line, "(", index + TEST_MARKER.length() + 1) > -1) { //$NON-NLS-1$
+      testMatcher.reset(line);
+      try {
+        if(testMatcher.find()) {
+          return found(Kind.TEST, testMatcher.start(1), testMatcher.end(1));
+        }
+      } finally {
+        testMatcher.reset(""); //$NON-NLS-1$
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * @return kind of the last match, or null if the last line did not match
+   */
+  public Kind getKind() {
+    return kind;
+  }
+
+  /**
+   * @return start of the matched region in the last line
+   */
+  public int getStart() {
+    return start;
+  }
+
+  /**
+   * @return end of the matched region in the last line
+   */
+  public int getEnd() {
+    return end;
+  }
+
+  private boolean found(Kind kind, int start, int end) {
+    if(start >= end) {
+      return false;
+    }
+    this.kind = kind;
+    this.start = start;
+    this.end = end;
+    return true;
+  }
+
+  private static boolean startsWith(CharSequence line, String prefix) {
+    if(line.length() < prefix.length()) {
+      return false;
+    }
+    for(int i = 0; i < prefix.length(); i++ ) {
+      if(line.charAt(i) != prefix.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static int indexOf(CharSequence line, String str, int fromIndex) {
+    char first = str.charAt(0);
+    int max = line.length() - str.length();
+    for(int i = fromIndex; i <= max; i++ ) {
+      if(line.charAt(i) == first) {
+        int j = 1;
+        while(j < str.length() && line.charAt(i + j) == str.charAt(j)) {
+          j++ ;
+        }
+        if(j == str.length()) {
+          return i;
+        }
+      }
+    }
+    return -1;
+  }
+}
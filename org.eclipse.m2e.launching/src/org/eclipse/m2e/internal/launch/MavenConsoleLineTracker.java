@@ -16,8 +16,6 @@ package org.eclipse.m2e.internal.launch;
 import java.io.File;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -37,6 +35,7 @@ import org.eclipse.debug.ui.console.IConsole;
 import org.eclipse.debug.ui.console.IConsoleLineTracker;
 import org.eclipse.jdt.launching.IJavaLaunchConfigurationConstants;
 import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.IDocument;
 import org.eclipse.jface.text.IRegion;
 import org.eclipse.ui.IEditorDescriptor;
 import org.eclipse.ui.IWorkbench;
@@ -65,71 +64,70 @@ public class MavenConsoleLineTracker implements IConsoleLineTracker {
 
   private static final String PLUGIN_ID = "org.eclipse.m2e.launching"; //$NON-NLS-1$
 
-  private static final String LISTENING_MARKER = "Listening for transport dt_socket at address: ";
+  private IConsole console;
 
-  private static final String RUNNING_MARKER = "Running ";
+  private final MavenConsoleLineMatcher matcher = new MavenConsoleLineMatcher();
 
-  private static final String TEST_TEMPLATE = "(?:  )test.+\\(([\\w\\.]+)\\)"; //$NON-NLS-1$
+  private final DocumentLine documentLine = new DocumentLine();
 
-  private static final Pattern PATTERN2 = Pattern.compile(TEST_TEMPLATE);
+  private boolean initialized;
 
-  private IConsole console;
+  /**
+   * Base directory of the Maven launch, null if the console does not belong to a Maven launch
+   */
+  private String baseDir;
 
   public void init(IConsole console) {
     this.console = console;
   }
 
   public void lineAppended(IRegion line) {
+    if(!initialized) {
+      initialized = true;
+      baseDir = getMavenBaseDir();
+    }
+    if(baseDir == null) {
+      return;
+    }
+
+    int offset = line.getOffset();
+    documentLine.reset(console.getDocument(), offset, line.getLength());
+    try {
+      // match the line in place, only lines containing links are copied out of the document
+      if(!matcher.match(documentLine)) {
+        return;
+      }
+      int start = matcher.getStart();
+      int end = matcher.getEnd();
+      String text = documentLine.subSequence(start, end).toString();
+      if(matcher.getKind() == MavenConsoleLineMatcher.Kind.DEBUG_PORT) {
+        // create and start remote Java app launch configuration
+        MavenDebugHyperLink link = new MavenDebugHyperLink(baseDir, text);
+        console.addLink(link, offset, MavenConsoleLineMatcher.LISTENING_MARKER.length() + text.length());
+        // launchRemoteJavaApp(baseDir, portString);
+      } else {
+        MavenConsoleHyperLink link = new MavenConsoleHyperLink(baseDir, text);
+        console.addLink(link, offset + start, text.length());
+      }
+    } catch(IndexOutOfBoundsException ex) {
+      // ignore, document was changed
+    } finally {
+      documentLine.reset(null, 0, 0);
+    }
+  }
+
+  private String getMavenBaseDir() {
     IProcess process = console.getProcess();
     ILaunch launch = process.getLaunch();
     ILaunchConfiguration launchConfiguration = launch.getLaunchConfiguration();
-
     if(launchConfiguration != null && isMavenProcess(launchConfiguration)) {
       try {
-        int offset = line.getOffset();
-        int length = line.getLength();
-
-        String text = console.getDocument().get(offset, length);
-
-        String testName = null;
-
-        int index = text.indexOf(RUNNING_MARKER);
-        if(index > -1) {
-          testName = text.substring(RUNNING_MARKER.length());
-          offset += RUNNING_MARKER.length();
-
-        } else if(text.startsWith(LISTENING_MARKER)) {
-          // create and start remote Java app launch configuration
-          String baseDir = getBaseDir(launchConfiguration);
-          if(baseDir != null) {
-            String portString = text.substring(LISTENING_MARKER.length()).trim();
-            MavenDebugHyperLink link = new MavenDebugHyperLink(baseDir, portString);
-            console.addLink(link, offset, LISTENING_MARKER.length() + portString.length());
-            // launchRemoteJavaApp(baseDir, portString);
-          }
-
-        } else {
-          Matcher m = PATTERN2.matcher(text);
-          if(m.find()) {
-            testName = m.group(1);
-            offset += m.start(1);
-          }
-        }
-
-        if(testName != null) {
-          String baseDir = getBaseDir(launchConfiguration);
-          if(baseDir != null) {
-            MavenConsoleHyperLink link = new MavenConsoleHyperLink(baseDir, testName);
-            console.addLink(link, offset, testName.length());
-          }
-        }
-
-      } catch(BadLocationException ex) {
-        // ignore
+        return getBaseDir(launchConfiguration);
       } catch(CoreException ex) {
         log.error(ex.getMessage(), ex);
       }
     }
+    return null;
   }
 
   private String getBaseDir(ILaunchConfiguration launchConfiguration) throws CoreException {
@@ -139,6 +137,55 @@ public class MavenConsoleLineTracker implements IConsoleLineTracker {
   public void dispose() {
   }
 
+  /**
+   * A line of the console document, read in place without copying it.
+   */
+  private static class DocumentLine implements CharSequence {
+
+    private IDocument document;
+
+    private int offset;
+
+    private int length;
+
+    void reset(IDocument document, int offset, int length) {
+      this.document = document;
+      this.offset = offset;
+      this.length = length;
+    }
+
+    public int length() {
+      return length;
+    }
+
+    public char charAt(int index) {
+      if(index < 0 || index >= length) {
+        throw new IndexOutOfBoundsException(index);
+      }
+      try {
+        return document.getChar(offset + index);
+      } catch(BadLocationException ex) {
+        throw new IndexOutOfBoundsException(offset + index);
+      }
+    }
+
+    public CharSequence subSequence(int start, int end) {
+      if(start < 0 || end > length || start > end) {
+        throw new IndexOutOfBoundsException();
+      }
+      try {
+        return document.get(offset + start, end - start);
+      } catch(BadLocationException ex) {
+        throw new IndexOutOfBoundsException(offset + start);
+      }
+    }
+
+    @Override
+    public String toString() {
+      return subSequence(0, length).toString();
+    }
+  }
+
   private boolean isMavenProcess(ILaunchConfiguration launchConfiguration) {
     try {
       ILaunchConfigurationType type = launchConfiguration.getType();
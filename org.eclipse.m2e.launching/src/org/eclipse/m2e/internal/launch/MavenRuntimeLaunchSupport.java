@@ -40,6 +40,7 @@ import org.eclipse.jdt.launching.IVMRunner;
 
 import org.eclipse.m2e.core.internal.MavenPluginActivator;
 import org.eclipse.m2e.core.internal.launch.AbstractMavenRuntime;
+import org.eclipse.m2e.core.internal.project.WorkspaceStateWriter;
 import org.eclipse.m2e.workspace.WorkspaceState;
 
 
@@ -276,6 +277,11 @@ public class MavenRuntimeLaunchSupport {
   }
 
   public static void applyWorkspaceArtifacts(VMArguments properties) {
+    // the state file is written in background, make sure it reflects the latest workspace changes
+    WorkspaceStateWriter stateWriter = MavenPluginActivator.getDefault().getWorkspaceStateWriter();
+    if(stateWriter != null) { // null after the core plugin stopped
+      stateWriter.flush();
+    }
     File state = MavenPluginActivator.getDefault().getMavenProjectManager().getWorkspaceStateFile();
     properties.appendProperty(WorkspaceState.SYSPROP_STATEFILE_LOCATION, quote(state.getAbsolutePath()));
   }
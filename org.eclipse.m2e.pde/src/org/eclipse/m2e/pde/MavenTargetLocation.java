@@ -46,11 +46,12 @@ import org.eclipse.aether.version.Version;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
-import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.equinox.frameworkadmin.BundleInfo;
 import org.eclipse.m2e.core.MavenPlugin;
+import org.eclipse.m2e.core.embedder.ArtifactKey;
+import org.eclipse.m2e.core.embedder.ArtifactResolution;
 import org.eclipse.m2e.core.embedder.ICallable;
 import org.eclipse.m2e.core.embedder.IMaven;
 import org.eclipse.m2e.core.embedder.IMavenExecutionContext;
@@ -153,12 +154,17 @@ public class MavenTargetLocation extends AbstractBundleContainer {
 						extraRepository.getUrl());
 				repositories.add(repository);
 			}
-			SubMonitor subMonitor = SubMonitor.convert(monitor, roots.size() * 100);
+			SubMonitor subMonitor = SubMonitor.convert(monitor, roots.size() * 100 + 100);
+			Map<Artifact, MavenTargetBundle> sourceTargets = new LinkedHashMap<>();
 			for (MavenTargetDependency root : roots) {
 				if (subMonitor.isCanceled()) {
 					break;
 				}
-				resolveDependency(root, maven, repositories, bundles, cacheManager, subMonitor.split(100));
+				resolveDependency(root, maven, repositories, bundles, sourceTargets, cacheManager,
+						subMonitor.split(100));
+			}
+			if (includeSource && !subMonitor.isCanceled()) {
+				addSourceBundles(sourceTargets, cacheManager, maven, bundles, subMonitor.split(100));
 			}
 			if (featureTemplate != null) {
 				generateFeature(bundles, false);
@@ -222,7 +228,8 @@ public class MavenTargetLocation extends AbstractBundleContainer {
 	}
 
 	private Artifact resolveDependency(MavenTargetDependency root, IMaven maven, List<ArtifactRepository> repositories,
-			TargetBundles targetBundles, CacheManager cacheManager, IProgressMonitor monitor) throws CoreException {
+			TargetBundles targetBundles, Map<Artifact, MavenTargetBundle> sourceTargets, CacheManager cacheManager,
+			IProgressMonitor monitor) throws CoreException {
 		SubMonitor subMonitor = SubMonitor.convert(monitor, 100);
 		IMavenProjectRegistry registry = MavenPlugin.getMavenProjectRegistry();
 		IMavenProjectFacade workspaceProject = registry.getMavenProject(root.getGroupId(), root.getArtifactId(),
@@ -255,11 +262,11 @@ public class MavenTargetLocation extends AbstractBundleContainer {
 						// this is a filtered dependency
 						continue;
 					}
-					addBundleForArtifact(a, cacheManager, maven, targetBundles);
+					addBundleForArtifact(a, cacheManager, targetBundles, sourceTargets);
 				}
 				targetBundles.dependencyNodes.put(root, dependecies.getNodes());
 			} else {
-				addBundleForArtifact(artifact, cacheManager, maven, targetBundles);
+				addBundleForArtifact(artifact, cacheManager, targetBundles, sourceTargets);
 			}
 		}
 
@@ -270,8 +277,8 @@ public class MavenTargetLocation extends AbstractBundleContainer {
 		return POM_PACKAGE_TYPE.equals(artifact.getExtension());
 	}
 
-	private void addBundleForArtifact(Artifact artifact, CacheManager cacheManager, IMaven maven,
-			TargetBundles targetBundles) {
+	private void addBundleForArtifact(Artifact artifact, CacheManager cacheManager, TargetBundles targetBundles,
+			Map<Artifact, MavenTargetBundle> sourceTargets) {
 		if (isPomType(artifact)) {
 			targetBundles.features
 					.add(new MavenTargetFeature(new MavenPomFeatureModel(artifact, targetBundles, false)));
@@ -292,17 +299,7 @@ public class MavenTargetLocation extends AbstractBundleContainer {
 		if (status.isOK()) {
 			targetBundles.bundles.put(artifact, bundle);
 			if (includeSource) {
-				try {
-					Artifact resolve = RepositoryUtils.toArtifact(maven.resolve(artifact.getGroupId(),
-							artifact.getArtifactId(), artifact.getBaseVersion(), artifact.getExtension(), "sources",
-							maven.getArtifactRepositories(), new NullProgressMonitor()));
-					MavenSourceBundle sourceBundle = new MavenSourceBundle(bundle.getBundleInfo(), resolve,
-							cacheManager);
-					targetBundles.bundles.put(resolve, sourceBundle);
-					targetBundles.sourceBundles.put(artifact, sourceBundle);
-				} catch (Exception e) {
-					// Source not available / usable
-				}
+				sourceTargets.put(artifact, bundle);
 			}
 		} else if (status.matches(IStatus.CANCEL)) {
 			targetBundles.ignoredArtifacts.add(artifact);
@@ -313,6 +310,50 @@ public class MavenTargetLocation extends AbstractBundleContainer {
 		}
 	}
 
+	/**
+	 * Resolves the sources of all given bundles, one batch per artifact extension
+	 * so missing source jars are downloaded concurrently.
+	 */
+	private void addSourceBundles(Map<Artifact, MavenTargetBundle> sourceTargets, CacheManager cacheManager,
+			IMaven maven, TargetBundles targetBundles, IProgressMonitor monitor) {
+		Map<String, Map<ArtifactKey, List<Artifact>>> byExtension = new LinkedHashMap<>();
+		for (Artifact artifact : sourceTargets.keySet()) {
+			ArtifactKey sources = new ArtifactKey(artifact.getGroupId(), artifact.getArtifactId(),
+					artifact.getBaseVersion(), "sources");
+			byExtension.computeIfAbsent(artifact.getExtension(), e -> new LinkedHashMap<>())
+					.computeIfAbsent(sources, k -> new ArrayList<>()).add(artifact);
+		}
+		SubMonitor subMonitor = SubMonitor.convert(monitor, byExtension.size());
+		for (Entry<String, Map<ArtifactKey, List<Artifact>>> batch : byExtension.entrySet()) {
+			Map<ArtifactKey, List<Artifact>> artifacts = batch.getValue();
+			List<ArtifactResolution> resolutions;
+			try {
+				resolutions = maven.resolve(artifacts.keySet(), batch.getKey(), maven.getArtifactRepositories(),
+						subMonitor.split(1));
+			} catch (CoreException e) {
+				// Sources not available
+				continue;
+			}
+			for (ArtifactResolution resolution : resolutions) {
+				if (!resolution.isResolved()) {
+					// Source not available
+					continue;
+				}
+				Artifact resolve = RepositoryUtils.toArtifact(resolution.getArtifact());
+				for (Artifact artifact : artifacts.get(resolution.getArtifactKey())) {
+					try {
+						MavenSourceBundle sourceBundle = new MavenSourceBundle(
+								sourceTargets.get(artifact).getBundleInfo(), resolve, cacheManager);
+						targetBundles.bundles.put(resolve, sourceBundle);
+						targetBundles.sourceBundles.put(artifact, sourceBundle);
+					} catch (Exception e) {
+						// Source not usable
+					}
+				}
+			}
+		}
+	}
+
 	public MavenTargetLocation update(IProgressMonitor monitor) throws CoreException {
 
 		List<MavenTargetDependency> latest = new ArrayList<>();
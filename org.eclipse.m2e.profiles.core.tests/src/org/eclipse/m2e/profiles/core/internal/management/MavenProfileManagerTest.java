@@ -15,19 +15,27 @@ package org.eclipse.m2e.profiles.core.internal.management;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.junit.Test;
 
+import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.m2e.core.MavenPlugin;
 import org.eclipse.m2e.core.internal.IMavenConstants;
+import org.eclipse.m2e.core.project.IMavenProjectChangedListener;
 import org.eclipse.m2e.core.project.IMavenProjectFacade;
+import org.eclipse.m2e.core.project.IProjectConfigurationManager;
+import org.eclipse.m2e.core.project.MavenProjectChangedEvent;
 import org.eclipse.m2e.profiles.core.internal.IProfileManager;
 import org.eclipse.m2e.profiles.core.internal.MavenProfilesCoreActivator;
 import org.eclipse.m2e.profiles.core.internal.ProfileData;
@@ -64,4 +72,104 @@ public class MavenProfileManagerTest extends AbstractMavenProjectTestCase {
         new HashSet<>(Arrays.asList("module-one", "module-two", "api-one", "api-two", "parent-one", "parent-two")),
         actualProfileIds);
   }
+
+  @Test
+  public void testCachedProfilesMatchUncachedProfiles() throws Exception {
+    IMavenProjectFacade facade = importModule("module-a");
+
+    List<ProfileData> first = profileManager.getProfileDatas(facade, monitor);
+    List<ProfileData> cached = profileManager.getProfileDatas(facade, monitor);
+    List<ProfileData> uncached = new ProfileManager().getProfileDatas(facade, monitor);
+
+    assertEquals(uncached, first);
+    assertEquals(uncached, cached);
+  }
+
+  @Test
+  public void testCachedProfilesAreNotShared() throws Exception {
+    IMavenProjectFacade facade = importModule("module-a");
+
+    List<ProfileData> profiles = profileManager.getProfileDatas(facade, monitor);
+    profiles.get(0).setUserSelected(!profiles.get(0).isUserSelected());
+
+    assertEquals(new ProfileManager().getProfileDatas(facade, monitor),
+        profileManager.getProfileDatas(facade, monitor));
+  }
+
+  @Test
+  public void testCachedProfilesAreRefreshedAfterProfileUpdate() throws Exception {
+    IMavenProjectFacade facade = importModule("module-a");
+    profileManager.getProfileDatas(facade, monitor);
+
+    profileManager.updateActiveProfiles(facade, Arrays.asList("module-one"), false, false, monitor);
+    waitForJobsToComplete();
+    facade = MavenPlugin.getMavenProjectRegistry().getProject(facade.getProject());
+
+    List<ProfileData> profiles = profileManager.getProfileDatas(facade, monitor);
+    assertEquals(new ProfileManager().getProfileDatas(facade, monitor), profiles);
+    assertTrue(profiles.stream().anyMatch(p -> "module-one".equals(p.getId()) && p.isUserSelected()));
+  }
+
+  @Test
+  public void testLoadingProfilesOfSeveralProjects() throws Exception {
+    IMavenProjectFacade moduleA = importModule("module-a");
+    IMavenProjectFacade moduleB = createFacade(
+        importProject("resources/projects/relative-path-profiles/modules/module-b/pom.xml"));
+
+    List<IMavenProjectFacade> facades = Arrays.asList(moduleB, moduleA);
+    Map<IMavenProjectFacade, List<ProfileData>> profiles = profileManager.getProfileDatas(facades, monitor);
+
+    assertEquals(facades, new ArrayList<>(profiles.keySet()));
+    ProfileManager uncached = new ProfileManager();
+    assertEquals(uncached.getProfileDatas(moduleA, monitor), profiles.get(moduleA));
+    assertEquals(uncached.getProfileDatas(moduleB, monitor), profiles.get(moduleB));
+  }
+
+  @Test
+  public void testUpdatingProfilesOfSeveralProjects() throws Exception {
+    IMavenProjectFacade moduleA = importModule("module-a");
+    IMavenProjectFacade moduleB = createFacade(
+        importProject("resources/projects/relative-path-profiles/modules/module-b/pom.xml"));
+
+    Map<IMavenProjectFacade, List<String>> profiles = new LinkedHashMap<>();
+    profiles.put(moduleA, Arrays.asList("module-one"));
+    profiles.put(moduleB, Arrays.asList("module-three", "!module-four"));
+
+    List<Set<IFile>> refreshes = new ArrayList<>();
+    IMavenProjectChangedListener listener = (events, m) -> refreshes
+        .add(Arrays.stream(events).map(MavenProjectChangedEvent::getSource).collect(Collectors.toSet()));
+    MavenPlugin.getMavenProjectRegistry().addMavenProjectChangedListener(listener);
+    try {
+      profileManager.updateActiveProfiles(profiles, false, false, monitor);
+    } finally {
+      MavenPlugin.getMavenProjectRegistry().removeMavenProjectChangedListener(listener);
+    }
+    waitForJobsToComplete();
+
+    // both projects were refreshed together
+    assertTrue(refreshes.toString(),
+        refreshes.stream().anyMatch(r -> r.contains(moduleA.getPom()) && r.contains(moduleB.getPom())));
+
+    IProjectConfigurationManager configurationManager = MavenPlugin.getProjectConfigurationManager();
+    assertEquals("module-one",
+        configurationManager.getResolverConfiguration(moduleA.getProject()).getSelectedProfiles());
+    assertEquals("module-three, !module-four",
+        configurationManager.getResolverConfiguration(moduleB.getProject()).getSelectedProfiles());
+  }
+
+  private IMavenProjectFacade importModule(String module) throws Exception {
+    importProject("resources/projects/relative-path-profiles/poms/parent-pom/pom.xml");
+    importProject("resources/projects/relative-path-profiles/poms/classification-poms/api-classifier-pom/pom.xml");
+    String pomPath = "resources/projects/relative-path-profiles/modules/" + module + "/pom.xml";
+    IProject project = importProject(pomPath);
+    waitForJobsToComplete();
+    assertNotNull(pomPath + " could not be imported", project);
+    return createFacade(project);
+  }
+
+  private IMavenProjectFacade createFacade(IProject project) throws Exception {
+    waitForJobsToComplete();
+    return MavenPlugin.getMavenProjectRegistry().create(project.getFile(IMavenConstants.POM_FILE_NAME), true,
+        monitor);
+  }
 }
@@ -12,6 +12,7 @@
  ************************************************************************************/
 package org.eclipse.m2e.profiles.core.internal;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -39,6 +40,18 @@ public interface IProfileManager {
 	 */
 	List<ProfileData> getProfileDatas(IMavenProjectFacade mavenProjectFacade, IProgressMonitor monitor) throws CoreException;
 
+	/**
+	 * Returns the {@link ProfileData}s of several maven projects, loading them concurrently.
+	 *
+	 * @param mavenProjectFacades facades of the maven projects
+	 * @param monitor a progress monitor
+	 * @return a {@link Map} of the {@link ProfileData}s of each facade, in the order of the given facades.
+	 * @throws CoreException
+	 * @since 1.17
+	 */
+	Map<IMavenProjectFacade, List<ProfileData>> getProfileDatas(Collection<IMavenProjectFacade> mavenProjectFacades,
+			IProgressMonitor monitor) throws CoreException;
+
 	/**
 	 * Returns an unmodifiable {@link Map} of all available {@link Profile}s converted from the
 	 * {@link org.apache.maven.profiles.Profile}s as defined in settings.xml.<br/>
@@ -62,4 +75,18 @@ public interface IProfileManager {
 	void updateActiveProfiles(IMavenProjectFacade mavenProjectFacade,
 			List<String> profiles, boolean isOffline, boolean isForceUpdate, IProgressMonitor monitor)
 			throws CoreException;
+
+	/**
+	 * Update the profiles of the resolver configurations of several {@link IMavenProjectFacade}s synchronously. All
+	 * resolver configurations are written first, then the changed projects are updated by a single request.
+	 *
+	 * @param profiles the profile ids to use in the resolver configuration of each project
+	 * @param isOffline indicates if the maven request must be executed offline
+	 * @param isForceUpdate indicates if a check for updated releases and snapshots on remote repositories must be forced.
+	 * @param monitor a progress monitor
+	 * @throws CoreException
+	 * @since 1.17
+	 */
+	void updateActiveProfiles(Map<IMavenProjectFacade, List<String>> profiles, boolean isOffline,
+			boolean isForceUpdate, IProgressMonitor monitor) throws CoreException;
 }
@@ -15,6 +15,7 @@ package org.eclipse.m2e.profiles.core.internal;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Plugin;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.m2e.core.MavenPlugin;
 import org.eclipse.m2e.profiles.core.internal.management.ProfileManager;
 import org.osgi.framework.BundleContext;
 
@@ -29,7 +30,7 @@ public class MavenProfilesCoreActivator extends Plugin {
 	// The plug-in ID
 	public static final String PLUGIN_ID = "org.eclipse.m2e.profiles.core.internal"; //$NON-NLS-1$
 
-	private IProfileManager profileManager;
+	private ProfileManager profileManager;
 
 	// The shared instance
 	private static MavenProfilesCoreActivator plugin;
@@ -48,6 +49,7 @@ public class MavenProfilesCoreActivator extends Plugin {
 		super.start(context);
 		plugin = this;
 		profileManager = new ProfileManager();
+		MavenPlugin.getMavenProjectRegistry().addMavenProjectChangedListener(profileManager);
 	}
 
 	/*
@@ -55,6 +57,8 @@ public class MavenProfilesCoreActivator extends Plugin {
 	 * @see org.eclipse.ui.plugin.AbstractUIPlugin#stop(org.osgi.framework.BundleContext)
 	 */
 	public void stop(BundleContext context) throws Exception {
+		MavenPlugin.getMavenProjectRegistry().removeMavenProjectChangedListener(profileManager);
+		profileManager = null;
 		plugin = null;
 		super.stop(context);
 	}
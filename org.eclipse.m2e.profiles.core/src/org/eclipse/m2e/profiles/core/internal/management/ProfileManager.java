@@ -18,14 +18,27 @@ import java.io.FileReader;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
+import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.MultiStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.osgi.util.NLS;
 
 import org.codehaus.plexus.component.repository.exception.ComponentLookupException;
@@ -48,8 +61,11 @@ import org.eclipse.m2e.core.MavenPlugin;
 import org.eclipse.m2e.core.embedder.IMaven;
 import org.eclipse.m2e.core.internal.MavenPluginActivator;
 import org.eclipse.m2e.core.internal.NoSuchComponentException;
+import org.eclipse.m2e.core.internal.project.ProjectConfigurationManager;
+import org.eclipse.m2e.core.project.IMavenProjectChangedListener;
 import org.eclipse.m2e.core.project.IMavenProjectFacade;
 import org.eclipse.m2e.core.project.IProjectConfigurationManager;
+import org.eclipse.m2e.core.project.MavenProjectChangedEvent;
 import org.eclipse.m2e.core.project.MavenUpdateRequest;
 import org.eclipse.m2e.core.project.ResolverConfiguration;
 import org.eclipse.m2e.profiles.core.internal.IProfileManager;
@@ -64,32 +80,71 @@ import org.eclipse.m2e.profiles.core.internal.ProfileState;
  * @author Fred Bricon
  * @since 1.5.0
  */
-public class ProfileManager implements IProfileManager {
+public class ProfileManager implements IProfileManager, IMavenProjectChangedListener {
+
+  /**
+   * Profile data per pom.xml, valid as long as the facade, the selected profiles and settings profiles are unchanged.
+   */
+  private final Map<IFile, CachedProfileDatas> profileDatas = new ConcurrentHashMap<>();
+
+  /**
+   * Parent models shared by all projects, keyed by the canonical path of parent pom.xml files found via relative path
+   * or by groupId:artifactId:version of parents resolved from repositories. Cleared on any project change.
+   */
+  private final Map<String, ParentModel> parentModels = new ConcurrentHashMap<>();
 
   public void updateActiveProfiles(final IMavenProjectFacade mavenProjectFacade, final List<String> profiles,
       final boolean isOffline, final boolean isForceUpdate, IProgressMonitor monitor) throws CoreException {
     if(mavenProjectFacade == null) {
       return;
     }
+    updateActiveProfiles(Collections.singletonMap(mavenProjectFacade, profiles), isOffline, isForceUpdate, monitor);
+  }
+
+  public void updateActiveProfiles(Map<IMavenProjectFacade, List<String>> profiles, boolean isOffline,
+      boolean isForceUpdate, IProgressMonitor monitor) throws CoreException {
     final IProjectConfigurationManager configurationManager = MavenPlugin.getProjectConfigurationManager();
 
-    IProject project = mavenProjectFacade.getProject();
+    // write all resolver configurations first, then refresh changed projects in one go
+    List<IProject> changedProjects = new ArrayList<>();
+    for(Map.Entry<IMavenProjectFacade, List<String>> entry : profiles.entrySet()) {
+      IProject project = entry.getKey().getProject();
 
-    final ResolverConfiguration configuration = configurationManager.getResolverConfiguration(project);
+      final ResolverConfiguration configuration = configurationManager.getResolverConfiguration(project);
 
-    final String profilesAsString = String.join(", ", profiles);
-    if(profilesAsString.equals(configuration.getSelectedProfiles())) {
-      //Nothing changed
-      return;
+      final String profilesAsString = String.join(", ", entry.getValue());
+      if(profilesAsString.equals(configuration.getSelectedProfiles())) {
+        //Nothing changed
+        continue;
+      }
+
+      configuration.setSelectedProfiles(profilesAsString);
+      if(configurationManager.setResolverConfiguration(project, configuration)) {
+        changedProjects.add(project);
+      }
     }
 
-    configuration.setSelectedProfiles(profilesAsString);
-    boolean isSet = configurationManager.setResolverConfiguration(project, configuration);
-    if(isSet) {
-      MavenUpdateRequest request = new MavenUpdateRequest(project, isOffline, isForceUpdate);
-      configurationManager.updateProjectConfiguration(request, monitor);
+    if(changedProjects.isEmpty()) {
+      return;
     }
 
+    MavenUpdateRequest request = new MavenUpdateRequest(changedProjects.toArray(new IProject[changedProjects.size()]),
+        isOffline, isForceUpdate);
+    Map<String, IStatus> updateStatus = ((ProjectConfigurationManager) configurationManager)
+        .updateProjectConfiguration(request, true, true, monitor);
+
+    List<IStatus> errors = new ArrayList<>();
+    for(IStatus status : updateStatus.values()) {
+      if(!status.isOK()) {
+        errors.add(status);
+      }
+    }
+    if(errors.size() == 1) {
+      throw new CoreException(errors.get(0));
+    } else if(!errors.isEmpty()) {
+      throw new CoreException(new MultiStatus(MavenProfilesCoreActivator.PLUGIN_ID, IStatus.ERROR,
+          errors.toArray(new IStatus[errors.size()]), "Unable to update Maven profiles", null));
+    }
   }
 
   public Map<Profile, Boolean> getAvailableSettingsProfiles() throws CoreException {
@@ -120,6 +175,71 @@ public class ProfileManager implements IProfileManager {
     ResolverConfiguration resolverConfiguration = MavenPlugin.getProjectConfigurationManager()
         .getResolverConfiguration(facade.getProject());
 
+    final Map<Profile, Boolean> availableSettingsProfiles = getAvailableSettingsProfiles();
+
+    Map<String, Boolean> settingsProfiles = new HashMap<>();
+    availableSettingsProfiles.forEach((profile, active) -> settingsProfiles.put(profile.getId(), active));
+
+    CachedProfileDatas cached = profileDatas.get(facade.getPom());
+    if(cached == null || !cached.isValid(facade, resolverConfiguration.getSelectedProfiles(), settingsProfiles)) {
+      List<ProfileData> statuses = getProfileDatas(facade, resolverConfiguration, availableSettingsProfiles, monitor);
+      cached = new CachedProfileDatas(facade, resolverConfiguration.getSelectedProfiles(), settingsProfiles, statuses);
+      profileDatas.put(facade.getPom(), cached);
+    }
+
+    // ProfileData is mutable, callers get their own copies
+    List<ProfileData> result = new ArrayList<>(cached.profileDatas.size());
+    for(ProfileData data : cached.profileDatas) {
+      result.add(copy(data));
+    }
+    return Collections.unmodifiableList(result);
+  }
+
+  public Map<IMavenProjectFacade, List<ProfileData>> getProfileDatas(Collection<IMavenProjectFacade> facades,
+      IProgressMonitor monitor) throws CoreException {
+    SubMonitor progress = SubMonitor.convert(monitor, facades.size());
+    Map<IMavenProjectFacade, List<ProfileData>> result = new LinkedHashMap<>();
+    ForkJoinPool pool = new ForkJoinPool(
+        Math.max(1, Math.min(facades.size(), Runtime.getRuntime().availableProcessors())));
+    try {
+      Map<IMavenProjectFacade, ForkJoinTask<List<ProfileData>>> tasks = new LinkedHashMap<>();
+      for(IMavenProjectFacade facade : facades) {
+        // every project gets its own child monitor, so cancelling also stops loading the projects
+        SubMonitor child = progress.split(1);
+        tasks.put(facade, pool.submit(() -> getProfileDatas(facade, child)));
+      }
+      for(Map.Entry<IMavenProjectFacade, ForkJoinTask<List<ProfileData>>> task : tasks.entrySet()) {
+        if(progress.isCanceled()) {
+          throw new OperationCanceledException();
+        }
+        result.put(task.getKey(), task.getValue().get());
+      }
+    } catch(InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new OperationCanceledException();
+    } catch(ExecutionException ex) {
+      if(ex.getCause() instanceof CoreException) {
+        throw (CoreException) ex.getCause();
+      }
+      if(ex.getCause() instanceof OperationCanceledException) {
+        throw (OperationCanceledException) ex.getCause();
+      }
+      throw new CoreException(MavenProfilesCoreActivator.getStatus(ex.getCause().getMessage(), ex.getCause()));
+    } finally {
+      pool.shutdownNow();
+    }
+    return result;
+  }
+
+  public void mavenProjectChanged(MavenProjectChangedEvent[] events, IProgressMonitor monitor) {
+    for(MavenProjectChangedEvent event : events) {
+      profileDatas.remove(event.getSource());
+    }
+    parentModels.clear();
+  }
+
+  private List<ProfileData> getProfileDatas(IMavenProjectFacade facade, ResolverConfiguration resolverConfiguration,
+      Map<Profile, Boolean> availableSettingsProfiles, IProgressMonitor monitor) throws CoreException {
     List<String> configuredProfiles = toList(resolverConfiguration.getSelectedProfiles());
 
     MavenProject mavenProject = facade.getMavenProject(monitor);
@@ -130,10 +250,10 @@ public class ProfileManager implements IProfileManager {
 
     List<Profile> availableProfiles = collectAvailableProfiles(modelHierarchy, monitor);
 
-    final Map<Profile, Boolean> availableSettingsProfiles = getAvailableSettingsProfiles();
-
     availableProfiles.addAll(availableSettingsProfiles.keySet());
 
+    Map<Profile, String> sources = getSources(modelHierarchy);
+
     List<ProfileData> statuses = new ArrayList<>();
 
     Map<String, List<String>> allActiveProfiles = mavenProject.getInjectedProfileIds();
@@ -155,11 +275,20 @@ public class ProfileManager implements IProfileManager {
       boolean isAutoActive = (isAutoActiveSettingProfile != null && isAutoActiveSettingProfile)
           || (status.getActivationState().isActive() && !isUserSelected);
       status.setAutoActive(isAutoActive);
-      status.setSource(findSource(p, modelHierarchy));
+      status.setSource(findSource(p, sources));
       statuses.add(status);
     }
 
-    return Collections.unmodifiableList(statuses);
+    return statuses;
+  }
+
+  private static ProfileData copy(ProfileData data) {
+    ProfileData copy = new ProfileData(data.getId());
+    copy.setActivationState(data.getActivationState());
+    copy.setAutoActive(data.isAutoActive());
+    copy.setUserSelected(data.isUserSelected());
+    copy.setSource(data.getSource());
+    return copy;
   }
 
   private boolean isActive(String profileId, Map<String, List<String>> profilesMap) {
@@ -182,22 +311,32 @@ public class ProfileManager implements IProfileManager {
     return profiles;
   }
 
-  private String findSource(Profile profile, List<Model> modelHierarchy) {
+  private String findSource(Profile profile, Map<Profile, String> sources) {
     if(profile != null) {
       if("settings.xml".equals(profile.getSource())) { //$NON-NLS-1$
         return profile.getSource();
       }
-      for(Model m : modelHierarchy) {
-        for(Profile p : m.getProfiles()) {
-          if(p.equals(profile)) {
-            return m.getArtifactId();
-          }
-        }
+      String source = sources.get(profile);
+      if(source != null) {
+        return source;
       }
     }
     return "undefined"; //$NON-NLS-1$
   }
 
+  /**
+   * Maps each profile of the hierarchy to the artifactId of the first model defining it.
+   */
+  private static Map<Profile, String> getSources(List<Model> modelHierarchy) {
+    Map<Profile, String> sources = new IdentityHashMap<>();
+    for(Model m : modelHierarchy) {
+      for(Profile p : m.getProfiles()) {
+        sources.putIfAbsent(p, m.getArtifactId());
+      }
+    }
+    return sources;
+  }
+
   protected List<Profile> collectAvailableProfiles(List<Model> models, IProgressMonitor monitor) {
     List<Profile> profiles = new ArrayList<>();
     for(Model m : models) {
@@ -229,13 +368,23 @@ public class ProfileManager implements IProfileManager {
       return parentModel;
     }
 
+    Parent p = projectModel.getParent();
+    String key = p.getGroupId() + ":" + p.getArtifactId() + ":" + p.getVersion(); //$NON-NLS-1$ //$NON-NLS-2$
+    ParentModel cached = parentModels.get(key);
+    if(cached != null) {
+      return cached.model;
+    }
+
     IMaven maven = MavenPlugin.getMaven();
     List<ArtifactRepository> repositories = new ArrayList<>();
     repositories.addAll(getProjectRepositories(projectModel));
     repositories.addAll(maven.getArtifactRepositories());
 
-    Parent p = projectModel.getParent();
-    return resolvePomModel(p.getGroupId(), p.getArtifactId(), p.getVersion(), repositories, monitor);
+    Model parentModel = resolvePomModel(p.getGroupId(), p.getArtifactId(), p.getVersion(), repositories, monitor);
+    if(parentModel != null) {
+      parentModels.put(key, new ParentModel(parentModel, -1));
+    }
+    return parentModel;
   }
 
   /**
@@ -260,11 +409,18 @@ public class ProfileManager implements IProfileManager {
     try {
       File parentPomFile = Paths.get(pomFileSystemPath, relativeFileSystemPathToParentPom).toFile().getCanonicalFile();
       if(parentPomFile.exists()) {
+        long lastModified = parentPomFile.lastModified();
+        ParentModel cached = parentModels.get(parentPomFile.getPath());
+        if(cached != null && cached.lastModified == lastModified) {
+          return cached.model;
+        }
         MavenXpp3Reader mavenreader = new MavenXpp3Reader();
-        FileReader reader = new FileReader(parentPomFile);
-        final Model parentModel = mavenreader.read(reader);
-        parentModel.setPomFile(parentPomFile);
-        return parentModel;
+        try (FileReader reader = new FileReader(parentPomFile)) {
+          final Model parentModel = mavenreader.read(reader);
+          parentModel.setPomFile(parentPomFile);
+          parentModels.put(parentPomFile.getPath(), new ParentModel(parentModel, lastModified));
+          return parentModel;
+        }
       }
     } catch(Exception e) {
       MavenProfilesCoreActivator.getDefault().getLog()
@@ -327,4 +483,38 @@ public class ProfileManager implements IProfileManager {
 
     return maven.readModel(file);
   }
+
+  private static class ParentModel {
+    final Model model;
+
+    final long lastModified;
+
+    ParentModel(Model model, long lastModified) {
+      this.model = model;
+      this.lastModified = lastModified;
+    }
+  }
+
+  private static class CachedProfileDatas {
+    final IMavenProjectFacade facade;
+
+    final String selectedProfiles;
+
+    final Map<String, Boolean> settingsProfiles;
+
+    final List<ProfileData> profileDatas;
+
+    CachedProfileDatas(IMavenProjectFacade facade, String selectedProfiles, Map<String, Boolean> settingsProfiles,
+        List<ProfileData> profileDatas) {
+      this.facade = facade;
+      this.selectedProfiles = selectedProfiles;
+      this.settingsProfiles = settingsProfiles;
+      this.profileDatas = profileDatas;
+    }
+
+    boolean isValid(IMavenProjectFacade facade, String selectedProfiles, Map<String, Boolean> settingsProfiles) {
+      return this.facade == facade && Objects.equals(this.selectedProfiles, selectedProfiles)
+          && this.settingsProfiles.equals(settingsProfiles);
+    }
+  }
 }
@@ -15,9 +15,9 @@ package org.eclipse.m2e.profiles.ui.internal.actions;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -187,8 +187,10 @@ public class ProfileSelectionHandler extends AbstractHandler {
     @Override
     protected IStatus run(IProgressMonitor monitor) {
       try {
-        this.allProfiles = getAllProfiles(facades, profileManager);
+        this.allProfiles = profileManager.getProfileDatas(facades, monitor);
         this.sharedProfiles = getSharedProfiles(allProfiles);
+      } catch(OperationCanceledException e) {
+        return Status.CANCEL_STATUS;
       } catch(CoreException e) {
         return new Status(IStatus.ERROR, MavenProfilesUIActivator.PLUGIN_ID,
             Messages.ProfileSelectionHandler_Unable_to_open_profile_dialog, e);
@@ -267,16 +269,6 @@ public class ProfileSelectionHandler extends AbstractHandler {
       return null;
     }
 
-    private Map<IMavenProjectFacade, List<ProfileData>> getAllProfiles(final Set<IMavenProjectFacade> facades,
-        final IProfileManager profileManager) throws CoreException {
-      Map<IMavenProjectFacade, List<ProfileData>> allProfiles = new HashMap<>(facades.size());
-      IProgressMonitor monitor = new NullProgressMonitor();
-      for(IMavenProjectFacade facade : facades) {
-        allProfiles.put(facade, profileManager.getProfileDatas(facade, monitor));
-      }
-      return allProfiles;
-    }
-
     public List<ProfileSelection> getSharedProfiles() {
       return sharedProfiles;
     }
@@ -308,17 +300,17 @@ public class ProfileSelectionHandler extends AbstractHandler {
     public IStatus runInWorkspace(IProgressMonitor monitor) {
       try {
         SubMonitor progress = SubMonitor.convert(monitor, Messages.ProfileManager_Updating_maven_profiles, 100);
-        SubMonitor subProgress = SubMonitor.convert(progress.newChild(5), allProfiles.size() * 100);
+        Map<IMavenProjectFacade, List<String>> activeProfiles = new LinkedHashMap<>();
         for(Map.Entry<IMavenProjectFacade, List<ProfileData>> entry : allProfiles.entrySet()) {
           if(progress.isCanceled()) {
             throw new OperationCanceledException();
           }
-          IMavenProjectFacade facade = entry.getKey();
-          List<String> activeProfiles = getActiveProfiles(sharedProfiles, entry.getValue());
-
-          profileManager.updateActiveProfiles(facade, activeProfiles, dialog.isOffline(), dialog.isForceUpdate(),
-              subProgress.newChild(100));
+          activeProfiles.put(entry.getKey(), getActiveProfiles(sharedProfiles, entry.getValue()));
         }
+        progress.worked(5);
+
+        profileManager.updateActiveProfiles(activeProfiles, dialog.isOffline(), dialog.isForceUpdate(),
+            progress.newChild(95));
       } catch(CoreException ex) {
         log.error("Unable to update Maven profiles", ex);
         return ex.getStatus();
@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *      Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.refactoring;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.junit.Test;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.ltk.core.refactoring.RefactoringStatus;
+
+import org.eclipse.m2e.core.MavenPlugin;
+import org.eclipse.m2e.core.embedder.ArtifactKey;
+import org.eclipse.m2e.core.project.IMavenProjectFacade;
+import org.eclipse.m2e.core.project.ResolverConfiguration;
+import org.eclipse.m2e.refactoring.RefactoringModelResources.PropertyInfo;
+import org.eclipse.m2e.tests.common.AbstractMavenProjectTestCase;
+
+
+public class AbstractPomRefactoringTest extends AbstractMavenProjectTestCase {
+
+  @Test
+  public void testOnlyAffectedModelsAreLoaded() throws Exception {
+    IProject[] projects = importProjects("resources/projects/affected",
+        new String[] {"pom.xml", "lib/pom.xml", "user/pom.xml", "other/pom.xml"}, new ResolverConfiguration());
+    waitForJobsToComplete();
+    IMavenProjectFacade user = MavenPlugin.getMavenProjectRegistry().getProject(projects[2]);
+    assertEquals(new ArtifactKey("affected", "parent", "0.0.1-SNAPSHOT", null), user.getParentArtifactKey());
+    assertNull(MavenPlugin.getMavenProjectRegistry().getProject(projects[3]).getParentArtifactKey());
+
+    VisitingRefactoring refactoring = new VisitingRefactoring(projects[1].getFile("pom.xml"), "renamed-lib");
+    refactoring.createChange(monitor);
+
+    // the refactored file, the file referencing it and their common parent, which defines the version property
+    assertEquals(Set.of("parent", "renamed-lib", "user"), refactoring.visited.keySet());
+    assertTrue(refactoring.visited.get("user").containsKey("lib.version"));
+  }
+
+  private static class VisitingRefactoring extends AbstractPomRefactoring {
+
+    final Map<String, Map<String, PropertyInfo>> visited = new TreeMap<>();
+
+    private final String targetText;
+
+    VisitingRefactoring(IFile file, String targetText) {
+      super(file);
+      this.targetText = targetText;
+    }
+
+    @Override
+    public PomVisitor getVisitor() {
+      return (model, pm) -> {
+        visited.put(model.getEffective().getArtifactId(), model.getProperties());
+        return null;
+      };
+    }
+
+    @Override
+    public String getTitle() {
+      return getName();
+    }
+
+    @Override
+    public String getName() {
+      return "visit";
+    }
+
+    @Override
+    public boolean scanAllArtifacts() {
+      return true;
+    }
+
+    @Override
+    protected String getTargetText() {
+      return targetText;
+    }
+
+    @Override
+    public RefactoringStatus checkInitialConditions(IProgressMonitor pm) {
+      return new RefactoringStatus();
+    }
+  }
+}
@@ -0,0 +1,111 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *      Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.refactoring.exclude;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.ltk.core.refactoring.Change;
+import org.eclipse.ltk.core.refactoring.CompositeChange;
+import org.eclipse.ltk.core.refactoring.PerformChangeOperation;
+import org.eclipse.ltk.core.refactoring.RefactoringStatus;
+
+import org.apache.maven.model.Dependency;
+import org.apache.maven.model.Exclusion;
+import org.apache.maven.model.Model;
+
+import org.eclipse.m2e.core.MavenPlugin;
+import org.eclipse.m2e.core.embedder.ArtifactKey;
+import org.eclipse.m2e.core.project.IMavenProjectFacade;
+import org.eclipse.m2e.core.project.ResolverConfiguration;
+import org.eclipse.m2e.core.ui.internal.util.ParentGatherer;
+import org.eclipse.m2e.core.ui.internal.util.ParentHierarchyEntry;
+import org.eclipse.m2e.tests.common.AbstractMavenProjectTestCase;
+
+
+@SuppressWarnings("restriction")
+public class ExcludeArtifactRefactoringTest extends AbstractMavenProjectTestCase {
+
+  private static final ArtifactKey LIB_B = new ArtifactKey("exclude", "lib-b", "0.0.1-SNAPSHOT", null);
+
+  @Test
+  public void testExcludeInDeepHierarchy() throws Exception {
+    IProject[] projects = importProjects("resources/projects/exclude",
+        new String[] {"pom.xml", "mid/pom.xml", "mid/sub/pom.xml", "mid/sub/leaf/pom.xml", "lib-a/pom.xml",
+            "lib-b/pom.xml", "lib-c/pom.xml"},
+        new ResolverConfiguration());
+    waitForJobsToComplete();
+    IProject leaf = projects[3];
+    IMavenProjectFacade facade = MavenPlugin.getMavenProjectRegistry().getProject(leaf);
+    List<ParentHierarchyEntry> hierarchy = new ParentGatherer(facade).getParentHierarchy(monitor);
+    assertEquals(4, hierarchy.size());
+
+    ExcludeArtifactRefactoring refactoring = new ExcludeArtifactRefactoring(new ArtifactKey[] {LIB_B});
+    refactoring.setHierarchy(hierarchy);
+
+    // exclusion point leaf: lib-a gets the exclusion, lib-c is pulled down from mid, lib-b is removed from root
+    RefactoringStatus status = refactoring.checkFinalConditions(monitor);
+    assertEquals(RefactoringStatus.INFO, status.getSeverity());
+    assertEquals(2, getChanges(refactoring).length);
+
+    // exclusion point mid, reuses the dependency graphs read above
+    refactoring.setExclusionPoint(hierarchy.get(2));
+    status = refactoring.checkFinalConditions(monitor);
+    assertEquals(RefactoringStatus.INFO, status.getSeverity());
+    Change[] changes = getChanges(refactoring);
+    assertEquals(3, changes.length);
+    for(Change change : changes) {
+      PerformChangeOperation operation = new PerformChangeOperation(change);
+      workspace.run(operation, monitor);
+      assertTrue(operation.changeExecuted());
+    }
+
+    // lib-a is pulled up from leaf to mid
+    assertTrue(readModel(leaf.getFile("pom.xml")).getDependencies().isEmpty());
+    assertTrue(readModel(projects[2].getFile("pom.xml")).getDependencies().isEmpty());
+    List<Dependency> dependencies = readModel(projects[1].getFile("pom.xml")).getDependencies();
+    assertEquals(2, dependencies.size());
+    for(Dependency dependency : dependencies) {
+      List<String> exclusions = new ArrayList<>();
+      for(Exclusion exclusion : dependency.getExclusions()) {
+        exclusions.add(exclusion.getGroupId() + ":" + exclusion.getArtifactId());
+      }
+      assertEquals(dependency.getArtifactId(), List.of("exclude:lib-b"), exclusions);
+    }
+    assertEquals(List.of("lib-c", "lib-a"), List.of(dependencies.get(0).getArtifactId(),
+        dependencies.get(1).getArtifactId()));
+    // the artifact itself is removed from the ancestor
+    assertTrue(readModel(projects[0].getFile("pom.xml")).getDependencies().isEmpty());
+  }
+
+  private static Change[] getChanges(ExcludeArtifactRefactoring refactoring) {
+    return ((CompositeChange) refactoring.createChange(monitor)).getChildren();
+  }
+
+  private static Model readModel(IFile pom) throws CoreException, IOException {
+    try (InputStream is = pom.getContents()) {
+      return MavenPlugin.getMaven().readModel(is);
+    }
+  }
+}
@@ -14,11 +14,17 @@
 package org.eclipse.m2e.refactoring;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -52,6 +58,7 @@ import org.eclipse.osgi.util.NLS;
 import org.apache.maven.project.MavenProject;
 
 import org.eclipse.m2e.core.MavenPlugin;
+import org.eclipse.m2e.core.embedder.ArtifactKey;
 import org.eclipse.m2e.core.project.IMavenProjectFacade;
 import org.eclipse.m2e.core.project.IMavenProjectRegistry;
 import org.eclipse.m2e.model.edit.pom.Model;
@@ -111,19 +118,13 @@ public abstract class AbstractPomRefactoring extends Refactoring {
     models = new HashMap<>();
 
     try {
-      // load all models
+      // load models of all pom.xml files that can be affected
       // XXX: assumption: artifactId is unique within workspace
+      Map<ArtifactKey, IMavenProjectFacade> workspaceProjects = new HashMap<>();
       for(IMavenProjectFacade projectFacade : projects) {
-        // skip "other" projects if not requested
-        if(!scanAllArtifacts() && !projectFacade.getPom().equals(file)) {
-          continue;
-        }
-
-        // skip closed projects
-        if(!projectFacade.getProject().isAccessible() || !projectFacade.getPom().isAccessible()) {
-          continue;
-        }
-
+        workspaceProjects.put(projectFacade.getArtifactKey(), projectFacade);
+      }
+      for(IMavenProjectFacade projectFacade : getAffectedProjects(projects, workspaceProjects, pm)) {
         loadModel(projectFacade, pm);
       }
 
@@ -138,18 +139,16 @@ public abstract class AbstractPomRefactoring extends Refactoring {
 
         // find all workspace parents
         List<RefactoringModelResources> workspaceParents = new ArrayList<>();
-        MavenProject current = model.getProject();
         // add itself
         workspaceParents.add(model);
-        for(MavenProject parentProject = getParentProject(projectFacade, current, pm); parentProject != null;) {
-          String id = parentProject.getArtifactId();
-          RefactoringModelResources parent = models.get(id);
-          if(parent != null) {
+        for(IMavenProjectFacade parentFacade = getParent(projectFacade, workspaceProjects); parentFacade != null;) {
+          RefactoringModelResources parent = models.get(parentFacade.getArtifactKey().getArtifactId());
+          if(parent != null && !workspaceParents.contains(parent)) {
             workspaceParents.add(parent);
           } else {
             break;
           }
-          parentProject = getParentProject(projectFacade, parentProject, pm);
+          parentFacade = getParent(parentFacade, workspaceProjects);
         }
 
         //fill properties (from the root)
@@ -265,6 +264,8 @@ public abstract class AbstractPomRefactoring extends Refactoring {
           return false;
         }
       };
+    } catch(OperationCanceledException ex) {
+      throw ex;
     } catch(Exception ex) {
       throw new CoreException(new Status(IStatus.ERROR, Activator.PLUGIN_ID, PROBLEMS_DURING_REFACTORING, ex));
     } finally {
@@ -277,12 +278,107 @@ public abstract class AbstractPomRefactoring extends Refactoring {
     return res;
   }
 
+  /**
+   * @deprecated workspace parents are looked up in the project registry, this method is no longer called.
+   */
+  @Deprecated
   protected MavenProject getParentProject(IMavenProjectFacade project, final MavenProject current,
       final IProgressMonitor monitor) throws CoreException {
     IMavenProjectRegistry projectManager = MavenPlugin.getMavenProjectRegistry();
     return projectManager.execute(project, (context, monitor1) -> MavenPlugin.getMaven().resolveParentProject(current, monitor1), monitor);
   }
 
+  /**
+   * Returns the workspace projects whose pom.xml needs to be loaded: the refactored file, all projects that can contain
+   * the {@link #getTargetText() target text}, and their workspace parents, which may define properties used by them.
+   */
+  private List<IMavenProjectFacade> getAffectedProjects(IMavenProjectFacade[] projects,
+      Map<ArtifactKey, IMavenProjectFacade> workspaceProjects, IProgressMonitor pm)
+      throws InterruptedException, ExecutionException {
+    List<IMavenProjectFacade> accessible = new ArrayList<>();
+    for(IMavenProjectFacade projectFacade : projects) {
+      // skip "other" projects if not requested
+      // skip closed projects
+      if((scanAllArtifacts() || projectFacade.getPom().equals(file)) && projectFacade.getProject().isAccessible()
+          && projectFacade.getPom().isAccessible()) {
+        accessible.add(projectFacade);
+      } else {
+        pm.worked(1);
+      }
+    }
+
+    String target = getTargetText();
+    if(target == null) {
+      return accessible;
+    }
+
+    Set<IMavenProjectFacade> affected = new HashSet<>();
+    for(IMavenProjectFacade projectFacade : findTargetText(accessible, target, pm)) {
+      for(IMavenProjectFacade current = projectFacade; current != null && affected.add(current);) {
+        current = getParent(current, workspaceProjects);
+      }
+    }
+
+    List<IMavenProjectFacade> result = new ArrayList<>();
+    for(IMavenProjectFacade projectFacade : accessible) {
+      if(affected.contains(projectFacade)) {
+        result.add(projectFacade);
+      } else {
+        pm.worked(1);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Reads the given pom.xml files in parallel and returns the projects whose pom.xml contains the target text, as well
+   * as the project of the refactored file.
+   */
+  private List<IMavenProjectFacade> findTargetText(List<IMavenProjectFacade> projects, String target,
+      IProgressMonitor pm) throws InterruptedException, ExecutionException {
+    ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    try {
+      List<ForkJoinTask<Boolean>> tasks = new ArrayList<>();
+      for(IMavenProjectFacade projectFacade : projects) {
+        IFile pom = projectFacade.getPom();
+        tasks.add(pool.submit(() -> pom.equals(file) || containsText(pom, target)));
+      }
+      List<IMavenProjectFacade> result = new ArrayList<>();
+      for(int i = 0; i < tasks.size(); i++ ) {
+        if(pm.isCanceled()) {
+          throw new OperationCanceledException();
+        }
+        if(tasks.get(i).get()) {
+          result.add(projects.get(i));
+        }
+      }
+      return result;
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  private static boolean containsText(IFile pom, String text) {
+    try (InputStream is = pom.getContents()) {
+      return new String(is.readAllBytes(), pom.getCharset()).contains(text);
+    } catch(CoreException | IOException ex) {
+      // load it anyways, problems are reported when the model is loaded
+      log.debug("Could not read {}", pom, ex); //$NON-NLS-1$
+      return true;
+    }
+  }
+
+  private static IMavenProjectFacade getParent(IMavenProjectFacade projectFacade,
+      Map<ArtifactKey, IMavenProjectFacade> workspaceProjects) {
+    ArtifactKey parentKey = projectFacade.getParentArtifactKey();
+    if(parentKey == null && projectFacade.getMavenProject() != null
+        && projectFacade.getMavenProject().getParentArtifact() != null) {
+      // facade implementation that does not record parents
+      parentKey = new ArtifactKey(projectFacade.getMavenProject().getParentArtifact());
+    }
+    return parentKey != null ? workspaceProjects.get(parentKey) : null;
+  }
+
   // title for a composite change
   public abstract String getTitle();
 
@@ -298,6 +394,16 @@ public abstract class AbstractPomRefactoring extends Refactoring {
   // this method determines whether all artifacts will be sent to visitor or only main one
   public abstract boolean scanAllArtifacts();
 
+  /**
+   * Returns text that occurs in every pom.xml changed by this refactoring, or <code>null</code> if all pom.xml files
+   * need to be visited. Other pom.xml files are only loaded if they are a workspace parent of an affected one.
+   *
+   * @since 1.17
+   */
+  protected String getTargetText() {
+    return null;
+  }
+
   protected void processCommand(RefactoringModelResources model, CompositeChange res) throws Exception {
     CompoundCommand command = model.getCommand();
     if(command == null) {
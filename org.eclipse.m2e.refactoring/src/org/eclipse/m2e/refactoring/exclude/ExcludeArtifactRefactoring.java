@@ -15,12 +15,19 @@ package org.eclipse.m2e.refactoring.exclude;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 import org.eclipse.aether.artifact.Artifact;
 import org.eclipse.aether.graph.DependencyNode;
@@ -75,6 +82,12 @@ public class ExcludeArtifactRefactoring extends Refactoring {
 
   private List<ParentHierarchyEntry> hierarchy;
 
+  /**
+   * Per hierarchy entry, maps groupId:artifactId of every artifact in its dependency graph to the direct dependencies
+   * that introduce it. Computed once per hierarchy.
+   */
+  private final Map<ParentHierarchyEntry, Map<String, Set<Artifact>>> introducers = new ConcurrentHashMap<>();
+
   public ExcludeArtifactRefactoring(ArtifactKey[] keys) {
     this.excludes = keys;
   }
@@ -85,6 +98,7 @@ public class ExcludeArtifactRefactoring extends Refactoring {
 
   public void setHierarchy(List<ParentHierarchyEntry> hierarchy) {
     this.hierarchy = hierarchy;
+    this.introducers.clear();
     this.exclusionPoint = hierarchy != null ? hierarchy.get(0) : null;
   }
 
@@ -118,11 +132,16 @@ public class ExcludeArtifactRefactoring extends Refactoring {
     changes = new ArrayList<>();
     Set<ArtifactKey> locatedKeys = new HashSet<>();
     List<IStatus> statuses = new ArrayList<>();
-    SubMonitor monitor = SubMonitor.convert(pm, 3);
+    Collection<ParentHierarchyEntry> descendants = getWorkspaceDescendants();
+    Collection<ParentHierarchyEntry> ancestors = getWorkspaceAncestors();
+    // reading the dependency graphs is the expensive part, later lookups only read them if they are missing
+    SubMonitor monitor = SubMonitor.convert(pm, 4);
+    computeIntroducers(monitor.split(3));
+    SubMonitor lookups = monitor.split(1).setWorkRemaining(1 + descendants.size() + ancestors.size());
 
     List<Operation> exclusionOp = new ArrayList<>();
     // Exclusion point
-    for(Entry<Dependency, Set<ArtifactKey>> entry : getDependencyExcludes(exclusionPoint, monitor.newChild(1))
+    for(Entry<Dependency, Set<ArtifactKey>> entry : getDependencyExcludes(exclusionPoint, lookups.split(1))
         .entrySet()) {
       locatedKeys.addAll(entry.getValue());
       Dependency dependency = entry.getKey();
@@ -138,9 +157,9 @@ public class ExcludeArtifactRefactoring extends Refactoring {
     }
 
     // Below exclusion point - pull up dependency to exclusion point
-    for(ParentHierarchyEntry project : getWorkspaceDescendants()) {
+    for(ParentHierarchyEntry project : descendants) {
       List<Operation> operations = new ArrayList<>();
-      for(Entry<Dependency, Set<ArtifactKey>> entry : getDependencyExcludes(project, monitor.newChild(1)).entrySet()) {
+      for(Entry<Dependency, Set<ArtifactKey>> entry : getDependencyExcludes(project, lookups.split(1)).entrySet()) {
         locatedKeys.addAll(entry.getValue());
         Dependency dependency = entry.getKey();
         operations.add(new RemoveDependencyOperation(dependency));
@@ -163,8 +182,8 @@ public class ExcludeArtifactRefactoring extends Refactoring {
     }
 
     // Above exclusion - Add dep to exclusionPoint
-    for(ParentHierarchyEntry project : getWorkspaceAncestors()) {
-      for(Entry<Dependency, Set<ArtifactKey>> entry : getDependencyExcludes(project, monitor.newChild(1)).entrySet()) {
+    for(ParentHierarchyEntry project : ancestors) {
+      for(Entry<Dependency, Set<ArtifactKey>> entry : getDependencyExcludes(project, lookups.split(1)).entrySet()) {
         locatedKeys.addAll(entry.getValue());
         Dependency dependency = entry.getKey();
         if(contains(entry.getValue(), dependency)) {
@@ -221,13 +240,80 @@ public class ExcludeArtifactRefactoring extends Refactoring {
    */
   private Map<Dependency, Set<ArtifactKey>> getDependencyExcludes(ParentHierarchyEntry model, IProgressMonitor monitor)
       throws CoreException {
+    Map<String, Set<Artifact>> index = introducers.get(model);
+    if(index == null) {
+      index = readIntroducers(model, monitor);
+      introducers.put(model, index);
+    }
+    List<Dependency> dependencies = model.getProject().getOriginalModel().getDependencies();
+    Map<Dependency, Set<ArtifactKey>> sourceMap = new LinkedHashMap<>();
+    for(ArtifactKey exclude : excludes) {
+      for(Artifact topLevel : index.getOrDefault(getKey(exclude.getGroupId(), exclude.getArtifactId()),
+          Collections.emptySet())) {
+        Dependency dependency = findDependency(dependencies, topLevel);
+        if(dependency != null) {
+          // need to add exclusion to top-level dependency
+          sourceMap.computeIfAbsent(dependency, d -> new HashSet<>()).add(exclude);
+        }
+      }
+    }
+    return sourceMap;
+  }
+
+  /**
+   * Reads dependency graphs of all workspace projects in the hierarchy that were not read yet, concurrently.
+   */
+  private void computeIntroducers(IProgressMonitor pm) throws CoreException {
+    List<ParentHierarchyEntry> missing = new ArrayList<>();
+    for(ParentHierarchyEntry project : getHierarchy()) {
+      if((project.getFacade() != null || project == exclusionPoint) && !introducers.containsKey(project)) {
+        missing.add(project);
+      }
+    }
+    if(missing.isEmpty()) {
+      return;
+    }
+    SubMonitor monitor = SubMonitor.convert(pm, missing.size());
+    ForkJoinPool pool = new ForkJoinPool(Math.min(missing.size(), Runtime.getRuntime().availableProcessors()));
+    try {
+      List<ForkJoinTask<Map<String, Set<Artifact>>>> tasks = new ArrayList<>();
+      for(ParentHierarchyEntry project : missing) {
+        // every read gets its own child monitor, so cancelling the refactoring also stops the reads
+        SubMonitor child = monitor.split(1);
+        tasks.add(pool.submit(() -> readIntroducers(project, child)));
+      }
+      for(int i = 0; i < tasks.size(); i++ ) {
+        if(monitor.isCanceled()) {
+          throw new OperationCanceledException();
+        }
+        introducers.put(missing.get(i), tasks.get(i).get());
+      }
+    } catch(InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new OperationCanceledException();
+    } catch(ExecutionException ex) {
+      if(ex.getCause() instanceof CoreException) {
+        throw (CoreException) ex.getCause();
+      }
+      if(ex.getCause() instanceof OperationCanceledException) {
+        throw (OperationCanceledException) ex.getCause();
+      }
+      throw new CoreException(new Status(IStatus.ERROR, PLUGIN_ID,
+          Messages.ExcludeArtifactRefactoring_errorCreatingRefactoring, ex.getCause()));
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  private static Map<String, Set<Artifact>> readIntroducers(ParentHierarchyEntry model, IProgressMonitor monitor)
+      throws CoreException {
     IMavenProjectFacade facade = model.getFacade();
     MavenProject project = model.getProject();
     DependencyNode root = MavenPlugin.getMavenModelManager().readDependencyTree(facade, project, JavaScopes.TEST,
         monitor);
-    Visitor visitor = new Visitor(model);
+    Visitor visitor = new Visitor();
     root.accept(visitor);
-    return visitor.getSourceMap();
+    return visitor.getIntroducers();
   }
 
   @Override
@@ -325,26 +411,33 @@ public class ExcludeArtifactRefactoring extends Refactoring {
     return false;
   }
 
-  private class Visitor implements DependencyVisitor {
-    private final List<Dependency> dependencies;
-
-    private final Map<Dependency, Set<ArtifactKey>> sourceMap = new HashMap<>();
+  private static String getKey(String groupId, String artifactId) {
+    return groupId + ':' + artifactId;
+  }
 
-    Visitor(ParentHierarchyEntry project) {
-      dependencies = new ArrayList<>();
-      dependencies.addAll(project.getProject().getOriginalModel().getDependencies());
-//      for(Profile profile : project.getActiveProfiles()) {
-//        dependencies.addAll(profile.getDependencies());
-//      }
+  private static Dependency findDependency(List<Dependency> dependencies, Artifact artifact) {
+    for(Dependency d : dependencies) {
+      if(d.getGroupId().equals(artifact.getGroupId()) && d.getArtifactId().equals(artifact.getArtifactId())) {
+        return d;
+      }
     }
+    return null;
+  }
 
-    Map<Dependency, Set<ArtifactKey>> getSourceMap() {
-      return sourceMap;
+  /**
+   * Builds the reverse index from every artifact in a dependency graph to the top-level dependencies whose subtree
+   * contains it.
+   */
+  private static class Visitor implements DependencyVisitor {
+    private final Map<String, Set<Artifact>> introducers = new HashMap<>();
+
+    Map<String, Set<Artifact>> getIntroducers() {
+      return introducers;
     }
 
     private int depth;
 
-    private DependencyNode topLevel;
+    private Artifact topLevel;
 
     @Override
     public boolean visitLeave(DependencyNode node) {
@@ -355,54 +448,23 @@ public class ExcludeArtifactRefactoring extends Refactoring {
     @Override
     public boolean visitEnter(DependencyNode node) {
       if(depth == 1) {
-        topLevel = node;
+        topLevel = getArtifact(node);
       }
       depth++ ;
 
-      if(node.getDependency() != null) {
+      if(node.getDependency() != null && topLevel != null) {
         Artifact a = node.getDependency().getArtifact();
-        for(ArtifactKey exclude : excludes) {
-          if(a.getGroupId().equals(exclude.getGroupId()) && a.getArtifactId().equals(exclude.getArtifactId())) {
-            if(topLevel != null) {
-              // need to add exclusion to top-level dependency
-              Dependency dependency = findDependency(topLevel);
-              if(dependency != null) {
-                put(dependency, exclude);
-              }
-            }
-            return true;
-          }
-        }
+        introducers.computeIfAbsent(getKey(a.getGroupId(), a.getArtifactId()), k -> new LinkedHashSet<>())
+            .add(topLevel);
       }
       return true;
     }
 
-    private void put(Dependency dep, ArtifactKey key) {
-      Set<ArtifactKey> keys = sourceMap.get(dep);
-      if(keys == null) {
-        keys = new HashSet<>();
-        sourceMap.put(dep, keys);
-      }
-      keys.add(key);
-    }
-
-    private Dependency findDependency(String groupId, String artifactId) {
-      for(Dependency d : dependencies) {
-        if(d.getGroupId().equals(groupId) && d.getArtifactId().equals(artifactId)) {
-          return d;
-        }
-      }
-      return null;
-    }
-
-    private Dependency findDependency(DependencyNode node) {
-      Artifact artifact;
+    private static Artifact getArtifact(DependencyNode node) {
       if(node.getRelocations().isEmpty()) {
-        artifact = node.getDependency().getArtifact();
-      } else {
-        artifact = node.getRelocations().get(0);
+        return node.getDependency().getArtifact();
       }
-      return findDependency(artifact.getGroupId(), artifact.getArtifactId());
+      return node.getRelocations().get(0);
     }
   }
 }
@@ -344,6 +344,12 @@ public class RenameRefactoring extends AbstractPomRefactoring {
     return true;
   }
 
+  // only literal artifactId elements are renamed, see scanFeature
+  @Override
+  protected String getTargetText() {
+    return oldArtifactId;
+  }
+
   @Override
   public String getTitle() {
     return NLS.bind(Messages.RenameRefactoring_title, file.getParent().getName());
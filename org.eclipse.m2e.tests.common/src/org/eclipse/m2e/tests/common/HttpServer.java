@@ -31,6 +31,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
@@ -105,12 +107,20 @@ public class HttpServer {
 
   private final Collection<String> recordedPatterns = new HashSet<>();
 
-  private final List<String> recordedRequests = new ArrayList<>();
+  private final List<String> recordedRequests = Collections.synchronizedList(new ArrayList<>());
 
   private final Map<String, Map<String, String>> recordedHeaders = new HashMap<>();
 
   private String storePassword;
 
+  private String concurrentPattern;
+
+  private CountDownLatch concurrentRequests;
+
+  private long concurrentTimeout;
+
+  private volatile boolean concurrentRequestsTimedOut;
+
   protected Connector newHttpConnector() {
     HttpConfiguration config = new HttpConfiguration();
     config.setSecurePort(httpsPort);
@@ -487,6 +497,50 @@ public class HttpServer {
     return this;
   }
 
+  /**
+   * Holds back requests to URIs matching the given pattern until the given number of them is pending at the same time,
+   * but at most for the given time. Used to check whether a client issues requests concurrently, see
+   * {@link #isConcurrentRequestsReached()}.
+   *
+   * @param pattern The regular expression denoting URIs to hold back, e.g. {@code ".*\\.jar"}, must not be
+   *          {@code null}.
+   * @param count The number of requests that must be pending at the same time.
+   * @param timeoutMillis How long a request is held back at most.
+   * @return This server, never {@code null}.
+   */
+  public HttpServer setConcurrentRequests(String pattern, int count, long timeoutMillis) {
+    this.concurrentPattern = pattern;
+    this.concurrentRequests = new CountDownLatch(count);
+    this.concurrentTimeout = timeoutMillis;
+    return this;
+  }
+
+  /**
+   * @return {@code true} if the number of requests given to {@link #setConcurrentRequests(String, int, long)} was
+   *         pending at the same time before any of them timed out
+   */
+  public boolean isConcurrentRequestsReached() {
+    return concurrentRequests != null && concurrentRequests.getCount() == 0 && !concurrentRequestsTimedOut;
+  }
+
+  protected Handler newConcurrentRequestsHandler() {
+    return new AbstractHandler() {
+      @Override
+      public void handle(String target, Request baseRequest, HttpServletRequest request, HttpServletResponse response) {
+        if(request.getRequestURI().matches(concurrentPattern)) {
+          concurrentRequests.countDown();
+          try {
+            if(!concurrentRequests.await(concurrentTimeout, TimeUnit.MILLISECONDS)) {
+              concurrentRequestsTimedOut = true;
+            }
+          } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        }
+      }
+    };
+  }
+
   protected Handler newSleepHandler(final long millis) {
     return new AbstractHandler() {
       @Override
@@ -538,6 +592,9 @@ public class HttpServer {
     if(!recordedPatterns.isEmpty()) {
       handlerList.addHandler(new RecordingHandler());
     }
+    if(concurrentRequests != null) {
+      handlerList.addHandler(newConcurrentRequestsHandler());
+    }
     if(latency != 0) {
       handlerList.addHandler(newSleepHandler(latency));
     }